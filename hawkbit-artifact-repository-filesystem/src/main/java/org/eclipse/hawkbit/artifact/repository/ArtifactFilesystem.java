@@ -13,8 +13,11 @@ import java.io.BufferedInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Path;
 import java.util.Objects;
+import java.util.Optional;
 
 import jakarta.validation.constraints.NotNull;
 
@@ -47,4 +50,29 @@ public class ArtifactFilesystem extends AbstractDbArtifact {
             throw new ArtifactFileNotFoundException(e);
         }
     }
+
+    @Override
+    // suppress warning, this InputStream needs to be closed by the caller, this
+    // cannot be closed in this method
+    @SuppressWarnings("squid:S2095")
+    public InputStream getFileInputStream(final long offset) throws IOException {
+        final FileInputStream stream;
+        try {
+            stream = new FileInputStream(file);
+        } catch (final FileNotFoundException e) {
+            throw new ArtifactFileNotFoundException(e);
+        }
+        try {
+            stream.getChannel().position(offset);
+        } catch (final IOException e) {
+            stream.close();
+            throw e;
+        }
+        return new BufferedInputStream(stream);
+    }
+
+    @Override
+    public Optional<Path> getFilePath() {
+        return Optional.of(file.toPath());
+    }
 }
@@ -9,6 +9,8 @@
  */
 package org.eclipse.hawkbit.artifact.repository;
 
+import java.time.Duration;
+
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
@@ -24,4 +26,56 @@ public class ArtifactFilesystemProperties {
      * The base-path of the directory to store the artifacts.
      */
     private String path = "./artifactrepo";
+
+    /**
+     * The directory uploads are written into before they are moved to their
+     * final location. It has to be on the same file-system as the
+     * {@link #path}, so that the move is an atomic rename instead of another
+     * copy of the artifact. By default the directory {@code .staging} within
+     * the {@link #path}.
+     */
+    private String stagingPath;
+
+    /**
+     * Whether stored artifacts are synced to the storage device before they
+     * are considered stored.
+     */
+    private Fsync fsync = Fsync.NONE;
+
+    /**
+     * Staged files older than this are left-overs of crashed uploads and
+     * deleted on startup. Younger ones might still be written by other nodes
+     * sharing the file-system.
+     */
+    private Duration stagingCleanupAge = Duration.ofHours(24);
+
+    /**
+     * Maximum number of threads computing the hashes of uploaded artifacts
+     * and writing them, shared by all concurrent uploads. If all of them are
+     * busy, an upload does the work on its own thread.
+     */
+    private int ingestionThreads = ArtifactIngestion.DEFAULT_THREADS;
+
+    /**
+     * Sync policies for stored artifacts.
+     */
+    public enum Fsync {
+
+        /**
+         * Leaves syncing to the operating system.
+         */
+        NONE,
+
+        /**
+         * Syncs the content of the staged file before it is moved.
+         */
+        FILE,
+
+        /**
+         * Syncs the content of the staged file before it is moved and the
+         * directory it is moved to afterward, so that the artifact survives a
+         * crash of the operating system once stored.
+         */
+        FILE_AND_DIRECTORY
+    }
 }
\ No newline at end of file
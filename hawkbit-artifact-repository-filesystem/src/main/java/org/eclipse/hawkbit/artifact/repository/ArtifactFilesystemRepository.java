@@ -10,12 +10,21 @@
 package org.eclipse.hawkbit.artifact.repository;
 
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.stream.Stream;
 
+import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.io.FileUtils;
+import org.eclipse.hawkbit.artifact.repository.ArtifactFilesystemProperties.Fsync;
 import org.eclipse.hawkbit.artifact.repository.model.AbstractDbArtifact;
 import org.eclipse.hawkbit.artifact.repository.model.DbArtifactHash;
 import org.springframework.validation.annotation.Validated;
@@ -31,11 +40,20 @@ import org.springframework.validation.annotation.Validated;
  * Due the limit of many file-systems of files within one directory, the files
  * are stored in different sub-directories based on the last four digits of the
  * SHA1-hash {@code (/basepath/[two digit sha1]/[two digit sha1])}.
+ * <p/>
+ * Uploads are written into the staging directory
+ * {@link ArtifactFilesystemProperties#getStagingPath()} and renamed to their
+ * final location once their hashes are known. Left-overs of crashed uploads
+ * are deleted from the staging directory on startup.
  */
+@Slf4j
 @Validated
 public class ArtifactFilesystemRepository extends AbstractArtifactRepository {
 
+    private static final String DEFAULT_STAGING_DIRECTORY = ".staging";
+
     private final ArtifactFilesystemProperties artifactResourceProperties;
+    private final Path stagingDirectory;
 
     /**
      * Constructor.
@@ -45,7 +63,12 @@ public class ArtifactFilesystemRepository extends AbstractArtifactRepository {
      *            file-system repository
      */
     public ArtifactFilesystemRepository(final ArtifactFilesystemProperties artifactResourceProperties) {
+        super(artifactResourceProperties.getIngestionThreads());
         this.artifactResourceProperties = artifactResourceProperties;
+        this.stagingDirectory = artifactResourceProperties.getStagingPath() == null
+                ? Paths.get(artifactResourceProperties.getPath(), DEFAULT_STAGING_DIRECTORY)
+                : Paths.get(artifactResourceProperties.getStagingPath());
+        cleanupStagingDirectory();
     }
 
     @Override
@@ -70,19 +93,85 @@ public class ArtifactFilesystemRepository extends AbstractArtifactRepository {
         return renameFileToSHA1Naming(tenant, file, new ArtifactFilesystem(file, base16Hashes.getSha1(), base16Hashes, file.length(), contentType));
     }
 
+    @Override
+    protected File createTempFile() {
+        try {
+            Files.createDirectories(stagingDirectory);
+            return Files.createTempFile(stagingDirectory, TEMP_FILE_PREFIX, TEMP_FILE_SUFFIX).toFile();
+        } catch (final IOException e) {
+            throw new ArtifactStoreException("Cannot create staging file", e);
+        }
+    }
+
+    @Override
+    protected void syncTempFile(final FileOutputStream tempFileStream) throws IOException {
+        if (artifactResourceProperties.getFsync() != Fsync.NONE) {
+            tempFileStream.getFD().sync();
+        }
+    }
+
     private ArtifactFilesystem renameFileToSHA1Naming(final String tenant, final File file,
             final AbstractDbArtifact artifact) throws IOException {
         final File fileSHA1Naming = getFile(tenant, artifact.getHashes().getSha1());
         if (fileSHA1Naming.exists()) {
             FileUtils.deleteQuietly(file);
         } else {
-            Files.move(file.toPath(), fileSHA1Naming.toPath());
+            move(file.toPath(), fileSHA1Naming.toPath());
         }
 
         return new ArtifactFilesystem(fileSHA1Naming, artifact.getArtifactId(), artifact.getHashes(),
                 artifact.getSize(), artifact.getContentType());
     }
 
+    private void move(final Path source, final Path target) throws IOException {
+        try {
+            // a concurrent upload of the same content might have won the race,
+            // replacing it is fine as the content is the same
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final AtomicMoveNotSupportedException e) {
+            log.warn("Staging directory {} is not on the file-system of the artifact repository, artifacts are copied",
+                    stagingDirectory);
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+        if (artifactResourceProperties.getFsync() == Fsync.FILE_AND_DIRECTORY) {
+            syncDirectory(target.getParent());
+        }
+    }
+
+    private static void syncDirectory(final Path directory) {
+        try (final FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (final IOException e) {
+            // not supported by every platform, e.g. Windows
+            log.debug("Could not sync directory {}", directory, e);
+        }
+    }
+
+    private void cleanupStagingDirectory() {
+        if (!Files.isDirectory(stagingDirectory)) {
+            return;
+        }
+        final FileTime staleBefore = FileTime.fromMillis(
+                System.currentTimeMillis() - artifactResourceProperties.getStagingCleanupAge().toMillis());
+        try (final Stream<Path> files = Files.list(stagingDirectory)) {
+            files.filter(file -> isStale(file, staleBefore)).forEach(file -> {
+                log.info("Deleting stale staging file {}", file);
+                FileUtils.deleteQuietly(file.toFile());
+            });
+        } catch (final IOException e) {
+            log.warn("Could not clean up staging directory {}", stagingDirectory, e);
+        }
+    }
+
+    private static boolean isStale(final Path file, final FileTime staleBefore) {
+        try {
+            return Files.isRegularFile(file) && Files.getLastModifiedTime(file).compareTo(staleBefore) < 0;
+        } catch (final IOException e) {
+            // deleted concurrently
+            return false;
+        }
+    }
+
     private File getFile(final String tenant, final String sha1) {
         final File aritfactDirectory = getSha1DirectoryPath(tenant, sha1).toFile();
         aritfactDirectory.mkdirs();
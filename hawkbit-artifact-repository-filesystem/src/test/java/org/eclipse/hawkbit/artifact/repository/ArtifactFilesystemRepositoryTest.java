@@ -15,7 +15,12 @@ import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
 import java.util.Random;
+import java.util.stream.Stream;
 
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.io.FileUtils;
@@ -121,6 +126,46 @@ public class ArtifactFilesystemRepositoryTest {
         }
     }
 
+    @Test
+    @Description("Verfies that an artifact is staged in the staging directory of the file-system repository and "
+            + "moved to its final location")
+    public void storeViaStagingDirectory() throws IOException {
+        final ArtifactFilesystemProperties properties = new ArtifactFilesystemProperties();
+        properties.setPath(artifactResourceProperties.getPath());
+        properties.setFsync(ArtifactFilesystemProperties.Fsync.FILE_AND_DIRECTORY);
+        final ArtifactFilesystemRepository repository = new ArtifactFilesystemRepository(properties);
+
+        final byte[] fileContent = randomBytes();
+        final AbstractDbArtifact artifact = repository.store(TENANT, new ByteArrayInputStream(fileContent),
+                "filename.tmp", "application/txt", null);
+
+        assertThat(IOUtils.toByteArray(artifact.getFileInputStream())).isEqualTo(fileContent);
+        final Path stagingDirectory = Paths.get(properties.getPath(), ".staging");
+        assertThat(stagingDirectory).isDirectory();
+        try (final Stream<Path> stagedFiles = Files.list(stagingDirectory)) {
+            assertThat(stagedFiles).isEmpty();
+        }
+    }
+
+    @Test
+    @Description("Verfies that stale files of the staging directory are deleted when the file-system repository is "
+            + "started, but not the ones which might still be written")
+    public void staleStagingFilesAreDeletedOnStartup() throws IOException {
+        final ArtifactFilesystemProperties properties = new ArtifactFilesystemProperties();
+        properties.setPath(artifactResourceProperties.getPath());
+        properties.setStagingPath(Files.createTempDirectory(null).toString());
+        final Path staleFile = Files.createTempFile(Paths.get(properties.getStagingPath()), "tmp", "artifactrepo");
+        Files.setLastModifiedTime(staleFile,
+                FileTime.fromMillis(System.currentTimeMillis() - Duration.ofDays(2).toMillis()));
+        final Path youngFile = Files.createTempFile(Paths.get(properties.getStagingPath()), "tmp", "artifactrepo");
+
+        new ArtifactFilesystemRepository(properties);
+
+        assertThat(staleFile).doesNotExist();
+        assertThat(youngFile).exists();
+        FileUtils.deleteDirectory(new File(properties.getStagingPath()));
+    }
+
     private AbstractDbArtifact storeRandomArtifact(final byte[] fileContent) {
         final String fileName = "filename.tmp";
         final ByteArrayInputStream inputStream = new ByteArrayInputStream(fileContent);
@@ -14,6 +14,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 
 import org.apache.commons.io.IOUtils;
@@ -55,4 +57,18 @@ public class ArtifactFilesystemTest {
         final byte[] buffer = new byte[1024];
         IOUtils.read(underTest.getFileInputStream(), buffer);
     }
+
+    @Test
+    @Description("Verifies that an InputStream can be opened at an offset of the file")
+    public void getInputStreamAtOffsetOfExistingFile() throws IOException {
+        final File createTempFile = Files.createTempFile(ArtifactFilesystemTest.class.getSimpleName(), "").toFile();
+        createTempFile.deleteOnExit();
+        Files.write(createTempFile.toPath(), "0123456789".getBytes(StandardCharsets.US_ASCII));
+
+        final ArtifactFilesystem underTest = new ArtifactFilesystem(createTempFile,
+                ArtifactFilesystemTest.class.getSimpleName(), new DbArtifactHash("1", "2", "3"), 10L, null);
+        try (final InputStream inputStream = underTest.getFileInputStream(7)) {
+            assertThat(IOUtils.toString(inputStream, StandardCharsets.US_ASCII)).isEqualTo("789");
+        }
+    }
 }
@@ -9,8 +9,15 @@
  */
 package org.eclipse.hawkbit.autoconfigure.dmf.amqp;
 
+import java.util.Collections;
+
+import org.eclipse.hawkbit.amqp.AmqpMessageDispatcherService;
+import org.eclipse.hawkbit.amqp.AmqpMessageSenderService;
 import org.eclipse.hawkbit.amqp.DmfApiConfiguration;
+import org.eclipse.hawkbit.amqp.PipelinedAmqpMessageSenderService;
 import org.springframework.amqp.rabbit.listener.ConditionalRejectingErrorHandler;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.context.annotation.Bean;
@@ -18,6 +25,9 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 import org.springframework.util.ErrorHandler;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+
 /**
  * The AMQP 0.9 based device Management Federation API (DMF) auto configuration.
  */
@@ -36,4 +46,41 @@ public class DmfApiAutoConfiguration {
     public ErrorHandler errorHandler() {
         return new ConditionalRejectingErrorHandler();
     }
+
+    /**
+     * Binds the metrics of the DMF dispatching and sending if Micrometer is
+     * available.
+     */
+    @Configuration
+    @ConditionalOnClass(MeterRegistry.class)
+    static class DmfMetricsConfiguration {
+
+        /**
+         * @return binds the metrics of the dispatch executor of the
+         *         {@link AmqpMessageDispatcherService} to the meter registry if
+         *         both, registry and dispatcher, are available
+         */
+        @Bean
+        SmartInitializingSingleton dispatchExecutorMetricsBinder(final ObjectProvider<MeterRegistry> meterRegistry,
+                final ObjectProvider<AmqpMessageDispatcherService> dispatcherService) {
+            return () -> meterRegistry.ifAvailable(registry -> dispatcherService
+                    .ifAvailable(dispatcher -> new ExecutorServiceMetrics(dispatcher.getDispatchExecutor(),
+                            "dmf-dispatch", Collections.emptyList()).bindTo(registry)));
+        }
+
+        /**
+         * @return binds the {@link PipelinedSenderMetrics} to the meter
+         *         registry if both, registry and pipelined sender, are
+         *         available
+         */
+        @Bean
+        SmartInitializingSingleton pipelinedSenderMetricsBinder(final ObjectProvider<MeterRegistry> meterRegistry,
+                final ObjectProvider<AmqpMessageSenderService> senderService) {
+            return () -> meterRegistry.ifAvailable(registry -> senderService.ifAvailable(sender -> {
+                if (sender instanceof PipelinedAmqpMessageSenderService pipelinedSender) {
+                    new PipelinedSenderMetrics(pipelinedSender).bindTo(registry);
+                }
+            }));
+        }
+    }
 }
@@ -0,0 +1,53 @@
+/**
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.autoconfigure.dmf.amqp;
+
+import org.eclipse.hawkbit.amqp.PipelinedAmqpMessageSenderService;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Binds the in flight messages and the confirm counters of the
+ * {@link PipelinedAmqpMessageSenderService} to a {@link MeterRegistry}.
+ */
+public class PipelinedSenderMetrics implements MeterBinder {
+
+    static final String METRIC_PREFIX = "hawkbit.dmf.sender.";
+
+    private final PipelinedAmqpMessageSenderService sender;
+
+    /**
+     * Constructor.
+     *
+     * @param sender
+     *            to observe
+     */
+    public PipelinedSenderMetrics(final PipelinedAmqpMessageSenderService sender) {
+        this.sender = sender;
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        Gauge.builder(METRIC_PREFIX + "inflight", sender, PipelinedAmqpMessageSenderService::getInFlight)
+                .description("Number of sent messages which are not confirmed yet").register(registry);
+        Gauge.builder(METRIC_PREFIX + "inflight.max", sender, PipelinedAmqpMessageSenderService::getMaxInFlight)
+                .description("Maximum number of sent messages which are not confirmed yet").register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + "confirmed", sender, PipelinedAmqpMessageSenderService::getConfirmed)
+                .description("Messages confirmed by the broker").register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + "retried", sender, PipelinedAmqpMessageSenderService::getRetried)
+                .description("Negatively acknowledged messages sent again").register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + "failed", sender, PipelinedAmqpMessageSenderService::getFailed)
+                .description("Messages rejected, returned or not confirmed in time by the broker")
+                .register(registry);
+    }
+}
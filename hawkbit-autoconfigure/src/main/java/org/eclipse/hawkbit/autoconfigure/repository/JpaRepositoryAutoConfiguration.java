@@ -9,16 +9,25 @@
  */
 package org.eclipse.hawkbit.autoconfigure.repository;
 
+import javax.sql.DataSource;
+
 import org.eclipse.hawkbit.repository.jpa.RepositoryApplicationConfiguration;
+import org.eclipse.hawkbit.repository.jpa.lock.DistributedLockProperties;
+import org.eclipse.hawkbit.repository.jpa.lock.DistributedLockRegistry;
 import org.eclipse.hawkbit.repository.rsql.VirtualPropertyReplacer;
 import org.eclipse.hawkbit.repository.rsql.VirtualPropertyResolver;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
+import org.springframework.integration.jdbc.lock.DefaultLockRepository;
+import org.springframework.integration.jdbc.lock.LockRepository;
 import org.springframework.integration.support.locks.DefaultLockRegistry;
 import org.springframework.integration.support.locks.LockRegistry;
+import org.springframework.transaction.PlatformTransactionManager;
 
 /**
  * Auto-Configuration for enabling JPA repository.
@@ -27,8 +36,12 @@ import org.springframework.integration.support.locks.LockRegistry;
 @Configuration
 @ConditionalOnClass({ RepositoryApplicationConfiguration.class })
 @Import({ RepositoryApplicationConfiguration.class })
+@EnableConfigurationProperties(DistributedLockProperties.class)
 public class JpaRepositoryAutoConfiguration {
 
+    private static final String LOCK_PROPERTY_PREFIX = "hawkbit.server.repository.lock";
+    private static final String LOCK_TABLE_PREFIX = "SP_";
+
     /**
      *
      * @return returns a VirtualPropertyReplacer
@@ -39,9 +52,55 @@ public class JpaRepositoryAutoConfiguration {
         return new VirtualPropertyResolver();
     }
 
+    /**
+     * @return {@link LockRegistry} that is local to the JVM, used unless the
+     *         distributed locks are enabled
+     */
     @Bean
     @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = LOCK_PROPERTY_PREFIX, name = "distributed", havingValue = "false",
+            matchIfMissing = true)
     public LockRegistry lockRegistry() {
         return new DefaultLockRegistry();
     }
+
+    /**
+     * @param dataSource
+     *            storing the locks
+     * @param txManager
+     *            to run the lock operations in transactions
+     * @param lockProperties
+     *            with the lease and region of the locks
+     * @return {@link LockRepository} storing the locks in the
+     *         <code>SP_LOCK</code> table
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = LOCK_PROPERTY_PREFIX, name = "distributed", havingValue = "true")
+    public DefaultLockRepository lockRepository(final DataSource dataSource,
+            final PlatformTransactionManager txManager, final DistributedLockProperties lockProperties) {
+        final DefaultLockRepository lockRepository = new DefaultLockRepository(dataSource);
+        lockRepository.setPrefix(LOCK_TABLE_PREFIX);
+        lockRepository.setRegion(lockProperties.getRegion());
+        lockRepository.setTimeToLive((int) lockProperties.getTtl().toMillis());
+        lockRepository.setTransactionManager(txManager);
+        return lockRepository;
+    }
+
+    /**
+     * @param lockRepository
+     *            storing the locks
+     * @param lockProperties
+     *            with the lease of the locks
+     * @return {@link LockRegistry} whose locks are shared by all nodes of the
+     *         cluster, the leases of the held locks are renewed three times
+     *         per lease
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = LOCK_PROPERTY_PREFIX, name = "distributed", havingValue = "true")
+    public LockRegistry distributedLockRegistry(final LockRepository lockRepository,
+            final DistributedLockProperties lockProperties) {
+        return new DistributedLockRegistry(lockRepository, lockProperties.getTtl().dividedBy(3));
+    }
 }
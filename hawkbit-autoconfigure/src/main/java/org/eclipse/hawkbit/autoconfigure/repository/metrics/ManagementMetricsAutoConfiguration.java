@@ -0,0 +1,60 @@
+/**
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.autoconfigure.repository.metrics;
+
+import org.eclipse.hawkbit.repository.jpa.management.TargetPollQueue;
+import org.eclipse.hawkbit.repository.metrics.ManagementMetricsInterceptor;
+import org.eclipse.hawkbit.repository.metrics.ManagementMetricsPostProcessor;
+import org.eclipse.hawkbit.repository.metrics.ManagementMetricsProperties;
+import org.eclipse.hawkbit.tenancy.TenantAware;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Auto-configuration of the Micrometer instrumentation of the repository
+ * management services and of the {@link TargetPollQueue}. Opt-in by
+ * <code>hawkbit.server.repository.metrics.enabled=true</code> - if not enabled
+ * the services are not instrumented at all.
+ */
+@Configuration
+@ConditionalOnClass({ MeterRegistry.class, ManagementMetricsPostProcessor.class })
+@ConditionalOnProperty(prefix = "hawkbit.server.repository.metrics", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ManagementMetricsProperties.class)
+public class ManagementMetricsAutoConfiguration {
+
+    /**
+     * @return the post processor instrumenting the management services
+     */
+    @Bean
+    static ManagementMetricsPostProcessor managementMetricsPostProcessor(
+            final ObjectProvider<MeterRegistry> meterRegistry, final ObjectProvider<TenantAware> tenantAware,
+            final ObjectProvider<ManagementMetricsProperties> properties) {
+        return new ManagementMetricsPostProcessor(
+                new ManagementMetricsInterceptor(meterRegistry, tenantAware, properties.getObject()));
+    }
+
+    /**
+     * @return binds the {@link TargetPollQueueMetrics} to the meter registry
+     *         if both, registry and queue, are available
+     */
+    @Bean
+    SmartInitializingSingleton targetPollQueueMetricsBinder(final ObjectProvider<MeterRegistry> meterRegistry,
+            final ObjectProvider<TargetPollQueue> targetPollQueue) {
+        return () -> meterRegistry.ifAvailable(
+                registry -> targetPollQueue.ifAvailable(queue -> new TargetPollQueueMetrics(queue).bindTo(registry)));
+    }
+}
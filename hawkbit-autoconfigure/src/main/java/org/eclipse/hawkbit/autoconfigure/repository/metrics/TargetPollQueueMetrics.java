@@ -0,0 +1,54 @@
+/**
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.autoconfigure.repository.metrics;
+
+import org.eclipse.hawkbit.repository.jpa.management.TargetPollQueue;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Binds the depth and the counters of the {@link TargetPollQueue} to a
+ * {@link MeterRegistry}.
+ */
+public class TargetPollQueueMetrics implements MeterBinder {
+
+    static final String METRIC_PREFIX = "hawkbit.repository.poll.queue.";
+
+    private final TargetPollQueue queue;
+
+    /**
+     * Constructor.
+     *
+     * @param queue
+     *            to observe
+     */
+    public TargetPollQueueMetrics(final TargetPollQueue queue) {
+        this.queue = queue;
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        Gauge.builder(METRIC_PREFIX + "size", queue, TargetPollQueue::size)
+                .description("Number of targets with a queued poll").register(registry);
+        Gauge.builder(METRIC_PREFIX + "capacity", queue, TargetPollQueue::getCapacity)
+                .description("Maximum number of targets with a queued poll").register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + "coalesced", queue, TargetPollQueue::getCoalesced)
+                .description("Polls merged into a queued poll of the same target").register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + "fallbacks", queue, TargetPollQueue::getFallbacks)
+                .description("Polls persisted immediately because the queue was full").register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + "persisted", queue, TargetPollQueue::getPersisted)
+                .description("Queued polls persisted").register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + "dropped", queue, TargetPollQueue::getDropped)
+                .description("Queued polls lost because they could not be persisted").register(registry);
+    }
+}
@@ -33,6 +33,7 @@ import org.eclipse.hawkbit.mgmt.rest.api.MgmtRestConstants;
 import org.eclipse.hawkbit.mgmt.rest.resource.MgmtApiConfiguration;
 import org.eclipse.hawkbit.repository.ControllerManagement;
 import org.eclipse.hawkbit.repository.SystemManagement;
+import org.eclipse.hawkbit.repository.TargetAuthenticationCache;
 import org.eclipse.hawkbit.repository.TenantConfigurationManagement;
 import org.eclipse.hawkbit.security.ControllerTenantAwareAuthenticationDetailsSource;
 import org.eclipse.hawkbit.security.DdiSecurityProperties;
@@ -150,18 +151,21 @@ public class SecurityManagedConfiguration {
         private final DdiSecurityProperties ddiSecurityConfiguration;
         private final HawkbitSecurityProperties securityProperties;
         private final SystemSecurityContext systemSecurityContext;
+        private final TargetAuthenticationCache targetAuthenticationCache;
 
         @Autowired
         ControllerSecurityConfigurationAdapter(final ControllerManagement controllerManagement,
                 final TenantConfigurationManagement tenantConfigurationManagement, final TenantAware tenantAware,
                 final DdiSecurityProperties ddiSecurityConfiguration,
-                final HawkbitSecurityProperties securityProperties, final SystemSecurityContext systemSecurityContext) {
+                final HawkbitSecurityProperties securityProperties, final SystemSecurityContext systemSecurityContext,
+                final TargetAuthenticationCache targetAuthenticationCache) {
             this.controllerManagement = controllerManagement;
             this.tenantConfigurationManagement = tenantConfigurationManagement;
             this.tenantAware = tenantAware;
             this.ddiSecurityConfiguration = ddiSecurityConfiguration;
             this.securityProperties = securityProperties;
             this.systemSecurityContext = systemSecurityContext;
+            this.targetAuthenticationCache = targetAuthenticationCache;
         }
 
         /**
@@ -224,7 +228,8 @@ public class SecurityManagedConfiguration {
                 securityHeaderFilter.setAuthenticationDetailsSource(authenticationDetailsSource);
 
                 final HttpControllerPreAuthenticateSecurityTokenFilter securityTokenFilter = new HttpControllerPreAuthenticateSecurityTokenFilter(
-                        tenantConfigurationManagement, tenantAware, controllerManagement, systemSecurityContext);
+                        tenantConfigurationManagement, tenantAware, controllerManagement, systemSecurityContext,
+                        targetAuthenticationCache);
                 securityTokenFilter.setAuthenticationManager(authenticationManager);
                 securityTokenFilter.setCheckForPrincipalChanges(true);
                 securityTokenFilter.setAuthenticationDetailsSource(authenticationDetailsSource);
@@ -269,18 +274,21 @@ public class SecurityManagedConfiguration {
         private final DdiSecurityProperties ddiSecurityConfiguration;
         private final HawkbitSecurityProperties securityProperties;
         private final SystemSecurityContext systemSecurityContext;
+        private final TargetAuthenticationCache targetAuthenticationCache;
 
         @Autowired
         ControllerDownloadSecurityConfigurationAdapter(final ControllerManagement controllerManagement,
                 final TenantConfigurationManagement tenantConfigurationManagement, final TenantAware tenantAware,
                 final DdiSecurityProperties ddiSecurityConfiguration,
-                final HawkbitSecurityProperties securityProperties, final SystemSecurityContext systemSecurityContext) {
+                final HawkbitSecurityProperties securityProperties, final SystemSecurityContext systemSecurityContext,
+                final TargetAuthenticationCache targetAuthenticationCache) {
             this.controllerManagement = controllerManagement;
             this.tenantConfigurationManagement = tenantConfigurationManagement;
             this.tenantAware = tenantAware;
             this.ddiSecurityConfiguration = ddiSecurityConfiguration;
             this.securityProperties = securityProperties;
             this.systemSecurityContext = systemSecurityContext;
+            this.targetAuthenticationCache = targetAuthenticationCache;
         }
 
         /**
@@ -343,7 +351,8 @@ public class SecurityManagedConfiguration {
                 securityHeaderFilter.setAuthenticationDetailsSource(authenticationDetailsSource);
 
                 final HttpControllerPreAuthenticateSecurityTokenFilter securityTokenFilter = new HttpControllerPreAuthenticateSecurityTokenFilter(
-                        tenantConfigurationManagement, tenantAware, controllerManagement, systemSecurityContext);
+                        tenantConfigurationManagement, tenantAware, controllerManagement, systemSecurityContext,
+                        targetAuthenticationCache);
                 securityTokenFilter.setAuthenticationManager(authenticationManager);
                 securityTokenFilter.setCheckForPrincipalChanges(true);
                 securityTokenFilter.setAuthenticationDetailsSource(authenticationDetailsSource);
@@ -0,0 +1,142 @@
+/**
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import org.eclipse.hawkbit.im.authentication.SpPermission;
+import org.eclipse.hawkbit.im.authentication.SpPermission.SpringEvalExpressions;
+import org.eclipse.hawkbit.im.authentication.TenantAwareAuthenticationDetails;
+import org.eclipse.hawkbit.im.authentication.TenantAwareUser;
+import org.eclipse.hawkbit.repository.test.util.SecurityContextSwitch;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextImpl;
+
+/**
+ * Base class for benchmarks that need a running repository. Starts the
+ * {@link BenchmarkConfiguration} context once per trial and provides the
+ * security contexts a device (controller) and a privileged user would run with.
+ */
+public abstract class AbstractRepositoryBenchmark {
+
+    protected static final String TENANT = SecurityContextSwitch.DEFAULT_TENANT;
+
+    private ConfigurableApplicationContext context;
+
+    /**
+     * Starts the repository context. The DDI poll path runs with lazy poll
+     * persistence (the production default) unless overridden by
+     * {@link #additionalProperties()}.
+     */
+    protected void startContext() {
+        final List<String> properties = new ArrayList<>(List.of(
+                "spring.main.allow-bean-definition-overriding=true",
+                "spring.main.banner-mode=off",
+                "logging.level.root=ERROR",
+                "spring.jpa.properties.eclipselink.logging.level=off",
+                "spring.jpa.properties.eclipselink.logging.level.sql=off",
+                "spring.datasource.url=jdbc:h2:mem:hawkbit-benchmark-" + System.nanoTime() + ";MODE=LEGACY;",
+                "hawkbit.server.repository.eagerPollPersistence=false",
+                "hawkbit.server.security.dos.maxTargetDistributionSetAssignmentsPerManualAssignment="
+                        + Integer.MAX_VALUE));
+        properties.addAll(additionalProperties());
+        // passed as command line arguments in order to override the test defaults
+        context = new SpringApplicationBuilder(BenchmarkConfiguration.class).web(WebApplicationType.NONE)
+                .profiles("test")
+                .run(properties.stream().map(property -> "--" + property).toArray(String[]::new));
+    }
+
+    protected void stopContext() {
+        if (context != null) {
+            context.close();
+            context = null;
+        }
+    }
+
+    /**
+     * @return additional spring properties (key=value) of the benchmark context
+     */
+    protected List<String> additionalProperties() {
+        return List.of();
+    }
+
+    protected <T> T getBean(final Class<T> type) {
+        return context.getBean(type);
+    }
+
+    /**
+     * Runs the given callable as privileged user of the default tenant, e.g.
+     * for seeding test data.
+     */
+    protected static <T> T runAsPrivileged(final Callable<T> callable) {
+        try {
+            return SecurityContextSwitch.runAsPrivileged(callable);
+        } catch (final Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Runs the given callable with the given security context, e.g. as
+     * {@link #userSecurityContext()}.
+     */
+    protected static <T> T runAs(final SecurityContext securityContext, final Callable<T> callable) {
+        final SecurityContext oldContext = SecurityContextHolder.getContext();
+        SecurityContextHolder.setContext(securityContext);
+        try {
+            return callable.call();
+        } catch (final Exception e) {
+            throw new IllegalStateException(e);
+        } finally {
+            SecurityContextHolder.setContext(oldContext);
+        }
+    }
+
+    /**
+     * @return security context of a user of the default tenant with all
+     *         permissions and the system role, e.g. to run the rollout
+     *         handler. Unlike the privileged one it is serializable, so it
+     *         could be stored with e.g. a rollout that is handled as the user.
+     */
+    protected static SecurityContext userSecurityContext() {
+        final List<String> authorities = SpPermission.getAllAuthorities();
+        authorities.add(SpringEvalExpressions.SYSTEM_ROLE);
+        final TestingAuthenticationToken authentication = new TestingAuthenticationToken(
+                new TenantAwareUser("benchmark-user", TENANT), null, authorities.toArray(new String[0]));
+        authentication.setDetails(new TenantAwareAuthenticationDetails(TENANT, false));
+        return new SecurityContextImpl(authentication);
+    }
+
+    /**
+     * @return security context of an authenticated controller of the default
+     *         tenant, as established by the DDI security filters
+     */
+    protected static SecurityContext controllerSecurityContext(final String controllerId) {
+        final TestingAuthenticationToken authentication = new TestingAuthenticationToken(
+                new TenantAwareUser(controllerId, TENANT), null, SpringEvalExpressions.CONTROLLER_ROLE);
+        authentication.setDetails(new TenantAwareAuthenticationDetails(TENANT, true));
+        return new SecurityContextImpl(authentication);
+    }
+
+    /**
+     * Installs the security context of a controller for the current (benchmark)
+     * thread.
+     */
+    protected static void setControllerSecurityContext() {
+        SecurityContextHolder.setContext(controllerSecurityContext("benchmark-controller"));
+    }
+}
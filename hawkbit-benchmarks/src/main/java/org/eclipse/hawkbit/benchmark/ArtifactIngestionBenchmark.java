@@ -0,0 +1,104 @@
+/**
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.benchmark;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.IOUtils;
+import org.eclipse.hawkbit.artifact.repository.ArtifactIngestion;
+import org.eclipse.hawkbit.artifact.repository.model.DbArtifactHash;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the ingestion of an uploaded artifact, i.e. the computation of its
+ * SHA1, MD5 and SHA256 hashes while it is written into a temporary file. The
+ * {@link ArtifactIngestion} (one read, concurrent digests and writer) is
+ * compared to the former chain of three {@link DigestInputStream}s copied into
+ * the file on the upload thread. The content is read from memory, so the
+ * results show the CPU and disk write share of an upload without the network.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class ArtifactIngestionBenchmark {
+
+    @Param({ "16", "256" })
+    private int sizeMB;
+
+    private final ExecutorService executor = ArtifactIngestion.newExecutor(ArtifactIngestion.DEFAULT_THREADS);
+    private final ArtifactIngestion ingestion = new ArtifactIngestion(executor);
+    private byte[] content;
+    private File tempFile;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        content = new byte[sizeMB * 1024 * 1024];
+        ThreadLocalRandom.current().nextBytes(content);
+        tempFile = Files.createTempFile("ingestion", "benchmark").toFile();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        executor.shutdown();
+        Files.deleteIfExists(tempFile.toPath());
+    }
+
+    @Benchmark
+    public DbArtifactHash digestInputStreamChain() throws IOException, NoSuchAlgorithmException {
+        final MessageDigest mdSHA1 = MessageDigest.getInstance("SHA1");
+        final MessageDigest mdMD5 = MessageDigest.getInstance("MD5");
+        final MessageDigest mdSHA256 = MessageDigest.getInstance("SHA-256");
+        try (final InputStream inputStream = new DigestInputStream(new DigestInputStream(
+                new DigestInputStream(new ByteArrayInputStream(content), mdSHA256), mdMD5), mdSHA1);
+                final OutputStream outputStream = new BufferedOutputStream(new FileOutputStream(tempFile))) {
+            IOUtils.copy(inputStream, outputStream);
+        }
+        final HexFormat hexFormat = HexFormat.of().withLowerCase();
+        return new DbArtifactHash(hexFormat.formatHex(mdSHA1.digest()), hexFormat.formatHex(mdMD5.digest()),
+                hexFormat.formatHex(mdSHA256.digest()));
+    }
+
+    @Benchmark
+    public DbArtifactHash parallelIngestion() throws IOException {
+        try (final InputStream inputStream = new ByteArrayInputStream(content);
+                final OutputStream outputStream = new FileOutputStream(tempFile)) {
+            return ingestion.ingest(inputStream, outputStream);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+/**
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.benchmark;
+
+import org.eclipse.hawkbit.repository.jpa.RepositoryApplicationConfiguration;
+import org.eclipse.hawkbit.repository.test.TestConfiguration;
+import org.springframework.cloud.stream.binder.test.TestChannelBinderConfiguration;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+/**
+ * Spring context used by the benchmarks. Boots the JPA repository against the
+ * embedded H2 database in the same way as the repository integration tests.
+ */
+@Configuration
+@Import({ RepositoryApplicationConfiguration.class, TestConfiguration.class, TestChannelBinderConfiguration.class })
+public class BenchmarkConfiguration {
+}
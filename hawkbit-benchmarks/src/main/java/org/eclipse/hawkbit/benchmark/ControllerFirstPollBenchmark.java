@@ -0,0 +1,85 @@
+/**
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.hawkbit.repository.ControllerManagement;
+import org.eclipse.hawkbit.repository.DeploymentManagement;
+import org.eclipse.hawkbit.repository.model.Target;
+import org.eclipse.hawkbit.repository.test.util.TestdataFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the DDI poll hot path for cold targets, i.e. the first poll of a
+ * provisioned target which has never been in contact with the server (and is
+ * therefore persisted eagerly).
+ * <p>
+ * Since a target is cold only once, every iteration provisions a fresh batch
+ * of {@link #BATCH_SIZE} targets and the score is the time needed to poll the
+ * whole batch.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, batchSize = ControllerFirstPollBenchmark.BATCH_SIZE)
+@Measurement(iterations = 10, batchSize = ControllerFirstPollBenchmark.BATCH_SIZE)
+@Fork(1)
+public class ControllerFirstPollBenchmark extends AbstractRepositoryBenchmark {
+
+    static final int BATCH_SIZE = 500;
+
+    @Param({ "false", "true" })
+    private boolean activeAction;
+
+    private final AtomicInteger batch = new AtomicInteger();
+    private ControllerManagement controllerManagement;
+    private String[] controllerIds;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        startContext();
+        controllerManagement = getBean(ControllerManagement.class);
+    }
+
+    @Setup(Level.Iteration)
+    public void provisionBatch() {
+        controllerIds = runAsPrivileged(() -> ControllerPollSupport.seedTargets(getBean(TestdataFactory.class),
+                getBean(DeploymentManagement.class), "cold" + batch.getAndIncrement() + "-", BATCH_SIZE,
+                activeAction)).stream().map(Target::getControllerId).toArray(String[]::new);
+        next = 0;
+        setControllerSecurityContext();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        stopContext();
+    }
+
+    @Benchmark
+    public void firstPoll(final Blackhole blackhole) {
+        ControllerPollSupport.poll(controllerManagement, controllerIds[next++], blackhole);
+    }
+}
@@ -0,0 +1,97 @@
+/**
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.benchmark;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.hawkbit.repository.ControllerManagement;
+import org.eclipse.hawkbit.repository.DeploymentManagement;
+import org.eclipse.hawkbit.repository.model.Target;
+import org.eclipse.hawkbit.repository.test.util.TestdataFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the DDI poll hot path for warm targets, i.e. targets that are
+ * registered and have polled before, which is the steady state of a device
+ * fleet. Reports throughput and the latency distribution (including p99); run
+ * with the GC profiler (default of {@link BenchmarkRunner}) for the allocation
+ * rate per poll.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Threads(4)
+@Fork(1)
+public class ControllerPollBenchmark extends AbstractRepositoryBenchmark {
+
+    @Param({ "false", "true" })
+    private boolean activeAction;
+
+    @Param({ "1000" })
+    private int targets;
+
+    private ControllerManagement controllerManagement;
+    private String[] controllerIds;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        startContext();
+        controllerManagement = getBean(ControllerManagement.class);
+
+        final List<Target> seeded = runAsPrivileged(() -> ControllerPollSupport.seedTargets(
+                getBean(TestdataFactory.class), getBean(DeploymentManagement.class), "warm", targets,
+                activeAction));
+        controllerIds = seeded.stream().map(Target::getControllerId).toArray(String[]::new);
+
+        // first poll registers the targets - afterwards they are warm
+        setControllerSecurityContext();
+        for (final String controllerId : controllerIds) {
+            ControllerPollSupport.register(controllerManagement, controllerId);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        stopContext();
+    }
+
+    @State(Scope.Thread)
+    public static class ControllerThread {
+
+        @Setup(Level.Trial)
+        public void setup() {
+            setControllerSecurityContext();
+        }
+    }
+
+    @Benchmark
+    public void poll(final ControllerThread controllerThread, final Blackhole blackhole) {
+        ControllerPollSupport.poll(controllerManagement,
+                controllerIds[ThreadLocalRandom.current().nextInt(controllerIds.length)], blackhole);
+    }
+}
@@ -0,0 +1,76 @@
+/**
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.benchmark;
+
+import java.net.URI;
+import java.util.List;
+
+import org.apache.commons.collections4.ListUtils;
+import org.eclipse.hawkbit.repository.ControllerManagement;
+import org.eclipse.hawkbit.repository.DeploymentManagement;
+import org.eclipse.hawkbit.repository.model.Action;
+import org.eclipse.hawkbit.repository.model.DistributionSet;
+import org.eclipse.hawkbit.repository.model.Target;
+import org.eclipse.hawkbit.repository.test.util.TestdataFactory;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Seeding and polling helpers shared by the DDI poll benchmarks.
+ */
+final class ControllerPollSupport {
+
+    static final URI ADDRESS = URI.create("http://127.0.0.1");
+
+    private static final int ASSIGNMENT_CHUNK = 500;
+
+    private ControllerPollSupport() {
+        // utility class
+    }
+
+    /**
+     * Creates the given number of targets and, if requested, assigns a
+     * distribution set to them so that they have an active action.
+     */
+    static List<Target> seedTargets(final TestdataFactory testdataFactory,
+            final DeploymentManagement deploymentManagement, final String prefix, final int count,
+            final boolean activeAction) {
+        final List<Target> targets = testdataFactory.createTargets(prefix, 0, count);
+        if (activeAction) {
+            final DistributionSet ds = testdataFactory.createDistributionSet(prefix);
+            ListUtils.partition(targets, ASSIGNMENT_CHUNK).forEach(chunk -> deploymentManagement
+                    .assignDistributionSets(chunk.stream()
+                            .map(target -> DeploymentManagement
+                                    .deploymentRequest(target.getControllerId(), ds.getId()).build())
+                            .toList()));
+        }
+        return targets;
+    }
+
+    /**
+     * First contact of the target, i.e. sets its update status to registered.
+     */
+    static void register(final ControllerManagement controllerManagement, final String controllerId) {
+        controllerManagement.findOrRegisterTargetIfItDoesNotExist(controllerId, ADDRESS);
+    }
+
+    /**
+     * Repository part of {@code DdiRootController#getControllerBase}, i.e. what
+     * is executed on every {@code GET /{tenant}/controller/v1/{controllerId}}.
+     */
+    static void poll(final ControllerManagement controllerManagement, final String controllerId,
+            final Blackhole blackhole) {
+        blackhole.consume(controllerManagement.findOrRegisterTargetIfItDoesNotExist(controllerId, ADDRESS));
+        final Action activeAction = controllerManagement.findActiveActionWithHighestWeight(controllerId)
+                .orElse(null);
+        blackhole.consume(controllerManagement.getInstalledActionByTarget(controllerId));
+        blackhole.consume(activeAction == null ? controllerManagement.getPollingTime()
+                : controllerManagement.getPollingTimeForAction(activeAction.getId()));
+    }
+}
@@ -0,0 +1,103 @@
+/**
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.hawkbit.repository.RolloutHandler;
+import org.eclipse.hawkbit.repository.RolloutManagement;
+import org.eclipse.hawkbit.repository.model.DistributionSet;
+import org.eclipse.hawkbit.repository.model.Rollout;
+import org.eclipse.hawkbit.repository.test.util.TestdataFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the start of a rollout, i.e. the creation of the scheduled actions
+ * of all its groups and the start of the first group, with the actions created
+ * entity by entity or in bulk.
+ * <p>
+ * Since a rollout is started only once, every iteration provisions
+ * {@link #TARGETS} fresh targets and a rollout over them, the score is the time
+ * needed to start it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class RolloutStartBenchmark extends AbstractRepositoryBenchmark {
+
+    static final int TARGETS = 5_000;
+    static final int GROUPS = 5;
+
+    @Param({ "false", "true" })
+    private boolean bulkActionCreation;
+
+    private final AtomicInteger rolloutCount = new AtomicInteger();
+    private RolloutManagement rolloutManagement;
+    private RolloutHandler rolloutHandler;
+    private Rollout rollout;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        startContext();
+        rolloutManagement = getBean(RolloutManagement.class);
+        rolloutHandler = getBean(RolloutHandler.class);
+    }
+
+    @Override
+    protected List<String> additionalProperties() {
+        return List.of("hawkbit.server.repository.rolloutBulkActionCreation=" + bulkActionCreation,
+                "hawkbit.server.security.dos.maxTargetsPerRolloutGroup=" + TARGETS);
+    }
+
+    @Setup(Level.Iteration)
+    public void provisionRollout() {
+        final String prefix = "rollout" + rolloutCount.getAndIncrement() + "-";
+        final TestdataFactory testdataFactory = getBean(TestdataFactory.class);
+        final DistributionSet distributionSet = runAsPrivileged(() -> {
+            testdataFactory.createTargets(prefix, 0, TARGETS);
+            return testdataFactory.createDistributionSet(prefix);
+        });
+        // the rollout is handled with the security context of its creator
+        rollout = runAs(userSecurityContext(), () -> testdataFactory.createRolloutByVariables(prefix, prefix, GROUPS,
+                "controllerId==" + prefix + "*", distributionSet, "50", "80"));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        stopContext();
+    }
+
+    @Benchmark
+    public void start() {
+        runAs(userSecurityContext(), () -> {
+            rolloutManagement.start(rollout.getId());
+            // schedules all groups and starts the first one
+            rolloutHandler.handleAll();
+            return null;
+        });
+    }
+}
@@ -9,61 +9,70 @@
  */
 package org.eclipse.hawkbit.artifact.repository;
 
-import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.OutputStream;
 import java.nio.file.Files;
-import java.security.DigestInputStream;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
-import java.util.HexFormat;
+import java.util.concurrent.ExecutorService;
 
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.io.IOUtils;
 import org.eclipse.hawkbit.artifact.repository.model.AbstractDbArtifact;
 import org.eclipse.hawkbit.artifact.repository.model.DbArtifactHash;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.util.StringUtils;
 
 /**
  * Abstract utility class for ArtifactRepository implementations with common
- * functionality, e.g. computation of hashes.
+ * functionality, e.g. computation of hashes. The hashes are computed by an
+ * {@link ArtifactIngestion} running on a bounded executor of the repository,
+ * which is shut down when the repository is destroyed.
  */
 @Slf4j
-public abstract class AbstractArtifactRepository implements ArtifactRepository {
+public abstract class AbstractArtifactRepository implements ArtifactRepository, DisposableBean {
 
-    private static final String TEMP_FILE_PREFIX = "tmp";
-    private static final String TEMP_FILE_SUFFIX = "artifactrepo";
+    protected static final String TEMP_FILE_PREFIX = "tmp";
+    protected static final String TEMP_FILE_SUFFIX = "artifactrepo";
+
+    private final ExecutorService ingestionExecutor;
+    private final ArtifactIngestion ingestion;
+
+    /**
+     * Constructor with the {@link ArtifactIngestion#DEFAULT_THREADS} for the
+     * ingestion.
+     */
+    protected AbstractArtifactRepository() {
+        this(ArtifactIngestion.DEFAULT_THREADS);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param ingestionThreads
+     *            maximum number of threads computing the hashes of the stored
+     *            artifacts, shared by all concurrent uploads
+     */
+    protected AbstractArtifactRepository(final int ingestionThreads) {
+        ingestionExecutor = ArtifactIngestion.newExecutor(ingestionThreads);
+        ingestion = new ArtifactIngestion(ingestionExecutor);
+    }
 
     @Override
-    // suppress warning, of not strong enough hashing algorithm, SHA-1 and MD5
-    // is not used security related
-    @SuppressWarnings("squid:S2070")
     public AbstractDbArtifact store(final String tenant, final InputStream content, final String filename,
             final String contentType, final DbArtifactHash providedHashes) {
-        final MessageDigest mdSHA1;
-        final MessageDigest mdMD5;
-        final MessageDigest mdSHA256;
-        try {
-            mdSHA1 = MessageDigest.getInstance("SHA1");
-            mdMD5 = MessageDigest.getInstance("MD5");
-            mdSHA256 = MessageDigest.getInstance("SHA-256");
-        } catch (final NoSuchAlgorithmException e) {
-            throw new ArtifactStoreException(e.getMessage(), e);
-        }
-
         String tempFile = null;
-        try (final DigestInputStream inputStream = wrapInDigestInputStream(content, mdSHA1, mdMD5, mdSHA256)) {
-
-            tempFile = storeTempFile(inputStream);
-
-            final HexFormat hexFormat = HexFormat.of().withLowerCase();
+        try {
+            tempFile = createTempFile().getPath();
+            final DbArtifactHash hashes;
+            try (final InputStream inputStream = content;
+                    final FileOutputStream outputstream = new FileOutputStream(tempFile)) {
+                hashes = ingestion.ingest(inputStream, outputstream);
+                syncTempFile(outputstream);
+            }
 
-            final String sha1Hash16 = hexFormat.formatHex(mdSHA1.digest());
-            final String md5Hash16 = hexFormat.formatHex(mdMD5.digest());
-            final String sha256Hash16 = hexFormat.formatHex(mdSHA256.digest());
+            final String sha1Hash16 = hashes.getSha1();
+            final String md5Hash16 = hashes.getMd5();
+            final String sha256Hash16 = hashes.getSha256();
 
             checkHashes(sha1Hash16, md5Hash16, sha256Hash16, providedHashes);
 
@@ -72,8 +81,7 @@ public abstract class AbstractArtifactRepository implements ArtifactRepository {
                 return addMissingHashes(getArtifactBySha1(tenant, sha1Hash16), sha1Hash16, md5Hash16, sha256Hash16);
             }
 
-            return store(sanitizeTenant(tenant), new DbArtifactHash(sha1Hash16, md5Hash16, sha256Hash16), contentType,
-                    tempFile);
+            return store(sanitizeTenant(tenant), hashes, contentType, tempFile);
         } catch (final IOException e) {
             throw new ArtifactStoreException(e.getMessage(), e);
         } finally {
@@ -83,6 +91,11 @@ public abstract class AbstractArtifactRepository implements ArtifactRepository {
         }
     }
 
+    @Override
+    public void destroy() {
+        ingestionExecutor.shutdown();
+    }
+
     private AbstractDbArtifact addMissingHashes(final AbstractDbArtifact existing, final String calculatedSha1,
             final String calculatedMd5, final String calculatedSha256) {
 
@@ -107,16 +120,14 @@ public abstract class AbstractArtifactRepository implements ArtifactRepository {
         }
     }
 
-    protected String storeTempFile(final InputStream content) throws IOException {
-        final File file = createTempFile();
-        try (final OutputStream outputstream = new BufferedOutputStream(new FileOutputStream(file))) {
-            IOUtils.copy(content, outputstream);
-            outputstream.flush();
-        }
-        return file.getPath();
-    }
-
-    private static File createTempFile() {
+    /**
+     * Creates the temporary file the content of an artifact is written into
+     * before it is passed to {@link #store(String, DbArtifactHash, String, String)},
+     * by default in the temporary directory of the JVM.
+     *
+     * @return the new empty temporary file
+     */
+    protected File createTempFile() {
         try {
             return Files.createTempFile(TEMP_FILE_PREFIX, TEMP_FILE_SUFFIX).toFile();
         } catch (final IOException e) {
@@ -124,6 +135,20 @@ public abstract class AbstractArtifactRepository implements ArtifactRepository {
         }
     }
 
+    /**
+     * Called when the content of an artifact has been written completely into
+     * the temporary file, before it is closed. Does nothing by default,
+     * implementations could e.g. sync the file to the storage device.
+     *
+     * @param tempFileStream
+     *            the stream the temporary file has been written with
+     * @throws IOException
+     *             if the file could not be synced
+     */
+    protected void syncTempFile(final FileOutputStream tempFileStream) throws IOException {
+        // nothing to do by default
+    }
+
     private static void checkHashes(final String sha1Hash16, final String md5Hash16, final String sha256Hash16,
             final DbArtifactHash providedHashes) {
         if (providedHashes == null) {
@@ -152,11 +177,6 @@ public abstract class AbstractArtifactRepository implements ArtifactRepository {
     protected abstract AbstractDbArtifact store(final String tenant, final DbArtifactHash base16Hashes,
             final String contentType, final String tempFile) throws IOException;
 
-    private static DigestInputStream wrapInDigestInputStream(final InputStream input, final MessageDigest mdSHA1,
-            final MessageDigest mdMD5, final MessageDigest mdSHA256) {
-        return new DigestInputStream(new DigestInputStream(new DigestInputStream(input, mdSHA256), mdMD5), mdSHA1);
-    }
-
     protected static String sanitizeTenant(final String tenant) {
         return tenant.trim().toUpperCase();
     }
@@ -0,0 +1,284 @@
+/**
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.artifact.repository;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.hawkbit.artifact.repository.model.DbArtifactHash;
+
+/**
+ * Ingests the content of an artifact, i.e. computes its SHA1, MD5 and SHA256
+ * hashes and copies it into an output stream, reading the content only once.
+ * <p/>
+ * The content is read in large chunks. The digests and the output stream
+ * consume each chunk concurrently, every one of them on its own thread and in
+ * the order the chunks have been read, so the ingestion takes about as long as
+ * the slowest consumer instead of the sum of all of them. At most
+ * {@link #DEFAULT_CHUNKS} chunks are in flight, a chunk is reused when all
+ * consumers are done with it.
+ * <p/>
+ * Content which fits into one chunk is consumed on the calling thread, handing
+ * it off would cost more than it saves.
+ * <p/>
+ * The executor is owned by the creator of the ingestion, see
+ * {@link #newExecutor(int)} for a bounded one.
+ */
+public class ArtifactIngestion {
+
+    /**
+     * Default size of the chunks the content is read in.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 1024 * 1024;
+
+    /**
+     * Default maximum number of chunks in flight per ingestion.
+     */
+    public static final int DEFAULT_CHUNKS = 4;
+
+    /**
+     * Default maximum number of threads of an executor created by
+     * {@link #newExecutor(int)}, enough for the four consumers of one
+     * ingestion per processor.
+     */
+    public static final int DEFAULT_THREADS = 4 * Runtime.getRuntime().availableProcessors();
+
+    private static final long KEEP_ALIVE_SECONDS = 60;
+
+    private final Executor executor;
+    private final int chunkSize;
+    private final int chunks;
+
+    /**
+     * Constructor with the default chunk size and count.
+     *
+     * @param executor
+     *            to run the consumers of the chunks
+     */
+    public ArtifactIngestion(final Executor executor) {
+        this(executor, DEFAULT_CHUNK_SIZE, DEFAULT_CHUNKS);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param executor
+     *            to run the consumers of the chunks, the consumers run
+     *            concurrently only as far as the executor runs them so
+     * @param chunkSize
+     *            size of the chunks the content is read in
+     * @param chunks
+     *            maximum number of chunks in flight per ingestion, at least 2
+     */
+    public ArtifactIngestion(final Executor executor, final int chunkSize, final int chunks) {
+        if (chunkSize <= 0 || chunks < 2) {
+            throw new IllegalArgumentException("Chunk size has to be positive and at least 2 chunks are needed");
+        }
+        this.executor = executor;
+        this.chunkSize = chunkSize;
+        this.chunks = chunks;
+    }
+
+    /**
+     * Creates an executor for the consumers of the chunks with at most the
+     * given number of threads, which are started on demand and stopped when
+     * idle. The tasks are not queued, a task submitted while all threads are
+     * busy runs on the submitting thread instead. So the number of threads is
+     * bounded independent of the number of concurrent ingestions, which then
+     * just consume their chunks with less concurrency. The executor has to be
+     * shut down by its owner.
+     *
+     * @param maxThreads
+     *            maximum number of threads, at least 1
+     * @return the new executor
+     */
+    public static ThreadPoolExecutor newExecutor(final int maxThreads) {
+        if (maxThreads < 1) {
+            throw new IllegalArgumentException("At least 1 thread is needed");
+        }
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(maxThreads, maxThreads, KEEP_ALIVE_SECONDS,
+                TimeUnit.SECONDS, new SynchronousQueue<>(), threadFactory(),
+                // runs the task on the caller like the CallerRunsPolicy, but
+                // after shutdown too, an ingestion in progress would otherwise
+                // wait forever for its discarded tasks
+                (task, rejectingExecutor) -> task.run());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Reads the content until its end, computes its hashes and writes it into
+     * the given output stream. Neither the content nor the output stream is
+     * closed.
+     *
+     * @param content
+     *            the content to ingest
+     * @param out
+     *            the output stream to copy the content into
+     * @return the lower case hex encoded SHA1, MD5 and SHA256 hashes of the
+     *         content
+     * @throws IOException
+     *             if the content could not be read or written
+     */
+    // suppress warning, of not strong enough hashing algorithm, SHA-1 and MD5
+    // is not used security related
+    @SuppressWarnings("squid:S2070")
+    public DbArtifactHash ingest(final InputStream content, final OutputStream out) throws IOException {
+        final MessageDigest mdSHA1 = messageDigest("SHA1");
+        final MessageDigest mdMD5 = messageDigest("MD5");
+        final MessageDigest mdSHA256 = messageDigest("SHA-256");
+        final List<ChunkConsumer> consumers = List.of(mdSHA1::update, mdMD5::update, mdSHA256::update, out::write);
+
+        final byte[] first = new byte[chunkSize];
+        final int length = readChunk(content, first);
+        if (length < chunkSize) {
+            for (final ChunkConsumer consumer : consumers) {
+                consumer.accept(first, 0, length);
+            }
+        } else {
+            ingestConcurrently(content, first, consumers);
+        }
+
+        final HexFormat hexFormat = HexFormat.of().withLowerCase();
+        return new DbArtifactHash(hexFormat.formatHex(mdSHA1.digest()), hexFormat.formatHex(mdMD5.digest()),
+                hexFormat.formatHex(mdSHA256.digest()));
+    }
+
+    private void ingestConcurrently(final InputStream content, final byte[] first,
+            final List<ChunkConsumer> consumers) throws IOException {
+        final BlockingQueue<byte[]> released = new ArrayBlockingQueue<>(chunks);
+        // the last submitted task of each consumer, the tasks of a consumer
+        // are chained so that it consumes the chunks in order
+        final CompletableFuture<?>[] tails = new CompletableFuture<?>[consumers.size()];
+        Arrays.fill(tails, CompletableFuture.completedFuture(null));
+
+        try {
+            byte[] chunk = first;
+            int length = chunkSize;
+            int allocated = 1;
+            while (length > 0 && !isFailed(tails)) {
+                submit(chunk, length, consumers, tails, released);
+                if (length < chunkSize) {
+                    // end of content
+                    break;
+                }
+                if (allocated < chunks) {
+                    chunk = new byte[chunkSize];
+                    allocated++;
+                } else {
+                    chunk = released.take();
+                }
+                length = readChunk(content, chunk);
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a chunk to be consumed");
+        } finally {
+            // the consumers must not be running after return, the output
+            // stream is closed then
+            awaitQuietly(tails);
+        }
+
+        try {
+            CompletableFuture.allOf(tails).join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException uncheckedIOException) {
+                throw uncheckedIOException.getCause();
+            } else if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    private void submit(final byte[] chunk, final int length, final List<ChunkConsumer> consumers,
+            final CompletableFuture<?>[] tails, final BlockingQueue<byte[]> released) {
+        for (int i = 0; i < tails.length; i++) {
+            final ChunkConsumer consumer = consumers.get(i);
+            tails[i] = tails[i].thenRunAsync(() -> {
+                try {
+                    consumer.accept(chunk, 0, length);
+                } catch (final IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, executor);
+        }
+        // released on failure too, the subsequent tasks of a failed consumer
+        // are skipped
+        CompletableFuture.allOf(tails).whenComplete((result, error) -> released.offer(chunk));
+    }
+
+    private static boolean isFailed(final CompletableFuture<?>[] tails) {
+        return Arrays.stream(tails).anyMatch(CompletableFuture::isCompletedExceptionally);
+    }
+
+    private static void awaitQuietly(final CompletableFuture<?>[] tails) {
+        for (final CompletableFuture<?> tail : tails) {
+            tail.handle((result, error) -> null).join();
+        }
+    }
+
+    // reads until the chunk is full or the content is at its end
+    private static int readChunk(final InputStream content, final byte[] chunk) throws IOException {
+        int length = 0;
+        while (length < chunk.length) {
+            final int read = content.read(chunk, length, chunk.length - length);
+            if (read < 0) {
+                break;
+            }
+            length += read;
+        }
+        return length;
+    }
+
+    private static MessageDigest messageDigest(final String algorithm) {
+        try {
+            return MessageDigest.getInstance(algorithm);
+        } catch (final NoSuchAlgorithmException e) {
+            throw new ArtifactStoreException(e.getMessage(), e);
+        }
+    }
+
+    private static ThreadFactory threadFactory() {
+        final AtomicLong count = new AtomicLong(0);
+        return runnable -> {
+            final Thread thread = Executors.defaultThreadFactory().newThread(runnable);
+            thread.setName(String.format(Locale.ROOT, "artifact-ingestion-%d", count.getAndIncrement()));
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    @FunctionalInterface
+    private interface ChunkConsumer {
+
+        void accept(byte[] chunk, int offset, int length) throws IOException;
+    }
+}
@@ -9,7 +9,10 @@
  */
 package org.eclipse.hawkbit.artifact.repository.model;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Optional;
 
 /**
  * Interface definition for artifact binary.
@@ -43,4 +46,39 @@ public interface DbArtifact {
      * @return {@link InputStream} to read from artifact.
      */
     InputStream getFileInputStream();
+
+    /**
+     * Creates an {@link InputStream} on this artifact which starts at the
+     * given offset, e.g. to serve a range request. Caller has to take care of
+     * closing the stream. By default, the content before the offset is read
+     * and skipped, implementations which could seek should override this.
+     *
+     * @param offset
+     *            of the first byte to read
+     * @return {@link InputStream} to read from artifact, starting at the offset
+     * @throws IOException
+     *             if the offset could not be reached
+     */
+    default InputStream getFileInputStream(final long offset) throws IOException {
+        final InputStream stream = getFileInputStream();
+        try {
+            stream.skipNBytes(offset);
+        } catch (final IOException | RuntimeException e) {
+            stream.close();
+            throw e;
+        }
+        return stream;
+    }
+
+    /**
+     * Returns the file of the local filesystem that contains the artifact
+     * binary as it is, i.e. that can be sent to a client without further
+     * processing of the content (zero-copy transfer).
+     *
+     * @return the file or empty if the artifact is not stored as plain file,
+     *         e.g. if it is stored remotely or has to be decrypted
+     */
+    default Optional<Path> getFilePath() {
+        return Optional.empty();
+    }
 }
@@ -0,0 +1,131 @@
+/**
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.artifact.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.eclipse.hawkbit.artifact.repository.model.DbArtifactHash;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+
+@Feature("Unit Tests - Artifact Repository")
+@Story("Artifact ingestion")
+class ArtifactIngestionTest {
+
+    private static final int CHUNK_SIZE = 64;
+
+    private final ExecutorService executor = ArtifactIngestion.newExecutor(4);
+    private final ArtifactIngestion ingestion = new ArtifactIngestion(executor, CHUNK_SIZE, 2);
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 0, 1, CHUNK_SIZE - 1, CHUNK_SIZE, CHUNK_SIZE + 1, 10 * CHUNK_SIZE, 100 * CHUNK_SIZE + 7 })
+    @Description("Verifies that the content is copied unchanged and that its hashes are computed, whether it fits into "
+            + "one chunk or not.")
+    void contentIsCopiedAndHashed(final int size) throws IOException, NoSuchAlgorithmException {
+        final byte[] content = new byte[size];
+        ThreadLocalRandom.current().nextBytes(content);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        final DbArtifactHash hashes = ingestion.ingest(new ByteArrayInputStream(content), out);
+
+        assertThat(out.toByteArray()).isEqualTo(content);
+        assertThat(hashes.getSha1()).isEqualTo(hash("SHA1", content));
+        assertThat(hashes.getMd5()).isEqualTo(hash("MD5", content));
+        assertThat(hashes.getSha256()).isEqualTo(hash("SHA-256", content));
+    }
+
+    @Test
+    @Description("Verifies that the consumers run on the calling thread if all threads of the executor are busy, "
+            + "even after it has been shut down.")
+    void consumersRunOnCallerIfExecutorIsBusy() throws IOException, NoSuchAlgorithmException {
+        final ThreadPoolExecutor singleThread = ArtifactIngestion.newExecutor(1);
+        final byte[] content = new byte[10 * CHUNK_SIZE];
+        ThreadLocalRandom.current().nextBytes(content);
+
+        try {
+            assertThat(new ArtifactIngestion(singleThread, CHUNK_SIZE, 2)
+                    .ingest(new ByteArrayInputStream(content), new ByteArrayOutputStream()).getSha1())
+                    .isEqualTo(hash("SHA1", content));
+            assertThat(singleThread.getLargestPoolSize()).isEqualTo(1);
+        } finally {
+            singleThread.shutdown();
+        }
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertThat(new ArtifactIngestion(singleThread, CHUNK_SIZE, 2).ingest(new ByteArrayInputStream(content), out)
+                .getSha256()).isEqualTo(hash("SHA-256", content));
+        assertThat(out.toByteArray()).isEqualTo(content);
+    }
+
+    @Test
+    @Description("Verifies that a failure to write the content is propagated.")
+    void writeFailureIsPropagated() {
+        final OutputStream failingOut = new OutputStream() {
+
+            @Override
+            public void write(final int b) throws IOException {
+                throw new IOException("disk full");
+            }
+        };
+
+        assertThatExceptionOfType(IOException.class)
+                .isThrownBy(() -> ingestion.ingest(new ByteArrayInputStream(new byte[10 * CHUNK_SIZE]), failingOut))
+                .withMessage("disk full");
+    }
+
+    @Test
+    @Description("Verifies that a failure to read the content is propagated.")
+    void readFailureIsPropagated() {
+        final InputStream failingContent = new InputStream() {
+
+            private int available = 3 * CHUNK_SIZE;
+
+            @Override
+            public int read() {
+                if (available-- == 0) {
+                    throw new IllegalStateException("quota exceeded");
+                }
+                return 0;
+            }
+        };
+
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> ingestion.ingest(failingContent, new ByteArrayOutputStream()))
+                .withMessage("quota exceeded");
+    }
+
+    private static String hash(final String algorithm, final byte[] content) throws NoSuchAlgorithmException {
+        return HexFormat.of().withLowerCase().formatHex(MessageDigest.getInstance(algorithm).digest(content));
+    }
+}
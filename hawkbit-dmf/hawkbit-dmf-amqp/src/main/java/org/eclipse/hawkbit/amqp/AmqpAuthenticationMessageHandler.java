@@ -101,7 +101,7 @@ public class AmqpAuthenticationMessageHandler extends BaseAmqpService {
      */
     @RabbitListener(queues = "${hawkbit.dmf.rabbitmq.authenticationReceiverQueue:authentication_receiver}", containerFactory = "listenerContainerFactory")
     public Message onAuthenticationRequest(final Message message) {
-        checkContentTypeJson(message);
+        checkContentTypeSupported(message);
         final SecurityContext oldContext = SecurityContextHolder.getContext();
         try {
             return handleAuthenticationMessage(message);
@@ -14,6 +14,7 @@ import org.eclipse.hawkbit.api.ArtifactUrlHandler;
 import org.eclipse.hawkbit.api.HostnameResolver;
 import org.eclipse.hawkbit.cache.DownloadIdCache;
 import org.eclipse.hawkbit.dmf.amqp.api.AmqpSettings;
+import org.eclipse.hawkbit.dmf.amqp.api.MessageHeaderKey;
 import org.eclipse.hawkbit.repository.ArtifactManagement;
 import org.eclipse.hawkbit.repository.ConfirmationManagement;
 import org.eclipse.hawkbit.repository.ControllerManagement;
@@ -22,25 +23,35 @@ import org.eclipse.hawkbit.repository.DistributionSetManagement;
 import org.eclipse.hawkbit.repository.EntityFactory;
 import org.eclipse.hawkbit.repository.SoftwareModuleManagement;
 import org.eclipse.hawkbit.repository.SystemManagement;
+import org.eclipse.hawkbit.repository.TargetAuthenticationCache;
 import org.eclipse.hawkbit.repository.TargetManagement;
 import org.eclipse.hawkbit.repository.TenantConfigurationManagement;
 import org.eclipse.hawkbit.security.DdiSecurityProperties;
 import org.eclipse.hawkbit.security.SystemSecurityContext;
 import org.eclipse.hawkbit.tenancy.TenantAware;
+import org.springframework.amqp.core.AcknowledgeMode;
 import org.springframework.amqp.core.Binding;
 import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.CustomExchange;
+import org.springframework.amqp.core.Declarable;
+import org.springframework.amqp.core.Declarables;
 import org.springframework.amqp.core.FanoutExchange;
+import org.springframework.amqp.core.Message;
 import org.springframework.amqp.core.Queue;
 import org.springframework.amqp.core.QueueBuilder;
+import org.springframework.amqp.rabbit.annotation.RabbitListenerConfigurer;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerEndpoint;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitAdmin;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.amqp.rabbit.listener.ConditionalRejectingErrorHandler;
 import org.springframework.amqp.rabbit.listener.RabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
-import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.rabbit.listener.api.ChannelAwareBatchMessageListener;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -52,9 +63,18 @@ import org.springframework.retry.support.RetryTemplate;
 import org.springframework.util.ErrorHandler;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Spring configuration for AMQP based DMF communication for indirect device
@@ -66,6 +86,9 @@ import java.util.Map;
 @PropertySource("classpath:/hawkbit-dmf-defaults.properties")
 public class AmqpConfiguration {
 
+    private static final String CONSISTENT_HASH_EXCHANGE = "x-consistent-hash";
+    private static final String SINGLE_ACTIVE_CONSUMER = "x-single-active-consumer";
+
     @Autowired
     private AmqpProperties amqpProperties;
 
@@ -138,12 +161,12 @@ public class AmqpConfiguration {
 
     /**
      * @return {@link RabbitTemplate} with automatic retry, published confirms and
-     *         {@link Jackson2JsonMessageConverter}.
+     *         {@link DmfMessageConverter}.
      */
     @Bean
     public RabbitTemplate rabbitTemplate() {
         final RabbitTemplate rabbitTemplate = new RabbitTemplate(rabbitConnectionFactory);
-        rabbitTemplate.setMessageConverter(new Jackson2JsonMessageConverter());
+        rabbitTemplate.setMessageConverter(dmfMessageConverter());
 
         final RetryTemplate retryTemplate = new RetryTemplate();
         retryTemplate.setBackOffPolicy(new ExponentialBackOffPolicy());
@@ -157,9 +180,25 @@ public class AmqpConfiguration {
             }
         });
 
+        if (rabbitConnectionFactory.isPublisherReturns()) {
+            rabbitTemplate.setMandatory(true);
+            rabbitTemplate.setReturnsCallback(returned -> log.warn("Message to exchange {} returned by broker: {}",
+                    returned.getExchange(), returned.getReplyText()));
+        }
+
         return rabbitTemplate;
     }
 
+    private DmfMessageConverter dmfMessageConverter() {
+        final Map<String, String> tenantContentType = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        tenantContentType.putAll(amqpProperties.getTenantContentType());
+        return new DmfMessageConverter(messageProperties -> {
+            final Object tenant = messageProperties.getHeader(MessageHeaderKey.TENANT);
+            return tenant == null ? amqpProperties.getContentType()
+                    : tenantContentType.getOrDefault(tenant.toString(), amqpProperties.getContentType());
+        }, amqpProperties.getCompressionThreshold());
+    }
+
     /**
      * Create the DMF API receiver queue for retrieving DMF messages.
      *
@@ -200,10 +239,104 @@ public class AmqpConfiguration {
      * @return the binding and create the queue and exchange
      */
     @Bean
+    @ConditionalOnExpression("${hawkbit.dmf.rabbitmq.receiver-shards:0} <= 0")
     public Binding bindDmfSenderExchangeToDmfQueue() {
         return BindingBuilder.bind(dmfReceiverQueue()).to(dmfSenderExchange());
     }
 
+    /**
+     * Create the consistent hash exchange distributing the DMF messages by
+     * their thing ID, the receiver shard queues and their bindings, if
+     * {@link AmqpProperties#getReceiverShards()} is set. The exchange is bound
+     * to {@link AmqpConfiguration#dmfSenderExchange()} instead of the receiver
+     * queue. The shard queues have a single active consumer, so that only one
+     * of the consumers of all nodes of a cluster gets the messages of a shard
+     * and the others are on standby.
+     *
+     * @return the declarables of the receiver shards
+     */
+    @Bean
+    @ConditionalOnExpression("${hawkbit.dmf.rabbitmq.receiver-shards:0} > 0")
+    public Declarables dmfReceiverShards() {
+        final CustomExchange shardExchange = new CustomExchange(amqpProperties.getReceiverShardExchange(),
+                CONSISTENT_HASH_EXCHANGE, true, false, Map.of("hash-header", MessageHeaderKey.THING_ID));
+        final List<Declarable> declarables = new ArrayList<>();
+        declarables.add(shardExchange);
+        declarables.add(BindingBuilder.bind(shardExchange).to(dmfSenderExchange()));
+        for (int shard = 0; shard < amqpProperties.getReceiverShards(); shard++) {
+            final Map<String, Object> args = amqpDeadletterProperties
+                    .getDeadLetterExchangeArgs(amqpProperties.getDeadLetterExchange());
+            args.put(SINGLE_ACTIVE_CONSUMER, true);
+            final Queue queue = new Queue(receiverShardQueue(shard), true, false, false, args);
+            declarables.add(queue);
+            // equal weight for all shards
+            declarables.add(BindingBuilder.bind(queue).to(shardExchange).with("1").noargs());
+        }
+        return new Declarables(declarables);
+    }
+
+    /**
+     * Removes the binding of the {@link AmqpConfiguration#dmfReceiverQueue()}
+     * to the {@link AmqpConfiguration#dmfSenderExchange()} left from a start
+     * without receiver shards.
+     *
+     * @param rabbitAdmin
+     *            to remove the binding
+     * @return the unbinder
+     */
+    @Bean
+    @ConditionalOnExpression("${hawkbit.dmf.rabbitmq.receiver-shards:0} > 0")
+    public DmfReceiverQueueUnbinder dmfReceiverQueueUnbinder(final RabbitAdmin rabbitAdmin) {
+        return new DmfReceiverQueueUnbinder(rabbitConnectionFactory, rabbitAdmin,
+                BindingBuilder.bind(dmfReceiverQueue()).to(dmfSenderExchange()));
+    }
+
+    /**
+     * Registers one consumer per receiver shard, so that the messages of a
+     * shard, i.e. of a target, are handled in order. In a cluster every node
+     * registers its consumers, the single active consumer of the shard queues
+     * makes sure that only one of them is consuming a shard at a time.
+     *
+     * @param amqpMessageHandlerService
+     *            handling the messages
+     * @param listenerContainerFactory
+     *            for single messages
+     * @param batchListenerContainerFactory
+     *            for batches if {@link AmqpProperties#isBatchEnabled()}
+     * @return the configurer registering the listeners
+     */
+    @Bean
+    @ConditionalOnExpression("${hawkbit.dmf.rabbitmq.receiver-shards:0} > 0")
+    public RabbitListenerConfigurer dmfReceiverShardListeners(final AmqpMessageHandlerService amqpMessageHandlerService,
+            @Qualifier("listenerContainerFactory") final RabbitListenerContainerFactory<?> listenerContainerFactory,
+            @Qualifier("batchListenerContainerFactory") final RabbitListenerContainerFactory<?> batchListenerContainerFactory) {
+        return registrar -> {
+            for (int shard = 0; shard < amqpProperties.getReceiverShards(); shard++) {
+                final SimpleRabbitListenerEndpoint endpoint = new SimpleRabbitListenerEndpoint();
+                endpoint.setId("dmfReceiverShard" + shard);
+                endpoint.setQueueNames(receiverShardQueue(shard));
+                endpoint.setConcurrency("1");
+                if (amqpProperties.isBatchEnabled()) {
+                    endpoint.setMessageListener(
+                            (ChannelAwareBatchMessageListener) amqpMessageHandlerService::onMessageBatch);
+                    registrar.registerEndpoint(endpoint, batchListenerContainerFactory);
+                } else {
+                    endpoint.setMessageListener(message -> amqpMessageHandlerService.onMessage(message,
+                            getHeader(message, MessageHeaderKey.TYPE), getHeader(message, MessageHeaderKey.TENANT)));
+                    registrar.registerEndpoint(endpoint, listenerContainerFactory);
+                }
+            }
+        };
+    }
+
+    private String receiverShardQueue(final int shard) {
+        return amqpProperties.getReceiverQueue() + "." + shard;
+    }
+
+    private static String getHeader(final Message message, final String key) {
+        return Objects.toString(message.getMessageProperties().getHeader(key), null);
+    }
+
     /**
      * Create authentication exchange.
      *
@@ -266,6 +399,8 @@ public class AmqpConfiguration {
      *            for target repo access
      * @param entityFactory
      *            to create entities
+     * @param errorHandler
+     *            to decide which messages of a batch are rejected
      *
      * @return handler service bean
      */
@@ -276,9 +411,12 @@ public class AmqpConfiguration {
             final ControllerManagement controllerManagement, final EntityFactory entityFactory,
             final SystemSecurityContext systemSecurityContext,
             final TenantConfigurationManagement tenantConfigurationManagement,
-            final ConfirmationManagement confirmationManagement) {
-        return new AmqpMessageHandlerService(rabbitTemplate, amqpMessageDispatcherService, controllerManagement,
-                entityFactory, systemSecurityContext, tenantConfigurationManagement, confirmationManagement);
+            final ConfirmationManagement confirmationManagement, final ErrorHandler errorHandler) {
+        final AmqpMessageHandlerService amqpMessageHandlerService = new AmqpMessageHandlerService(rabbitTemplate,
+                amqpMessageDispatcherService, controllerManagement, entityFactory, systemSecurityContext,
+                tenantConfigurationManagement, confirmationManagement);
+        amqpMessageHandlerService.setBatchErrorHandling(errorHandler);
+        return amqpMessageHandlerService;
     }
 
     /**
@@ -298,11 +436,16 @@ public class AmqpConfiguration {
     /**
      * Create default amqp sender service bean.
      *
-     * @return the default amqp sender service bean
+     * @return the default amqp sender service bean, pipelined if
+     *         {@link AmqpProperties#isPipelinedSendEnabled()}
      */
     @Bean
     @ConditionalOnMissingBean
     public AmqpMessageSenderService amqpSenderServiceBean() {
+        if (amqpProperties.isPipelinedSendEnabled()) {
+            return new PipelinedAmqpMessageSenderService(rabbitTemplate(), amqpProperties.getSendMaxInFlight(),
+                    amqpProperties.getSendConfirmTimeout(), amqpProperties.getSendRetries());
+        }
         return new DefaultAmqpMessageSenderService(rabbitTemplate());
     }
 
@@ -322,6 +465,28 @@ public class AmqpConfiguration {
         return factory;
     }
 
+    /**
+     * Create the RabbitListenerContainerFactory bean for the batch consumer of
+     * the DMF receiving queue if no batchListenerContainerFactory bean found
+     *
+     * @return RabbitListenerContainerFactory bean
+     */
+    @Bean
+    @ConditionalOnMissingBean(name = "batchListenerContainerFactory")
+    public RabbitListenerContainerFactory<SimpleMessageListenerContainer> batchListenerContainerFactory(
+            final SimpleRabbitListenerContainerFactoryConfigurer configurer, final ErrorHandler errorHandler) {
+        final ConfigurableRabbitListenerContainerFactory factory = new ConfigurableRabbitListenerContainerFactory(
+                amqpProperties.isMissingQueuesFatal(), amqpProperties.getDeclarationRetries(), errorHandler);
+        configurer.configure(factory, rabbitConnectionFactory);
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        // the messages of a batch are acknowledged one by one by the listener
+        factory.setAcknowledgeMode(AcknowledgeMode.MANUAL);
+        factory.setBatchSize(amqpProperties.getBatchSize());
+        factory.setReceiveTimeout(amqpProperties.getBatchReceiveTimeout());
+        return factory;
+    }
+
     /**
      * create the authentication bean for controller over amqp.
      *
@@ -337,6 +502,8 @@ public class AmqpConfiguration {
      *            the ddiSecruityProperties
      * @param systemSecurityContext
      *            the systemSecurityContext
+     * @param targetAuthenticationCache
+     *            the targetAuthenticationCache
      * @return the bean
      */
     @Bean
@@ -344,9 +511,20 @@ public class AmqpConfiguration {
     public AmqpControllerAuthentication amqpControllerAuthentication(final SystemManagement systemManagement,
             final ControllerManagement controllerManagement,
             final TenantConfigurationManagement tenantConfigurationManagement, final TenantAware tenantAware,
-            final DdiSecurityProperties ddiSecruityProperties, final SystemSecurityContext systemSecurityContext) {
+            final DdiSecurityProperties ddiSecruityProperties, final SystemSecurityContext systemSecurityContext,
+            final TargetAuthenticationCache targetAuthenticationCache) {
         return new AmqpControllerAuthentication(systemManagement, controllerManagement, tenantConfigurationManagement,
-                tenantAware, ddiSecruityProperties, systemSecurityContext);
+                tenantAware, ddiSecruityProperties, systemSecurityContext, targetAuthenticationCache);
+    }
+
+    /**
+     * @return the cache of the software modules of the DMF messages
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    DmfSoftwareModuleCache dmfSoftwareModuleCache() {
+        return new DmfSoftwareModuleCache(amqpProperties.getSoftwareModuleCacheSize(),
+                amqpProperties.getSoftwareModuleCacheTtl());
     }
 
     @Bean
@@ -356,10 +534,28 @@ public class AmqpConfiguration {
             final SystemSecurityContext systemSecurityContext, final SystemManagement systemManagement,
             final TargetManagement targetManagement, final DistributionSetManagement distributionSetManagement,
             final SoftwareModuleManagement softwareModuleManagement, final DeploymentManagement deploymentManagement,
-            final TenantConfigurationManagement tenantConfigurationManagement) {
+            final TenantConfigurationManagement tenantConfigurationManagement,
+            final DmfSoftwareModuleCache softwareModuleCache) {
         return new AmqpMessageDispatcherService(rabbitTemplate, amqpSenderService, artifactUrlHandler,
                 systemSecurityContext, systemManagement, targetManagement, serviceMatcher, distributionSetManagement,
-                softwareModuleManagement, deploymentManagement, tenantConfigurationManagement);
+                softwareModuleManagement, deploymentManagement, tenantConfigurationManagement, dispatchExecutor(),
+                softwareModuleCache);
+    }
+
+    // bounded and separated from the executors of the server, so that the
+    // DMF fan-out can be tuned on its own - partitions which do not fit into
+    // the queue are loaded by the event listener thread itself
+    private ThreadPoolExecutor dispatchExecutor() {
+        final AtomicLong count = new AtomicLong(0);
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(amqpProperties.getDispatchThreads(),
+                amqpProperties.getDispatchThreads(), amqpProperties.getDispatchIdleTimeout(), TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(amqpProperties.getDispatchQueueCapacity()), runnable -> {
+                    final Thread thread = Executors.defaultThreadFactory().newThread(runnable);
+                    thread.setName(String.format(Locale.ROOT, "dmf-dispatch-%d", count.getAndIncrement()));
+                    return thread;
+                }, new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
     }
 
     private static Map<String, Object> getTTLMaxArgsAuthenticationQueue() {
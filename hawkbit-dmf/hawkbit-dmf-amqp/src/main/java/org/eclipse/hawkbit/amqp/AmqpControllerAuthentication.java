@@ -18,6 +18,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.eclipse.hawkbit.im.authentication.TenantAwareAuthenticationDetails;
 import org.eclipse.hawkbit.repository.ControllerManagement;
 import org.eclipse.hawkbit.repository.SystemManagement;
+import org.eclipse.hawkbit.repository.TargetAuthenticationCache;
 import org.eclipse.hawkbit.repository.TenantConfigurationManagement;
 import org.eclipse.hawkbit.security.ControllerPreAuthenticateSecurityTokenFilter;
 import org.eclipse.hawkbit.security.ControllerPreAuthenticatedAnonymousDownload;
@@ -55,6 +56,8 @@ public class AmqpControllerAuthentication {
 
     private final SystemSecurityContext systemSecurityContext;
 
+    private final TargetAuthenticationCache targetAuthenticationCache;
+
     /**
      * Constructor.
      * 
@@ -67,17 +70,21 @@ public class AmqpControllerAuthentication {
      *            security configurations
      * @param systemSecurityContext
      *            security context
+     * @param targetAuthenticationCache
+     *            cache of the target security token digests
      */
     public AmqpControllerAuthentication(final SystemManagement systemManagement,
             final ControllerManagement controllerManagement,
             final TenantConfigurationManagement tenantConfigurationManagement, final TenantAware tenantAware,
-            final DdiSecurityProperties ddiSecruityProperties, final SystemSecurityContext systemSecurityContext) {
+            final DdiSecurityProperties ddiSecruityProperties, final SystemSecurityContext systemSecurityContext,
+            final TargetAuthenticationCache targetAuthenticationCache) {
         this.controllerManagement = controllerManagement;
         this.systemManagement = systemManagement;
         this.tenantConfigurationManagement = tenantConfigurationManagement;
         this.tenantAware = tenantAware;
         this.ddiSecruityProperties = ddiSecruityProperties;
         this.systemSecurityContext = systemSecurityContext;
+        this.targetAuthenticationCache = targetAuthenticationCache;
     }
 
     /**
@@ -101,7 +108,8 @@ public class AmqpControllerAuthentication {
         filterChain.add(securityHeaderFilter);
 
         final ControllerPreAuthenticateSecurityTokenFilter securityTokenFilter = new ControllerPreAuthenticateSecurityTokenFilter(
-                tenantConfigurationManagement, controllerManagement, tenantAware, systemSecurityContext);
+                tenantConfigurationManagement, controllerManagement, tenantAware, systemSecurityContext,
+                targetAuthenticationCache);
         filterChain.add(securityTokenFilter);
 
         final ControllerPreAuthenticatedAnonymousDownload anonymousDownloadFilter = new ControllerPreAuthenticatedAnonymousDownload(
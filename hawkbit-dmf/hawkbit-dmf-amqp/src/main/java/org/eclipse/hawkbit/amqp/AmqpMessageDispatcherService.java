@@ -13,21 +13,24 @@ import static org.eclipse.hawkbit.repository.RepositoryConstants.MAX_ACTION_COUN
 import static org.eclipse.hawkbit.tenancy.configuration.TenantConfigurationProperties.TenantConfigurationKey.BATCH_ASSIGNMENTS_ENABLED;
 
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.function.Function;
-import java.util.function.Supplier;
 import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
 
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.IterableUtils;
 import org.apache.commons.collections4.ListUtils;
+import org.eclipse.hawkbit.amqp.DmfSoftwareModuleCache.CachedSoftwareModule;
 import org.eclipse.hawkbit.api.ApiType;
 import org.eclipse.hawkbit.api.ArtifactUrl;
 import org.eclipse.hawkbit.api.ArtifactUrlHandler;
@@ -72,12 +75,12 @@ import org.springframework.amqp.core.Message;
 import org.springframework.amqp.core.MessageBuilder;
 import org.springframework.amqp.core.MessageProperties;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.cloud.bus.ServiceMatcher;
 import org.springframework.cloud.bus.event.RemoteApplicationEvent;
 import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.security.core.context.SecurityContext;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutor;
 import org.springframework.util.CollectionUtils;
 
 /**
@@ -88,7 +91,7 @@ import org.springframework.util.CollectionUtils;
  * assignment.
  */
 @Slf4j
-public class AmqpMessageDispatcherService extends BaseAmqpService {
+public class AmqpMessageDispatcherService extends BaseAmqpService implements DisposableBean {
 
     private static final int MAX_PROCESSING_SIZE = 1000;
 
@@ -102,6 +105,9 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
     private final DeploymentManagement deploymentManagement;
     private final SoftwareModuleManagement softwareModuleManagement;
     private final TenantConfigurationManagement tenantConfigurationManagement;
+    private final ThreadPoolExecutor dispatchExecutor;
+    private final Executor securityContextDispatchExecutor;
+    private final DmfSoftwareModuleCache softwareModuleCache;
 
     /**
      * Constructor.
@@ -125,7 +131,11 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
      *            to retrieve modules
      * @param tenantConfigurationManagement
      *            to access tenant configuration
-     *
+     * @param dispatchExecutor
+     *            to load the targets of large events in parallel, shut down
+     *            with the service
+     * @param softwareModuleCache
+     *            to share the software modules of the messages
      */
     protected AmqpMessageDispatcherService(final RabbitTemplate rabbitTemplate,
             final AmqpMessageSenderService amqpSenderService, final ArtifactUrlHandler artifactUrlHandler,
@@ -133,7 +143,8 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
             final TargetManagement targetManagement, final ServiceMatcher serviceMatcher,
             final DistributionSetManagement distributionSetManagement,
             final SoftwareModuleManagement softwareModuleManagement, final DeploymentManagement deploymentManagement,
-            final TenantConfigurationManagement tenantConfigurationManagement) {
+            final TenantConfigurationManagement tenantConfigurationManagement,
+            final ThreadPoolExecutor dispatchExecutor, final DmfSoftwareModuleCache softwareModuleCache) {
         super(rabbitTemplate);
         this.artifactUrlHandler = artifactUrlHandler;
         this.amqpSenderService = amqpSenderService;
@@ -145,6 +156,21 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
         this.softwareModuleManagement = softwareModuleManagement;
         this.deploymentManagement = deploymentManagement;
         this.tenantConfigurationManagement = tenantConfigurationManagement;
+        this.dispatchExecutor = dispatchExecutor;
+        this.securityContextDispatchExecutor = new DelegatingSecurityContextExecutor(dispatchExecutor);
+        this.softwareModuleCache = softwareModuleCache;
+    }
+
+    /**
+     * @return the executor which loads the targets of large events in parallel
+     */
+    public ThreadPoolExecutor getDispatchExecutor() {
+        return dispatchExecutor;
+    }
+
+    @Override
+    public void destroy() {
+        dispatchExecutor.shutdown();
     }
 
     /**
@@ -201,9 +227,7 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
     private void sendUpdateMessageToTargets(final Long dsId, final Map<String, ActionProperties> actionsPropsByTargetId,
             final List<Target> targets) {
         distributionSetManagement.get(dsId).ifPresent(ds -> {
-            final Map<SoftwareModule, List<SoftwareModuleMetadata>> softwareModules = getSoftwareModulesWithMetadata(
-                    ds);
-            sendUpdateMessageToTargets(actionsPropsByTargetId, targets, softwareModules);
+            sendUpdateMessageToTargets(actionsPropsByTargetId, targets, getSoftwareModules(ds));
         });
     }
 
@@ -211,11 +235,11 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
             final Map<SoftwareModule, List<SoftwareModuleMetadata>> softwareModules) {
         final Map<String, ActionProperties> actionProp = new HashMap<>();
         actionProp.put(target.getControllerId(), actionsProps);
-        sendUpdateMessageToTargets(actionProp, Collections.singletonList(target), softwareModules);
+        sendUpdateMessageToTargets(actionProp, Collections.singletonList(target), getSoftwareModules(softwareModules));
     }
 
     private void sendUpdateMessageToTargets(final Map<String, ActionProperties> actionsPropsByTargetId,
-            final List<Target> targets, final Map<SoftwareModule, List<SoftwareModuleMetadata>> softwareModules) {
+            final List<Target> targets, final List<CachedSoftwareModule> softwareModules) {
 
         if (!targets.isEmpty() && isBatchAssignmentsEnabled()) {
             sendBatchUpdateMessage(actionsPropsByTargetId, targets, softwareModules);
@@ -229,20 +253,15 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
 
     private void sendMultiActionRequestMessages(final String tenant, final List<String> controllerIds) {
 
-        final Map<SoftwareModule, List<SoftwareModuleMetadata>> softwareModuleMetadata = new HashMap<>();
         targetManagement.getByControllerID(controllerIds).stream()
                 .filter(target -> IpUtil.isAmqpUri(target.getAddress())).forEach(target -> {
 
                     final List<Action> activeActions = deploymentManagement
                             .findActiveActionsWithHighestWeight(target.getControllerId(), MAX_ACTION_COUNT);
 
-                    activeActions.forEach(action -> action.getDistributionSet().getModules().forEach(
-                            module -> softwareModuleMetadata.computeIfAbsent(module, this::getSoftwareModuleMetadata)));
-
                     if (!activeActions.isEmpty()) {
-                        sendMultiActionRequestToTarget(tenant, target, activeActions,
-                                action -> action.getDistributionSet().getModules().stream()
-                                        .collect(Collectors.toMap(m -> m, softwareModuleMetadata::get)));
+                        sendMultiActionRequest(tenant, target, activeActions,
+                                action -> getSoftwareModules(action.getDistributionSet()));
                     }
                 });
 
@@ -250,6 +269,12 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
 
     protected void sendMultiActionRequestToTarget(final String tenant, final Target target, final List<Action> actions,
             final Function<Action, Map<SoftwareModule, List<SoftwareModuleMetadata>>> getSoftwareModuleMetaData) {
+        sendMultiActionRequest(tenant, target, actions,
+                action -> getSoftwareModules(getSoftwareModuleMetaData.apply(action)));
+    }
+
+    private void sendMultiActionRequest(final String tenant, final Target target, final List<Action> actions,
+            final Function<Action, List<CachedSoftwareModule>> getSoftwareModules) {
 
         final URI targetAddress = target.getAddress();
         if (!IpUtil.isAmqpUri(targetAddress) || CollectionUtils.isEmpty(actions)) {
@@ -259,7 +284,7 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
         final DmfMultiActionRequest multiActionRequest = new DmfMultiActionRequest();
         actions.forEach(action -> {
             final DmfActionRequest actionRequest = createDmfActionRequest(target, action,
-                    getSoftwareModuleMetaData.apply(action));
+                    getSoftwareModules.apply(action));
             final int weight = deploymentManagement.getWeightConsideringDefault(action);
             multiActionRequest.addElement(getEventTypeForAction(action), actionRequest, weight);
         });
@@ -270,7 +295,7 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
     }
 
     private DmfActionRequest createDmfActionRequest(final Target target, final Action action,
-            final Map<SoftwareModule, List<SoftwareModuleMetadata>> softwareModules) {
+            final List<CachedSoftwareModule> softwareModules) {
         if (action.isCancelingOrCanceled()) {
             return createPlainActionRequest(action);
         } else if (action.isWaitingConfirmation()) {
@@ -287,14 +312,16 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
 
     protected DmfDownloadAndUpdateRequest createDownloadAndUpdateRequest(final Target target, final Long actionId,
             final Map<SoftwareModule, List<SoftwareModuleMetadata>> softwareModules) {
+        return createDownloadAndUpdateRequest(target, actionId, getSoftwareModules(softwareModules));
+    }
+
+    private DmfDownloadAndUpdateRequest createDownloadAndUpdateRequest(final Target target, final Long actionId,
+            final List<CachedSoftwareModule> softwareModules) {
         final DmfDownloadAndUpdateRequest request = new DmfDownloadAndUpdateRequest();
         request.setActionId(actionId);
         request.setTargetSecurityToken(systemSecurityContext.runAsSystem(target::getSecurityToken));
 
-        if (softwareModules != null) {
-            softwareModules.entrySet()
-                    .forEach(entry -> request.addSoftwareModule(convertToAmqpSoftwareModule(target, entry)));
-        }
+        softwareModules.forEach(module -> request.addSoftwareModule(convertToAmqpSoftwareModule(target, module)));
         return request;
     }
 
@@ -361,30 +388,32 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
         });
     }
 
-    private static <T, R> List<R> partitionedParallelExecution(final Collection<T> controllerIds,
+    private <T, R> List<R> partitionedParallelExecution(final Collection<T> controllerIds,
             final Function<Collection<T>, List<R>> loadingFunction) {
         // Ensure not exceeding the max value of MAX_PROCESSING_SIZE
         if (controllerIds.size() > MAX_PROCESSING_SIZE) {
             // Split the provided collection
-            final Iterable<List<T>> partitions = ListUtils.partition(IterableUtils.toList(controllerIds), MAX_PROCESSING_SIZE);
-            // Preserve the security context because it gets lost when executing
-            // loading calls in new threads
-            final SecurityContext context = SecurityContextHolder.getContext();
-            // Handling remote request in parallel streams
-            return StreamSupport.stream(partitions.spliterator(), true) //
-                    .flatMap(partition -> withSecurityContext(() -> loadingFunction.apply(partition), context).stream())
-                    .collect(Collectors.toList());
+            final List<List<T>> partitions = ListUtils.partition(IterableUtils.toList(controllerIds),
+                    MAX_PROCESSING_SIZE);
+            // Handling remote request in parallel, the security context (and
+            // with it the tenant) is propagated by the executor
+            final List<CompletableFuture<List<R>>> results = partitions.stream()
+                    .map(partition -> CompletableFuture.supplyAsync(() -> loadingFunction.apply(partition),
+                            securityContextDispatchExecutor))
+                    .toList();
+            return results.stream().flatMap(result -> join(result).stream()).collect(Collectors.toList());
         }
         return loadingFunction.apply(controllerIds);
     }
 
-    private static <T> T withSecurityContext(final Supplier<T> callable, final SecurityContext securityContext) {
-        final SecurityContext oldContext = SecurityContextHolder.getContext();
+    private static <T> T join(final CompletableFuture<T> future) {
         try {
-            SecurityContextHolder.setContext(securityContext);
-            return callable.get();
-        } finally {
-            SecurityContextHolder.setContext(oldContext);
+            return future.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
         }
     }
 
@@ -411,7 +440,7 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
     }
 
     private void sendSingleUpdateMessage(final ActionProperties action, final Target target,
-            final Map<SoftwareModule, List<SoftwareModuleMetadata>> modules) {
+            final List<CachedSoftwareModule> modules) {
 
         final String tenant = action.getTenant();
 
@@ -523,47 +552,68 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
         return messageProperties;
     }
 
-    private DmfSoftwareModule convertToAmqpSoftwareModule(final Target target,
-            final Entry<SoftwareModule, List<SoftwareModuleMetadata>> entry) {
+    private DmfSoftwareModule convertToAmqpSoftwareModule(final Target target, final CachedSoftwareModule cached) {
+        // only the artifact URLs are target specific
+        final DmfSoftwareModule amqpSoftwareModule = new DmfSoftwareModule();
+        amqpSoftwareModule.setModuleId(cached.softwareModule().getModuleId());
+        amqpSoftwareModule.setModuleType(cached.softwareModule().getModuleType());
+        amqpSoftwareModule.setModuleVersion(cached.softwareModule().getModuleVersion());
+        amqpSoftwareModule.setEncrypted(cached.softwareModule().getEncrypted());
+        amqpSoftwareModule.setMetadata(cached.softwareModule().getMetadata());
+        amqpSoftwareModule.setArtifacts(convertArtifacts(target, cached));
+        return amqpSoftwareModule;
+    }
+
+    private static CachedSoftwareModule convertToCachedSoftwareModule(final SoftwareModule module,
+            final List<SoftwareModuleMetadata> metadata) {
         final DmfSoftwareModule amqpSoftwareModule = new DmfSoftwareModule();
-        amqpSoftwareModule.setModuleId(entry.getKey().getId());
-        amqpSoftwareModule.setModuleType(entry.getKey().getType().getKey());
-        amqpSoftwareModule.setModuleVersion(entry.getKey().getVersion());
-        amqpSoftwareModule.setEncrypted(entry.getKey().isEncrypted() ? Boolean.TRUE : null);
-        amqpSoftwareModule.setArtifacts(convertArtifacts(target, entry.getKey().getArtifacts()));
-
-        if (!CollectionUtils.isEmpty(entry.getValue())) {
-            amqpSoftwareModule.setMetadata(convertMetadata(entry.getValue()));
+        amqpSoftwareModule.setModuleId(module.getId());
+        amqpSoftwareModule.setModuleType(module.getType().getKey());
+        amqpSoftwareModule.setModuleVersion(module.getVersion());
+        amqpSoftwareModule.setEncrypted(module.isEncrypted() ? Boolean.TRUE : null);
+
+        if (!CollectionUtils.isEmpty(metadata)) {
+            amqpSoftwareModule.setMetadata(convertMetadata(metadata));
         }
 
-        return amqpSoftwareModule;
+        final List<Artifact> artifacts = module.getArtifacts();
+        amqpSoftwareModule.setArtifacts(artifacts.stream().map(AmqpMessageDispatcherService::convertArtifact).toList());
+        return new CachedSoftwareModule(amqpSoftwareModule,
+                artifacts.stream()
+                        .map(artifact -> new SoftwareData(module.getId(), artifact.getFilename(), artifact.getId(),
+                                artifact.getSha1Hash()))
+                        .toList());
     }
 
-    private List<DmfMetadata> convertMetadata(final List<SoftwareModuleMetadata> metadata) {
-        return metadata.stream().map(md -> new DmfMetadata(md.getKey(), md.getValue())).collect(Collectors.toList());
+    private static List<DmfMetadata> convertMetadata(final List<SoftwareModuleMetadata> metadata) {
+        return metadata.stream().map(md -> new DmfMetadata(md.getKey(), md.getValue())).toList();
     }
 
-    private List<DmfArtifact> convertArtifacts(final Target target, final List<Artifact> localArtifacts) {
-        if (localArtifacts.isEmpty()) {
+    private List<DmfArtifact> convertArtifacts(final Target target, final CachedSoftwareModule cached) {
+        final List<DmfArtifact> artifacts = cached.softwareModule().getArtifacts();
+        if (artifacts.isEmpty()) {
             return Collections.emptyList();
         }
 
-        return localArtifacts.stream().map(localArtifact -> convertArtifact(target, localArtifact))
-                .collect(Collectors.toList());
+        final TenantMetaData metaData = systemManagement.getTenantMetadata();
+        final List<DmfArtifact> converted = new ArrayList<>(artifacts.size());
+        for (int i = 0; i < artifacts.size(); i++) {
+            final DmfArtifact artifact = new DmfArtifact();
+            artifact.setUrls(artifactUrlHandler
+                    .getUrls(new URLPlaceholder(metaData.getTenant(), metaData.getId(), target.getControllerId(),
+                            target.getId(), cached.artifacts().get(i)), ApiType.DMF)
+                    .stream().collect(Collectors.toMap(ArtifactUrl::getProtocol, ArtifactUrl::getRef)));
+            artifact.setFilename(artifacts.get(i).getFilename());
+            artifact.setHashes(artifacts.get(i).getHashes());
+            artifact.setSize(artifacts.get(i).getSize());
+            artifact.setLastModified(artifacts.get(i).getLastModified());
+            converted.add(artifact);
+        }
+        return converted;
     }
 
-    private DmfArtifact convertArtifact(final Target target, final Artifact localArtifact) {
+    private static DmfArtifact convertArtifact(final Artifact localArtifact) {
         final DmfArtifact artifact = new DmfArtifact();
-
-        final TenantMetaData metaData = systemManagement.getTenantMetadata();
-        artifact.setUrls(artifactUrlHandler
-                .getUrls(new URLPlaceholder(metaData.getTenant(),
-                        metaData.getId(), target.getControllerId(), target.getId(),
-                        new SoftwareData(localArtifact.getSoftwareModule().getId(), localArtifact.getFilename(),
-                                localArtifact.getId(), localArtifact.getSha1Hash())),
-                        ApiType.DMF)
-                .stream().collect(Collectors.toMap(ArtifactUrl::getProtocol, ArtifactUrl::getRef)));
-
         artifact.setFilename(localArtifact.getFilename());
         artifact.setHashes(new DmfArtifactHash(localArtifact.getSha1Hash(), localArtifact.getMd5Hash()));
         artifact.setSize(localArtifact.getSize());
@@ -571,9 +621,25 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
         return artifact;
     }
 
-    private Map<SoftwareModule, List<SoftwareModuleMetadata>> getSoftwareModulesWithMetadata(
-            final DistributionSet distributionSet) {
-        return distributionSet.getModules().stream().collect(Collectors.toMap(m -> m, this::getSoftwareModuleMetadata));
+    // the software modules are converted while the distribution set is
+    // attached, the metadata is loaded only for modules that are not cached
+    private List<CachedSoftwareModule> getSoftwareModules(final DistributionSet distributionSet) {
+        return softwareModuleCache.getSoftwareModules(distributionSet,
+                ds -> ds.getModules().stream()
+                        .map(module -> softwareModuleCache.getSoftwareModule(module,
+                                m -> convertToCachedSoftwareModule(m, getSoftwareModuleMetadata(m))))
+                        .toList());
+    }
+
+    private List<CachedSoftwareModule> getSoftwareModules(
+            final Map<SoftwareModule, List<SoftwareModuleMetadata>> softwareModules) {
+        if (softwareModules == null) {
+            return Collections.emptyList();
+        }
+        return softwareModules.entrySet().stream()
+                .map(entry -> softwareModuleCache.getSoftwareModule(entry.getKey(),
+                        module -> convertToCachedSoftwareModule(module, entry.getValue())))
+                .toList();
     }
 
     private List<SoftwareModuleMetadata> getSoftwareModuleMetadata(final SoftwareModule module) {
@@ -582,7 +648,7 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
     }
 
     private void sendBatchUpdateMessage(final Map<String, ActionProperties> actions, final List<Target> targets,
-            final Map<SoftwareModule, List<SoftwareModuleMetadata>> modules) {
+            final List<CachedSoftwareModule> modules) {
 
         final List<DmfTarget> dmfTargets = targets.stream().filter(target -> IpUtil.isAmqpUri(target.getAddress()))
                 .map(t -> convertToDmfTarget(t, actions.get(t.getControllerId()).getId())).collect(Collectors.toList());
@@ -595,10 +661,7 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
         // software modules we don't generate
         // target-specific urls
         final Target firstTarget = targets.get(0);
-        if (modules != null) {
-            modules.entrySet()
-                    .forEach(entry -> batchRequest.addSoftwareModule(convertToAmqpSoftwareModule(firstTarget, entry)));
-        }
+        modules.forEach(module -> batchRequest.addSoftwareModule(convertToAmqpSoftwareModule(firstTarget, module)));
 
         // we use only the first action when constructing message as Tenant and
         // action type are the same
@@ -648,15 +711,17 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
      */
     protected DmfConfirmRequest createConfirmRequest(final Target target, final Long actionId, final Map<SoftwareModule,
             List<SoftwareModuleMetadata>> softwareModules) {
+        return createConfirmRequest(target, actionId, getSoftwareModules(softwareModules));
+    }
+
+    private DmfConfirmRequest createConfirmRequest(final Target target, final Long actionId,
+            final List<CachedSoftwareModule> softwareModules) {
         final DmfConfirmRequest request = new DmfConfirmRequest();
         request.setActionId(actionId);
         request.setTargetSecurityToken(systemSecurityContext.runAsSystem(target::getSecurityToken));
 
         //Software modules can be filtered in the future exposing only the needed.
-        if (softwareModules != null) {
-            softwareModules.entrySet()
-                    .forEach(entry -> request.addSoftwareModule(convertToAmqpSoftwareModule(target, entry)));
-        }
+        softwareModules.forEach(module -> request.addSoftwareModule(convertToAmqpSoftwareModule(target, module)));
         return request;
     }
 }
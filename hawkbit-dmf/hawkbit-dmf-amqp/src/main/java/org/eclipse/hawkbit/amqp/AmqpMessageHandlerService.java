@@ -12,9 +12,13 @@ package org.eclipse.hawkbit.amqp;
 import static org.eclipse.hawkbit.repository.RepositoryConstants.MAX_ACTION_COUNT;
 import static org.eclipse.hawkbit.tenancy.configuration.TenantConfigurationProperties.TenantConfigurationKey.MULTI_ASSIGNMENTS_ENABLED;
 
+import java.io.IOException;
 import java.io.Serializable;
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -56,6 +60,7 @@ import org.springframework.amqp.AmqpRejectAndDontRequeueException;
 import org.springframework.amqp.core.Message;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.support.ListenerExecutionFailedException;
 import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -63,8 +68,11 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.util.ErrorHandler;
 import org.springframework.util.StringUtils;
 
+import com.rabbitmq.client.Channel;
+
 /**
  * {@link AmqpMessageHandlerService} handles all incoming target interaction
  * AMQP messages (e.g. create target, check for updates etc.) for the queue
@@ -88,6 +96,14 @@ public class AmqpMessageHandlerService extends BaseAmqpService {
 
     private static final String EMPTY_MESSAGE_BODY = "\"\"";
 
+    // status updates which do not need the action to be mapped and end up in
+    // ControllerManagement#addUpdateActionStatus
+    private static final Set<DmfActionStatus> BATCH_UPDATE_STATUS = EnumSet.of(DmfActionStatus.DOWNLOAD,
+            DmfActionStatus.RETRIEVED, DmfActionStatus.RUNNING, DmfActionStatus.FINISHED, DmfActionStatus.ERROR,
+            DmfActionStatus.WARNING, DmfActionStatus.DOWNLOADED);
+
+    private ErrorHandler batchErrorHandler;
+
     /**
      * Constructor.
      * 
@@ -131,7 +147,7 @@ public class AmqpMessageHandlerService extends BaseAmqpService {
      *            the contentType of the message
      * @return a message if <null> no message is send back to sender
      */
-    @RabbitListener(queues = "${hawkbit.dmf.rabbitmq.receiverQueue:dmf_receiver}", containerFactory = "listenerContainerFactory")
+    @RabbitListener(queues = "${hawkbit.dmf.rabbitmq.receiverQueue:dmf_receiver}", containerFactory = "listenerContainerFactory", autoStartup = "#{!${hawkbit.dmf.rabbitmq.batchEnabled:false}}")
     public Message onMessage(final Message message,
             @Header(name = MessageHeaderKey.TYPE, required = false) final String type,
             @Header(name = MessageHeaderKey.TENANT, required = false) final String tenant) {
@@ -169,7 +185,7 @@ public class AmqpMessageHandlerService extends BaseAmqpService {
                 deleteTarget(message);
                 break;
             case EVENT:
-                checkContentTypeJson(message);
+                checkContentTypeSupported(message);
                 setTenantSecurityContext(tenant);
                 handleIncomingEvent(message);
                 break;
@@ -191,6 +207,185 @@ public class AmqpMessageHandlerService extends BaseAmqpService {
         return null;
     }
 
+    /**
+     * Method to handle the incoming DMF amqp messages in batches, if enabled
+     * by the property hawkbit.dmf.rabbitmq.batchEnabled. The messages of the
+     * batch are acknowledged one by one on the given channel.
+     *
+     * @param messages
+     *            incoming messages
+     * @param channel
+     *            the channel the messages are acknowledged on
+     */
+    @RabbitListener(queues = "${hawkbit.dmf.rabbitmq.receiverQueue:dmf_receiver}", containerFactory = "batchListenerContainerFactory", autoStartup = "${hawkbit.dmf.rabbitmq.batchEnabled:false}")
+    public void onMessageBatch(final List<Message> messages, final Channel channel) {
+        onMessageBatch(messages, channel, getRabbitTemplate().getConnectionFactory().getVirtualHost());
+    }
+
+    /**
+     * Executed if a batch of amqp messages arrives. Consecutive action status
+     * updates are added per tenant in one transaction, all other messages are
+     * handled one by one in the order of the batch. Every message is
+     * acknowledged as soon as it is handled, so that a failure never requeues
+     * messages which are already applied. Messages which are rejected are
+     * dead-lettered by the broker, any other failure requeues only the failed
+     * message.
+     *
+     * @param messages
+     *            the messages
+     * @param channel
+     *            the channel the messages are acknowledged on
+     * @param virtualHost
+     *            the virtual host
+     */
+    public void onMessageBatch(final List<Message> messages, final Channel channel, final String virtualHost) {
+        final Map<String, List<StatusUpdate>> statusUpdates = new LinkedHashMap<>();
+        for (final Message message : messages) {
+            final StatusUpdate statusUpdate = toBatchStatusUpdate(message);
+            if (statusUpdate != null) {
+                statusUpdates.computeIfAbsent(statusUpdate.tenant(), tenant -> new ArrayList<>()).add(statusUpdate);
+            } else {
+                // keeps the order of the messages
+                updateActionStatuses(statusUpdates, channel, virtualHost);
+                handleBatchMessage(message, channel, () -> onMessage(message,
+                        getHeader(message, MessageHeaderKey.TYPE), getHeader(message, MessageHeaderKey.TENANT),
+                        virtualHost));
+            }
+        }
+        updateActionStatuses(statusUpdates, channel, virtualHost);
+    }
+
+    private StatusUpdate toBatchStatusUpdate(final Message message) {
+        final String tenant = getHeader(message, MessageHeaderKey.TENANT);
+        if (!MessageType.EVENT.name().equals(getHeader(message, MessageHeaderKey.TYPE))
+                || !EventTopic.UPDATE_ACTION_STATUS.name().equals(getHeader(message, MessageHeaderKey.TOPIC))
+                || StringUtils.isEmpty(tenant)) {
+            return null;
+        }
+        try {
+            checkContentTypeSupported(message);
+            final DmfActionUpdateStatus actionUpdateStatus = convertMessage(message, DmfActionUpdateStatus.class);
+            return BATCH_UPDATE_STATUS.contains(actionUpdateStatus.getActionStatus())
+                    ? new StatusUpdate(tenant, message, actionUpdateStatus)
+                    : null;
+        } catch (final RuntimeException e) {
+            // handled (and rejected) as single message
+            return null;
+        }
+    }
+
+    private void updateActionStatuses(final Map<String, List<StatusUpdate>> statusUpdates, final Channel channel,
+            final String virtualHost) {
+        statusUpdates.forEach((tenant, updates) -> updateActionStatuses(tenant, updates, channel, virtualHost));
+        statusUpdates.clear();
+    }
+
+    private void updateActionStatuses(final String tenant, final List<StatusUpdate> statusUpdates,
+            final Channel channel, final String virtualHost) {
+        final SecurityContext oldContext = SecurityContextHolder.getContext();
+        try {
+            setTenantSecurityContext(tenant);
+            final List<Action> updatedActions;
+            try {
+                updatedActions = controllerManagement.addUpdateActionStatuses(statusUpdates.stream()
+                        .map(statusUpdate -> toActionStatusCreate(statusUpdate.message(),
+                                statusUpdate.actionUpdateStatus().getActionId(), statusUpdate.actionUpdateStatus(),
+                                mapStatus(statusUpdate.message(), statusUpdate.actionUpdateStatus(), null)))
+                        .toList());
+            } catch (final RuntimeException e) {
+                log.warn("Adding {} action status updates of tenant {} failed ({}), handling them one by one.",
+                        statusUpdates.size(), tenant, e.getMessage());
+                log.debug("Adding action status updates failed", e);
+                statusUpdates.forEach(statusUpdate -> handleBatchMessage(statusUpdate.message(), channel,
+                        () -> onMessage(statusUpdate.message(), MessageType.EVENT.name(), tenant, virtualHost)));
+                return;
+            }
+            // the updates are committed, so they must not be redelivered
+            statusUpdates.forEach(statusUpdate -> ack(channel, statusUpdate.message()));
+
+            // one update command per target, based on the state after all
+            // updates of the batch
+            final Map<String, Target> proceedingTargets = new LinkedHashMap<>();
+            updatedActions.stream().filter(AmqpMessageHandlerService::shouldTargetProceed).map(Action::getTarget)
+                    .forEach(target -> proceedingTargets.putIfAbsent(target.getControllerId(), target));
+            proceedingTargets.values().forEach(target -> {
+                try {
+                    sendUpdateCommandToTarget(target);
+                } catch (final RuntimeException e) {
+                    log.warn("Sending the update command to target {} failed: {}", target.getControllerId(),
+                            e.getMessage());
+                }
+            });
+        } finally {
+            SecurityContextHolder.setContext(oldContext);
+        }
+    }
+
+    private void handleBatchMessage(final Message message, final Channel channel, final Runnable handler) {
+        try {
+            handler.run();
+        } catch (final RuntimeException e) {
+            if (isRejected(message, e)) {
+                log.warn("Message of batch rejected: {}", e.getMessage());
+                reject(channel, message);
+            } else {
+                log.warn("Message of batch requeued: {}", e.getMessage());
+                requeue(channel, message);
+            }
+            return;
+        }
+        ack(channel, message);
+    }
+
+    // the error handler of the container is not called for the messages of a
+    // batch, so it decides (only once per message) whether a message is
+    // rejected
+    private boolean isRejected(final Message message, final RuntimeException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof AmqpRejectAndDontRequeueException) {
+                return true;
+            }
+        }
+        if (batchErrorHandler == null) {
+            return false;
+        }
+        try {
+            batchErrorHandler
+                    .handleError(new ListenerExecutionFailedException("Handling of batch message failed", e, message));
+            return false;
+        } catch (final AmqpRejectAndDontRequeueException rejected) {
+            return true;
+        }
+    }
+
+    private static void ack(final Channel channel, final Message message) {
+        acknowledge(message, tag -> channel.basicAck(tag, false));
+    }
+
+    // the receiver queues are declared with the dead letter exchange
+    private static void reject(final Channel channel, final Message message) {
+        acknowledge(message, tag -> channel.basicReject(tag, false));
+    }
+
+    private static void requeue(final Channel channel, final Message message) {
+        acknowledge(message, tag -> channel.basicNack(tag, false, true));
+    }
+
+    private static void acknowledge(final Message message, final Acknowledgement acknowledgement) {
+        final long deliveryTag = message.getMessageProperties().getDeliveryTag();
+        try {
+            acknowledgement.acknowledge(deliveryTag);
+        } catch (final IOException | RuntimeException e) {
+            // the broker redelivers the message once the channel is closed
+            log.warn("Acknowledging message {} of batch failed: {}", deliveryTag, e.getMessage());
+        }
+    }
+
+    private static String getHeader(final Message message, final String key) {
+        final Object value = message.getMessageProperties().getHeader(key);
+        return value == null ? null : value.toString();
+    }
+
     private static void setSecurityContext(final Authentication authentication) {
         final SecurityContextImpl securityContextImpl = new SecurityContextImpl();
         securityContextImpl.setAuthentication(authentication);
@@ -230,7 +425,7 @@ public class AmqpMessageHandlerService extends BaseAmqpService {
                 log.debug("Received \"THING_CREATED\" AMQP message for thing \"{}\" without body.", thingId);
                 target = controllerManagement.findOrRegisterTargetIfItDoesNotExist(thingId, amqpUri);
             } else {
-                checkContentTypeJson(message);
+                checkContentTypeSupported(message);
                 final DmfCreateThing thingCreateBody = convertMessage(message, DmfCreateThing.class);
                 final DmfAttributeUpdate thingAttributeUpdateBody = thingCreateBody.getAttributeUpdate();
 
@@ -374,30 +569,19 @@ public class AmqpMessageHandlerService extends BaseAmqpService {
         final DmfActionUpdateStatus actionUpdateStatus = convertMessage(message, DmfActionUpdateStatus.class);
         final Action action = checkActionExist(message, actionUpdateStatus);
 
-        final List<String> messages = actionUpdateStatus.getMessage();
-
-        if (isCorrelationIdNotEmpty(message)) {
-            messages.add(RepositoryConstants.SERVER_MESSAGE_PREFIX + "DMF message correlation-id "
-                    + message.getMessageProperties().getCorrelationId());
-        }
-
         final Status status = mapStatus(message, actionUpdateStatus, action);
 
         final Action updatedAction;
 
         if (actionUpdateStatus.getActionStatus() == DmfActionStatus.CONFIRMED) {
             updatedAction = confirmationManagement.confirmAction(action.getId(),
-                    actionUpdateStatus.getCode().orElse(null), messages);
+                    actionUpdateStatus.getCode().orElse(null), getMessages(message, actionUpdateStatus));
         } else if (actionUpdateStatus.getActionStatus() == DmfActionStatus.DENIED) {
             updatedAction = confirmationManagement.denyAction(action.getId(), actionUpdateStatus.getCode().orElse(null),
-                    messages);
+                    getMessages(message, actionUpdateStatus));
         } else {
-            final ActionStatusCreate actionStatus = entityFactory.actionStatus().create(action.getId()).status(status)
-                    .messages(messages);
-            actionUpdateStatus.getCode().ifPresent(code -> {
-                actionStatus.code(code);
-                actionStatus.message("Device reported status code: " + code);
-            });
+            final ActionStatusCreate actionStatus = toActionStatusCreate(message, action.getId(), actionUpdateStatus,
+                    status);
             updatedAction = ((Status.CANCELED == status) || (Status.CANCEL_REJECTED == status)) ?
                     controllerManagement.addCancelActionStatus(actionStatus)
                     : controllerManagement.addUpdateActionStatus(actionStatus);
@@ -408,6 +592,27 @@ public class AmqpMessageHandlerService extends BaseAmqpService {
         }
     }
 
+    private ActionStatusCreate toActionStatusCreate(final Message message, final long actionId,
+            final DmfActionUpdateStatus actionUpdateStatus, final Status status) {
+        final ActionStatusCreate actionStatus = entityFactory.actionStatus().create(actionId)
+                .status(status).messages(getMessages(message, actionUpdateStatus));
+        actionUpdateStatus.getCode().ifPresent(code -> {
+            actionStatus.code(code);
+            actionStatus.message("Device reported status code: " + code);
+        });
+        return actionStatus;
+    }
+
+    private static List<String> getMessages(final Message message, final DmfActionUpdateStatus actionUpdateStatus) {
+        final List<String> messages = new ArrayList<>(actionUpdateStatus.getMessage());
+
+        if (isCorrelationIdNotEmpty(message)) {
+            messages.add(RepositoryConstants.SERVER_MESSAGE_PREFIX + "DMF message correlation-id "
+                    + message.getMessageProperties().getCorrelationId());
+        }
+        return messages;
+    }
+
     private static boolean shouldTargetProceed(final Action action) {
         return !action.isActive() || (action.hasMaintenanceSchedule() && action.isMaintenanceWindowAvailable());
     }
@@ -508,8 +713,28 @@ public class AmqpMessageHandlerService extends BaseAmqpService {
                 .runAsSystem(() -> tenantConfigurationManagement.getConfigurationValue(key, valueType).getValue());
     }
 
+    /**
+     * Sets how failed messages of a batch are handled. Messages which are
+     * rejected by the error handler are dead-lettered, all others are
+     * requeued.
+     *
+     * @param errorHandler
+     *            the error handler of the listener containers
+     */
+    public void setBatchErrorHandling(final ErrorHandler errorHandler) {
+        this.batchErrorHandler = errorHandler;
+    }
+
     // for testing
     public void setControllerManagement(final ControllerManagement controllerManagement) {
         this.controllerManagement = controllerManagement;
     }
+
+    private record StatusUpdate(String tenant, Message message, DmfActionUpdateStatus actionUpdateStatus) {}
+
+    @FunctionalInterface
+    private interface Acknowledgement {
+
+        void acknowledge(long deliveryTag) throws IOException;
+    }
 }
@@ -9,7 +9,11 @@
  */
 package org.eclipse.hawkbit.amqp;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import lombok.Data;
+import org.springframework.amqp.core.MessageProperties;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -25,6 +29,24 @@ public class AmqpProperties {
 
     private static final long DEFAULT_REQUEUE_DELAY = 0;
 
+    private static final int DEFAULT_BATCH_SIZE = 250;
+
+    private static final long DEFAULT_BATCH_RECEIVE_TIMEOUT = 100;
+
+    private static final int DEFAULT_SEND_MAX_IN_FLIGHT = 1000;
+
+    private static final long DEFAULT_SEND_CONFIRM_TIMEOUT = 30_000;
+
+    private static final int DEFAULT_SEND_RETRIES = 3;
+
+    private static final int DEFAULT_DISPATCH_QUEUE_CAPACITY = 100;
+
+    private static final long DEFAULT_DISPATCH_IDLE_TIMEOUT = 60_000;
+
+    private static final long DEFAULT_SOFTWARE_MODULE_CACHE_SIZE = 1_000;
+
+    private static final long DEFAULT_SOFTWARE_MODULE_CACHE_TTL = 600_000;
+
     /**
      * Enable DMF API based on AMQP 0.9
      */
@@ -45,6 +67,21 @@ public class AmqpProperties {
      */
     private String receiverQueue = "dmf_receiver";
 
+    /**
+     * Number of DMF API receiving queues (named like the receiver queue with
+     * the shard as suffix, e.g. dmf_receiver.0) the messages are distributed
+     * to by their thing ID. Each queue is consumed by a single consumer, so
+     * the messages of a target are handled in order. 0 to use the receiver
+     * queue only. Requires the rabbitmq_consistent_hash_exchange plugin.
+     */
+    private int receiverShards;
+
+    /**
+     * Consistent hash exchange distributing the DMF messages to the receiver
+     * shards.
+     */
+    private String receiverShardExchange = "dmf.receiver.shards";
+
     /**
      * Authentication request called by 3rd party artifact storages for download
      * authorizations.
@@ -68,4 +105,96 @@ public class AmqpProperties {
      * Delay for messages that are requeued in milliseconds.
      */
     private long requeueDelay = DEFAULT_REQUEUE_DELAY;
+
+    /**
+     * Consume the DMF receiving queue in batches. Action status updates of a
+     * batch are persisted per tenant in one transaction and acknowledged after
+     * the commit, all other messages are acknowledged one by one.
+     */
+    private boolean batchEnabled;
+
+    /**
+     * Maximum number of messages in a batch.
+     */
+    private int batchSize = DEFAULT_BATCH_SIZE;
+
+    /**
+     * Time in milliseconds to wait for further messages before an incomplete
+     * batch is handled.
+     */
+    private long batchReceiveTimeout = DEFAULT_BATCH_RECEIVE_TIMEOUT;
+
+    /**
+     * Content type of the messages sent to the DMF clients, application/json
+     * or the compact binary application/cbor. Incoming messages are accepted
+     * in both content types.
+     */
+    private String contentType = MessageProperties.CONTENT_TYPE_JSON;
+
+    /**
+     * Content type of the messages sent to the DMF clients of a tenant (key),
+     * overrides the content type of the virtual host for the tenant.
+     */
+    private Map<String, String> tenantContentType = new HashMap<>();
+
+    /**
+     * Minimum size in bytes of a message sent to the DMF clients to be
+     * compressed with gzip. Negative to disable the compression.
+     */
+    private int compressionThreshold = -1;
+
+    /**
+     * Send the messages to the DMF clients without waiting for the broker per
+     * message. The publisher confirms are handled asynchronously, which
+     * requires spring.rabbitmq.publisher-confirm-type=correlated.
+     */
+    private boolean pipelinedSendEnabled;
+
+    /**
+     * Maximum number of sent messages which are not confirmed by the broker.
+     * Sending blocks if the limit is reached.
+     */
+    private int sendMaxInFlight = DEFAULT_SEND_MAX_IN_FLIGHT;
+
+    /**
+     * Time in milliseconds to wait for the confirm of a sent message before
+     * it is counted as failed.
+     */
+    private long sendConfirmTimeout = DEFAULT_SEND_CONFIRM_TIMEOUT;
+
+    /**
+     * Number of times a message which is negatively acknowledged by the broker
+     * is sent again.
+     */
+    private int sendRetries = DEFAULT_SEND_RETRIES;
+
+    /**
+     * Number of threads loading the targets of large assignment and cancel
+     * events in parallel (in partitions of 1000 targets) before the DMF
+     * messages are sent.
+     */
+    private int dispatchThreads = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Maximum number of partitions waiting for a dispatch thread. If exceeded,
+     * the partition is loaded by the thread handling the event.
+     */
+    private int dispatchQueueCapacity = DEFAULT_DISPATCH_QUEUE_CAPACITY;
+
+    /**
+     * Time in milliseconds after which an idle dispatch thread is stopped.
+     */
+    private long dispatchIdleTimeout = DEFAULT_DISPATCH_IDLE_TIMEOUT;
+
+    /**
+     * Maximum number of distribution sets and software modules which are
+     * cached for the DMF messages, 0 disables the cache.
+     */
+    private long softwareModuleCacheSize = DEFAULT_SOFTWARE_MODULE_CACHE_SIZE;
+
+    /**
+     * Time in milliseconds after which a cached distribution set or software
+     * module expires, even if it has not been changed.
+     */
+    private long softwareModuleCacheTtl = DEFAULT_SOFTWARE_MODULE_CACHE_TTL;
 }
@@ -40,12 +40,12 @@ public class BaseAmqpService {
         this.rabbitTemplate = rabbitTemplate;
     }
 
-    protected static void checkContentTypeJson(final Message message) {
+    protected static void checkContentTypeSupported(final Message message) {
         final MessageProperties messageProperties = message.getMessageProperties();
-        if (messageProperties.getContentType() != null && messageProperties.getContentType().contains("json")) {
+        if (DmfMessageConverter.isSupportedContentType(messageProperties.getContentType())) {
             return;
         }
-        throw new AmqpRejectAndDontRequeueException("Content-Type is not JSON compatible");
+        throw new AmqpRejectAndDontRequeueException("Content-Type is not JSON or CBOR compatible");
     }
 
     /**
@@ -0,0 +1,145 @@
+/**
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.amqp;
+
+import java.io.IOException;
+import java.util.function.Function;
+
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.AbstractMessageConverter;
+import org.springframework.amqp.support.converter.DefaultJackson2JavaTypeMapper;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.amqp.support.postprocessor.GUnzipPostProcessor;
+import org.springframework.amqp.support.postprocessor.GZipPostProcessor;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+
+/**
+ * {@link MessageConverter} for the DMF messages. Reads messages encoded as
+ * JSON or as CBOR ({@link #CONTENT_TYPE_CBOR}), which might be compressed with
+ * gzip (content encoding). Writes messages in the content type that is
+ * resolved for the message properties, e.g. per tenant, and compresses them if
+ * they exceed the configured size.
+ */
+public class DmfMessageConverter implements MessageConverter {
+
+    /**
+     * Content type of CBOR encoded messages.
+     */
+    public static final String CONTENT_TYPE_CBOR = "application/cbor";
+
+    private static final String GZIP = "gzip";
+
+    private final MessageConverter jsonConverter = new Jackson2JsonMessageConverter();
+    private final MessageConverter cborConverter = new CborMessageConverter();
+    private final GZipPostProcessor compressor = new GZipPostProcessor();
+    private final GUnzipPostProcessor decompressor = new GUnzipPostProcessor();
+
+    private final Function<MessageProperties, String> contentTypeResolver;
+    private final int compressionThreshold;
+
+    /**
+     * Constructor for a converter which writes uncompressed JSON.
+     */
+    public DmfMessageConverter() {
+        this(messageProperties -> MessageProperties.CONTENT_TYPE_JSON, -1);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param contentTypeResolver
+     *            resolves the content type ({@link #CONTENT_TYPE_CBOR} or
+     *            JSON) of a message to write from its properties
+     * @param compressionThreshold
+     *            minimum size in bytes of a message to be compressed with
+     *            gzip, negative to disable compression
+     */
+    public DmfMessageConverter(final Function<MessageProperties, String> contentTypeResolver,
+            final int compressionThreshold) {
+        this.contentTypeResolver = contentTypeResolver;
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    /**
+     * @param contentType
+     *            of a message
+     * @return <code>true</code> if messages of the given content type can be
+     *         read by the converter
+     */
+    public static boolean isSupportedContentType(final String contentType) {
+        return contentType != null && (contentType.contains("json") || isCbor(contentType));
+    }
+
+    @Override
+    public Message toMessage(final Object object, final MessageProperties messageProperties) {
+        final Message message = (isCbor(contentTypeResolver.apply(messageProperties)) ? cborConverter
+                : jsonConverter).toMessage(object, messageProperties);
+        if (compressionThreshold >= 0 && message.getBody().length >= compressionThreshold) {
+            return compressor.postProcessMessage(message);
+        }
+        return message;
+    }
+
+    @Override
+    public Object fromMessage(final Message message) throws MessageConversionException {
+        final String contentEncoding = message.getMessageProperties().getContentEncoding();
+        final Message decompressed = contentEncoding != null && contentEncoding.startsWith(GZIP)
+                ? decompressor.postProcessMessage(message)
+                : message;
+        return (isCbor(decompressed.getMessageProperties().getContentType()) ? cborConverter : jsonConverter)
+                .fromMessage(decompressed);
+    }
+
+    private static boolean isCbor(final String contentType) {
+        return contentType != null && contentType.contains("cbor");
+    }
+
+    // the Jackson converters of spring amqp are text based, so CBOR is
+    // converted directly from and to bytes
+    private static class CborMessageConverter extends AbstractMessageConverter {
+
+        private final ObjectMapper objectMapper = new CBORMapper()
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        private final DefaultJackson2JavaTypeMapper javaTypeMapper = new DefaultJackson2JavaTypeMapper();
+
+        private CborMessageConverter() {
+            javaTypeMapper.setTrustedPackages("*");
+        }
+
+        @Override
+        protected Message createMessage(final Object object, final MessageProperties messageProperties) {
+            try {
+                final byte[] body = objectMapper.writeValueAsBytes(object);
+                messageProperties.setContentType(CONTENT_TYPE_CBOR);
+                messageProperties.setContentLength(body.length);
+                javaTypeMapper.fromJavaType(objectMapper.constructType(object.getClass()), messageProperties);
+                return new Message(body, messageProperties);
+            } catch (final IOException e) {
+                throw new MessageConversionException("Failed to convert message content", e);
+            }
+        }
+
+        @Override
+        public Object fromMessage(final Message message) throws MessageConversionException {
+            try {
+                return objectMapper.readValue(message.getBody(),
+                        javaTypeMapper.toJavaType(message.getMessageProperties()));
+            } catch (final IOException e) {
+                throw new MessageConversionException("Failed to convert message content", e);
+            }
+        }
+    }
+}
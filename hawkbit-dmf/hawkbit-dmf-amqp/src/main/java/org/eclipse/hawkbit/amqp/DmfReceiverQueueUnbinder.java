@@ -0,0 +1,61 @@
+/**
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.amqp;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+
+/**
+ * Removes the binding of the DMF receiver queue to the DMF exchange if the
+ * messages are received by shards. The receiver queue might still be bound
+ * from a former start without shards, so it would receive every message a
+ * second time. As the broker might have been reset, the binding is removed on
+ * every new connection, after the {@link AmqpAdmin} declared the shards.
+ */
+@Slf4j
+public class DmfReceiverQueueUnbinder implements SmartInitializingSingleton {
+
+    private final ConnectionFactory connectionFactory;
+    private final AmqpAdmin amqpAdmin;
+    private final Binding receiverQueueBinding;
+
+    /**
+     * @param connectionFactory
+     *            to listen to new connections
+     * @param amqpAdmin
+     *            to remove the binding
+     * @param receiverQueueBinding
+     *            the binding of the receiver queue to the DMF exchange
+     */
+    public DmfReceiverQueueUnbinder(final ConnectionFactory connectionFactory, final AmqpAdmin amqpAdmin,
+            final Binding receiverQueueBinding) {
+        this.connectionFactory = connectionFactory;
+        this.amqpAdmin = amqpAdmin;
+        this.receiverQueueBinding = receiverQueueBinding;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        // registered after the listener of the admin, which declares the shards
+        connectionFactory.addConnectionListener(connection -> unbind());
+    }
+
+    void unbind() {
+        try {
+            amqpAdmin.removeBinding(receiverQueueBinding);
+        } catch (final AmqpException e) {
+            log.warn("Could not remove the binding of the receiver queue {}", receiverQueueBinding, e);
+        }
+    }
+}
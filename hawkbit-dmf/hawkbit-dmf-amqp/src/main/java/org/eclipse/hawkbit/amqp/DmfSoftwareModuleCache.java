@@ -0,0 +1,179 @@
+/**
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.amqp;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.eclipse.hawkbit.api.URLPlaceholder.SoftwareData;
+import org.eclipse.hawkbit.dmf.json.model.DmfSoftwareModule;
+import org.eclipse.hawkbit.repository.event.remote.DistributionSetDeletedEvent;
+import org.eclipse.hawkbit.repository.event.remote.SoftwareModuleDeletedEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.DistributionSetUpdatedEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.SoftwareModuleUpdatedEvent;
+import org.eclipse.hawkbit.repository.model.DistributionSet;
+import org.eclipse.hawkbit.repository.model.SoftwareModule;
+import org.springframework.context.event.EventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Cache of the software module payload of the DMF messages. All targets of an
+ * assignment (e.g. of a rollout group) share the software modules of the
+ * distribution set, so the modules with their target visible metadata are
+ * loaded and converted once per software module and looked up once per
+ * distribution set. Only the artifact URLs are rendered per target.
+ * <p/>
+ * Only the converted DMF payload is cached, never the entities it has been
+ * converted from, as these are detached from their persistence context when
+ * they are reused (e.g. lazy relations could not be loaded anymore).
+ * <p/>
+ * The entries are kept per tenant and invalidated by the update and delete
+ * events of the distribution sets and software modules. Changes of the
+ * metadata and artifacts of a software module update the software module as
+ * well. As these are remote events the entries are invalidated on all nodes of
+ * a cluster.
+ */
+public class DmfSoftwareModuleCache {
+
+    private final Cache<Key, List<CachedSoftwareModule>> distributionSets;
+    private final Cache<Key, CachedSoftwareModule> softwareModules;
+
+    // incremented on every invalidation, so that a lookup that raced with an
+    // invalidation does not cache its (possibly outdated) result
+    private final AtomicLong invalidations = new AtomicLong();
+
+    /**
+     * @param size
+     *            the maximum number of cached distribution sets and software
+     *            modules, <code>0</code> disables the cache
+     * @param ttl
+     *            time in {@link TimeUnit#MILLISECONDS} after which an entry
+     *            expires, even if it has not been invalidated
+     */
+    public DmfSoftwareModuleCache(final long size, final long ttl) {
+        this.distributionSets = Caffeine.newBuilder().maximumSize(size).expireAfterWrite(ttl, TimeUnit.MILLISECONDS)
+                .executor(Runnable::run).build();
+        this.softwareModules = Caffeine.newBuilder().maximumSize(size).expireAfterWrite(ttl, TimeUnit.MILLISECONDS)
+                .executor(Runnable::run).build();
+    }
+
+    /**
+     * Retrieves the converted software modules of a distribution set.
+     *
+     * @param distributionSet
+     *            the distribution set
+     * @param loader
+     *            to load and convert the software modules if they are not
+     *            cached
+     * @return the cached or converted software modules
+     */
+    public List<CachedSoftwareModule> getSoftwareModules(final DistributionSet distributionSet,
+            final Function<DistributionSet, List<CachedSoftwareModule>> loader) {
+        return get(distributionSets, new Key(distributionSet.getTenant(), distributionSet.getId()),
+                () -> List.copyOf(loader.apply(distributionSet)));
+    }
+
+    /**
+     * Retrieves the converted software module.
+     *
+     * @param softwareModule
+     *            the software module
+     * @param converter
+     *            to convert the software module if it is not cached
+     * @return the cached or converted software module
+     */
+    public CachedSoftwareModule getSoftwareModule(final SoftwareModule softwareModule,
+            final Function<SoftwareModule, CachedSoftwareModule> converter) {
+        return get(softwareModules, new Key(softwareModule.getTenant(), softwareModule.getId()),
+                () -> converter.apply(softwareModule));
+    }
+
+    @EventListener(classes = DistributionSetUpdatedEvent.class)
+    public void invalidateOnDistributionSetUpdate(final DistributionSetUpdatedEvent event) {
+        invalidate(distributionSets, new Key(event.getTenant(), event.getEntityId()));
+    }
+
+    @EventListener(classes = DistributionSetDeletedEvent.class)
+    public void invalidateOnDistributionSetDelete(final DistributionSetDeletedEvent event) {
+        invalidate(distributionSets, new Key(event.getTenant(), event.getEntityId()));
+    }
+
+    @EventListener(classes = SoftwareModuleUpdatedEvent.class)
+    public void invalidateOnSoftwareModuleUpdate(final SoftwareModuleUpdatedEvent event) {
+        invalidateSoftwareModule(event.getTenant(), event.getEntityId());
+    }
+
+    @EventListener(classes = SoftwareModuleDeletedEvent.class)
+    public void invalidateOnSoftwareModuleDelete(final SoftwareModuleDeletedEvent event) {
+        invalidateSoftwareModule(event.getTenant(), event.getEntityId());
+    }
+
+    private <T> T get(final Cache<Key, T> cache, final Key key, final Supplier<T> loader) {
+        final T cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        final long before = invalidations.get();
+        final T loaded = loader.get();
+        if (invalidations.get() == before) {
+            cache.put(key, loaded);
+            if (invalidations.get() != before) {
+                // invalidated while it was put
+                cache.invalidate(key);
+            }
+        }
+        return loaded;
+    }
+
+    private void invalidateSoftwareModule(final String tenant, final Long softwareModuleId) {
+        invalidate(softwareModules, new Key(tenant, softwareModuleId));
+        // the distribution sets of the software module are not known, but
+        // software modules are changed rarely
+        distributionSets.asMap().keySet().removeIf(key -> key.tenant().equalsIgnoreCase(tenant));
+    }
+
+    private <T> void invalidate(final Cache<Key, T> cache, final Key key) {
+        invalidations.incrementAndGet();
+        cache.invalidate(key);
+    }
+
+    /**
+     * A software module converted for the DMF messages, without the target
+     * specific artifact URLs. It is shared by all messages, so it must not be
+     * modified but copied.
+     *
+     * @param softwareModule
+     *            the converted software module, the URLs of the artifacts are
+     *            not set
+     * @param artifacts
+     *            to render the URLs of the artifacts (in the same order)
+     */
+    public record CachedSoftwareModule(DmfSoftwareModule softwareModule, List<SoftwareData> artifacts) {
+
+        public CachedSoftwareModule {
+            artifacts = List.copyOf(artifacts);
+        }
+    }
+
+    // tenants are case-insensitive
+    private record Key(String tenant, Long id) {
+
+        private Key {
+            tenant = tenant.toUpperCase(Locale.ROOT);
+        }
+    }
+}
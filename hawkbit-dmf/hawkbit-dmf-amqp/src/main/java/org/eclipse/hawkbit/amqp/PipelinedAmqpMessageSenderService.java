@@ -0,0 +1,218 @@
+/**
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.amqp;
+
+import java.net.URI;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.hawkbit.util.IpUtil;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.DisposableBean;
+
+/**
+ * Sender service which does not wait for the broker per message. Messages are
+ * published with a {@link CorrelationData} and their publisher confirms are
+ * handled asynchronously, so that the sending threads (e.g. the event
+ * listeners of the {@link AmqpMessageDispatcherService}) are only blocked if
+ * the configured number of unconfirmed messages is in flight. This is the
+ * backpressure towards the dispatcher.
+ * <p>
+ * Negatively acknowledged messages are published again by a dedicated thread,
+ * as the confirms are received on the threads of the connection. Messages
+ * returned as unroutable (if the connection factory has publisher returns
+ * enabled) or not confirmed in time are counted as failed.
+ * <p>
+ * The publisher confirms have to be enabled on the connection factory, i.e.
+ * <code>spring.rabbitmq.publisher-confirm-type=correlated</code>. Otherwise
+ * the messages are sent without tracking.
+ */
+@Slf4j
+public class PipelinedAmqpMessageSenderService extends DefaultAmqpMessageSenderService implements DisposableBean {
+
+    private final int maxInFlight;
+    private final long confirmTimeout;
+    private final int maxRetries;
+    private final boolean publisherConfirms;
+
+    private final Semaphore window;
+    private final ExecutorService retryExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        final Thread thread = Executors.defaultThreadFactory().newThread(runnable);
+        thread.setName("dmf-sender-retry");
+        return thread;
+    });
+
+    private final AtomicLong confirmed = new AtomicLong();
+    private final AtomicLong retried = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    /**
+     * Constructor.
+     *
+     * @param rabbitTemplate
+     *            the AMQP template
+     * @param maxInFlight
+     *            maximum number of sent but not yet confirmed messages
+     * @param confirmTimeout
+     *            time in milliseconds to wait for the confirm of a message
+     * @param maxRetries
+     *            number of times a negatively acknowledged message is sent
+     *            again
+     */
+    public PipelinedAmqpMessageSenderService(final RabbitTemplate rabbitTemplate, final int maxInFlight,
+            final long confirmTimeout, final int maxRetries) {
+        super(rabbitTemplate);
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("Max in flight messages must be greater than 0");
+        }
+        this.maxInFlight = maxInFlight;
+        this.confirmTimeout = confirmTimeout;
+        this.maxRetries = maxRetries;
+        this.window = new Semaphore(maxInFlight);
+        this.publisherConfirms = rabbitTemplate.getConnectionFactory().isPublisherConfirms();
+        if (!publisherConfirms) {
+            log.warn("Publisher confirms are not enabled on the connection factory, DMF messages are not tracked.");
+        }
+    }
+
+    @Override
+    public void sendMessage(final Message message, final URI sendTo) {
+        if (!IpUtil.isAmqpUri(sendTo)) {
+            return;
+        }
+
+        final String exchange = sendTo.getPath().substring(1);
+        final String correlationId = UUID.randomUUID().toString();
+
+        if (isCorrelationIdEmpty(message)) {
+            message.getMessageProperties().setCorrelationId(correlationId);
+        }
+
+        try {
+            window.acquire();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AmqpException("Interrupted while waiting for the confirms of sent messages", e);
+        }
+
+        log.debug("Sending message to exchange {} with correlationId {}", exchange, correlationId);
+        try {
+            publish(exchange, message, new CorrelationData(correlationId), 0);
+        } catch (final RuntimeException e) {
+            onFailure();
+            throw e;
+        }
+    }
+
+    /**
+     * @return number of sent messages which are not confirmed yet
+     */
+    public int getInFlight() {
+        return maxInFlight - window.availablePermits();
+    }
+
+    /**
+     * @return maximum number of sent messages which are not confirmed yet
+     */
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    /**
+     * @return number of messages confirmed by the broker
+     */
+    public long getConfirmed() {
+        return confirmed.get();
+    }
+
+    /**
+     * @return number of negatively acknowledged messages which were sent again
+     */
+    public long getRetried() {
+        return retried.get();
+    }
+
+    /**
+     * @return number of messages which are rejected, returned or not confirmed
+     *         by the broker
+     */
+    public long getFailed() {
+        return failed.get();
+    }
+
+    @Override
+    public void destroy() {
+        retryExecutor.shutdown();
+    }
+
+    private void publish(final String exchange, final Message message, final CorrelationData correlationData,
+            final int attempt) {
+        getRabbitTemplate().send(exchange, "", message, correlationData);
+
+        if (!publisherConfirms) {
+            window.release();
+            return;
+        }
+
+        correlationData.getFuture().orTimeout(confirmTimeout, TimeUnit.MILLISECONDS)
+                .whenComplete((confirm, error) -> {
+                    if (error != null) {
+                        log.error("Message with {} to exchange {} not confirmed in time", correlationData, exchange);
+                        onFailure();
+                    } else if (correlationData.getReturned() != null) {
+                        log.error("Message with {} returned by broker: {}", correlationData,
+                                correlationData.getReturned().getReplyText());
+                        onFailure();
+                    } else if (confirm.isAck()) {
+                        confirmed.incrementAndGet();
+                        window.release();
+                    } else if (attempt < maxRetries) {
+                        log.warn("Broker is unable to handle message with {} : {}, retrying", correlationData,
+                                confirm.getReason());
+                        retry(exchange, message, attempt + 1);
+                    } else {
+                        log.error("Broker is unable to handle message with {} : {}", correlationData,
+                                confirm.getReason());
+                        onFailure();
+                    }
+                });
+    }
+
+    private void retry(final String exchange, final Message message, final int attempt) {
+        try {
+            retryExecutor.execute(() -> {
+                try {
+                    retried.incrementAndGet();
+                    publish(exchange, message, new CorrelationData(UUID.randomUUID().toString()), attempt);
+                } catch (final RuntimeException e) {
+                    log.error("Failed to send message to exchange {} again", exchange, e);
+                    onFailure();
+                }
+            });
+        } catch (final RejectedExecutionException e) {
+            log.error("Failed to send message to exchange {} again, sender is shut down", exchange);
+            onFailure();
+        }
+    }
+
+    private void onFailure() {
+        failed.incrementAndGet();
+        window.release();
+    }
+}
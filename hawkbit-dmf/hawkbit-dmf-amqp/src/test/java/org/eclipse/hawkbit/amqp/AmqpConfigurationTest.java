@@ -0,0 +1,191 @@
+/**
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.amqp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.eclipse.hawkbit.dmf.amqp.api.AmqpSettings;
+import org.eclipse.hawkbit.dmf.amqp.api.MessageHeaderKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.amqp.AmqpIOException;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.Binding.DestinationType;
+import org.springframework.amqp.core.CustomExchange;
+import org.springframework.amqp.core.Declarables;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageListener;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerEndpoint;
+import org.springframework.amqp.rabbit.connection.Connection;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionListener;
+import org.springframework.amqp.rabbit.core.RabbitAdmin;
+import org.springframework.amqp.rabbit.listener.RabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistrar;
+import org.springframework.amqp.rabbit.listener.api.ChannelAwareBatchMessageListener;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.rabbitmq.client.Channel;
+
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+
+@Feature("Unit Tests - Device Management Federation API")
+@Story("Receiver shards")
+public class AmqpConfigurationTest {
+
+    private static final int SHARDS = 3;
+
+    private final AmqpProperties amqpProperties = new AmqpProperties();
+    private final AmqpMessageHandlerService amqpMessageHandlerService = mock(AmqpMessageHandlerService.class);
+    private final RabbitListenerContainerFactory<?> listenerContainerFactory = mock(
+            RabbitListenerContainerFactory.class);
+    private final RabbitListenerContainerFactory<?> batchListenerContainerFactory = mock(
+            RabbitListenerContainerFactory.class);
+    private final ConnectionFactory connectionFactory = mock(ConnectionFactory.class);
+
+    private AmqpConfiguration amqpConfiguration;
+
+    @BeforeEach
+    public void before() {
+        amqpProperties.setReceiverShards(SHARDS);
+        amqpConfiguration = new AmqpConfiguration();
+        ReflectionTestUtils.setField(amqpConfiguration, "amqpProperties", amqpProperties);
+        ReflectionTestUtils.setField(amqpConfiguration, "amqpDeadletterProperties", new AmqpDeadletterProperties());
+        ReflectionTestUtils.setField(amqpConfiguration, "rabbitConnectionFactory", connectionFactory);
+    }
+
+    @Test
+    @Description("Verifies that a consistent hash exchange bound to the DMF exchange distributes the messages by their "
+            + "thing ID to the shard queues, which are dead-lettered like the receiver queue and have a single active "
+            + "consumer across all nodes.")
+    public void shardsAreDeclared() {
+        final Declarables declarables = amqpConfiguration.dmfReceiverShards();
+
+        final List<CustomExchange> exchanges = declarables.getDeclarablesByType(CustomExchange.class);
+        assertThat(exchanges).hasSize(1);
+        final CustomExchange shardExchange = exchanges.get(0);
+        assertThat(shardExchange.getName()).isEqualTo(amqpProperties.getReceiverShardExchange());
+        assertThat(shardExchange.getType()).isEqualTo("x-consistent-hash");
+        assertThat(shardExchange.isDurable()).isTrue();
+        assertThat(shardExchange.getArguments()).containsEntry("hash-header", MessageHeaderKey.THING_ID);
+
+        final List<Queue> queues = declarables.getDeclarablesByType(Queue.class);
+        assertThat(queues).extracting(Queue::getName).containsExactly("dmf_receiver.0", "dmf_receiver.1",
+                "dmf_receiver.2");
+        assertThat(queues).allSatisfy(queue -> {
+            assertThat(queue.isDurable()).isTrue();
+            assertThat(queue.getArguments()).containsOnly(
+                    entry("x-dead-letter-exchange", amqpProperties.getDeadLetterExchange()),
+                    entry("x-single-active-consumer", true));
+        });
+
+        final List<Binding> bindings = declarables.getDeclarablesByType(Binding.class);
+        assertThat(bindings).filteredOn(binding -> binding.getDestinationType() == DestinationType.EXCHANGE)
+                .singleElement().satisfies(binding -> {
+                    assertThat(binding.getExchange()).isEqualTo(AmqpSettings.DMF_EXCHANGE);
+                    assertThat(binding.getDestination()).isEqualTo(shardExchange.getName());
+                });
+        assertThat(bindings).filteredOn(binding -> binding.getDestinationType() == DestinationType.QUEUE)
+                .allSatisfy(binding -> {
+                    assertThat(binding.getExchange()).isEqualTo(shardExchange.getName());
+                    assertThat(binding.getRoutingKey()).isEqualTo("1");
+                }).extracting(Binding::getDestination)
+                .containsExactly("dmf_receiver.0", "dmf_receiver.1", "dmf_receiver.2");
+    }
+
+    @Test
+    @Description("Verifies that every shard queue is consumed by exactly one consumer handling single messages.")
+    public void oneSingleMessageConsumerPerShard() {
+        final List<SimpleRabbitListenerEndpoint> endpoints = registerShardListeners(listenerContainerFactory);
+
+        final Message message = createMessage();
+        endpoints.forEach(endpoint -> ((MessageListener) endpoint.getMessageListener()).onMessage(message));
+        verify(amqpMessageHandlerService, times(SHARDS)).onMessage(message, "EVENT", "DEFAULT");
+    }
+
+    @Test
+    @Description("Verifies that every shard queue is consumed by exactly one consumer handling batches if batch "
+            + "consumption is enabled.")
+    public void oneBatchConsumerPerShard() {
+        amqpProperties.setBatchEnabled(true);
+        final List<SimpleRabbitListenerEndpoint> endpoints = registerShardListeners(batchListenerContainerFactory);
+
+        final List<Message> messages = List.of(createMessage());
+        final Channel channel = mock(Channel.class);
+        assertThat(endpoints).allSatisfy(endpoint -> assertThat(endpoint.getMessageListener())
+                .isInstanceOf(ChannelAwareBatchMessageListener.class));
+        endpoints.forEach(endpoint -> ((ChannelAwareBatchMessageListener) endpoint.getMessageListener())
+                .onMessageBatch(messages, channel));
+        verify(amqpMessageHandlerService, times(SHARDS)).onMessageBatch(messages, channel);
+    }
+
+    @Test
+    @Description("Verifies that the binding of the receiver queue to the DMF exchange, left from a start without "
+            + "shards, is removed on every new connection and that a failure does not break the connection.")
+    public void receiverQueueBindingIsRemovedOnConnection() {
+        final RabbitAdmin rabbitAdmin = mock(RabbitAdmin.class);
+        final ArgumentCaptor<Binding> binding = ArgumentCaptor.forClass(Binding.class);
+        doThrow(new AmqpIOException(new IOException("no queue"))).doNothing().when(rabbitAdmin)
+                .removeBinding(binding.capture());
+        final DmfReceiverQueueUnbinder unbinder = amqpConfiguration.dmfReceiverQueueUnbinder(rabbitAdmin);
+        unbinder.afterSingletonsInstantiated();
+
+        final ArgumentCaptor<ConnectionListener> listener = ArgumentCaptor.forClass(ConnectionListener.class);
+        verify(connectionFactory).addConnectionListener(listener.capture());
+        listener.getValue().onCreate(mock(Connection.class));
+        listener.getValue().onCreate(mock(Connection.class));
+
+        assertThat(binding.getAllValues()).hasSize(2).allSatisfy(removed -> {
+            assertThat(removed.getExchange()).isEqualTo(AmqpSettings.DMF_EXCHANGE);
+            assertThat(removed.getDestination()).isEqualTo(amqpProperties.getReceiverQueue());
+            assertThat(removed.getDestinationType()).isEqualTo(DestinationType.QUEUE);
+        });
+    }
+
+    private List<SimpleRabbitListenerEndpoint> registerShardListeners(
+            final RabbitListenerContainerFactory<?> expectedFactory) {
+        final RabbitListenerEndpointRegistrar registrar = mock(RabbitListenerEndpointRegistrar.class);
+        amqpConfiguration.dmfReceiverShardListeners(amqpMessageHandlerService, listenerContainerFactory,
+                batchListenerContainerFactory).configureRabbitListeners(registrar);
+
+        final ArgumentCaptor<SimpleRabbitListenerEndpoint> endpoints = ArgumentCaptor
+                .forClass(SimpleRabbitListenerEndpoint.class);
+        verify(registrar, times(SHARDS)).registerEndpoint(endpoints.capture(), eq(expectedFactory));
+        verify(registrar, times(SHARDS)).registerEndpoint(any(), any());
+        assertThat(endpoints.getAllValues()).extracting(SimpleRabbitListenerEndpoint::getQueueNames)
+                .containsExactly(List.of("dmf_receiver.0"), List.of("dmf_receiver.1"), List.of("dmf_receiver.2"));
+        assertThat(endpoints.getAllValues()).extracting(SimpleRabbitListenerEndpoint::getConcurrency)
+                .containsOnly("1");
+        assertThat(endpoints.getAllValues()).extracting(SimpleRabbitListenerEndpoint::getId).doesNotHaveDuplicates();
+        return endpoints.getAllValues();
+    }
+
+    private static Message createMessage() {
+        final MessageProperties messageProperties = new MessageProperties();
+        messageProperties.setHeader(MessageHeaderKey.TYPE, "EVENT");
+        messageProperties.setHeader(MessageHeaderKey.TENANT, "DEFAULT");
+        return new Message(new byte[0], messageProperties);
+    }
+}
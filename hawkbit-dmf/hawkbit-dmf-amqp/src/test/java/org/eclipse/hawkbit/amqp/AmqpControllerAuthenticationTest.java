@@ -31,6 +31,7 @@ import org.eclipse.hawkbit.repository.ArtifactManagement;
 import org.eclipse.hawkbit.repository.ConfirmationManagement;
 import org.eclipse.hawkbit.repository.ControllerManagement;
 import org.eclipse.hawkbit.repository.SystemManagement;
+import org.eclipse.hawkbit.repository.TargetAuthenticationCache;
 import org.eclipse.hawkbit.repository.TenantConfigurationManagement;
 import org.eclipse.hawkbit.repository.jpa.JpaEntityFactory;
 import org.eclipse.hawkbit.repository.jpa.model.JpaArtifact;
@@ -155,7 +156,8 @@ public class AmqpControllerAuthenticationTest {
         final SystemSecurityContext systemSecurityContext = new SystemSecurityContext(tenantAware);
 
         authenticationManager = new AmqpControllerAuthentication(systemManagement, controllerManagement,
-                tenantConfigurationManagementMock, tenantAware, securityProperties, systemSecurityContext);
+                tenantConfigurationManagementMock, tenantAware, securityProperties, systemSecurityContext,
+                new TargetAuthenticationCache(tenantAware, 0, 0));
 
         authenticationManager.postConstruct();
 
@@ -17,12 +17,18 @@ import static org.mockito.Mockito.when;
 
 import java.io.File;
 import java.net.URI;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
 
+import org.awaitility.Awaitility;
 import org.eclipse.hawkbit.api.ArtifactUrl;
 import org.eclipse.hawkbit.api.ArtifactUrlHandler;
 import org.eclipse.hawkbit.artifact.repository.ArtifactFilesystem;
@@ -36,6 +42,7 @@ import org.eclipse.hawkbit.dmf.json.model.DmfDownloadAndUpdateRequest;
 import org.eclipse.hawkbit.dmf.json.model.DmfMetadata;
 import org.eclipse.hawkbit.dmf.json.model.DmfSoftwareModule;
 import org.eclipse.hawkbit.repository.SystemManagement;
+import org.eclipse.hawkbit.repository.builder.TargetCreate;
 import org.eclipse.hawkbit.repository.event.remote.CancelTargetAssignmentEvent;
 import org.eclipse.hawkbit.repository.event.remote.TargetAssignDistributionSetEvent;
 import org.eclipse.hawkbit.repository.event.remote.TargetAttributesRequestedEvent;
@@ -50,6 +57,7 @@ import org.eclipse.hawkbit.repository.model.TenantMetaData;
 import org.eclipse.hawkbit.repository.test.util.AbstractIntegrationTest;
 import org.eclipse.hawkbit.repository.test.util.TestdataFactory;
 import org.eclipse.hawkbit.util.IpUtil;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
@@ -62,6 +70,9 @@ import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.qameta.allure.Description;
 import io.qameta.allure.Feature;
 import io.qameta.allure.Story;
@@ -113,10 +124,18 @@ class AmqpMessageDispatcherServiceTest extends AbstractIntegrationTest {
 
         amqpMessageDispatcherService = new AmqpMessageDispatcherService(rabbitTemplate, senderService,
                 artifactUrlHandlerMock, systemSecurityContext, systemManagement, targetManagement, serviceMatcher,
-                distributionSetManagement, softwareModuleManagement, deploymentManagement, tenantConfigurationManagement);
+                distributionSetManagement, softwareModuleManagement, deploymentManagement, tenantConfigurationManagement,
+                new ThreadPoolExecutor(2, 2, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>()),
+                new DmfSoftwareModuleCache(100, 60_000));
 
     }
 
+    @AfterEach
+    public void afterEach() {
+        // shuts the dispatch executor down
+        amqpMessageDispatcherService.destroy();
+    }
+
     private Message getCaptureAddressEvent(final TargetAssignDistributionSetEvent targetAssignDistributionSetEvent) {
         final Target target = targetManagement
                 .getByControllerID(targetAssignDistributionSetEvent.getActions().keySet().iterator().next()).get();
@@ -246,6 +265,42 @@ class AmqpMessageDispatcherServiceTest extends AbstractIntegrationTest {
 
     }
 
+    @Test
+    @Description("Verifies that the targets of an event with more than 1000 targets are loaded in partitions on the "
+            + "dispatch executor, with the security context (and with it the tenant) of the event listener, and that "
+            + "the executor metrics count the partitions")
+    void largeCancelEventIsLoadedInPartitionsOnDispatchExecutor() {
+        final List<String> controllerIds = IntStream.range(0, 1001).mapToObj(i -> "partitioned" + i).toList();
+        final List<TargetCreate> targetCreates = controllerIds.stream()
+                .map(controllerId -> entityFactory.target().create().controllerId(controllerId)
+                        .address(AMQP_URI.toString()))
+                .toList();
+        final List<Action> actions = targetManagement.create(targetCreates).stream().map(target -> {
+            final Action action = mock(Action.class);
+            when(action.getId()).thenReturn(target.getId());
+            when(action.getTarget()).thenReturn(target);
+            return action;
+        }).toList();
+        final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        new ExecutorServiceMetrics(amqpMessageDispatcherService.getDispatchExecutor(), "dmf-dispatch",
+                Collections.emptyList()).bindTo(meterRegistry);
+
+        // the targets are only found with the tenant of the security context
+        amqpMessageDispatcherService.targetCancelAssignmentToDistributionSet(
+                new CancelTargetAssignmentEvent(TENANT, actions, serviceMatcher.getBusId()));
+
+        final ArgumentCaptor<Message> messages = ArgumentCaptor.forClass(Message.class);
+        Mockito.verify(senderService, Mockito.times(1001)).sendMessage(messages.capture(), eq(AMQP_URI));
+        assertThat(messages.getAllValues())
+                .extracting(message -> message.getMessageProperties().getHeaders().get(MessageHeaderKey.THING_ID))
+                .containsExactlyInAnyOrderElementsOf(controllerIds);
+        assertThat(amqpMessageDispatcherService.getDispatchExecutor().getTaskCount())
+                .as("two partitions are loaded by the dispatch executor").isEqualTo(2);
+        Awaitility.await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(meterRegistry.get("executor.completed").tag("name", "dmf-dispatch")
+                        .functionCounter().count()).isEqualTo(2));
+    }
+
     @Test
     @Description("Verifies that sending a delete message when receiving a delete event works.")
     void sendDeleteRequest() {
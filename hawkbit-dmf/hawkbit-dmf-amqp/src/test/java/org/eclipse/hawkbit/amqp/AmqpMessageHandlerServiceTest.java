@@ -17,14 +17,18 @@ import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import java.io.IOException;
 import java.lang.reflect.Field;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URL;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -83,7 +87,9 @@ import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConversionException;
 import org.springframework.amqp.support.converter.MessageConverter;
 import org.springframework.http.HttpStatus;
+import org.springframework.util.ErrorHandler;
 
+import com.rabbitmq.client.Channel;
 import io.qameta.allure.Description;
 import io.qameta.allure.Feature;
 import io.qameta.allure.Step;
@@ -695,6 +701,82 @@ public class AmqpMessageHandlerServiceTest {
                 .contains("Device reported status code: 12");
     }
 
+    @Test
+    @Description("Tests that the action status updates of a batch are added at once, acknowledged one by one and the next update is sent once per target")
+    @SuppressWarnings("unchecked")
+    public void batchedActionStatusUpdatesAreAddedAtOnce() throws IllegalAccessException, IOException {
+        final Action action = createActionWithTarget(22L, Status.FINISHED);
+        when(controllerManagementMock.addUpdateActionStatuses(any())).thenReturn(List.of(action, action));
+        when(entityFactoryMock.actionStatus()).thenReturn(new JpaActionStatusBuilder());
+        when(controllerManagementMock.findActiveActionWithHighestWeight(any())).thenReturn(Optional.of(action));
+
+        final Channel channel = mock(Channel.class);
+        amqpMessageHandlerService.onMessageBatch(
+                List.of(createActionStatusBatchMessage(DmfActionStatus.RUNNING, 1),
+                        createActionStatusBatchMessage(DmfActionStatus.FINISHED, 2)),
+                channel, VIRTUAL_HOST);
+
+        final ArgumentCaptor<List<ActionStatusCreate>> createsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(controllerManagementMock, times(1)).addUpdateActionStatuses(createsCaptor.capture());
+        assertThat(createsCaptor.getValue()).as("Action status updates are added in the order of the batch")
+                .extracting(create -> ((JpaActionStatus) create.build()).getStatus())
+                .containsExactly(Status.RUNNING, Status.FINISHED);
+        verify(controllerManagementMock, never()).addUpdateActionStatus(any());
+        verify(amqpMessageDispatcherServiceMock, times(1)).sendUpdateMessageToTarget(any(), any(), any(Map.class));
+        verify(channel).basicAck(1, false);
+        verify(channel).basicAck(2, false);
+        verifyNoMoreInteractions(channel);
+    }
+
+    @Test
+    @Description("Tests that a rejected message of a batch is rejected without requeue, i.e. dead-lettered by the broker, and the other messages are handled and acknowledged")
+    public void rejectedBatchMessageIsDeadLettered() throws IOException {
+        final ErrorHandler errorHandler = mock(ErrorHandler.class);
+        amqpMessageHandlerService.setBatchErrorHandling(errorHandler);
+        final MessageProperties invalidMessageProperties = createMessageProperties(MessageType.THING_REMOVED);
+        invalidMessageProperties.setDeliveryTag(1);
+        final Message invalidMessage = createMessage(new byte[0], invalidMessageProperties);
+        final MessageProperties messageProperties = createMessageProperties(MessageType.THING_REMOVED);
+        messageProperties.setHeader(MessageHeaderKey.THING_ID, "1");
+        messageProperties.setDeliveryTag(2);
+        final Message message = createMessage(new byte[0], messageProperties);
+
+        final Channel channel = mock(Channel.class);
+        amqpMessageHandlerService.onMessageBatch(List.of(invalidMessage, message), channel, VIRTUAL_HOST);
+
+        verify(channel).basicReject(1, false);
+        verify(channel).basicAck(2, false);
+        verifyNoMoreInteractions(channel);
+        verify(controllerManagementMock, times(1)).deleteExistingTarget("1");
+        verify(errorHandler, never()).handleError(any());
+        verify(rabbitTemplate, never()).send(anyString(), anyString(), any(Message.class));
+    }
+
+    @Test
+    @Description("Tests that only the failed message of a batch is requeued if it fails with a non-fatal error and that the error handler decides once per message")
+    public void failedBatchMessageIsRequeued() throws IOException {
+        final ErrorHandler errorHandler = mock(ErrorHandler.class);
+        amqpMessageHandlerService.setBatchErrorHandling(errorHandler);
+        when(entityFactoryMock.actionStatus()).thenReturn(new JpaActionStatusBuilder());
+        when(controllerManagementMock.addUpdateActionStatuses(any())).thenThrow(new IllegalStateException("bulk"));
+        final Action action = mock(Action.class);
+        when(action.getId()).thenReturn(22L);
+        when(action.isActive()).thenReturn(true);
+        when(controllerManagementMock.findActionWithDetails(23L)).thenThrow(new IllegalStateException("single"));
+        when(controllerManagementMock.findActionWithDetails(22L)).thenReturn(Optional.of(action));
+        when(controllerManagementMock.addUpdateActionStatus(any())).thenReturn(action);
+
+        final Channel channel = mock(Channel.class);
+        final Message failing = createActionStatusBatchMessage(DmfActionStatus.RUNNING, 23L, 1);
+        final Message succeeding = createActionStatusBatchMessage(DmfActionStatus.RUNNING, 22L, 2);
+        amqpMessageHandlerService.onMessageBatch(List.of(failing, succeeding), channel, VIRTUAL_HOST);
+
+        verify(channel).basicNack(1, false, true);
+        verify(channel).basicAck(2, false);
+        verifyNoMoreInteractions(channel);
+        verify(errorHandler, times(1)).handleError(any());
+    }
+
     @Test
     @Description("Tests activating auto-confirmation on a target.")
     void setAutoConfirmationStateActive() {
@@ -745,6 +827,18 @@ public class AmqpMessageHandlerServiceTest {
         assertThingIdCapturedField(knownThingId);
     }
 
+    private Message createActionStatusBatchMessage(final DmfActionStatus status, final long deliveryTag) {
+        return createActionStatusBatchMessage(status, 22L, deliveryTag);
+    }
+
+    private Message createActionStatusBatchMessage(final DmfActionStatus status, final long actionId,
+            final long deliveryTag) {
+        final MessageProperties messageProperties = createMessageProperties(MessageType.EVENT);
+        messageProperties.setHeader(MessageHeaderKey.TOPIC, EventTopic.UPDATE_ACTION_STATUS.name());
+        messageProperties.setDeliveryTag(deliveryTag);
+        return createMessage(createActionUpdateStatus(status, actionId), messageProperties);
+    }
+
     private DmfActionUpdateStatus createActionUpdateStatus(final DmfActionStatus status) {
         return createActionUpdateStatus(status, 2L);
     }
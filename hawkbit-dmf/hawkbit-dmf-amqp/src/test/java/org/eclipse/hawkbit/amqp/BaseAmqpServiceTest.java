@@ -13,6 +13,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.Mockito.when;
 
+import org.eclipse.hawkbit.dmf.amqp.api.MessageHeaderKey;
 import org.eclipse.hawkbit.dmf.json.model.DmfActionStatus;
 import org.eclipse.hawkbit.dmf.json.model.DmfActionUpdateStatus;
 import org.eclipse.hawkbit.repository.event.remote.entity.TargetCreatedEvent;
@@ -62,6 +63,48 @@ public class BaseAmqpServiceTest {
         assertThat(convertedActionUpdateStatus).isEqualToComparingFieldByField(actionUpdateStatus);
     }
 
+    @Test
+    @Description("Verify that the message conversion of CBOR encoded messages works")
+    public void convertCborMessageTest() {
+        final DmfActionUpdateStatus actionUpdateStatus = createActionStatus();
+        final DmfMessageConverter messageConverter = new DmfMessageConverter(
+                messageProperties -> DmfMessageConverter.CONTENT_TYPE_CBOR, -1);
+        when(rabbitTemplate.getMessageConverter()).thenReturn(messageConverter);
+
+        final Message message = messageConverter.toMessage(actionUpdateStatus, createJsonProperties());
+        assertThat(message.getMessageProperties().getContentType()).isEqualTo(DmfMessageConverter.CONTENT_TYPE_CBOR);
+        assertThat(message.getBody().length).as("CBOR is more compact than JSON")
+                .isLessThan(new Jackson2JsonMessageConverter().toMessage(actionUpdateStatus, createJsonProperties())
+                        .getBody().length);
+        final DmfActionUpdateStatus convertedActionUpdateStatus = baseAmqpService.convertMessage(message,
+                DmfActionUpdateStatus.class);
+
+        assertThat(convertedActionUpdateStatus).usingRecursiveComparison().isEqualTo(actionUpdateStatus);
+    }
+
+    @Test
+    @Description("Verify that messages are compressed per tenant and are converted back")
+    public void convertCompressedMessageTest() {
+        final DmfActionUpdateStatus actionUpdateStatus = createActionStatus();
+        final DmfMessageConverter messageConverter = new DmfMessageConverter(
+                messageProperties -> "CBOR".equals(messageProperties.getHeader(MessageHeaderKey.TENANT))
+                        ? DmfMessageConverter.CONTENT_TYPE_CBOR
+                        : MessageProperties.CONTENT_TYPE_JSON,
+                0);
+        when(rabbitTemplate.getMessageConverter()).thenReturn(messageConverter);
+
+        for (final String tenant : new String[] { "CBOR", "JSON" }) {
+            final MessageProperties messageProperties = createJsonProperties();
+            messageProperties.setHeader(MessageHeaderKey.TENANT, tenant);
+            final Message message = messageConverter.toMessage(actionUpdateStatus, messageProperties);
+            assertThat(message.getMessageProperties().getContentEncoding()).startsWith("gzip");
+            assertThat(message.getMessageProperties().getContentType()).containsIgnoringCase(tenant);
+
+            assertThat(baseAmqpService.convertMessage(message, DmfActionUpdateStatus.class))
+                    .usingRecursiveComparison().isEqualTo(actionUpdateStatus);
+        }
+    }
+
     @Test
     @Description("Tests invalid null message content")
     @ExpectEvents({ @Expect(type = TargetCreatedEvent.class, count = 0) })
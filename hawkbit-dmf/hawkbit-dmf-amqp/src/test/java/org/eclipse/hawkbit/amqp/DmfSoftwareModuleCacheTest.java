@@ -0,0 +1,144 @@
+/**
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.amqp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.hawkbit.amqp.DmfSoftwareModuleCache.CachedSoftwareModule;
+import org.eclipse.hawkbit.dmf.json.model.DmfSoftwareModule;
+import org.eclipse.hawkbit.repository.event.remote.SoftwareModuleDeletedEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.DistributionSetUpdatedEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.SoftwareModuleUpdatedEvent;
+import org.eclipse.hawkbit.repository.model.DistributionSet;
+import org.eclipse.hawkbit.repository.model.SoftwareModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+
+@Feature("Unit Tests - Device Management Federation API")
+@Story("Software module cache")
+public class DmfSoftwareModuleCacheTest {
+
+    private static final String TENANT = "DEFAULT";
+    private static final long DS_ID = 3L;
+    private static final long MODULE_ID = 5L;
+
+    private final DistributionSet distributionSet = mock(DistributionSet.class);
+    private final SoftwareModule softwareModule = mock(SoftwareModule.class);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private DmfSoftwareModuleCache cache;
+
+    @BeforeEach
+    public void before() {
+        lenient().when(distributionSet.getTenant()).thenReturn(TENANT);
+        lenient().when(distributionSet.getId()).thenReturn(DS_ID);
+        lenient().when(softwareModule.getTenant()).thenReturn(TENANT);
+        lenient().when(softwareModule.getId()).thenReturn(MODULE_ID);
+        cache = new DmfSoftwareModuleCache(100, TimeUnit.MINUTES.toMillis(1));
+    }
+
+    @Test
+    @Description("Verifies that the software modules of a distribution set are loaded once and invalidated by an update of the distribution set.")
+    public void distributionSetIsLoadedOnceUntilUpdated() {
+        cache.getSoftwareModules(distributionSet, this::load);
+        cache.getSoftwareModules(distributionSet, this::load);
+        assertThat(loads).hasValue(1);
+
+        final DistributionSetUpdatedEvent event = mock(DistributionSetUpdatedEvent.class);
+        lenient().when(event.getTenant()).thenReturn("default");
+        lenient().when(event.getEntityId()).thenReturn(DS_ID);
+        cache.invalidateOnDistributionSetUpdate(event);
+
+        cache.getSoftwareModules(distributionSet, this::load);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @Description("Verifies that a change of a software module invalidates the converted module and the distribution sets of the tenant.")
+    public void softwareModuleChangeInvalidatesModuleAndDistributionSets() {
+        cache.getSoftwareModules(distributionSet, this::load);
+        cache.getSoftwareModule(softwareModule, this::convert);
+        cache.getSoftwareModule(softwareModule, this::convert);
+        assertThat(loads).hasValue(2);
+
+        final SoftwareModuleUpdatedEvent event = mock(SoftwareModuleUpdatedEvent.class);
+        lenient().when(event.getTenant()).thenReturn(TENANT);
+        lenient().when(event.getEntityId()).thenReturn(MODULE_ID);
+        cache.invalidateOnSoftwareModuleUpdate(event);
+
+        cache.getSoftwareModules(distributionSet, this::load);
+        cache.getSoftwareModule(softwareModule, this::convert);
+        assertThat(loads).hasValue(4);
+    }
+
+    @Test
+    @Description("Verifies that the result of a conversion that raced with an invalidation is not cached.")
+    public void concurrentlyInvalidatedResultIsNotCached() {
+        cache.getSoftwareModule(softwareModule, module -> {
+            cache.invalidateOnSoftwareModuleDelete(
+                    new SoftwareModuleDeletedEvent(TENANT, MODULE_ID, SoftwareModule.class, "app"));
+            return convert(module);
+        });
+
+        cache.getSoftwareModule(softwareModule, this::convert);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @Description("Verifies that the tenant of an invalidation event is matched independent of the default locale.")
+    public void tenantIsMatchedIndependentOfDefaultLocale() {
+        final Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(Locale.forLanguageTag("tr"));
+        try {
+            lenient().when(softwareModule.getTenant()).thenReturn("tenant_i");
+            cache.getSoftwareModule(softwareModule, this::convert);
+
+            cache.invalidateOnSoftwareModuleDelete(
+                    new SoftwareModuleDeletedEvent("TENANT_I", MODULE_ID, SoftwareModule.class, "app"));
+
+            cache.getSoftwareModule(softwareModule, this::convert);
+            assertThat(loads).hasValue(2);
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    @Description("Verifies that nothing is cached if the cache size is 0.")
+    public void cacheCanBeDisabled() {
+        cache = new DmfSoftwareModuleCache(0, TimeUnit.MINUTES.toMillis(1));
+
+        cache.getSoftwareModule(softwareModule, this::convert);
+        cache.getSoftwareModule(softwareModule, this::convert);
+        assertThat(loads).hasValue(2);
+    }
+
+    private List<CachedSoftwareModule> load(final DistributionSet ds) {
+        loads.incrementAndGet();
+        return List.of(new CachedSoftwareModule(new DmfSoftwareModule(), Collections.emptyList()));
+    }
+
+    private CachedSoftwareModule convert(final SoftwareModule module) {
+        loads.incrementAndGet();
+        return new CachedSoftwareModule(new DmfSoftwareModule(), Collections.emptyList());
+    }
+}
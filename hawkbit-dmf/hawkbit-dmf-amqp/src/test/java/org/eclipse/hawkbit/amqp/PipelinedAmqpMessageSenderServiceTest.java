@@ -0,0 +1,134 @@
+/**
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.amqp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.core.ReturnedMessage;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+
+@ExtendWith(MockitoExtension.class)
+@Feature("Component Tests - Device Management Federation API")
+@Story("Pipelined Amqp Message Sender Service Test")
+public class PipelinedAmqpMessageSenderServiceTest {
+
+    private static final URI SEND_TO = URI.create("amqp://localhost/dmf.exchange");
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    @Mock
+    private ConnectionFactory connectionFactory;
+
+    private final List<CorrelationData> sent = new CopyOnWriteArrayList<>();
+
+    private PipelinedAmqpMessageSenderService senderService;
+
+    @BeforeEach
+    public void setup() {
+        when(rabbitTemplate.getConnectionFactory()).thenReturn(connectionFactory);
+        when(connectionFactory.isPublisherConfirms()).thenReturn(true);
+        doAnswer(invocation -> sent.add(invocation.getArgument(3))).when(rabbitTemplate).send(eq("dmf.exchange"),
+                eq(""), any(Message.class), any(CorrelationData.class));
+        senderService = new PipelinedAmqpMessageSenderService(rabbitTemplate, 2, TimeUnit.MINUTES.toMillis(1), 1);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        senderService.destroy();
+    }
+
+    @Test
+    @Description("Verifies that sending blocks if the maximum number of messages is in flight until a message is confirmed.")
+    public void sendingBlocksUntilMessageIsConfirmed() throws Exception {
+        senderService.sendMessage(message(), SEND_TO);
+        senderService.sendMessage(message(), SEND_TO);
+        assertThat(senderService.getInFlight()).isEqualTo(2);
+
+        final CompletableFuture<Void> blocked = CompletableFuture
+                .runAsync(() -> senderService.sendMessage(message(), SEND_TO));
+        TimeUnit.MILLISECONDS.sleep(200);
+        assertThat(blocked).isNotDone();
+
+        confirm(0, true);
+        blocked.get(10, TimeUnit.SECONDS);
+        assertThat(sent).hasSize(3);
+        assertThat(senderService.getInFlight()).isEqualTo(2);
+        assertThat(senderService.getConfirmed()).isEqualTo(1);
+    }
+
+    @Test
+    @Description("Verifies that a negatively acknowledged message is sent again and counted as failed if the retries are exhausted.")
+    public void nackedMessageIsRetried() {
+        final Message message = message();
+        senderService.sendMessage(message, SEND_TO);
+
+        confirm(0, false);
+        Awaitility.await().atMost(Duration.ofSeconds(10)).until(() -> sent.size() == 2);
+        verify(rabbitTemplate, times(2)).send(eq("dmf.exchange"), eq(""), eq(message), any(CorrelationData.class));
+        assertThat(senderService.getRetried()).isEqualTo(1);
+        assertThat(senderService.getInFlight()).isEqualTo(1);
+
+        confirm(1, false);
+        assertThat(senderService.getFailed()).isEqualTo(1);
+        assertThat(senderService.getInFlight()).isZero();
+    }
+
+    @Test
+    @Description("Verifies that a message returned by the broker is counted as failed and not sent again.")
+    public void returnedMessageIsNotRetried() {
+        final Message message = message();
+        senderService.sendMessage(message, SEND_TO);
+
+        sent.get(0).setReturned(new ReturnedMessage(message, 312, "NO_ROUTE", "dmf.exchange", ""));
+        confirm(0, true);
+
+        assertThat(sent).hasSize(1);
+        assertThat(senderService.getFailed()).isEqualTo(1);
+        assertThat(senderService.getConfirmed()).isZero();
+        assertThat(senderService.getInFlight()).isZero();
+    }
+
+    private void confirm(final int index, final boolean ack) {
+        sent.get(index).getFuture().complete(new CorrelationData.Confirm(ack, ack ? null : "nack"));
+    }
+
+    private static Message message() {
+        return new Message("{}".getBytes(), new MessageProperties());
+    }
+}
@@ -11,6 +11,7 @@ package org.eclipse.hawkbit.security;
 
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.hawkbit.repository.ControllerManagement;
+import org.eclipse.hawkbit.repository.TargetAuthenticationCache;
 import org.eclipse.hawkbit.repository.TenantConfigurationManagement;
 import org.eclipse.hawkbit.tenancy.TenantAware;
 import org.slf4j.Logger;
@@ -32,6 +33,7 @@ import org.slf4j.Logger;
 public class HttpControllerPreAuthenticateSecurityTokenFilter extends AbstractHttpControllerAuthenticationFilter {
 
     private final ControllerManagement controllerManagement;
+    private final TargetAuthenticationCache targetAuthenticationCache;
 
     /**
      * Constructor.
@@ -47,18 +49,22 @@ public class HttpControllerPreAuthenticateSecurityTokenFilter extends AbstractHt
      *            security token to verify
      * @param systemSecurityContext
      *            the system security context
+     * @param targetAuthenticationCache
+     *            the cache of the target security token digests
      */
     public HttpControllerPreAuthenticateSecurityTokenFilter(
             final TenantConfigurationManagement tenantConfigurationManagement, final TenantAware tenantAware,
-            final ControllerManagement controllerManagement, final SystemSecurityContext systemSecurityContext) {
+            final ControllerManagement controllerManagement, final SystemSecurityContext systemSecurityContext,
+            final TargetAuthenticationCache targetAuthenticationCache) {
         super(tenantConfigurationManagement, tenantAware, systemSecurityContext);
         this.controllerManagement = controllerManagement;
+        this.targetAuthenticationCache = targetAuthenticationCache;
     }
 
     @Override
     protected PreAuthenticationFilter createControllerAuthenticationFilter() {
         return new ControllerPreAuthenticateSecurityTokenFilter(tenantConfigurationManagement, controllerManagement,
-                tenantAware, systemSecurityContext);
+                tenantAware, systemSecurityContext, targetAuthenticationCache);
     }
 
     @Override
@@ -9,6 +9,7 @@
  */
 package org.eclipse.hawkbit.repository;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.util.Map;
 import java.util.Set;
@@ -63,10 +64,75 @@ public interface ArtifactEncryption {
      */
     InputStream decryptStream(final Map<String, String> secrets, final InputStream stream);
 
+    /**
+     * Decrypts an encrypted artifact starting at the given offset of the
+     * decrypted content, e.g. to serve a range request of a resumed download.
+     * By default, the artifact is decrypted from its beginning and the content
+     * before the offset is skipped. Encryptions that could decrypt at any
+     * offset should override this, to read the encrypted content from the
+     * needed position only.
+     *
+     * @param secrets
+     *            secrets key/value pairs to be used for decryption
+     * @param encryptedArtifact
+     *            the encrypted artifact
+     * @param offset
+     *            of the first decrypted byte to read
+     * @return decrypted input stream starting at the offset
+     * @throws IOException
+     *             if the encrypted artifact could not be read
+     * @throws ArtifactEncryptionFailedException
+     *             thrown in case of an error while decrypting the artifact
+     */
+    default InputStream decryptStream(final Map<String, String> secrets, final EncryptedArtifact encryptedArtifact,
+            final long offset) throws IOException {
+        final InputStream stream = decryptStream(secrets, encryptedArtifact.open(0));
+        try {
+            stream.skipNBytes(offset);
+        } catch (final IOException | RuntimeException e) {
+            stream.close();
+            throw e;
+        }
+        return stream;
+    }
+
     /**
      * Size of the underlying encryption algorithm overhead in bytes
      * 
      * @return encryption overhead in byte
      */
     int encryptionSizeOverhead();
+
+    /**
+     * Size of a decrypted artifact. By default, the size of the encrypted
+     * artifact minus the {@link #encryptionSizeOverhead()}. Encryptions whose
+     * overhead depends on the size of the artifact have to override this.
+     *
+     * @param encryptedSize
+     *            size of the encrypted artifact in bytes
+     * @return size of the decrypted artifact in bytes
+     */
+    default long decryptedSize(final long encryptedSize) {
+        return encryptedSize - encryptionSizeOverhead();
+    }
+
+    /**
+     * An encrypted artifact which could be read from any position.
+     */
+    @FunctionalInterface
+    interface EncryptedArtifact {
+
+        /**
+         * Opens the encrypted artifact at the given position. Caller has to
+         * take care of closing the stream.
+         *
+         * @param position
+         *            of the first encrypted byte to read
+         * @return input stream of the encrypted artifact starting at the
+         *         position
+         * @throws IOException
+         *             if the position could not be reached
+         */
+        InputStream open(long position) throws IOException;
+    }
 }
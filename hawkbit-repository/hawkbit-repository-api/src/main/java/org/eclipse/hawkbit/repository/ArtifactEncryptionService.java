@@ -9,12 +9,14 @@
  */
 package org.eclipse.hawkbit.repository;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
+import org.eclipse.hawkbit.repository.ArtifactEncryption.EncryptedArtifact;
 import org.eclipse.hawkbit.repository.exception.ArtifactEncryptionUnsupportedException;
 import org.springframework.beans.factory.annotation.Autowired;
 
@@ -117,6 +119,30 @@ public final class ArtifactEncryptionService {
         return artifactEncryption.decryptStream(getSoftwareModuleEncryptionSecrets(smId), encryptedArtifactStream);
     }
 
+    /**
+     * Decrypts an encrypted artifact starting at the given offset of the
+     * decrypted content using the keys retrieved from secrets store by
+     * software module id reference.
+     *
+     * @param smId
+     *            software module id
+     * @param encryptedArtifact
+     *            the encrypted artifact
+     * @param offset
+     *            of the first decrypted byte to read
+     * @return decrypted input stream starting at the offset
+     * @throws IOException
+     *             if the encrypted artifact could not be read
+     */
+    public InputStream decryptSoftwareModuleArtifact(final long smId, final EncryptedArtifact encryptedArtifact,
+            final long offset) throws IOException {
+        if (!isEncryptionSupported()) {
+            throw new ArtifactEncryptionUnsupportedException("Artifact decryption is not supported.");
+        }
+
+        return artifactEncryption.decryptStream(getSoftwareModuleEncryptionSecrets(smId), encryptedArtifact, offset);
+    }
+
     /**
      * Size of the underlying encryption algorithm overhead in bytes
      *
@@ -125,4 +151,15 @@ public final class ArtifactEncryptionService {
     public int encryptionSizeOverhead() {
         return artifactEncryption.encryptionSizeOverhead();
     }
+
+    /**
+     * Size of a decrypted artifact.
+     *
+     * @param encryptedSize
+     *            size of the encrypted artifact in bytes
+     * @return size of the decrypted artifact in bytes
+     */
+    public long decryptedSize(final long encryptedSize) {
+        return artifactEncryption.decryptedSize(encryptedSize);
+    }
 }
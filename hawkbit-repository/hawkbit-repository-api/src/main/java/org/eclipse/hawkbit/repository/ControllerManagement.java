@@ -38,6 +38,8 @@ import org.eclipse.hawkbit.repository.model.TargetUpdateStatus;
 import org.eclipse.hawkbit.tenancy.configuration.TenantConfigurationProperties.TenantConfigurationKey;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort.Direction;
 import org.springframework.security.access.prepost.PreAuthorize;
 
 /**
@@ -137,6 +139,32 @@ public interface ControllerManagement {
     @PreAuthorize(SpringEvalExpressions.IS_CONTROLLER)
     Action addUpdateActionStatus(@NotNull @Valid ActionStatusCreate create);
 
+    /**
+     * Adds {@link ActionStatus} entries for update {@link Action}s including
+     * potential state changes for the targets and the {@link Action}s
+     * themselves in one transaction, e.g. for status updates which are
+     * received in a batch. The entries are applied in the given order, as if
+     * {@link #addUpdateActionStatus(ActionStatusCreate)} would have been
+     * called for each of them.
+     *
+     * @param creates
+     *            to be added
+     * @return the updated {@link Action} for each entry in the given order
+     *
+     * @throws EntityAlreadyExistsException
+     *             if a given entity already exists
+     * @throws AssignmentQuotaExceededException
+     *             if more than the allowed number of status entries or messages
+     *             per entry are inserted
+     * @throws EntityNotFoundException
+     *             if one of the actions does not exist
+     * @throws ConstraintViolationException
+     *             if fields are not filled as specified. Check
+     *             {@link ActionStatusCreate} for field constraints.
+     */
+    @PreAuthorize(SpringEvalExpressions.IS_CONTROLLER)
+    List<Action> addUpdateActionStatuses(@NotNull @Valid List<ActionStatusCreate> creates);
+
     /**
      * Retrieves active {@link Action} with highest priority that is assigned to
      * a {@link Target}.
@@ -204,6 +232,30 @@ public interface ControllerManagement {
     @PreAuthorize(SpringEvalExpressions.IS_CONTROLLER)
     Page<ActionStatus> findActionStatusByAction(@NotNull Pageable pageReq, long actionId);
 
+    /**
+     * Retrieves the {@link ActionStatus} entries of the given {@link Action}
+     * following the given ID in the given order of the IDs (keyset
+     * pagination).
+     *
+     * @param actionId
+     *            to be filtered on
+     * @param afterId
+     *            ID of the last status of the previous page or
+     *            <code>null</code> for the first page
+     * @param direction
+     *            order of the IDs
+     * @param limit
+     *            maximum number of entries to retrieve
+     * @return the found {@link ActionStatus} entries, a slice with less than
+     *         <code>limit</code> entries is the last one
+     *
+     * @throws EntityNotFoundException
+     *             if action with given ID does not exist
+     */
+    @PreAuthorize(SpringEvalExpressions.IS_CONTROLLER)
+    Slice<ActionStatus> findActionStatusByActionAfterId(long actionId, Long afterId, @NotNull Direction direction,
+            int limit);
+
     /**
      * Register new target in the repository (plug-and-play) and in case it
      * already exists updates {@link Target#getAddress()} and
@@ -43,6 +43,7 @@ import org.eclipse.hawkbit.repository.model.TargetUpdateStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort.Direction;
 import org.springframework.security.access.prepost.PreAuthorize;
 
 /**
@@ -276,6 +277,28 @@ public interface DeploymentManagement {
     @PreAuthorize(SpringEvalExpressions.HAS_AUTH_READ_TARGET)
     Slice<Action> findActions(@NotNull String rsqlParam, @NotNull Pageable pageable);
 
+    /**
+     * Retrieves the {@link Action}s following the given ID in the given order
+     * of the IDs (keyset pagination). In contrast to offset based paging the
+     * costs of a page do not grow with the number of preceding actions.
+     * <p/>
+     * No access control applied.
+     *
+     * @param rsqlParam
+     *            RSQL query string or <code>null</code> for all actions
+     * @param afterId
+     *            ID of the last action of the previous page or
+     *            <code>null</code> for the first page
+     * @param direction
+     *            order of the IDs
+     * @param limit
+     *            maximum number of actions to retrieve
+     * @return the found {@link Action}s, a slice with less than
+     *         <code>limit</code> actions is the last one
+     */
+    @PreAuthorize(SpringEvalExpressions.HAS_AUTH_READ_TARGET)
+    Slice<Action> findActionsAfterId(String rsqlParam, Long afterId, @NotNull Direction direction, int limit);
+
     /**
      * Retrieves all {@link Action}s assigned to a specific {@link Target} and a
      * given specification.
@@ -313,6 +336,35 @@ public interface DeploymentManagement {
     @PreAuthorize(SpringEvalExpressions.HAS_AUTH_READ_TARGET)
     Slice<Action> findActionsByTarget(@NotEmpty String controllerId, @NotNull Pageable pageable);
 
+    /**
+     * Retrieves the {@link Action}s of the given {@link Target} following the
+     * given ID in the given order of the IDs (keyset pagination).
+     *
+     * @param rsqlParam
+     *            RSQL query string or <code>null</code> for all actions of the
+     *            target
+     * @param controllerId
+     *            the target to find actions for
+     * @param afterId
+     *            ID of the last action of the previous page or
+     *            <code>null</code> for the first page
+     * @param direction
+     *            order of the IDs
+     * @param limit
+     *            maximum number of actions to retrieve
+     * @return the found {@link Action}s, a slice with less than
+     *         <code>limit</code> actions is the last one
+     *
+     * @throws RSQLParameterUnsupportedFieldException
+     *             if a field in the RSQL string is used but not provided by the
+     *             given {@code fieldNameProvider}
+     * @throws RSQLParameterSyntaxException
+     *             if the RSQL syntax is wrong
+     */
+    @PreAuthorize(SpringEvalExpressions.HAS_AUTH_READ_TARGET)
+    Slice<Action> findActionsByTargetAfterId(String rsqlParam, @NotEmpty String controllerId, Long afterId,
+            @NotNull Direction direction, int limit);
+
     /**
      * Retrieves all the {@link ActionStatus} entries of the given
      * {@link Action}.
@@ -329,6 +381,30 @@ public interface DeploymentManagement {
     @PreAuthorize(SpringEvalExpressions.HAS_AUTH_READ_TARGET)
     Page<ActionStatus> findActionStatusByAction(@NotNull Pageable pageReq, long actionId);
 
+    /**
+     * Retrieves the {@link ActionStatus} entries of the given {@link Action}
+     * following the given ID in the given order of the IDs (keyset
+     * pagination).
+     *
+     * @param actionId
+     *            to be filtered on
+     * @param afterId
+     *            ID of the last status of the previous page or
+     *            <code>null</code> for the first page
+     * @param direction
+     *            order of the IDs
+     * @param limit
+     *            maximum number of entries to retrieve
+     * @return the found {@link ActionStatus} entries, a slice with less than
+     *         <code>limit</code> entries is the last one
+     *
+     * @throws EntityNotFoundException
+     *             if action with given ID does not exist
+     */
+    @PreAuthorize(SpringEvalExpressions.HAS_AUTH_READ_TARGET)
+    Slice<ActionStatus> findActionStatusByActionAfterId(long actionId, Long afterId, @NotNull Direction direction,
+            int limit);
+
     /**
      * Counts all the {@link ActionStatus} entries of the given {@link Action}.
      *
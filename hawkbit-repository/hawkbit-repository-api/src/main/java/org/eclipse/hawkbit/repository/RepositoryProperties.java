@@ -43,10 +43,18 @@ public class RepositoryProperties {
     private boolean publishTargetPollEvent = true;
 
     /**
-     * Maximum number of poll operations queued before flush.
+     * Maximum number of targets with a queued poll operation. Repeated polls
+     * of a target are coalesced until the queue is flushed. Polls of further
+     * targets are persisted immediately.
      */
     private int pollPersistenceQueueSize = 10_000;
 
+    /**
+     * Maximum number of targets whose poll time is persisted by one statement
+     * when the queue is flushed.
+     */
+    private int pollPersistenceBatchSize = 999;
+
     /**
      * Maximum time before queue is flushed in {@link TimeUnit#MILLISECONDS}.
      */
@@ -57,11 +65,70 @@ public class RepositoryProperties {
      */
     private boolean eagerPollPersistence;
 
+    /**
+     * Maximum number of targets per tenant whose active and installed action
+     * are kept in the near cache that serves the polls of the targets.
+     * <code>0</code> disables the cache.
+     */
+    private long actionCacheSize = 100_000;
+
+    /**
+     * Maximum time an action is kept in the near cache in
+     * {@link TimeUnit#MILLISECONDS}. The entries are invalidated by the events
+     * of the target, this limits the time a target might see an outdated
+     * action if an event is lost.
+     */
+    private long actionCacheTtl = TimeUnit.MINUTES.toMillis(5);
+
+    /**
+     * Maximum number of targets per tenant whose ID and security token digest
+     * are kept in the cache that serves the target token authentication.
+     * <code>0</code> disables the cache.
+     */
+    private long authenticationCacheSize = 100_000;
+
+    /**
+     * Maximum time an authentication is kept in the cache in
+     * {@link TimeUnit#MILLISECONDS}. The entries are invalidated by the events
+     * of the target, this limits the time a replaced security token might
+     * still be accepted if an event is lost.
+     */
+    private long authenticationCacheTtl = TimeUnit.MINUTES.toMillis(1);
+
     /**
      * If an {@link org.eclipse.hawkbit.repository.model.Action} has a weight of null this value is used as weight.
      */
     private int actionWeightIfAbsent = 1000;
 
+    /**
+     * Set to <code>true</code> to create the scheduled actions of static
+     * rollout groups by set-based statements instead of entity by entity. The
+     * single actions publish no created event then, but one event is published
+     * per created chunk of actions of a group.
+     */
+    private boolean rolloutBulkActionCreation;
+
+    /**
+     * Set to <code>true</code> to assign the targets of new rollouts to their
+     * groups by evaluating the target filter once into a staging table and
+     * assigning the staged targets by the group percentages with set-based
+     * statements. Applies to rollouts whose groups have no own target filter.
+     */
+    private boolean rolloutSetBasedGroupAssignment;
+
+    /**
+     * Minimal number of targets updated or actions created or updated within
+     * one transaction from which on one batch event (e.g. with the IDs of the
+     * updated targets) is published instead of one event per entity. Set to
+     * <code>0</code> to publish one event per entity in any case.
+     */
+    private int entityEventBatchThreshold;
+
+    /**
+     * Maximum number of entities per batch event, larger batches are split.
+     */
+    private int entityEventBatchMaxSize = 10_000;
+
     /**
      * Defines a timeout for the lock during invalidation of distribution sets
      * (in seconds).
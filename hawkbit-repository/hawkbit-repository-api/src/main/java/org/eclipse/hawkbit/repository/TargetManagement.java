@@ -43,6 +43,7 @@ import org.eclipse.hawkbit.repository.model.TargetUpdateStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort.Direction;
 import org.springframework.security.access.prepost.PreAuthorize;
 
 /**
@@ -322,6 +323,27 @@ public interface TargetManagement {
             @NotEmpty Collection<Long> groups, @NotNull String targetFilterQuery,
             @NotNull DistributionSetType distributionSetType);
 
+    /**
+     * Finds the IDs of the targets for the given {@link TargetFilterQuery} that
+     * are compatible with the passed {@link DistributionSetType}, ordered by
+     * ID. Only the IDs greater than the given one are returned, so all targets
+     * are retrieved by passing the last ID of the previous result.
+     *
+     * @param afterTargetId
+     *            the returned IDs are greater than this one
+     * @param limit
+     *            maximum number of returned IDs
+     * @param targetFilterQuery
+     *            filter definition in RSQL syntax
+     * @param distributionSetType
+     *            type of the {@link DistributionSet} the targets must be compatible
+     *            with
+     * @return the found {@link Target} IDs in ascending order
+     */
+    @PreAuthorize(SpringEvalExpressions.HAS_AUTH_UPDATE_TARGET)
+    List<Long> findIdsByTargetFilterQueryAndCompatibleAndUpdatable(long afterTargetId, int limit,
+            @NotNull String targetFilterQuery, @NotNull DistributionSetType distributionSetType);
+
     @PreAuthorize(SpringEvalExpressions.HAS_AUTH_UPDATE_TARGET)
     Slice<Target> findByNotInGEGroupAndNotInActiveActionGEWeightOrInRolloutAndTargetFilterQueryAndCompatibleAndUpdatable(
             @NotNull Pageable pageRequest, final long rolloutId, final int weight, final long firstGroupId, @NotNull String targetFilterQuery,
@@ -558,6 +580,62 @@ public interface TargetManagement {
     @PreAuthorize(SpringEvalExpressions.HAS_AUTH_READ_TARGET)
     Slice<Target> findByRsql(@NotNull Pageable pageable, @NotNull String rsqlParam);
 
+    /**
+     * Retrieves the targets with an ID greater than the given one, ordered by
+     * ID (keyset pagination). In contrast to offset based paging the costs of
+     * a page do not grow with the number of preceding targets, so all targets
+     * can be walked through page by page. The type and the auto confirmation
+     * status of the targets are read along with them.
+     *
+     * @param afterId
+     *            ID of the last target of the previous page or
+     *            <code>null</code> for the first page
+     * @param limit
+     *            maximum number of targets to retrieve
+     * @param rsqlParam
+     *            filter in RSQL notation or <code>null</code> for all targets
+     *
+     * @return the found {@link Target}s, a page with less than
+     *         <code>limit</code> targets is the last one
+     *
+     * @throws RSQLParameterUnsupportedFieldException
+     *             if a field in the RSQL string is used but not provided by the
+     *             given {@code fieldNameProvider}
+     * @throws RSQLParameterSyntaxException
+     *             if the RSQL syntax is wrong
+     */
+    @PreAuthorize(SpringEvalExpressions.HAS_AUTH_READ_TARGET)
+    Slice<Target> findByRsqlAfterId(Long afterId, int limit, String rsqlParam);
+
+    /**
+     * Retrieves the targets following the given controller ID in the given
+     * order of the controller IDs (keyset pagination). In contrast to offset
+     * based paging the costs of a page do not grow with the number of
+     * preceding targets.
+     *
+     * @param afterControllerId
+     *            controller ID of the last target of the previous page or
+     *            <code>null</code> for the first page
+     * @param direction
+     *            order of the controller IDs
+     * @param limit
+     *            maximum number of targets to retrieve
+     * @param rsqlParam
+     *            filter in RSQL notation or <code>null</code> for all targets
+     *
+     * @return the found {@link Target}s, a page with less than
+     *         <code>limit</code> targets is the last one
+     *
+     * @throws RSQLParameterUnsupportedFieldException
+     *             if a field in the RSQL string is used but not provided by the
+     *             given {@code fieldNameProvider}
+     * @throws RSQLParameterSyntaxException
+     *             if the RSQL syntax is wrong
+     */
+    @PreAuthorize(SpringEvalExpressions.HAS_AUTH_READ_TARGET)
+    Slice<Target> findByRsqlAfterControllerId(String afterControllerId, @NotNull Direction direction, int limit,
+            String rsqlParam);
+
     /**
      * Retrieves all target based on {@link TargetFilterQuery}.
      * 
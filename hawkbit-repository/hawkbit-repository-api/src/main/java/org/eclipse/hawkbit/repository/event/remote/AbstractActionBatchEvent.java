@@ -0,0 +1,66 @@
+/**
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.event.remote;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.eclipse.hawkbit.repository.event.remote.entity.AbstractActionEvent;
+
+/**
+ * Batch of {@link AbstractActionEvent}s. Besides the action IDs it holds the
+ * distinct IDs of the targets and of the rollout groups of the actions, the
+ * latter with the IDs of their rollouts at the same index.
+ */
+@Data
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+public abstract class AbstractActionBatchEvent extends RemoteEntityBatchEvent {
+
+    private static final long serialVersionUID = 1L;
+
+    private final List<Long> targetIds = new ArrayList<>();
+    private final List<Long> rolloutGroupIds = new ArrayList<>();
+    private final List<Long> rolloutIds = new ArrayList<>();
+
+    /**
+     * Default constructor.
+     */
+    protected AbstractActionBatchEvent() {
+        // for serialization libs like jackson
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param tenant
+     *            tenant the event is scoped to
+     * @param applicationId
+     *            the origin application id
+     * @param actionIds
+     *            IDs of the actions
+     * @param targetIds
+     *            distinct IDs of the targets of the actions
+     * @param rolloutGroupIds
+     *            distinct IDs of the rollout groups of the actions
+     * @param rolloutIds
+     *            IDs of the rollouts of the rollout groups, in the same order
+     */
+    protected AbstractActionBatchEvent(final String tenant, final String applicationId, final List<Long> actionIds,
+            final List<Long> targetIds, final List<Long> rolloutGroupIds, final List<Long> rolloutIds) {
+        super(tenant, applicationId, actionIds);
+        this.targetIds.addAll(targetIds);
+        this.rolloutGroupIds.addAll(rolloutGroupIds);
+        this.rolloutIds.addAll(rolloutIds);
+    }
+}
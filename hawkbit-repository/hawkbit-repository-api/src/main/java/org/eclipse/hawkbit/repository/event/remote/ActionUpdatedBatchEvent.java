@@ -0,0 +1,51 @@
+/**
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.event.remote;
+
+import java.util.List;
+
+import org.eclipse.hawkbit.repository.event.remote.entity.ActionUpdatedEvent;
+
+/**
+ * Batch of {@link ActionUpdatedEvent}s of the actions updated within one
+ * transaction.
+ */
+public class ActionUpdatedBatchEvent extends AbstractActionBatchEvent {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Default constructor.
+     */
+    public ActionUpdatedBatchEvent() {
+        // for serialization libs like jackson
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param tenant
+     *            tenant the event is scoped to
+     * @param applicationId
+     *            the origin application id
+     * @param actionIds
+     *            IDs of the updated actions
+     * @param targetIds
+     *            distinct IDs of the targets of the actions
+     * @param rolloutGroupIds
+     *            distinct IDs of the rollout groups of the actions
+     * @param rolloutIds
+     *            IDs of the rollouts of the rollout groups, in the same order
+     */
+    public ActionUpdatedBatchEvent(final String tenant, final String applicationId, final List<Long> actionIds,
+            final List<Long> targetIds, final List<Long> rolloutGroupIds, final List<Long> rolloutIds) {
+        super(tenant, applicationId, actionIds, targetIds, rolloutGroupIds, rolloutIds);
+    }
+}
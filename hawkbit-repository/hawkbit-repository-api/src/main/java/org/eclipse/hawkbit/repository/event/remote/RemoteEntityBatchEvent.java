@@ -0,0 +1,55 @@
+/**
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.event.remote;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * A distributed event for many entities of the same type changed the same way
+ * within one transaction, e.g. the targets updated by a bulk assignment. It
+ * replaces the single entity events of the entities and holds their IDs only,
+ * listeners that need the entities have to load them.
+ */
+@Data
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+public abstract class RemoteEntityBatchEvent extends RemoteTenantAwareEvent {
+
+    private static final long serialVersionUID = 1L;
+
+    private final List<Long> entityIds = new ArrayList<>();
+
+    /**
+     * Default constructor.
+     */
+    protected RemoteEntityBatchEvent() {
+        // for serialization libs like jackson
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param tenant
+     *            tenant the event is scoped to
+     * @param applicationId
+     *            the origin application id
+     * @param entityIds
+     *            IDs of the changed entities
+     */
+    protected RemoteEntityBatchEvent(final String tenant, final String applicationId, final List<Long> entityIds) {
+        super(applicationId, tenant, applicationId);
+        this.entityIds.addAll(entityIds);
+    }
+}
@@ -0,0 +1,57 @@
+/**
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.event.remote;
+
+import lombok.Data;
+import org.eclipse.hawkbit.repository.event.remote.entity.ActionCreatedEvent;
+
+/**
+ * Event that is published when the scheduled actions of a rollout group have
+ * been created in bulk. Replaces the {@link ActionCreatedEvent}s of the single
+ * actions, which are not published in that case.
+ */
+@Data
+public class RolloutGroupActionsCreatedEvent extends RemoteTenantAwareEvent {
+
+    private static final long serialVersionUID = 1L;
+
+    private long rolloutId;
+    private long rolloutGroupId;
+    private int actionCount;
+
+    /**
+     * Default constructor.
+     */
+    public RolloutGroupActionsCreatedEvent() {
+        // for serialization libs like jackson
+    }
+
+    /**
+     * Constructor for json serialization.
+     *
+     * @param tenant
+     *            the tenant
+     * @param applicationId
+     *            the origin application id
+     * @param rolloutId
+     *            the rollout of the group
+     * @param rolloutGroupId
+     *            the group the actions have been created for
+     * @param actionCount
+     *            number of created actions
+     */
+    public RolloutGroupActionsCreatedEvent(final String tenant, final String applicationId, final long rolloutId,
+            final long rolloutGroupId, final int actionCount) {
+        super(rolloutGroupId, tenant, applicationId);
+        this.rolloutId = rolloutId;
+        this.rolloutGroupId = rolloutGroupId;
+        this.actionCount = actionCount;
+    }
+}
@@ -0,0 +1,44 @@
+/**
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.event.remote;
+
+import java.util.List;
+
+import org.eclipse.hawkbit.repository.event.remote.entity.TargetUpdatedEvent;
+
+/**
+ * Batch of {@link TargetUpdatedEvent}s of the targets updated within one
+ * transaction.
+ */
+public class TargetUpdatedBatchEvent extends RemoteEntityBatchEvent {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Default constructor.
+     */
+    public TargetUpdatedBatchEvent() {
+        // for serialization libs like jackson
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param tenant
+     *            tenant the event is scoped to
+     * @param applicationId
+     *            the origin application id
+     * @param targetIds
+     *            IDs of the updated targets
+     */
+    public TargetUpdatedBatchEvent(final String tenant, final String applicationId, final List<Long> targetIds) {
+        super(tenant, applicationId, targetIds);
+    }
+}
@@ -19,7 +19,9 @@ import jakarta.validation.constraints.NotNull;
 
 import org.eclipse.hawkbit.cache.TenancyCacheManager;
 import org.eclipse.hawkbit.cache.TenantAwareCacheManager;
+import org.eclipse.hawkbit.repository.event.remote.AbstractActionBatchEvent;
 import org.eclipse.hawkbit.repository.event.remote.RolloutDeletedEvent;
+import org.eclipse.hawkbit.repository.event.remote.RolloutGroupActionsCreatedEvent;
 import org.eclipse.hawkbit.repository.event.remote.RolloutGroupDeletedEvent;
 import org.eclipse.hawkbit.repository.event.remote.RolloutStoppedEvent;
 import org.eclipse.hawkbit.repository.event.remote.entity.AbstractActionEvent;
@@ -207,6 +209,27 @@ public class RolloutStatusCache {
         }
     }
 
+    @EventListener(classes = AbstractActionBatchEvent.class)
+    public void invalidateCachedTotalTargetCountActionStatus(final AbstractActionBatchEvent event) {
+        final Cache cache = tenantAware.runAsTenant(event.getTenant(), () -> cacheManager.getCache(CACHE_RO_NAME));
+        event.getRolloutIds().stream().distinct().forEach(cache::evict);
+
+        final Cache groupCache = tenantAware.runAsTenant(event.getTenant(),
+                () -> cacheManager.getCache(CACHE_GR_NAME));
+        event.getRolloutGroupIds().forEach(groupCache::evict);
+    }
+
+    @EventListener(classes = RolloutGroupActionsCreatedEvent.class)
+    public void invalidateCachedTotalTargetCountOnRolloutGroupActionsCreated(
+            final RolloutGroupActionsCreatedEvent event) {
+        final Cache cache = tenantAware.runAsTenant(event.getTenant(), () -> cacheManager.getCache(CACHE_RO_NAME));
+        cache.evict(event.getRolloutId());
+
+        final Cache groupCache = tenantAware.runAsTenant(event.getTenant(),
+                () -> cacheManager.getCache(CACHE_GR_NAME));
+        groupCache.evict(event.getRolloutGroupId());
+    }
+
     @EventListener(classes = RolloutDeletedEvent.class)
     public void invalidateCachedTotalTargetCountOnRolloutDelete(final RolloutDeletedEvent event) {
         final Cache cache = tenantAware.runAsTenant(event.getTenant(), () -> cacheManager.getCache(CACHE_RO_NAME));
@@ -0,0 +1,318 @@
+/**
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import javax.crypto.Cipher;
+import javax.crypto.KeyGenerator;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.eclipse.hawkbit.repository.exception.ArtifactEncryptionFailedException;
+import org.eclipse.hawkbit.repository.exception.ArtifactEncryptionFailedException.EncryptionOperation;
+
+/**
+ * {@link ArtifactEncryption} which encrypts artifacts in authenticated
+ * segments, so that they could be decrypted starting at any offset, e.g. to
+ * serve the range request of a resumed download, without decrypting the
+ * content before it.
+ * <p/>
+ * The encrypted artifact consists of a header and the segments:
+ * <ul>
+ * <li>header ({@value #HEADER_SIZE} bytes): magic number, segment size and a
+ * random nonce prefix of the artifact</li>
+ * <li>segments: each {@value #SEGMENT_SIZE} bytes of the artifact encrypted
+ * with AES-256-GCM and followed by its {@value #TAG_SIZE} bytes tag, the last
+ * segment might be shorter</li>
+ * </ul>
+ * As all segments but the last have the same size, the position of the
+ * segment holding an offset is computed without an index. The nonce of a
+ * segment is the nonce prefix followed by the index of the segment, the
+ * header and whether the segment is the last one are authenticated as
+ * additional data. So segments could neither be reordered, exchanged between
+ * artifacts nor the artifact be truncated at a segment boundary undetected.
+ */
+public class SegmentedArtifactEncryption implements ArtifactEncryption {
+
+    /**
+     * Name of the secret holding the Base64 encoded AES key.
+     */
+    public static final String KEY_SECRET = "aes.gcm.segmented.key";
+
+    static final int SEGMENT_SIZE = 64 * 1024;
+    static final int TAG_SIZE = 16;
+    static final int HEADER_SIZE = 16;
+
+    private static final int MAGIC = 0x48425347; // "HBSG"
+    private static final int NONCE_PREFIX_SIZE = 8;
+    private static final int KEY_SIZE = 256;
+    private static final String ALGORITHM = "AES";
+    private static final String TRANSFORMATION = "AES/GCM/NoPadding";
+    private static final int ENCRYPTED_SEGMENT_SIZE = SEGMENT_SIZE + TAG_SIZE;
+
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    @Override
+    public Set<String> requiredSecretKeys() {
+        return Set.of(KEY_SECRET);
+    }
+
+    @Override
+    public Map<String, String> generateSecrets() {
+        try {
+            final KeyGenerator keyGenerator = KeyGenerator.getInstance(ALGORITHM);
+            keyGenerator.init(KEY_SIZE, secureRandom);
+            // mutable, the caller clears the secrets after use
+            final Map<String, String> secrets = new HashMap<>();
+            secrets.put(KEY_SECRET, Base64.getEncoder().encodeToString(keyGenerator.generateKey().getEncoded()));
+            return secrets;
+        } catch (final GeneralSecurityException e) {
+            throw new ArtifactEncryptionFailedException(EncryptionOperation.GENERATE_SECRETS, e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public InputStream encryptStream(final Map<String, String> secrets, final InputStream stream) {
+        final byte[] noncePrefix = new byte[NONCE_PREFIX_SIZE];
+        secureRandom.nextBytes(noncePrefix);
+        return new EncryptingInputStream(key(secrets, EncryptionOperation.ENCRYPT), header(noncePrefix), stream);
+    }
+
+    @Override
+    public InputStream decryptStream(final Map<String, String> secrets, final InputStream stream) {
+        try {
+            return new DecryptingInputStream(key(secrets, EncryptionOperation.DECRYPT), stream.readNBytes(HEADER_SIZE),
+                    stream, 0, 0);
+        } catch (final IOException e) {
+            throw new ArtifactEncryptionFailedException(EncryptionOperation.DECRYPT, e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public InputStream decryptStream(final Map<String, String> secrets, final EncryptedArtifact encryptedArtifact,
+            final long offset) throws IOException {
+        final byte[] header;
+        try (final InputStream headerStream = encryptedArtifact.open(0)) {
+            header = headerStream.readNBytes(HEADER_SIZE);
+        }
+        final long segment = offset / SEGMENT_SIZE;
+        return new DecryptingInputStream(key(secrets, EncryptionOperation.DECRYPT), header,
+                encryptedArtifact.open(HEADER_SIZE + segment * ENCRYPTED_SEGMENT_SIZE), segment,
+                (int) (offset % SEGMENT_SIZE));
+    }
+
+    /**
+     * @return the minimum overhead, i.e. the one of an artifact of one
+     *         segment, see {@link #decryptedSize(long)}
+     */
+    @Override
+    public int encryptionSizeOverhead() {
+        return HEADER_SIZE + TAG_SIZE;
+    }
+
+    @Override
+    public long decryptedSize(final long encryptedSize) {
+        final long segmentsSize = encryptedSize - HEADER_SIZE;
+        final long lastSegmentSize = segmentsSize % ENCRYPTED_SEGMENT_SIZE;
+        final long fullSegments = segmentsSize / ENCRYPTED_SEGMENT_SIZE;
+        return lastSegmentSize == 0 ? fullSegments * SEGMENT_SIZE
+                : fullSegments * SEGMENT_SIZE + lastSegmentSize - TAG_SIZE;
+    }
+
+    private static SecretKey key(final Map<String, String> secrets, final EncryptionOperation operation) {
+        final String key = secrets.get(KEY_SECRET);
+        if (key == null) {
+            throw new ArtifactEncryptionFailedException(operation, "Secret " + KEY_SECRET + " is missing");
+        }
+        return new SecretKeySpec(Base64.getDecoder().decode(key), ALGORITHM);
+    }
+
+    private static byte[] header(final byte[] noncePrefix) {
+        return ByteBuffer.allocate(HEADER_SIZE).putInt(MAGIC).putInt(SEGMENT_SIZE).put(noncePrefix).array();
+    }
+
+    private static byte[] cryptSegment(final int mode, final SecretKey key, final byte[] header, final long segment,
+            final boolean last, final byte[] input, final int length) throws GeneralSecurityException {
+        if (segment > 0xFFFFFFFFL) {
+            throw new GeneralSecurityException("Artifact has too many segments");
+        }
+        final byte[] nonce = ByteBuffer.allocate(NONCE_PREFIX_SIZE + Integer.BYTES)
+                .put(header, HEADER_SIZE - NONCE_PREFIX_SIZE, NONCE_PREFIX_SIZE).putInt((int) segment).array();
+        final Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+        cipher.init(mode, key, new GCMParameterSpec(TAG_SIZE * 8, nonce));
+        cipher.updateAAD(header);
+        cipher.updateAAD(new byte[] { (byte) (last ? 1 : 0) });
+        return cipher.doFinal(input, 0, length);
+    }
+
+    /**
+     * Base of the streams which process the artifact segment by segment.
+     */
+    private abstract static class SegmentInputStream extends InputStream {
+
+        protected final SecretKey key;
+        protected final byte[] header;
+        protected final InputStream in;
+
+        private byte[] buffer = new byte[0];
+        private int position;
+        private boolean end;
+
+        SegmentInputStream(final SecretKey key, final byte[] header, final InputStream in) {
+            this.key = key;
+            this.header = header;
+            this.in = in;
+        }
+
+        /**
+         * @return the next processed segment, <code>null</code> at the end of
+         *         the artifact
+         */
+        protected abstract byte[] nextSegment() throws IOException;
+
+        protected void setPosition(final int position) {
+            this.position = position;
+        }
+
+        @Override
+        public int read() throws IOException {
+            final byte[] single = new byte[1];
+            return read(single, 0, 1) < 0 ? -1 : single[0] & 0xFF;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            while (position >= buffer.length) {
+                if (end) {
+                    return -1;
+                }
+                // might be moved by the segment, e.g. to the offset to start at
+                position = 0;
+                final byte[] next = nextSegment();
+                if (next == null) {
+                    end = true;
+                    return -1;
+                }
+                buffer = next;
+            }
+            final int read = Math.min(len, buffer.length - position);
+            System.arraycopy(buffer, position, b, off, read);
+            position += read;
+            return read;
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+
+    private static final class EncryptingInputStream extends SegmentInputStream {
+
+        private byte[] next;
+        private long segment = -1;
+
+        EncryptingInputStream(final SecretKey key, final byte[] header, final InputStream in) {
+            super(key, header, in);
+        }
+
+        @Override
+        protected byte[] nextSegment() throws IOException {
+            if (segment < 0) {
+                segment = 0;
+                next = in.readNBytes(SEGMENT_SIZE);
+                return header;
+            }
+            if (next == null) {
+                return null;
+            }
+            final byte[] current = next;
+            // the last segment is the first one not followed by content, an
+            // empty artifact is encrypted to one empty segment
+            next = current.length < SEGMENT_SIZE ? null : in.readNBytes(SEGMENT_SIZE);
+            final boolean last = next == null || next.length == 0;
+            if (last) {
+                next = null;
+            }
+            try {
+                return cryptSegment(Cipher.ENCRYPT_MODE, key, header, segment++, last, current, current.length);
+            } catch (final GeneralSecurityException e) {
+                throw new ArtifactEncryptionFailedException(EncryptionOperation.ENCRYPT, e.getMessage(), e);
+            }
+        }
+    }
+
+    private static final class DecryptingInputStream extends SegmentInputStream {
+
+        private byte[] next;
+        private long segment;
+        private final int skip;
+        private boolean first = true;
+
+        DecryptingInputStream(final SecretKey key, final byte[] header, final InputStream in, final long segment,
+                final int skip) {
+            super(key, header, in);
+            if (header.length != HEADER_SIZE || ByteBuffer.wrap(header).getInt() != MAGIC
+                    || ByteBuffer.wrap(header).getInt(Integer.BYTES) != SEGMENT_SIZE) {
+                throw new ArtifactEncryptionFailedException(EncryptionOperation.DECRYPT,
+                        "Artifact is not encrypted in segments of " + SEGMENT_SIZE + " bytes");
+            }
+            this.segment = segment;
+            this.skip = skip;
+        }
+
+        @Override
+        protected byte[] nextSegment() throws IOException {
+            final byte[] current;
+            if (first) {
+                current = in.readNBytes(ENCRYPTED_SEGMENT_SIZE);
+                if (current.length == 0 && segment > 0) {
+                    // offset is at the end of an artifact of full segments
+                    return null;
+                }
+            } else if (next == null) {
+                return null;
+            } else {
+                current = next;
+            }
+            // read ahead to know whether the current segment is the last one
+            next = current.length < ENCRYPTED_SEGMENT_SIZE ? null : in.readNBytes(ENCRYPTED_SEGMENT_SIZE);
+            final boolean last = next == null || next.length == 0;
+            if (last) {
+                next = null;
+            }
+            try {
+                final byte[] plain = cryptSegment(Cipher.DECRYPT_MODE, key, header, segment++, last, current,
+                        current.length);
+                if (first) {
+                    first = false;
+                    setPosition(skip);
+                }
+                return plain;
+            } catch (final GeneralSecurityException e) {
+                throw new ArtifactEncryptionFailedException(EncryptionOperation.DECRYPT,
+                        "Segment " + (segment - 1) + " of the artifact could not be decrypted", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,265 @@
+/**
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongFunction;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import jakarta.validation.constraints.NotNull;
+
+import org.eclipse.hawkbit.cache.TenancyCacheManager;
+import org.eclipse.hawkbit.cache.TenantAwareCacheManager;
+import org.eclipse.hawkbit.repository.event.remote.AbstractActionBatchEvent;
+import org.eclipse.hawkbit.repository.event.remote.AbstractAssignmentEvent;
+import org.eclipse.hawkbit.repository.event.remote.MultiActionEvent;
+import org.eclipse.hawkbit.repository.event.remote.TargetDeletedEvent;
+import org.eclipse.hawkbit.repository.event.remote.TargetUpdatedBatchEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.AbstractActionEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.TargetUpdatedEvent;
+import org.eclipse.hawkbit.repository.model.Action;
+import org.eclipse.hawkbit.tenancy.TenantAware;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.event.EventListener;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Internal near cache for the active action with the highest weight and the
+ * installed action of a target, i.e. the actions every poll of a target asks
+ * for. The entries are kept per tenant and controller ID and are invalidated
+ * by the assignment, cancellation and action events of the target. As these
+ * are remote events the entries are invalidated on all nodes of a cluster.
+ * <p/>
+ * Only the IDs of the actions are cached, the entities are read again by ID in
+ * the transaction of the caller. So the caller never gets an entity that is
+ * shared with other threads or transactions, e.g. with a target whose address
+ * or security token has changed since.
+ * <p/>
+ * The action events carry the target ID only, so the cache keeps an index of
+ * the cached action and target IDs to find the controller ID to invalidate.
+ */
+public class TargetActionCache {
+
+    private static final String CACHE_ACTIVE_NAME = "TargetActiveAction";
+    private static final String CACHE_INSTALLED_NAME = "TargetInstalledAction";
+    private static final String CACHE_BY_ACTION_NAME = "TargetActionControllerIdByAction";
+    private static final String CACHE_BY_TARGET_NAME = "TargetActionControllerIdByTarget";
+
+    private final TenancyCacheManager cacheManager;
+    private final TenantAware tenantAware;
+
+    // incremented on every invalidation, so that a lookup that raced with an
+    // invalidation does not cache its (possibly outdated) result
+    private final Map<String, AtomicLong> invalidations = new ConcurrentHashMap<>();
+
+    /**
+     * @param tenantAware
+     *            to get current tenant
+     * @param size
+     *            the maximum number of cached targets per tenant,
+     *            <code>0</code> disables the cache
+     * @param ttl
+     *            time in {@link TimeUnit#MILLISECONDS} after which an entry
+     *            expires, even if it has not been invalidated
+     */
+    public TargetActionCache(final TenantAware tenantAware, final long size, final long ttl) {
+        this.tenantAware = tenantAware;
+
+        final Caffeine<Object, Object> cacheBuilder = Caffeine.newBuilder().maximumSize(size)
+                .expireAfterWrite(ttl, TimeUnit.MILLISECONDS);
+        final CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
+        caffeineCacheManager.setCaffeine(cacheBuilder);
+
+        this.cacheManager = new TenantAwareCacheManager(caffeineCacheManager, tenantAware);
+    }
+
+    /**
+     * Retrieves the active action with the highest weight of a target. A
+     * cached action that is not active anymore is loaded again.
+     *
+     * @param controllerId
+     *            of the target
+     * @param loader
+     *            to load the action from the repository if it is not cached
+     * @param reader
+     *            to read the cached action by its ID in the transaction of
+     *            the caller
+     * @return the cached or loaded action
+     */
+    public Optional<Action> getActiveAction(final String controllerId, final Supplier<Optional<Action>> loader,
+            final LongFunction<Optional<Action>> reader) {
+        return get(CACHE_ACTIVE_NAME, controllerId, loader, reader, Action::isActive);
+    }
+
+    /**
+     * Retrieves the action that installed the distribution set that is
+     * installed on a target.
+     *
+     * @param controllerId
+     *            of the target
+     * @param loader
+     *            to load the action from the repository if it is not cached
+     * @param reader
+     *            to read the cached action by its ID in the transaction of
+     *            the caller
+     * @return the cached or loaded action
+     */
+    public Optional<Action> getInstalledAction(final String controllerId, final Supplier<Optional<Action>> loader,
+            final LongFunction<Optional<Action>> reader) {
+        return get(CACHE_INSTALLED_NAME, controllerId, loader, reader, action -> true);
+    }
+
+    /**
+     * Registers the ID of a target, so that the cache entries of the target
+     * are invalidated by events which identify the target by its ID only. The
+     * target of a loaded action is registered by the cache itself.
+     *
+     * @param targetId
+     *            of the target
+     * @param controllerId
+     *            of the target
+     */
+    public void registerTarget(final long targetId, final String controllerId) {
+        getCache(CACHE_BY_TARGET_NAME).put(targetId, controllerId);
+    }
+
+    @EventListener(classes = AbstractAssignmentEvent.class)
+    public void invalidateOnAssignment(final AbstractAssignmentEvent event) {
+        invalidate(event.getTenant(), event.getActions().keySet());
+    }
+
+    @EventListener(classes = MultiActionEvent.class)
+    public void invalidateOnMultiAction(final MultiActionEvent event) {
+        invalidate(event.getTenant(), event.getControllerIds());
+    }
+
+    @EventListener(classes = AbstractActionEvent.class)
+    public void invalidateOnActionChange(final AbstractActionEvent event) {
+        invalidateByIndex(event.getTenant(), CACHE_BY_ACTION_NAME, event.getEntityId());
+        if (event.getTargetId() != null) {
+            invalidateByIndex(event.getTenant(), CACHE_BY_TARGET_NAME, event.getTargetId());
+        }
+    }
+
+    @EventListener(classes = AbstractActionBatchEvent.class)
+    public void invalidateOnActionChange(final AbstractActionBatchEvent event) {
+        event.getEntityIds()
+                .forEach(actionId -> invalidateByIndex(event.getTenant(), CACHE_BY_ACTION_NAME, actionId));
+        event.getTargetIds()
+                .forEach(targetId -> invalidateByIndex(event.getTenant(), CACHE_BY_TARGET_NAME, targetId));
+    }
+
+    @EventListener(classes = TargetUpdatedEvent.class)
+    public void invalidateOnTargetUpdate(final TargetUpdatedEvent event) {
+        invalidateByIndex(event.getTenant(), CACHE_BY_TARGET_NAME, event.getEntityId());
+    }
+
+    @EventListener(classes = TargetUpdatedBatchEvent.class)
+    public void invalidateOnTargetUpdate(final TargetUpdatedBatchEvent event) {
+        event.getEntityIds()
+                .forEach(targetId -> invalidateByIndex(event.getTenant(), CACHE_BY_TARGET_NAME, targetId));
+    }
+
+    @EventListener(classes = TargetDeletedEvent.class)
+    public void invalidateOnTargetDelete(final TargetDeletedEvent event) {
+        if (event.getControllerId() != null) {
+            invalidate(event.getTenant(), List.of(event.getControllerId()));
+        }
+    }
+
+    /**
+     * Evicts all caches for a given tenant. All caches under a certain tenant
+     * gets evicted.
+     *
+     * @param tenant
+     *            the tenant to evict caches
+     */
+    public void evictCaches(final String tenant) {
+        invalidationCounter(tenant).incrementAndGet();
+        cacheManager.evictCaches(tenant.toUpperCase(Locale.ROOT));
+    }
+
+    private Optional<Action> get(final String cacheName, final String controllerId,
+            final Supplier<Optional<Action>> loader, final LongFunction<Optional<Action>> reader,
+            final Predicate<Action> valid) {
+        final Cache cache = getCache(cacheName);
+        final CachedAction cached = cache.get(controllerId, CachedAction.class);
+        if (cached != null) {
+            if (cached.actionId() == null) {
+                return Optional.empty();
+            }
+            final Optional<Action> action = reader.apply(cached.actionId()).filter(valid);
+            if (action.isPresent()) {
+                return action;
+            }
+            // deleted or changed, but not invalidated (yet)
+            cache.evict(controllerId);
+        }
+
+        final AtomicLong counter = invalidationCounter(tenantAware.getCurrentTenant());
+        final long before = counter.get();
+        final Optional<Action> loaded = loader.get();
+        if (counter.get() == before) {
+            loaded.ifPresent(action -> {
+                getCache(CACHE_BY_ACTION_NAME).put(action.getId(), controllerId);
+                registerTarget(action.getTarget().getId(), controllerId);
+            });
+            cache.put(controllerId, new CachedAction(loaded.map(Action::getId).orElse(null)));
+            if (counter.get() != before) {
+                // invalidated while it was put
+                cache.evict(controllerId);
+            }
+        }
+        return loaded;
+    }
+
+    private void invalidateByIndex(final String tenant, final String indexName, final Long id) {
+        // the entity might not be indexed yet by a concurrent lookup
+        invalidationCounter(tenant).incrementAndGet();
+        final String controllerId = tenantAware.runAsTenant(tenant, () -> getCache(indexName).get(id, String.class));
+        if (controllerId != null) {
+            invalidate(tenant, List.of(controllerId));
+        }
+    }
+
+    private void invalidate(final String tenant, final Collection<String> controllerIds) {
+        invalidationCounter(tenant).incrementAndGet();
+        tenantAware.runAsTenant(tenant, () -> {
+            final Cache active = getCache(CACHE_ACTIVE_NAME);
+            final Cache installed = getCache(CACHE_INSTALLED_NAME);
+            controllerIds.forEach(controllerId -> {
+                active.evict(controllerId);
+                installed.evict(controllerId);
+            });
+            return null;
+        });
+    }
+
+    private AtomicLong invalidationCounter(final String tenant) {
+        return invalidations.computeIfAbsent(tenant.toUpperCase(Locale.ROOT), key -> new AtomicLong());
+    }
+
+    private @NotNull Cache getCache(final String name) {
+        return Objects.requireNonNull(cacheManager.getCache(name), "Cache '" + name + "' is null!");
+    }
+
+    private record CachedAction(Long actionId) {}
+}
@@ -0,0 +1,243 @@
+/**
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import jakarta.validation.constraints.NotNull;
+
+import org.eclipse.hawkbit.cache.TenancyCacheManager;
+import org.eclipse.hawkbit.cache.TenantAwareCacheManager;
+import org.eclipse.hawkbit.repository.event.remote.TargetDeletedEvent;
+import org.eclipse.hawkbit.repository.event.remote.TargetUpdatedBatchEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.TargetUpdatedEvent;
+import org.eclipse.hawkbit.repository.model.Target;
+import org.eclipse.hawkbit.tenancy.TenantAware;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.event.EventListener;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Internal cache for the authentication of targets by their security token,
+ * i.e. the lookup every DDI request of a target does if target token
+ * authentication is enabled. The entries hold the ID of the target and a
+ * digest of its security token (not the token itself) per tenant and
+ * controller ID. They are invalidated by the update (which includes the
+ * regeneration of the security token) and delete events of the target. As
+ * these are remote events the entries are invalidated on all nodes of a
+ * cluster.
+ * <p/>
+ * The update events carry the target ID only, so the cache keeps an index of
+ * the cached target IDs to find the controller ID to invalidate.
+ */
+public class TargetAuthenticationCache {
+
+    private static final String CACHE_NAME = "TargetAuthentication";
+    private static final String CACHE_BY_TARGET_NAME = "TargetAuthenticationControllerIdByTarget";
+
+    private final TenancyCacheManager cacheManager;
+    private final TenantAware tenantAware;
+    private final boolean enabled;
+
+    // incremented on every invalidation, so that a lookup that raced with an
+    // invalidation does not cache its (possibly outdated) result
+    private final Map<String, AtomicLong> invalidations = new ConcurrentHashMap<>();
+
+    /**
+     * @param tenantAware
+     *            to get current tenant
+     * @param size
+     *            the maximum number of cached targets per tenant,
+     *            <code>0</code> disables the cache
+     * @param ttl
+     *            time in {@link TimeUnit#MILLISECONDS} after which an entry
+     *            expires, even if it has not been invalidated
+     */
+    public TargetAuthenticationCache(final TenantAware tenantAware, final long size, final long ttl) {
+        this.tenantAware = tenantAware;
+        this.enabled = size > 0;
+
+        final Caffeine<Object, Object> cacheBuilder = Caffeine.newBuilder().maximumSize(size)
+                .expireAfterWrite(ttl, TimeUnit.MILLISECONDS);
+        final CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
+        caffeineCacheManager.setCaffeine(cacheBuilder);
+
+        this.cacheManager = new TenantAwareCacheManager(caffeineCacheManager, tenantAware);
+    }
+
+    /**
+     * Retrieves the authentication of a target of the current tenant by its
+     * controller ID. Has to be called with a security context which is
+     * allowed to read the security token of the target.
+     *
+     * @param controllerId
+     *            of the target
+     * @param loader
+     *            to load the target from the repository if it is not cached
+     * @return the cached or loaded authentication, empty if the target does
+     *         not exist
+     */
+    public Optional<TargetAuthentication> getByControllerId(final String controllerId,
+            final Supplier<Optional<Target>> loader) {
+        if (enabled) {
+            final TargetAuthentication cached = getCache(CACHE_NAME).get(controllerId, TargetAuthentication.class);
+            if (cached != null) {
+                return Optional.of(cached);
+            }
+        }
+        return load(loader);
+    }
+
+    /**
+     * Retrieves the authentication of a target of the current tenant by its
+     * ID. Has to be called with a security context which is allowed to read
+     * the security token of the target.
+     *
+     * @param targetId
+     *            of the target
+     * @param loader
+     *            to load the target from the repository if it is not cached
+     * @return the cached or loaded authentication, empty if the target does
+     *         not exist
+     */
+    public Optional<TargetAuthentication> getByTargetId(final long targetId,
+            final Supplier<Optional<Target>> loader) {
+        if (enabled) {
+            final String controllerId = getCache(CACHE_BY_TARGET_NAME).get(targetId, String.class);
+            final TargetAuthentication cached = controllerId == null ? null
+                    : getCache(CACHE_NAME).get(controllerId, TargetAuthentication.class);
+            if (cached != null) {
+                return Optional.of(cached);
+            }
+        }
+        return load(loader);
+    }
+
+    /**
+     * Computes the digest of a security token as held by the cached
+     * {@link TargetAuthentication}s, e.g. to compare it with the token
+     * provided by a target.
+     *
+     * @param securityToken
+     *            the security token
+     * @return the hex encoded SHA-256 digest, <code>null</code> if the token
+     *         is <code>null</code>
+     */
+    public static String digest(final String securityToken) {
+        if (securityToken == null) {
+            return null;
+        }
+        try {
+            return HexFormat.of().formatHex(
+                    MessageDigest.getInstance("SHA-256").digest(securityToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+
+    @EventListener(classes = TargetUpdatedEvent.class)
+    public void invalidateOnTargetUpdate(final TargetUpdatedEvent event) {
+        invalidateByTargetId(event.getTenant(), event.getEntityId());
+    }
+
+    @EventListener(classes = TargetUpdatedBatchEvent.class)
+    public void invalidateOnTargetUpdate(final TargetUpdatedBatchEvent event) {
+        event.getEntityIds().forEach(targetId -> invalidateByTargetId(event.getTenant(), targetId));
+    }
+
+    @EventListener(classes = TargetDeletedEvent.class)
+    public void invalidateOnTargetDelete(final TargetDeletedEvent event) {
+        invalidateByTargetId(event.getTenant(), event.getEntityId());
+        if (event.getControllerId() != null) {
+            invalidate(event.getTenant(), event.getControllerId());
+        }
+    }
+
+    /**
+     * Evicts all caches for a given tenant. All caches under a certain tenant
+     * gets evicted.
+     *
+     * @param tenant
+     *            the tenant to evict caches
+     */
+    public void evictCaches(final String tenant) {
+        invalidationCounter(tenant).incrementAndGet();
+        cacheManager.evictCaches(tenant.toUpperCase());
+    }
+
+    private Optional<TargetAuthentication> load(final Supplier<Optional<Target>> loader) {
+        final AtomicLong counter = invalidationCounter(tenantAware.getCurrentTenant());
+        final long before = counter.get();
+        final Optional<TargetAuthentication> loaded = loader.get().map(target -> new TargetAuthentication(
+                target.getId(), target.getControllerId(), digest(target.getSecurityToken())));
+        // unknown targets are not cached, they might be registered any time
+        if (enabled && loaded.isPresent() && counter.get() == before) {
+            final TargetAuthentication authentication = loaded.get();
+            getCache(CACHE_BY_TARGET_NAME).put(authentication.targetId(), authentication.controllerId());
+            getCache(CACHE_NAME).put(authentication.controllerId(), authentication);
+            if (counter.get() != before) {
+                // invalidated while it was put
+                getCache(CACHE_NAME).evict(authentication.controllerId());
+            }
+        }
+        return loaded;
+    }
+
+    private void invalidateByTargetId(final String tenant, final Long targetId) {
+        // the target might not be indexed yet by a concurrent lookup
+        invalidationCounter(tenant).incrementAndGet();
+        final String controllerId = tenantAware.runAsTenant(tenant,
+                () -> getCache(CACHE_BY_TARGET_NAME).get(targetId, String.class));
+        if (controllerId != null) {
+            invalidate(tenant, controllerId);
+        }
+    }
+
+    private void invalidate(final String tenant, final String controllerId) {
+        invalidationCounter(tenant).incrementAndGet();
+        tenantAware.runAsTenant(tenant, () -> {
+            getCache(CACHE_NAME).evict(controllerId);
+            return null;
+        });
+    }
+
+    private AtomicLong invalidationCounter(final String tenant) {
+        return invalidations.computeIfAbsent(tenant.toUpperCase(), key -> new AtomicLong());
+    }
+
+    private @NotNull Cache getCache(final String name) {
+        return Objects.requireNonNull(cacheManager.getCache(name), "Cache '" + name + "' is null!");
+    }
+
+    /**
+     * The cached authentication of a target.
+     *
+     * @param targetId
+     *            ID of the target
+     * @param controllerId
+     *            controller ID of the target
+     * @param securityTokenDigest
+     *            {@link TargetAuthenticationCache#digest(String)} of the
+     *            security token of the target
+     */
+    public record TargetAuthentication(Long targetId, String controllerId, String securityTokenDigest) {}
+}
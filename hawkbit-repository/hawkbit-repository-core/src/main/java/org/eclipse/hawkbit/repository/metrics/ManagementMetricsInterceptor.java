@@ -0,0 +1,168 @@
+/**
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.metrics;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.eclipse.hawkbit.tenancy.TenantAware;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.util.ClassUtils;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * {@link MethodInterceptor} that records a {@link Timer} for every call of a
+ * repository management service, tagged by service, operation, tenant and
+ * exception. Failed calls are additionally counted.
+ */
+public class ManagementMetricsInterceptor implements MethodInterceptor {
+
+    /**
+     * Name of the timer of the management service calls.
+     */
+    public static final String METRIC_CALLS = "hawkbit.repository.management.calls";
+
+    /**
+     * Name of the counter of the failed management service calls.
+     */
+    public static final String METRIC_FAILURES = "hawkbit.repository.management.failures";
+
+    static final String TAG_SERVICE = "service";
+    static final String TAG_OPERATION = "operation";
+    static final String TAG_TENANT = "tenant";
+    static final String TAG_EXCEPTION = "exception";
+
+    private static final String NONE = "none";
+
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+    private final ObjectProvider<TenantAware> tenantAwareProvider;
+    private final ManagementMetricsProperties properties;
+    private final double[] percentiles;
+    private final Map<Method, Tags> operationTags = new ConcurrentHashMap<>();
+
+    private volatile Optional<MeterRegistry> meterRegistry;
+    private volatile TenantAware tenantAware;
+
+    /**
+     * Constructor. The {@link MeterRegistry} and {@link TenantAware} are
+     * resolved lazily on first use since the interceptor is part of a bean post
+     * processor which is created before the other beans.
+     *
+     * @param meterRegistryProvider
+     *            provider of the registry to record to, if none is available
+     *            the calls are not recorded
+     * @param tenantAwareProvider
+     *            provider of the tenant resolver for the tenant tag
+     * @param properties
+     *            of the instrumentation
+     */
+    public ManagementMetricsInterceptor(final ObjectProvider<MeterRegistry> meterRegistryProvider,
+            final ObjectProvider<TenantAware> tenantAwareProvider, final ManagementMetricsProperties properties) {
+        this.meterRegistryProvider = meterRegistryProvider;
+        this.tenantAwareProvider = tenantAwareProvider;
+        this.properties = properties;
+        this.percentiles = properties.getPercentiles().stream().mapToDouble(Double::doubleValue).toArray();
+    }
+
+    @Override
+    public Object invoke(final MethodInvocation invocation) throws Throwable {
+        final MeterRegistry registry = getMeterRegistry();
+        if (registry == null) {
+            return invocation.proceed();
+        }
+
+        // resolve the tenant before the call, e.g. tenant deletion runs
+        // without tenant afterwards
+        final String tenant = getTenant();
+        final long start = registry.config().clock().monotonicTime();
+        Throwable failure = null;
+        try {
+            return invocation.proceed();
+        } catch (final Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            record(registry, invocation, tenant, failure, registry.config().clock().monotonicTime() - start);
+        }
+    }
+
+    private void record(final MeterRegistry registry, final MethodInvocation invocation, final String tenant,
+            final Throwable failure, final long durationNanos) {
+        Tags tags = operationTags.computeIfAbsent(invocation.getMethod(),
+                method -> Tags.of(TAG_SERVICE, serviceName(method, invocation.getThis()), TAG_OPERATION,
+                        method.getName()))
+                .and(TAG_EXCEPTION, failure == null ? NONE : failure.getClass().getSimpleName());
+        if (tenant != null) {
+            tags = tags.and(Tag.of(TAG_TENANT, tenant));
+        }
+
+        Timer.builder(METRIC_CALLS).description("Calls of the repository management services").tags(tags)
+                .publishPercentiles(percentiles).publishPercentileHistogram(properties.isPercentileHistogram())
+                .register(registry).record(durationNanos, TimeUnit.NANOSECONDS);
+
+        if (failure != null) {
+            registry.counter(METRIC_FAILURES, tags).increment();
+        }
+    }
+
+    /**
+     * @return the simple name of the management interface (e.g.
+     *         TargetManagement) declaring the method and not the one of the
+     *         implementation
+     */
+    private static String serviceName(final Method method, final Object target) {
+        if (ManagementMetricsPostProcessor.isManagementInterface(method.getDeclaringClass()) || target == null) {
+            return method.getDeclaringClass().getSimpleName();
+        }
+
+        return Arrays.stream(ClassUtils.getAllInterfacesForClass(AopUtils.getTargetClass(target)))
+                .filter(ManagementMetricsPostProcessor::isManagementInterface)
+                .filter(type -> ClassUtils.hasMethod(type, method.getName(), method.getParameterTypes()))
+                .map(Class::getSimpleName).findFirst().orElseGet(() -> method.getDeclaringClass().getSimpleName());
+    }
+
+    private String getTenant() {
+        if (!properties.isTenantTag()) {
+            return null;
+        }
+
+        TenantAware resolver = tenantAware;
+        if (resolver == null) {
+            resolver = tenantAwareProvider.getIfAvailable();
+            if (resolver == null) {
+                return null;
+            }
+            tenantAware = resolver;
+        }
+
+        final String tenant = resolver.getCurrentTenant();
+        return tenant == null ? NONE : tenant;
+    }
+
+    private MeterRegistry getMeterRegistry() {
+        Optional<MeterRegistry> registry = meterRegistry;
+        if (registry == null) {
+            registry = Optional.ofNullable(meterRegistryProvider.getIfAvailable());
+            meterRegistry = registry;
+        }
+        return registry.orElse(null);
+    }
+}
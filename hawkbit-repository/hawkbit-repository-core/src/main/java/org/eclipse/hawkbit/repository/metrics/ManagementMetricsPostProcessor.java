@@ -0,0 +1,74 @@
+/**
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.metrics;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+
+import org.springframework.aop.ClassFilter;
+import org.springframework.aop.framework.autoproxy.AbstractBeanFactoryAwareAdvisingPostProcessor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Bean post processor that adds the {@link ManagementMetricsInterceptor} to the
+ * repository management services, i.e. all beans implementing one of the
+ * <code>org.eclipse.hawkbit.repository.*Management</code> interfaces. Already
+ * proxied beans (e.g. transactional ones) get the interceptor added in front of
+ * the existing advisors, so the recorded time includes the transaction
+ * handling.
+ */
+public class ManagementMetricsPostProcessor extends AbstractBeanFactoryAwareAdvisingPostProcessor {
+
+    private static final String MANAGEMENT_PACKAGE = "org.eclipse.hawkbit.repository";
+    private static final String MANAGEMENT_SUFFIX = "Management";
+
+    /**
+     * Constructor.
+     *
+     * @param interceptor
+     *            to add to the management services
+     */
+    public ManagementMetricsPostProcessor(final ManagementMetricsInterceptor interceptor) {
+        this.advisor = new DefaultPointcutAdvisor(new ManagementPointcut(), interceptor);
+        setBeforeExistingAdvisors(true);
+        setProxyTargetClass(true);
+    }
+
+    static boolean isManagementInterface(final Class<?> type) {
+        return type.isInterface() && MANAGEMENT_PACKAGE.equals(type.getPackageName())
+                && type.getSimpleName().endsWith(MANAGEMENT_SUFFIX);
+    }
+
+    private static final class ManagementPointcut extends StaticMethodMatcherPointcut {
+
+        private ManagementPointcut() {
+            setClassFilter(new ManagementClassFilter());
+        }
+
+        @Override
+        public boolean matches(final Method method, final Class<?> targetClass) {
+            return isManagementInterface(method.getDeclaringClass()) || Arrays
+                    .stream(ClassUtils.getAllInterfacesForClass(targetClass))
+                    .filter(ManagementMetricsPostProcessor::isManagementInterface)
+                    .anyMatch(type -> ClassUtils.hasMethod(type, method.getName(), method.getParameterTypes()));
+        }
+    }
+
+    private static final class ManagementClassFilter implements ClassFilter {
+
+        @Override
+        public boolean matches(final Class<?> clazz) {
+            return Arrays.stream(ClassUtils.getAllInterfacesForClass(clazz))
+                    .anyMatch(ManagementMetricsPostProcessor::isManagementInterface);
+        }
+    }
+}
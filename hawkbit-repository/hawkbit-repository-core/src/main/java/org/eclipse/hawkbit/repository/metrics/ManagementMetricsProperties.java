@@ -0,0 +1,48 @@
+/**
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.metrics;
+
+import java.util.List;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for the (opt-in) Micrometer instrumentation of the
+ * repository management services.
+ */
+@Data
+@ConfigurationProperties("hawkbit.server.repository.metrics")
+public class ManagementMetricsProperties {
+
+    /**
+     * Set to <code>true</code> to record timers for the calls of the
+     * <code>*Management</code> services. Disabled by default, if disabled the
+     * services are not instrumented at all.
+     */
+    private boolean enabled;
+
+    /**
+     * Set to <code>false</code> in order to skip the tenant tag, e.g. for
+     * installations with a lot of tenants.
+     */
+    private boolean tenantTag = true;
+
+    /**
+     * Percentiles published (client side) by the timers.
+     */
+    private List<Double> percentiles = List.of(0.5, 0.95, 0.99);
+
+    /**
+     * Set to <code>true</code> to publish a percentile histogram, so that
+     * percentiles could be aggregated (server side) by the monitoring system.
+     */
+    private boolean percentileHistogram;
+}
@@ -0,0 +1,123 @@
+/**
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.eclipse.hawkbit.repository.SegmentedArtifactEncryption.HEADER_SIZE;
+import static org.eclipse.hawkbit.repository.SegmentedArtifactEncryption.SEGMENT_SIZE;
+import static org.eclipse.hawkbit.repository.SegmentedArtifactEncryption.TAG_SIZE;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.eclipse.hawkbit.repository.ArtifactEncryption.EncryptedArtifact;
+import org.eclipse.hawkbit.repository.exception.ArtifactEncryptionFailedException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+
+@Feature("Unit Tests - Repository")
+@Story("Segmented artifact encryption")
+class SegmentedArtifactEncryptionTest {
+
+    private final SegmentedArtifactEncryption encryption = new SegmentedArtifactEncryption();
+    private final Map<String, String> secrets = encryption.generateSecrets();
+
+    @ParameterizedTest
+    @ValueSource(ints = { 0, 1, SEGMENT_SIZE - 1, SEGMENT_SIZE, SEGMENT_SIZE + 1, 3 * SEGMENT_SIZE,
+            3 * SEGMENT_SIZE + 17 })
+    @Description("Verifies that the artifact is decrypted unchanged and that its size is computed from the encrypted "
+            + "size, whether it ends at a segment boundary or not.")
+    void artifactIsDecryptedUnchanged(final int size) throws IOException {
+        final byte[] content = content(size);
+
+        final byte[] encrypted = encrypt(content);
+
+        assertThat(encrypted).hasSizeGreaterThanOrEqualTo(size + encryption.encryptionSizeOverhead());
+        assertThat(encryption.decryptedSize(encrypted.length)).isEqualTo(size);
+        assertThat(encryption.decryptStream(secrets, new ByteArrayInputStream(encrypted)).readAllBytes())
+                .isEqualTo(content);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 0, 1, SEGMENT_SIZE - 1, SEGMENT_SIZE, SEGMENT_SIZE + 1, 2 * SEGMENT_SIZE + 5,
+            3 * SEGMENT_SIZE + 16, 3 * SEGMENT_SIZE + 17 })
+    @Description("Verifies that the artifact is decrypted from any offset, reading only the segments from the one "
+            + "holding the offset.")
+    void artifactIsDecryptedFromOffset(final int offset) throws IOException {
+        final byte[] content = content(3 * SEGMENT_SIZE + 17);
+        final byte[] encrypted = encrypt(content);
+        final long[] openedAt = new long[2];
+        final EncryptedArtifact encryptedArtifact = position -> {
+            openedAt[position == 0 ? 0 : 1] = position;
+            final InputStream stream = new ByteArrayInputStream(encrypted);
+            stream.skipNBytes(position);
+            return stream;
+        };
+
+        try (final InputStream decrypted = encryption.decryptStream(secrets, encryptedArtifact, offset)) {
+            assertThat(decrypted.readAllBytes()).isEqualTo(Arrays.copyOfRange(content, offset, content.length));
+        }
+        assertThat(openedAt[1]).isEqualTo(HEADER_SIZE + (long) (offset / SEGMENT_SIZE) * (SEGMENT_SIZE + TAG_SIZE));
+    }
+
+    @Test
+    @Description("Verifies that a modified segment is detected.")
+    void modifiedSegmentIsDetected() {
+        final byte[] encrypted = encrypt(content(2 * SEGMENT_SIZE));
+        encrypted[HEADER_SIZE + SEGMENT_SIZE + TAG_SIZE + 1] ^= 1;
+
+        assertThatExceptionOfType(ArtifactEncryptionFailedException.class).isThrownBy(
+                () -> encryption.decryptStream(secrets, new ByteArrayInputStream(encrypted)).readAllBytes());
+    }
+
+    @Test
+    @Description("Verifies that an artifact truncated at a segment boundary is detected.")
+    void truncatedArtifactIsDetected() {
+        final byte[] encrypted = encrypt(content(2 * SEGMENT_SIZE + 1));
+        final byte[] truncated = Arrays.copyOf(encrypted, HEADER_SIZE + 2 * (SEGMENT_SIZE + TAG_SIZE));
+
+        assertThatExceptionOfType(ArtifactEncryptionFailedException.class).isThrownBy(
+                () -> encryption.decryptStream(secrets, new ByteArrayInputStream(truncated)).readAllBytes());
+    }
+
+    @Test
+    @Description("Verifies that an artifact could not be decrypted with the secrets of another one.")
+    void otherSecretsAreRejected() {
+        final byte[] encrypted = encrypt(content(100));
+        final Map<String, String> otherSecrets = encryption.generateSecrets();
+
+        assertThatExceptionOfType(ArtifactEncryptionFailedException.class).isThrownBy(
+                () -> encryption.decryptStream(otherSecrets, new ByteArrayInputStream(encrypted)).readAllBytes());
+    }
+
+    private byte[] encrypt(final byte[] content) {
+        try (final InputStream encrypted = encryption.encryptStream(secrets, new ByteArrayInputStream(content))) {
+            return encrypted.readAllBytes();
+        } catch (final IOException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private static byte[] content(final int size) {
+        final byte[] content = new byte[size];
+        ThreadLocalRandom.current().nextBytes(content);
+        return content;
+    }
+}
@@ -0,0 +1,200 @@
+/**
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.hawkbit.repository.event.remote.MultiActionAssignEvent;
+import org.eclipse.hawkbit.repository.event.remote.TargetDeletedEvent;
+import org.eclipse.hawkbit.repository.event.remote.TargetUpdatedBatchEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.ActionCreatedEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.ActionUpdatedEvent;
+import org.eclipse.hawkbit.repository.model.Action;
+import org.eclipse.hawkbit.repository.model.Target;
+import org.eclipse.hawkbit.tenancy.TenantAware;
+import org.eclipse.hawkbit.tenancy.TenantAware.TenantRunner;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+
+@Feature("Unit Tests - Repository")
+@Story("Target action cache")
+@ExtendWith(MockitoExtension.class)
+public class TargetActionCacheTest {
+
+    private static final String TENANT = "DEFAULT";
+    private static final String CONTROLLER_ID = "controller";
+    private static final long TARGET_ID = 7L;
+    private static final long ACTION_ID = 42L;
+
+    @Mock
+    private TenantAware tenantAware;
+
+    private TargetActionCache cache;
+    private final AtomicInteger loads = new AtomicInteger();
+    // the actions as read by their ID in the transaction of the caller
+    private final Map<Long, Action> reads = new HashMap<>();
+
+    @BeforeEach
+    public void before() {
+        lenient().when(tenantAware.getCurrentTenant()).thenReturn(TENANT);
+        lenient().when(tenantAware.runAsTenant(anyString(), any()))
+                .thenAnswer(invocation -> invocation.<TenantRunner<?>> getArgument(1).run());
+        cache = new TargetActionCache(tenantAware, 100, TimeUnit.MINUTES.toMillis(1));
+    }
+
+    @Test
+    @Description("Verifies that the action of a target is loaded once and read by its ID afterwards.")
+    public void actionIsLoadedOnce() {
+        final Action action = action();
+        final Action reread = action();
+
+        assertThat(cache.getActiveAction(CONTROLLER_ID, () -> load(action), this::read)).contains(action);
+        reads.put(ACTION_ID, reread);
+        assertThat(cache.getActiveAction(CONTROLLER_ID, () -> load(action), this::read)).contains(reread);
+        assertThat(cache.getActiveAction(CONTROLLER_ID, () -> load(null), this::read)).contains(reread);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @Description("Verifies that a cached action is loaded again if it is not active anymore or has been deleted.")
+    public void outdatedActionIsLoadedAgain() {
+        final Action action = action();
+        assertThat(cache.getActiveAction(CONTROLLER_ID, () -> load(action), this::read)).contains(action);
+
+        final Action finished = action();
+        when(finished.isActive()).thenReturn(false);
+        reads.put(ACTION_ID, finished);
+        assertThat(cache.getActiveAction(CONTROLLER_ID, () -> load(null), this::read)).isEmpty();
+
+        assertThat(cache.getInstalledAction(CONTROLLER_ID, () -> load(action), this::read)).contains(action);
+        reads.clear();
+        assertThat(cache.getInstalledAction(CONTROLLER_ID, () -> load(null), this::read)).isEmpty();
+        assertThat(loads).hasValue(4);
+    }
+
+    @Test
+    @Description("Verifies that a cached empty result is invalidated by an assignment to the target.")
+    public void emptyResultIsInvalidatedByAssignment() {
+        final Action action = action();
+        when(action.getTarget().getControllerId()).thenReturn(CONTROLLER_ID);
+
+        assertThat(cache.getActiveAction(CONTROLLER_ID, () -> load(null), this::read)).isEmpty();
+        assertThat(cache.getActiveAction(CONTROLLER_ID, () -> load(null), this::read)).isEmpty();
+        cache.invalidateOnMultiAction(new MultiActionAssignEvent(TENANT, "app", List.of(action)));
+
+        assertThat(cache.getActiveAction(CONTROLLER_ID, () -> load(action), this::read)).contains(action);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @Description("Verifies that a cached action is invalidated by an update of the action.")
+    public void actionIsInvalidatedByActionUpdate() {
+        final Action action = action();
+
+        assertThat(cache.getActiveAction(CONTROLLER_ID, () -> load(action), this::read)).contains(action);
+        cache.invalidateOnActionChange(new ActionUpdatedEvent(action, null, null, null, "app"));
+
+        assertThat(cache.getActiveAction(CONTROLLER_ID, () -> load(null), this::read)).isEmpty();
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @Description("Verifies that the target of a loaded action is registered, so that the cached active action is "
+            + "invalidated by an update of the target.")
+    public void activeActionIsInvalidatedByTargetUpdate() {
+        final Action action = action();
+
+        assertThat(cache.getActiveAction(CONTROLLER_ID, () -> load(action), this::read)).contains(action);
+        cache.invalidateOnTargetUpdate(new TargetUpdatedBatchEvent(TENANT, "app", List.of(TARGET_ID)));
+
+        assertThat(cache.getActiveAction(CONTROLLER_ID, () -> load(null), this::read)).isEmpty();
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @Description("Verifies that a cached installed action is invalidated by an action event of the registered target.")
+    public void installedActionIsInvalidatedByTargetId() {
+        final Action action = action();
+
+        assertThat(cache.getInstalledAction(CONTROLLER_ID, () -> {
+            cache.registerTarget(TARGET_ID, CONTROLLER_ID);
+            return load(null);
+        }, this::read)).isEmpty();
+        cache.invalidateOnActionChange(new ActionCreatedEvent(action, TARGET_ID, null, null, "app"));
+
+        assertThat(cache.getInstalledAction(CONTROLLER_ID, () -> load(action), this::read)).contains(action);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @Description("Verifies that the result of a lookup that raced with an invalidation is not cached.")
+    public void concurrentlyInvalidatedResultIsNotCached() {
+        assertThat(cache.getActiveAction(CONTROLLER_ID, () -> {
+            cache.invalidateOnTargetDelete(new TargetDeletedEvent(TENANT, TARGET_ID, CONTROLLER_ID, null,
+                    Target.class, "app"));
+            return load(null);
+        }, this::read)).isEmpty();
+
+        assertThat(cache.getActiveAction(CONTROLLER_ID, () -> load(null), this::read)).isEmpty();
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @Description("Verifies that nothing is cached if the cache size is 0.")
+    public void cacheCanBeDisabled() {
+        cache = new TargetActionCache(tenantAware, 0, TimeUnit.MINUTES.toMillis(1));
+
+        cache.getActiveAction(CONTROLLER_ID, () -> load(null), this::read);
+        cache.getActiveAction(CONTROLLER_ID, () -> load(null), this::read);
+        assertThat(loads).hasValue(2);
+    }
+
+    private Optional<Action> load(final Action action) {
+        loads.incrementAndGet();
+        if (action != null) {
+            reads.put(action.getId(), action);
+        }
+        return Optional.ofNullable(action);
+    }
+
+    private Optional<Action> read(final long actionId) {
+        return Optional.ofNullable(reads.get(actionId));
+    }
+
+    private static Action action() {
+        final Action action = mock(Action.class);
+        final Target target = mock(Target.class);
+        lenient().when(action.getId()).thenReturn(ACTION_ID);
+        lenient().when(action.getTenant()).thenReturn(TENANT);
+        lenient().when(action.getTarget()).thenReturn(target);
+        lenient().when(action.isActive()).thenReturn(true);
+        lenient().when(target.getId()).thenReturn(TARGET_ID);
+        return action;
+    }
+}
@@ -0,0 +1,137 @@
+/**
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.hawkbit.repository.TargetAuthenticationCache.TargetAuthentication;
+import org.eclipse.hawkbit.repository.event.remote.TargetDeletedEvent;
+import org.eclipse.hawkbit.repository.event.remote.TargetUpdatedBatchEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.TargetUpdatedEvent;
+import org.eclipse.hawkbit.repository.model.Target;
+import org.eclipse.hawkbit.tenancy.TenantAware;
+import org.eclipse.hawkbit.tenancy.TenantAware.TenantRunner;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+
+@Feature("Unit Tests - Repository")
+@Story("Target authentication cache")
+@ExtendWith(MockitoExtension.class)
+public class TargetAuthenticationCacheTest {
+
+    private static final String TENANT = "DEFAULT";
+    private static final String CONTROLLER_ID = "controller";
+    private static final long TARGET_ID = 7L;
+
+    @Mock
+    private TenantAware tenantAware;
+
+    private TargetAuthenticationCache cache;
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    public void before() {
+        lenient().when(tenantAware.getCurrentTenant()).thenReturn(TENANT);
+        lenient().when(tenantAware.runAsTenant(anyString(), any()))
+                .thenAnswer(invocation -> invocation.<TenantRunner<?>> getArgument(1).run());
+        cache = new TargetAuthenticationCache(tenantAware, 100, TimeUnit.MINUTES.toMillis(1));
+    }
+
+    @Test
+    @Description("Verifies that the target is loaded once, by controller ID or ID, and that only the digest of its security token is cached.")
+    public void authenticationIsLoadedOnce() {
+        final Target target = target("token");
+
+        final TargetAuthentication expected = new TargetAuthentication(TARGET_ID, CONTROLLER_ID,
+                TargetAuthenticationCache.digest("token"));
+        assertThat(cache.getByControllerId(CONTROLLER_ID, () -> load(target))).contains(expected);
+        assertThat(cache.getByControllerId(CONTROLLER_ID, () -> load(null))).contains(expected);
+        assertThat(cache.getByTargetId(TARGET_ID, () -> load(null))).contains(expected);
+        assertThat(expected.securityTokenDigest()).isNotEqualTo("token").hasSize(64);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @Description("Verifies that unknown targets are not cached.")
+    public void unknownTargetIsNotCached() {
+        assertThat(cache.getByControllerId(CONTROLLER_ID, () -> load(null))).isEmpty();
+        assertThat(cache.getByControllerId(CONTROLLER_ID, () -> load(target("token")))).isPresent();
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @Description("Verifies that a cached authentication is invalidated by an update of the target, e.g. a regenerated security token.")
+    public void authenticationIsInvalidatedByTargetUpdate() {
+        final Target target = target("token");
+        cache.getByControllerId(CONTROLLER_ID, () -> load(target));
+
+        cache.invalidateOnTargetUpdate(new TargetUpdatedEvent(target, "app"));
+
+        assertThat(cache.getByControllerId(CONTROLLER_ID, () -> load(target("newToken"))))
+                .map(TargetAuthentication::securityTokenDigest).contains(TargetAuthenticationCache.digest("newToken"));
+        cache.invalidateOnTargetUpdate(new TargetUpdatedBatchEvent(TENANT, "app", List.of(TARGET_ID)));
+        cache.getByControllerId(CONTROLLER_ID, () -> load(target));
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    @Description("Verifies that the result of a lookup that raced with a deletion of the target is not cached.")
+    public void concurrentlyInvalidatedResultIsNotCached() {
+        final Target target = target("token");
+        assertThat(cache.getByControllerId(CONTROLLER_ID, () -> {
+            cache.invalidateOnTargetDelete(new TargetDeletedEvent(TENANT, TARGET_ID, CONTROLLER_ID, null,
+                    Target.class, "app"));
+            return load(target);
+        })).isPresent();
+
+        assertThat(cache.getByControllerId(CONTROLLER_ID, () -> load(null))).isEmpty();
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @Description("Verifies that nothing is cached if the cache size is 0.")
+    public void cacheCanBeDisabled() {
+        cache = new TargetAuthenticationCache(tenantAware, 0, TimeUnit.MINUTES.toMillis(1));
+
+        cache.getByControllerId(CONTROLLER_ID, () -> load(target("token")));
+        cache.getByControllerId(CONTROLLER_ID, () -> load(target("token")));
+        assertThat(loads).hasValue(2);
+    }
+
+    private Optional<Target> load(final Target target) {
+        loads.incrementAndGet();
+        return Optional.ofNullable(target);
+    }
+
+    private static Target target(final String securityToken) {
+        final Target target = mock(Target.class);
+        lenient().when(target.getId()).thenReturn(TARGET_ID);
+        lenient().when(target.getTenant()).thenReturn(TENANT);
+        lenient().when(target.getControllerId()).thenReturn(CONTROLLER_ID);
+        lenient().when(target.getSecurityToken()).thenReturn(securityToken);
+        return target;
+    }
+}
@@ -0,0 +1,113 @@
+/**
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+
+import org.eclipse.hawkbit.repository.PropertiesQuotaManagement;
+import org.eclipse.hawkbit.repository.QuotaManagement;
+import org.eclipse.hawkbit.security.HawkbitSecurityProperties;
+import org.eclipse.hawkbit.tenancy.TenantAware;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+
+@Feature("Unit Tests - Repository")
+@Story("Management Metrics")
+@ExtendWith(MockitoExtension.class)
+public class ManagementMetricsPostProcessorTest {
+
+    @Mock
+    private TenantAware tenantAware;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ManagementMetricsProperties properties;
+
+    @BeforeEach
+    public void before() {
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new ManagementMetricsProperties();
+        properties.setEnabled(true);
+    }
+
+    @Test
+    @Description("Verifies that calls of management services are timed with service, operation and tenant tags.")
+    public void managementCallIsTimed() {
+        when(tenantAware.getCurrentTenant()).thenReturn("mytenant");
+        final QuotaManagement quotaManagement = instrument(
+                new PropertiesQuotaManagement(new HawkbitSecurityProperties()));
+
+        assertThat(AopUtils.isAopProxy(quotaManagement)).isTrue();
+        quotaManagement.getMaxArtifactSize();
+        quotaManagement.getMaxArtifactSize();
+
+        final Timer timer = meterRegistry.find(ManagementMetricsInterceptor.METRIC_CALLS)
+                .tag(ManagementMetricsInterceptor.TAG_SERVICE, "QuotaManagement")
+                .tag(ManagementMetricsInterceptor.TAG_OPERATION, "getMaxArtifactSize")
+                .tag(ManagementMetricsInterceptor.TAG_TENANT, "mytenant")
+                .tag(ManagementMetricsInterceptor.TAG_EXCEPTION, "none").timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isEqualTo(2);
+        assertThat(meterRegistry.find(ManagementMetricsInterceptor.METRIC_FAILURES).counter()).isNull();
+    }
+
+    @Test
+    @Description("Verifies that failed calls of management services are counted and tagged with the exception.")
+    public void failedManagementCallIsCounted(@Mock final QuotaManagement failing) {
+        properties.setTenantTag(false);
+        when(failing.getMaxArtifactSize()).thenThrow(new IllegalStateException());
+        final QuotaManagement quotaManagement = instrument(failing);
+
+        assertThatExceptionOfType(IllegalStateException.class).isThrownBy(quotaManagement::getMaxArtifactSize);
+
+        final Counter counter = meterRegistry.find(ManagementMetricsInterceptor.METRIC_FAILURES)
+                .tag(ManagementMetricsInterceptor.TAG_OPERATION, "getMaxArtifactSize")
+                .tag(ManagementMetricsInterceptor.TAG_EXCEPTION, "IllegalStateException").counter();
+        assertThat(counter).isNotNull();
+        assertThat(counter.count()).isEqualTo(1);
+        assertThat(counter.getId().getTag(ManagementMetricsInterceptor.TAG_TENANT)).isNull();
+    }
+
+    @Test
+    @Description("Verifies that beans which are no management services are not instrumented.")
+    public void otherBeansAreNotInstrumented() {
+        final Object bean = new Object();
+        assertThat(postProcessor().postProcessAfterInitialization(bean, "other")).isSameAs(bean);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T instrument(final T bean) {
+        return (T) postProcessor().postProcessAfterInitialization(bean, "management");
+    }
+
+    private ManagementMetricsPostProcessor postProcessor() {
+        final StaticListableBeanFactory beanFactory = new StaticListableBeanFactory(
+                Map.of("meterRegistry", meterRegistry, "tenantAware", tenantAware));
+        return new ManagementMetricsPostProcessor(
+                new ManagementMetricsInterceptor(beanFactory.getBeanProvider(MeterRegistry.class),
+                        beanFactory.getBeanProvider(TenantAware.class), properties));
+    }
+}
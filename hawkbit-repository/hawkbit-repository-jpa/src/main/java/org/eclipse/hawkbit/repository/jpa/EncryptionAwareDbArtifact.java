@@ -9,34 +9,43 @@
  */
 package org.eclipse.hawkbit.repository.jpa;
 
+import java.io.IOException;
 import java.io.InputStream;
-import java.util.function.UnaryOperator;
+import java.util.function.LongUnaryOperator;
 
 import org.eclipse.hawkbit.artifact.repository.model.DbArtifact;
 import org.eclipse.hawkbit.artifact.repository.model.DbArtifactHash;
+import org.eclipse.hawkbit.repository.ArtifactEncryption.EncryptedArtifact;
+import org.eclipse.hawkbit.repository.exception.ArtifactEncryptionFailedException;
+import org.eclipse.hawkbit.repository.exception.ArtifactEncryptionFailedException.EncryptionOperation;
 
 /**
  * {@link DbArtifact} implementation that decrypts the underlying artifact
- * binary input stream.
+ * binary input stream. Streams starting at an offset are decrypted from the
+ * needed position of the encrypted binary if supported by the encryption.
  */
 public class EncryptionAwareDbArtifact implements DbArtifact {
 
     private final DbArtifact encryptedDbArtifact;
-    private final UnaryOperator<InputStream> decryptionFunction;
-    private final int encryptionOverhead;
+    private final Decryption decryption;
+    private final LongUnaryOperator decryptedSize;
 
-    public EncryptionAwareDbArtifact(final DbArtifact encryptedDbArtifact,
-            final UnaryOperator<InputStream> decryptionFunction) {
+    /**
+     * Constructor.
+     *
+     * @param encryptedDbArtifact
+     *            the encrypted artifact binary
+     * @param decryption
+     *            decrypts the binary starting at an offset
+     * @param decryptedSize
+     *            computes the size of the decrypted binary from the size of the
+     *            encrypted one
+     */
+    public EncryptionAwareDbArtifact(final DbArtifact encryptedDbArtifact, final Decryption decryption,
+            final LongUnaryOperator decryptedSize) {
         this.encryptedDbArtifact = encryptedDbArtifact;
-        this.decryptionFunction = decryptionFunction;
-        this.encryptionOverhead = 0;
-    }
-
-    public EncryptionAwareDbArtifact(final DbArtifact encryptedDbArtifact,
-            final UnaryOperator<InputStream> decryptionFunction, final int encryptionOverhead) {
-        this.encryptedDbArtifact = encryptedDbArtifact;
-        this.decryptionFunction = decryptionFunction;
-        this.encryptionOverhead = encryptionOverhead;
+        this.decryption = decryption;
+        this.decryptedSize = decryptedSize;
     }
 
     @Override
@@ -51,7 +60,7 @@ public class EncryptionAwareDbArtifact implements DbArtifact {
 
     @Override
     public long getSize() {
-        return encryptedDbArtifact.getSize() - encryptionOverhead;
+        return decryptedSize.applyAsLong(encryptedDbArtifact.getSize());
     }
 
     @Override
@@ -61,6 +70,34 @@ public class EncryptionAwareDbArtifact implements DbArtifact {
 
     @Override
     public InputStream getFileInputStream() {
-        return decryptionFunction.apply(encryptedDbArtifact.getFileInputStream());
+        try {
+            return getFileInputStream(0);
+        } catch (final IOException e) {
+            throw new ArtifactEncryptionFailedException(EncryptionOperation.DECRYPT,
+                    "Encrypted artifact could not be read", e);
+        }
+    }
+
+    @Override
+    public InputStream getFileInputStream(final long offset) throws IOException {
+        return decryption.decrypt(encryptedDbArtifact::getFileInputStream, offset);
+    }
+
+    /**
+     * Decrypts an encrypted artifact binary.
+     */
+    @FunctionalInterface
+    public interface Decryption {
+
+        /**
+         * @param encryptedArtifact
+         *            the encrypted artifact binary
+         * @param offset
+         *            of the first decrypted byte to read
+         * @return decrypted input stream starting at the offset
+         * @throws IOException
+         *             if the encrypted binary could not be read
+         */
+        InputStream decrypt(EncryptedArtifact encryptedArtifact, long offset) throws IOException;
     }
 }
@@ -9,11 +9,13 @@
  */
 package org.eclipse.hawkbit.repository.jpa;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.metamodel.SingularAttribute;
 
 import org.eclipse.hawkbit.repository.jpa.acm.AccessController;
 import org.eclipse.hawkbit.repository.jpa.model.AbstractJpaBaseEntity;
@@ -23,8 +25,11 @@ import org.eclipse.hawkbit.repository.jpa.repository.NoCountSliceRepository;
 import org.eclipse.hawkbit.repository.jpa.specifications.SpecificationsBuilder;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.repository.CrudRepository;
@@ -73,6 +78,41 @@ public final class JpaManagementHelper {
         return convertPage(repository.findAllWithoutCount(combineWithAnd(specList), pageable), pageable);
     }
 
+    /**
+     * Retrieves the entities which follow the given key in the order of the
+     * key (keyset pagination). As the key is used as seek predicate instead of
+     * skipping an offset, the costs of a page do not grow with the number of
+     * preceding entities. The key has to be unique for the results to be
+     * complete.
+     *
+     * @param repository
+     *            to query
+     * @param key
+     *            unique attribute to order and seek by
+     * @param after
+     *            key of the last entity of the previous page or
+     *            <code>null</code> for the first page
+     * @param direction
+     *            of the order
+     * @param limit
+     *            maximum number of entities to retrieve
+     * @param specList
+     *            additional filters
+     * @return the found entities, a slice with less than <code>limit</code>
+     *         entities is the last one
+     */
+    public static <T, J extends T, K extends Comparable<? super K>> Slice<T> findAllAfterBySpec(
+            final NoCountSliceRepository<J> repository, final SingularAttribute<? super J, K> key, final K after,
+            final Direction direction, final int limit, final List<Specification<J>> specList) {
+        final List<Specification<J>> keysetSpecList = new ArrayList<>(specList);
+        if (after != null) {
+            keysetSpecList.add((root, query, cb) -> direction.isAscending() ? cb.greaterThan(root.get(key), after)
+                    : cb.lessThan(root.get(key), after));
+        }
+        return findAllWithoutCountBySpec(repository, PageRequest.of(0, limit, Sort.by(direction, key.getName())),
+                keysetSpecList);
+    }
+
     public static <T, J extends T> Slice<T> convertPage(final Slice<J> jpaAll, final Pageable pageable) {
         return new PageImpl<>(Collections.unmodifiableList(jpaAll.getContent()), pageable, 0);
     }
@@ -11,16 +11,20 @@ package org.eclipse.hawkbit.repository.jpa;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Proxy;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
 
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.collections4.ListUtils;
 import org.eclipse.hawkbit.repository.DeploymentManagement;
 import org.eclipse.hawkbit.repository.QuotaManagement;
 import org.eclipse.hawkbit.repository.RepositoryProperties;
@@ -30,13 +34,16 @@ import org.eclipse.hawkbit.repository.RolloutGroupManagement;
 import org.eclipse.hawkbit.repository.RolloutHelper;
 import org.eclipse.hawkbit.repository.RolloutManagement;
 import org.eclipse.hawkbit.repository.TargetManagement;
+import org.eclipse.hawkbit.repository.event.remote.RolloutGroupActionsCreatedEvent;
 import org.eclipse.hawkbit.repository.event.remote.RolloutGroupDeletedEvent;
 import org.eclipse.hawkbit.repository.event.remote.RolloutStoppedEvent;
 import org.eclipse.hawkbit.repository.event.remote.entity.RolloutUpdatedEvent;
 import org.eclipse.hawkbit.repository.exception.RolloutIllegalStateException;
+import org.eclipse.hawkbit.repository.jpa.configuration.Constants;
 import org.eclipse.hawkbit.repository.jpa.executor.AfterTransactionCommitExecutor;
 import org.eclipse.hawkbit.repository.jpa.management.JpaRolloutManagement;
 import org.eclipse.hawkbit.repository.jpa.model.JpaAction;
+import org.eclipse.hawkbit.repository.jpa.model.JpaAction_;
 import org.eclipse.hawkbit.repository.jpa.model.JpaRollout;
 import org.eclipse.hawkbit.repository.jpa.model.JpaRolloutGroup;
 import org.eclipse.hawkbit.repository.jpa.model.RolloutTargetGroup;
@@ -61,12 +68,18 @@ import org.eclipse.hawkbit.repository.model.RolloutGroup.RolloutGroupSuccessCond
 import org.eclipse.hawkbit.repository.model.Target;
 import org.eclipse.hawkbit.repository.model.helper.EventPublisherHolder;
 import org.eclipse.hawkbit.tenancy.TenantAware;
+import org.eclipse.persistence.jpa.JpaEntityManager;
+import org.eclipse.persistence.mappings.foundation.AbstractDirectMapping;
+import org.eclipse.persistence.sessions.server.ServerSession;
+import org.springframework.data.domain.AuditorAware;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
+import org.springframework.orm.jpa.vendor.Database;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.TransactionException;
+import org.springframework.util.StringUtils;
 
 import static org.eclipse.hawkbit.repository.jpa.builder.JpaRolloutGroupCreate.addSuccessAndErrorConditionsAndActions;
 
@@ -97,6 +110,61 @@ public class JpaRolloutExecutor implements RolloutExecutor {
     private static final List<Status> DOWNLOAD_ONLY_ACTION_TERMINATION_STATUSES = Arrays.asList(Status.ERROR,
             Status.FINISHED, Status.CANCELED, Status.DOWNLOADED);
 
+    private static final String QUERY_INSERT_ACTIONS_COLUMNS = "INSERT INTO sp_action (tenant, created_at, created_by, last_modified_at, last_modified_by, optlock_revision, "
+            + "distribution_set, target, active, action_type, forced_time, weight, status, rollout, rolloutgroup, initiated_by) ";
+
+    private static final String QUERY_INSERT_ACTIONS_FROM = " FROM sp_rollouttargetgroup rtg WHERE rtg.rolloutGroup_Id=#rollout_group "
+            + "AND rtg.target_id BETWEEN #first_target AND #last_target "
+            + "AND NOT EXISTS (SELECT 1 FROM sp_action a WHERE a.rolloutgroup=rtg.rolloutGroup_Id AND a.target=rtg.target_id)";
+
+    private static final String QUERY_INSERT_ACTIONS_FOR_ROLLOUT_GROUP_DEFAULT = QUERY_INSERT_ACTIONS_COLUMNS
+            + "SELECT #tenant, #now, #user, #now, #user, 1, #distribution_set, rtg.target_id, #active, #action_type, "
+            + "#forced_time, #weight, #status, #rollout, rtg.rolloutGroup_Id, #initiated_by" + QUERY_INSERT_ACTIONS_FROM;
+
+    private static final EnumMap<Database, String> QUERY_INSERT_ACTIONS_FOR_ROLLOUT_GROUP;
+
+    static {
+        QUERY_INSERT_ACTIONS_FOR_ROLLOUT_GROUP = new EnumMap<>(Database.class);
+        // DB2 does not accept untyped parameter markers in the select list
+        QUERY_INSERT_ACTIONS_FOR_ROLLOUT_GROUP.put(Database.DB2, QUERY_INSERT_ACTIONS_COLUMNS
+                + "SELECT CAST(#tenant AS VARCHAR(40)), CAST(#now AS BIGINT), CAST(#user AS VARCHAR(64)), "
+                + "CAST(#now AS BIGINT), CAST(#user AS VARCHAR(64)), 1, CAST(#distribution_set AS BIGINT), rtg.target_id, "
+                + "CAST(#active AS SMALLINT), CAST(#action_type AS INTEGER), CAST(#forced_time AS BIGINT), "
+                + "CAST(#weight AS INTEGER), CAST(#status AS INTEGER), CAST(#rollout AS BIGINT), rtg.rolloutGroup_Id, "
+                + "CAST(#initiated_by AS VARCHAR(64))" + QUERY_INSERT_ACTIONS_FROM);
+    }
+
+    /**
+     * Maximum number of targets staged by one statement. Every staged target
+     * binds three parameters, which must be less than the 2100 parameters SQL
+     * Server supports per statement.
+     */
+    private static final int STAGING_STATEMENT_TARGETS = 500;
+
+    private static final String QUERY_INSERT_STAGED_TARGETS = "INSERT INTO sp_rollout_target_staging (rollout_id, target_number, target_id) VALUES ";
+
+    private static final String QUERY_DELETE_STAGED_TARGETS = "DELETE FROM sp_rollout_target_staging WHERE rollout_id=#rollout";
+
+    private static final String QUERY_DELETE_ROLLOUT_TARGET_GROUPS = "DELETE FROM sp_rollouttargetgroup "
+            + "WHERE rolloutGroup_Id IN (SELECT g.id FROM sp_rolloutgroup g WHERE g.rollout=#rollout)";
+
+    // the group of a staged target is selected by the range of target numbers
+    // of the group, the ranges are added as WHEN clauses of the CASE
+    private static final String QUERY_ASSIGN_STAGED_TARGETS = "INSERT INTO sp_rollouttargetgroup (rolloutGroup_Id, target_id) "
+            + "SELECT CASE %s END, s.target_id FROM sp_rollout_target_staging s "
+            + "WHERE s.rollout_id=#rollout AND s.target_number BETWEEN #first_number AND #last_number";
+
+    private static final String QUERY_ASSIGN_STAGED_TARGETS_GROUP_DEFAULT = "WHEN s.target_number <= #group_end_%1$d THEN #group_%1$d ";
+
+    private static final EnumMap<Database, String> QUERY_ASSIGN_STAGED_TARGETS_GROUP;
+
+    static {
+        QUERY_ASSIGN_STAGED_TARGETS_GROUP = new EnumMap<>(Database.class);
+        // DB2 does not accept untyped parameter markers as result of a CASE
+        QUERY_ASSIGN_STAGED_TARGETS_GROUP.put(Database.DB2,
+                "WHEN s.target_number <= #group_end_%1$d THEN CAST(#group_%1$d AS BIGINT) ");
+    }
+
     private final RolloutTargetGroupRepository rolloutTargetGroupRepository;
     private final EntityManager entityManager;
     private final RolloutRepository rolloutRepository;
@@ -113,7 +181,10 @@ public class JpaRolloutExecutor implements RolloutExecutor {
     private final RolloutApprovalStrategy rolloutApprovalStrategy;
     private final RolloutGroupEvaluationManager evaluationManager;
     private final RolloutManagement rolloutManagement;
-    
+    private final AuditorAware<String> auditorProvider;
+    private final RepositoryProperties repositoryProperties;
+    private final Database database;
+
     /**
      * Constructor
      */
@@ -125,7 +196,9 @@ public class JpaRolloutExecutor implements RolloutExecutor {
             final DeploymentManagement deploymentManagement, final TargetManagement targetManagement,
             final EventPublisherHolder eventPublisherHolder, final PlatformTransactionManager txManager,
             final RolloutApprovalStrategy rolloutApprovalStrategy,
-            final RolloutGroupEvaluationManager evaluationManager, final RolloutManagement rolloutManagement) {
+            final RolloutGroupEvaluationManager evaluationManager, final RolloutManagement rolloutManagement,
+            final AuditorAware<String> auditorProvider, final RepositoryProperties repositoryProperties,
+            final Database database) {
         this.rolloutTargetGroupRepository = rolloutTargetGroupRepository;
         this.entityManager = entityManager;
         this.rolloutRepository = rolloutRepository;
@@ -142,6 +215,9 @@ public class JpaRolloutExecutor implements RolloutExecutor {
         this.rolloutApprovalStrategy = rolloutApprovalStrategy;
         this.evaluationManager = evaluationManager;
         this.rolloutManagement = rolloutManagement;
+        this.auditorProvider = auditorProvider;
+        this.repositoryProperties = repositoryProperties;
+        this.database = database;
     }
 
     @Override
@@ -176,9 +252,13 @@ public class JpaRolloutExecutor implements RolloutExecutor {
     private void handleCreateRollout(final JpaRollout rollout) {
         log.debug("handleCreateRollout called for rollout {}", rollout.getId());
 
-        final List<RolloutGroup> rolloutGroups = rolloutGroupManagement.findByRollout(
+        List<RolloutGroup> rolloutGroups = rolloutGroupManagement.findByRollout(
                 PageRequest.of(0, quotaManagement.getMaxRolloutGroupsPerRollout(), Sort.by(Direction.ASC, "id")),
                 rollout.getId()).getContent();
+        final boolean setBasedGroupAssignment = isSetBasedGroupAssignment(rollout, rolloutGroups);
+        if (setBasedGroupAssignment) {
+            rolloutGroups = fillRolloutGroupsWithStagedTargets(rollout, rolloutGroups);
+        }
 
         int readyGroups = 0;
         int totalTargets = 0;
@@ -189,8 +269,10 @@ public class JpaRolloutExecutor implements RolloutExecutor {
                 continue;
             }
 
-            final RolloutGroup filledGroup = fillRolloutGroupWithTargets(rollout, (JpaRolloutGroup) group,
-                    rolloutGroups);
+            // a failed set-based assignment is repeated from scratch with the
+            // next run, the groups are not filled one by one on top of it
+            final RolloutGroup filledGroup = setBasedGroupAssignment ? group
+                    : fillRolloutGroupWithTargets(rollout, (JpaRolloutGroup) group, rolloutGroups);
             if (RolloutGroupStatus.READY == filledGroup.getStatus()) {
                 readyGroups++;
                 totalTargets += filledGroup.getTotalTargets();
@@ -646,6 +728,181 @@ public class JpaRolloutExecutor implements RolloutExecutor {
         }
     }
 
+    /**
+     * The targets are assigned set-based if enabled and no group has an own
+     * target filter, as then the groups only split the targets of the rollout
+     * filter by their percentages. Rollouts whose creation has been started
+     * with the group by group assignment are finished with it.
+     */
+    private boolean isSetBasedGroupAssignment(final Rollout rollout, final List<RolloutGroup> rolloutGroups) {
+        return repositoryProperties.isRolloutSetBasedGroupAssignment()
+                && !RolloutHelper.isRolloutRetried(rollout.getTargetFilterQuery())
+                && rolloutGroups.stream().noneMatch(group -> RolloutGroupStatus.READY == group.getStatus()
+                        || StringUtils.hasText(group.getTargetFilterQuery()));
+    }
+
+    /**
+     * Fills all groups of a rollout at once. The target filter of the rollout is
+     * evaluated once and the IDs of the matching targets are numbered and
+     * stored in a staging table. The groups get consecutive ranges of the
+     * staged targets, sized by their percentages, which are assigned by one
+     * statement per chunk of staged targets.
+     * <p/>
+     * If a transaction fails the groups stay in creation and the assignment is
+     * repeated from scratch with the next run.
+     *
+     * @return the groups, ready if the assignment succeeded
+     */
+    private List<RolloutGroup> fillRolloutGroupsWithStagedTargets(final JpaRollout rollout,
+            final List<RolloutGroup> rolloutGroups) {
+        RolloutHelper.verifyRolloutInStatus(rollout, RolloutStatus.CREATING);
+
+        try {
+            DeploymentHelper.runInNewTransaction(txManager, "deleteStagedRolloutTargets", status -> {
+                // leftovers of a failed assignment
+                executeForRollout(QUERY_DELETE_STAGED_TARGETS, rollout);
+                return executeForRollout(QUERY_DELETE_ROLLOUT_TARGET_GROUPS, rollout);
+            });
+
+            final long stagedTargets = stageTargets(rollout);
+            final long[] groupEnds = getGroupEnds(rollout, rolloutGroups, stagedTargets);
+            for (long first = 1; first <= stagedTargets; first += TRANSACTION_TARGETS) {
+                final long last = Math.min(first + TRANSACTION_TARGETS - 1, stagedTargets);
+                final long firstNumber = first;
+                DeploymentHelper.runInNewTransaction(txManager, "assignStagedTargetsToRolloutGroups",
+                        status -> assignStagedTargets(rollout, rolloutGroups, groupEnds, firstNumber, last));
+            }
+
+            DeploymentHelper.runInNewTransaction(txManager, "deleteStagedRolloutTargets",
+                    status -> executeForRollout(QUERY_DELETE_STAGED_TARGETS, rollout));
+        } catch (final TransactionException e) {
+            log.warn("Transaction assigning staged Targets to RolloutGroups failed", e);
+            return rolloutGroups;
+        }
+
+        final List<RolloutGroup> filledGroups = new ArrayList<>(rolloutGroups.size());
+        rolloutGroups.forEach(group -> {
+            final JpaRolloutGroup jpaGroup = (JpaRolloutGroup) group;
+            jpaGroup.setStatus(RolloutGroupStatus.READY);
+            jpaGroup.setTotalTargets(
+                    DeploymentHelper.runInNewTransaction(txManager, "countRolloutTargetGroupByRolloutGroup",
+                            count -> rolloutTargetGroupRepository.countByRolloutGroup(jpaGroup)).intValue());
+            filledGroups.add(rolloutGroupRepository.save(jpaGroup));
+        });
+        return filledGroups;
+    }
+
+    /**
+     * Stores the IDs of the targets matching the filter of the rollout in the
+     * staging table, numbered from 1 in ascending order of the IDs.
+     *
+     * @return the number of staged targets
+     */
+    private long stageTargets(final JpaRollout rollout) {
+        final String targetFilter = RolloutHelper.getTargetFilterQuery(rollout);
+        long stagedTargets = 0;
+        long lastTargetId = 0;
+        List<Long> targetIds;
+        do {
+            final long afterTargetId = lastTargetId;
+            final long offset = stagedTargets;
+            targetIds = DeploymentHelper.runInNewTransaction(txManager, "stageRolloutTargets", status -> {
+                final List<Long> ids = targetManagement.findIdsByTargetFilterQueryAndCompatibleAndUpdatable(
+                        afterTargetId, TRANSACTION_TARGETS, targetFilter, rollout.getDistributionSet().getType());
+                insertStagedTargets(rollout, offset, ids);
+                return ids;
+            });
+            if (!targetIds.isEmpty()) {
+                stagedTargets += targetIds.size();
+                lastTargetId = targetIds.get(targetIds.size() - 1);
+            }
+        } while (targetIds.size() == TRANSACTION_TARGETS);
+        return stagedTargets;
+    }
+
+    private void insertStagedTargets(final Rollout rollout, final long offset, final List<Long> targetIds) {
+        final List<List<Long>> chunks = ListUtils.partition(targetIds, STAGING_STATEMENT_TARGETS);
+        long targetNumber = offset;
+        for (final List<Long> chunk : chunks) {
+            final StringBuilder sql = new StringBuilder(QUERY_INSERT_STAGED_TARGETS);
+            for (int i = 0; i < chunk.size(); i++) {
+                sql.append(i == 0 ? "" : ", ").append("(#rollout_").append(i).append(", #number_").append(i)
+                        .append(", #target_").append(i).append(')');
+            }
+            final Query insertQuery = entityManager.createNativeQuery(sql.toString());
+            for (int i = 0; i < chunk.size(); i++) {
+                insertQuery.setParameter("rollout_" + i, rollout.getId());
+                insertQuery.setParameter("number_" + i, ++targetNumber);
+                insertQuery.setParameter("target_" + i, chunk.get(i));
+            }
+            insertQuery.executeUpdate();
+        }
+    }
+
+    /**
+     * Calculates the ranges of the staged targets per group like
+     * {@link #fillRolloutGroupWithTargets(JpaRollout, JpaRolloutGroup, List)}
+     * does, i.e. every group gets its percentage of the targets that are not
+     * in one of the previous groups.
+     *
+     * @return the number of the last staged target per group, the range of a
+     *         group starts after the end of the previous one
+     */
+    private static long[] getGroupEnds(final JpaRollout rollout, final List<RolloutGroup> rolloutGroups,
+            final long stagedTargets) {
+        final long[] groupEnds = new long[rolloutGroups.size()];
+        long assignedTargets = 0;
+        for (int i = 0; i < rolloutGroups.size(); i++) {
+            final RolloutGroup group = rolloutGroups.get(i);
+            final double percentFromTheRest = rollout.isNewStyleTargetPercent()
+                    ? RolloutHelper.toPercentFromTheRest(group, rolloutGroups)
+                    : group.getTargetPercentage();
+            final long leftTargets = stagedTargets - assignedTargets;
+            assignedTargets += Math.min(leftTargets, Math.round(percentFromTheRest * leftTargets / 100));
+            groupEnds[i] = assignedTargets;
+        }
+        return groupEnds;
+    }
+
+    private int assignStagedTargets(final Rollout rollout, final List<RolloutGroup> rolloutGroups,
+            final long[] groupEnds, final long firstNumber, final long lastNumber) {
+        final String groupTemplate = QUERY_ASSIGN_STAGED_TARGETS_GROUP.getOrDefault(database,
+                QUERY_ASSIGN_STAGED_TARGETS_GROUP_DEFAULT);
+        final StringBuilder whenClauses = new StringBuilder();
+        final List<Integer> groupIndexes = new ArrayList<>();
+        long groupStart = 1;
+        for (int i = 0; i < groupEnds.length; i++) {
+            // only the non-empty groups overlapping with the chunk
+            if (groupEnds[i] >= groupStart && groupEnds[i] >= firstNumber && groupStart <= lastNumber) {
+                whenClauses.append(String.format(groupTemplate, i));
+                groupIndexes.add(i);
+            }
+            groupStart = groupEnds[i] + 1;
+        }
+        if (groupIndexes.isEmpty()) {
+            // the targets left over by percentages below 100 are not assigned
+            return 0;
+        }
+
+        final Query assignQuery = entityManager
+                .createNativeQuery(String.format(QUERY_ASSIGN_STAGED_TARGETS, whenClauses));
+        groupIndexes.forEach(i -> {
+            assignQuery.setParameter("group_end_" + i, groupEnds[i]);
+            assignQuery.setParameter("group_" + i, rolloutGroups.get(i).getId());
+        });
+        assignQuery.setParameter("rollout", rollout.getId());
+        assignQuery.setParameter("first_number", firstNumber);
+        // the staged targets after the end of the last group are not assigned
+        assignQuery.setParameter("last_number", Math.min(lastNumber, groupEnds[groupEnds.length - 1]));
+        return assignQuery.executeUpdate();
+    }
+
+    private int executeForRollout(final String sql, final Rollout rollout) {
+        final Query query = entityManager.createNativeQuery(sql);
+        query.setParameter("rollout", rollout.getId());
+        return query.executeUpdate();
+    }
+
     private Long assignTargetsToGroupInNewTransaction(final JpaRollout rollout, final RolloutGroup group,
             final String targetFilter, final long limit) {
         return DeploymentHelper.runInNewTransaction(txManager, "assignTargetsToRolloutGroup", status -> {
@@ -806,11 +1063,15 @@ public class JpaRolloutExecutor implements RolloutExecutor {
     }
 
     private long createActionsForRolloutGroup(final Rollout rollout, final RolloutGroup group) {
+        // the actions of dynamic groups are active, so they have to publish
+        // their events in order to invalidate the caches of their targets
+        final boolean bulk = repositoryProperties.isRolloutBulkActionCreation() && !group.isDynamic();
         long totalActionsCreated = 0;
         try {
             long actionsCreated;
             do {
-                actionsCreated = createActionsForTargetsInNewTransaction(rollout, group, TRANSACTION_TARGETS);
+                actionsCreated = bulk ? createActionsForTargetsInBulkInNewTransaction(rollout, group, TRANSACTION_TARGETS)
+                        : createActionsForTargetsInNewTransaction(rollout, group, TRANSACTION_TARGETS);
                 totalActionsCreated += actionsCreated;
             } while (actionsCreated > 0);
 
@@ -838,6 +1099,69 @@ public class JpaRolloutExecutor implements RolloutExecutor {
         });
     }
 
+    /**
+     * Creates the scheduled actions for the next targets of a static group
+     * without loading the targets. The actions are inserted directly from the
+     * targets of the group by one statement, the targets are selected by the
+     * range of their IDs.
+     */
+    private Long createActionsForTargetsInBulkInNewTransaction(final Rollout rollout, final RolloutGroup group,
+            final int limit) {
+        return DeploymentHelper.runInNewTransaction(txManager, "createActionsForTargetsInBulk", status -> {
+            final List<Long> targetIds = rolloutTargetGroupRepository
+                    .findTargetIdsWithoutActionByRolloutGroupId(PageRequest.of(0, limit), group.getId());
+            if (targetIds.isEmpty()) {
+                return 0L;
+            }
+
+            deploymentManagement.cancelInactiveScheduledActionsForTargets(targetIds);
+            assertActionsPerTargetQuota(targetIds);
+
+            final int actionsCreated = insertActions(rollout, group, targetIds.get(0),
+                    targetIds.get(targetIds.size() - 1));
+            final String tenant = tenantAware.getCurrentTenant();
+            afterCommit.afterCommit(() -> eventPublisherHolder.getEventPublisher()
+                    .publishEvent(new RolloutGroupActionsCreatedEvent(tenant, eventPublisherHolder.getApplicationId(),
+                            rollout.getId(), group.getId(), actionsCreated)));
+
+            return Long.valueOf(actionsCreated);
+        });
+    }
+
+    private int insertActions(final Rollout rollout, final RolloutGroup group, final long firstTargetId,
+            final long lastTargetId) {
+        final String insert = QUERY_INSERT_ACTIONS_FOR_ROLLOUT_GROUP.getOrDefault(database,
+                QUERY_INSERT_ACTIONS_FOR_ROLLOUT_GROUP_DEFAULT);
+        // like an action created as entity, the weight is null if the rollout
+        // has none (a bound null parameter is not typed on all databases)
+        final Query insertQuery = entityManager.createNativeQuery(
+                rollout.getWeight().isPresent() ? insert : insert.replace("#weight", "NULL"));
+
+        insertQuery.setParameter("tenant", tenantAware.getCurrentTenant().toUpperCase());
+        insertQuery.setParameter("now", System.currentTimeMillis());
+        insertQuery.setParameter("user", auditorProvider.getCurrentAuditor().orElse(null));
+        insertQuery.setParameter("distribution_set", rollout.getDistributionSet().getId());
+        insertQuery.setParameter("active", false);
+        insertQuery.setParameter("action_type", toActionDataValue(JpaAction_.ACTION_TYPE, rollout.getActionType()));
+        insertQuery.setParameter("forced_time", rollout.getForcedTime());
+        rollout.getWeight().ifPresent(weight -> insertQuery.setParameter("weight", weight));
+        insertQuery.setParameter("status", toActionDataValue(JpaAction_.STATUS, Status.SCHEDULED));
+        insertQuery.setParameter("rollout", rollout.getId());
+        insertQuery.setParameter("initiated_by", rollout.getCreatedBy());
+        insertQuery.setParameter("rollout_group", group.getId());
+        insertQuery.setParameter("first_target", firstTargetId);
+        insertQuery.setParameter("last_target", lastTargetId);
+
+        return insertQuery.executeUpdate();
+    }
+
+    // the converters of the entity are not applied to native queries
+    private Object toActionDataValue(final String attribute, final Object value) {
+        final ServerSession session = entityManager.unwrap(JpaEntityManager.class).getServerSession();
+        return ((AbstractDirectMapping) session.getDescriptor(JpaAction.class).getMappingForAttributeName(attribute))
+                .getConverter().convertObjectValueToDataValue(value, session);
+    }
+
     private void createAssignmentOfTargetsToGroup(final Slice<Target> targets, final RolloutGroup group) {
         targets.forEach(target -> rolloutTargetGroupRepository.save(new RolloutTargetGroup(group, target)));
     }
@@ -888,4 +1212,19 @@ public class JpaRolloutExecutor implements RolloutExecutor {
         QuotaHelper.assertAssignmentQuota(target.getId(), requested, quota, Action.class, Target.class,
                 actionRepository::countByTargetId);
     }
+
+    /**
+     * Enforces the quota defining the maximum number of {@link Action}s per
+     * {@link Target} for one more action of each of the given targets.
+     *
+     * @param targetIds
+     *            IDs of the targets
+     */
+    private void assertActionsPerTargetQuota(final List<Long> targetIds) {
+        final int quota = quotaManagement.getMaxActionsPerTarget();
+        ListUtils.partition(targetIds, Constants.MAX_ENTRIES_IN_STATEMENT)
+                .forEach(chunk -> actionRepository.findTargetIdsWithActionCountAtLeast(chunk, quota).stream()
+                        .findFirst().ifPresent(targetId -> QuotaHelper.assertAssignmentQuota(targetId, 1, quota,
+                                Action.class, Target.class, actionRepository::countByTargetId)));
+    }
 }
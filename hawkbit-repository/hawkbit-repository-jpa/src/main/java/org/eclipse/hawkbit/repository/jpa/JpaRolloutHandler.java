@@ -9,8 +9,21 @@
  */
 package org.eclipse.hawkbit.repository.jpa;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
+import java.util.stream.Collectors;
 
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.hawkbit.ContextAware;
@@ -18,12 +31,23 @@ import org.eclipse.hawkbit.repository.RolloutExecutor;
 import org.eclipse.hawkbit.repository.RolloutHandler;
 import org.eclipse.hawkbit.repository.RolloutManagement;
 import org.eclipse.hawkbit.repository.jpa.utils.DeploymentHelper;
+import org.eclipse.hawkbit.repository.model.Rollout;
+import org.eclipse.hawkbit.repository.model.Rollout.RolloutStatus;
 import org.eclipse.hawkbit.tenancy.TenantAware;
 import org.springframework.integration.support.locks.LockRegistry;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
 import org.springframework.transaction.PlatformTransactionManager;
 
 /**
  * JPA implementation of {@link RolloutHandler}.
+ * <p/>
+ * If a rollout concurrency greater than one is configured the running rollouts
+ * of a tenant are handled by up to that many threads in parallel. Rollouts in
+ * any other state (e.g. creating, starting or deleting) depend on the order in
+ * which they are handled and are still handled one after another before the
+ * running ones. The thread that holds the tenant lock takes part in the
+ * handling itself, the further threads are taken from a worker pool that is
+ * shared by all tenants.
  */
 @Slf4j
 public class JpaRolloutHandler implements RolloutHandler {
@@ -34,6 +58,8 @@ public class JpaRolloutHandler implements RolloutHandler {
     private final LockRegistry lockRegistry;
     private final PlatformTransactionManager txManager;
     private final ContextAware contextAware;
+    private final int rolloutConcurrency;
+    private final ExecutorService rolloutWorkers;
 
     /**
      * Constructor
@@ -48,17 +74,51 @@ public class JpaRolloutHandler implements RolloutHandler {
      *            to lock processes
      * @param txManager
      *            transaction manager interface
+     * @param contextAware
+     *            to run the rollout in its stored context
      */
     public JpaRolloutHandler(final TenantAware tenantAware, final RolloutManagement rolloutManagement,
             final RolloutExecutor rolloutExecutor, final LockRegistry lockRegistry,
             final PlatformTransactionManager txManager,
             final ContextAware contextAware) {
+        this(tenantAware, rolloutManagement, rolloutExecutor, lockRegistry, txManager, contextAware, 1, 0);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param tenantAware
+     *            the {@link TenantAware} bean holding the tenant information
+     * @param rolloutManagement
+     *            to fetch rollout related information from the datasource
+     * @param rolloutExecutor
+     *            to trigger executions for a specific rollout
+     * @param lockRegistry
+     *            to lock processes
+     * @param txManager
+     *            transaction manager interface
+     * @param contextAware
+     *            to run the rollout in its stored context
+     * @param rolloutConcurrency
+     *            maximum number of rollouts of a tenant handled in parallel
+     * @param workerThreads
+     *            size of the worker pool shared by all tenants, only used if
+     *            the rollout concurrency is greater than one
+     */
+    public JpaRolloutHandler(final TenantAware tenantAware, final RolloutManagement rolloutManagement,
+            final RolloutExecutor rolloutExecutor, final LockRegistry lockRegistry,
+            final PlatformTransactionManager txManager, final ContextAware contextAware,
+            final int rolloutConcurrency, final int workerThreads) {
         this.tenantAware = tenantAware;
         this.rolloutManagement = rolloutManagement;
         this.rolloutExecutor = rolloutExecutor;
         this.lockRegistry = lockRegistry;
         this.txManager = txManager;
         this.contextAware = contextAware;
+        this.rolloutConcurrency = rolloutConcurrency;
+        this.rolloutWorkers = rolloutConcurrency > 1 && workerThreads > 0
+                ? Executors.newFixedThreadPool(workerThreads, threadFactory())
+                : null;
     }
 
     @Override
@@ -80,7 +140,14 @@ public class JpaRolloutHandler implements RolloutHandler {
 
         try {
             log.trace("Trigger handling {} rollouts.", rollouts.size());
-            rollouts.forEach(rolloutId -> handleRolloutInNewTransaction(rolloutId, handlerId));
+            if (rolloutWorkers == null || rollouts.size() == 1) {
+                rollouts.forEach(rolloutId -> handleRolloutInNewTransaction(rolloutId, handlerId));
+            } else {
+                final Map<Boolean, List<Long>> runningPartition = rollouts.stream()
+                        .collect(Collectors.partitioningBy(this::isRunning));
+                runningPartition.get(false).forEach(rolloutId -> handleRolloutInNewTransaction(rolloutId, handlerId));
+                handleInParallel(runningPartition.get(true), handlerId);
+            }
         } finally {
             if (log.isTraceEnabled()) {
                 log.trace("Unlock lock {}", lock);
@@ -89,10 +156,135 @@ public class JpaRolloutHandler implements RolloutHandler {
         }
     }
 
+    /**
+     * Stops the worker pool used to handle the rollouts of a tenant in
+     * parallel.
+     */
+    public void shutdown() {
+        if (rolloutWorkers != null) {
+            rolloutWorkers.shutdown();
+        }
+    }
+
+    private boolean isRunning(final long rolloutId) {
+        return rolloutManagement.get(rolloutId).map(Rollout::getStatus).filter(RolloutStatus.RUNNING::equals)
+                .isPresent();
+    }
+
     private static String createRolloutLockKey(final String tenant) {
         return tenant + "-rollout";
     }
 
+    // the calling thread holds the tenant lock during the whole handling and
+    // drains the rollouts as well, so the handling completes even if all
+    // workers are busy with other tenants. Helpers that have not started
+    // when the calling thread is done are skipped, the started ones are
+    // awaited before the lock is released - even if the calling thread is
+    // interrupted, then the pending rollouts and the retries are skipped.
+    // Rollouts of a tenant may share targets, rollouts that failed
+    // concurrently (e.g. with an optimistic lock conflict) are retried one
+    // after another afterwards.
+    private void handleInParallel(final List<Long> rollouts, final String handlerId) {
+        if (rollouts.isEmpty()) {
+            return;
+        }
+
+        final Queue<Long> pending = new ConcurrentLinkedQueue<>(rollouts);
+        final Queue<Long> failed = new ConcurrentLinkedQueue<>();
+        final Runnable drain = () -> {
+            Long rolloutId;
+            while ((rolloutId = pending.poll()) != null) {
+                try {
+                    handleRolloutInNewTransaction(rolloutId, handlerId);
+                } catch (final RuntimeException e) {
+                    log.debug("Handling of rollout {} failed, retry it sequentially.", rolloutId, e);
+                    failed.add(rolloutId);
+                }
+            }
+        };
+
+        final int helperCount = Math.min(rolloutConcurrency, rollouts.size()) - 1;
+        final List<Helper> helpers = new ArrayList<>(helperCount);
+        for (int i = 0; i < helperCount; i++) {
+            final Helper helper = new Helper(drain);
+            helper.future = rolloutWorkers.submit(new DelegatingSecurityContextRunnable(helper));
+            helpers.add(helper);
+        }
+
+        drain.run();
+
+        boolean interrupted = false;
+        for (final Helper helper : helpers) {
+            if (helper.claim()) {
+                // not started yet, nothing left to do for it
+                helper.future.cancel(false);
+            } else {
+                interrupted |= awaitHelper(helper.future, pending, handlerId);
+            }
+        }
+
+        if (interrupted) {
+            log.warn("Interrupted while waiting for the rollout handling of {}, skip the retries.", handlerId);
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        failed.forEach(rolloutId -> handleRolloutInNewTransaction(rolloutId, handlerId));
+    }
+
+    // waits until the helper is done, also if interrupted - the helper
+    // handles the rollouts under the tenant lock of the calling thread.
+    // Returns if the calling thread has been interrupted meanwhile.
+    private static boolean awaitHelper(final Future<?> helper, final Queue<Long> pending, final String handlerId) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                helper.get();
+                return interrupted;
+            } catch (final InterruptedException e) {
+                interrupted = true;
+                // the helper finishes its current rollout only
+                pending.clear();
+            } catch (final ExecutionException e) {
+                log.error("Rollout handling of {} failed.", handlerId, e.getCause());
+                return interrupted;
+            }
+        }
+    }
+
+    private static final class Helper implements Runnable {
+
+        private final AtomicBoolean claimed = new AtomicBoolean();
+        private final Runnable delegate;
+        private Future<?> future;
+
+        private Helper(final Runnable delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void run() {
+            if (claim()) {
+                delegate.run();
+            }
+        }
+
+        // a helper runs at most once, either by a worker or (as no-op) by the
+        // caller, whichever claims it first
+        private boolean claim() {
+            return claimed.compareAndSet(false, true);
+        }
+    }
+
+    private static ThreadFactory threadFactory() {
+        final AtomicLong count = new AtomicLong(0);
+        return runnable -> {
+            final Thread thread = Executors.defaultThreadFactory().newThread(runnable);
+            thread.setName(String.format(Locale.ROOT, "rollout-handler-%d", count.getAndIncrement()));
+            return thread;
+        };
+    }
+
     // run in a tenant context, i.e. contextAware.getCurrentTenant() returns the tenant
     // the rollout is made for
     private void handleRolloutInNewTransaction(final long rolloutId, final String handlerId) {
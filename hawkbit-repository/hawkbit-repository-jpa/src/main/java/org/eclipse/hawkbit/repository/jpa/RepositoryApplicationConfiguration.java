@@ -45,6 +45,8 @@ import org.eclipse.hawkbit.repository.RolloutStatusCache;
 import org.eclipse.hawkbit.repository.SoftwareModuleManagement;
 import org.eclipse.hawkbit.repository.SoftwareModuleTypeManagement;
 import org.eclipse.hawkbit.repository.SystemManagement;
+import org.eclipse.hawkbit.repository.TargetActionCache;
+import org.eclipse.hawkbit.repository.TargetAuthenticationCache;
 import org.eclipse.hawkbit.repository.TargetFilterQueryManagement;
 import org.eclipse.hawkbit.repository.TargetManagement;
 import org.eclipse.hawkbit.repository.TargetTagManagement;
@@ -67,6 +69,7 @@ import org.eclipse.hawkbit.repository.event.remote.TargetPollEvent;
 import org.eclipse.hawkbit.repository.jpa.acm.AccessController;
 import org.eclipse.hawkbit.repository.jpa.aspects.ExceptionMappingAspectHandler;
 import org.eclipse.hawkbit.repository.jpa.autoassign.AutoAssignChecker;
+import org.eclipse.hawkbit.repository.jpa.autoassign.AutoAssignProperties;
 import org.eclipse.hawkbit.repository.jpa.autoassign.AutoAssignScheduler;
 import org.eclipse.hawkbit.repository.jpa.autocleanup.AutoActionCleanup;
 import org.eclipse.hawkbit.repository.jpa.autocleanup.AutoCleanupScheduler;
@@ -80,6 +83,7 @@ import org.eclipse.hawkbit.repository.jpa.builder.JpaTargetBuilder;
 import org.eclipse.hawkbit.repository.jpa.builder.JpaTargetFilterQueryBuilder;
 import org.eclipse.hawkbit.repository.jpa.builder.JpaTargetTypeBuilder;
 import org.eclipse.hawkbit.repository.jpa.configuration.MultiTenantJpaTransactionManager;
+import org.eclipse.hawkbit.repository.jpa.event.EntityEventBatcher;
 import org.eclipse.hawkbit.repository.jpa.event.JpaEventEntityManager;
 import org.eclipse.hawkbit.repository.jpa.executor.AfterTransactionCommitDefaultServiceExecutor;
 import org.eclipse.hawkbit.repository.jpa.executor.AfterTransactionCommitExecutor;
@@ -102,6 +106,7 @@ import org.eclipse.hawkbit.repository.jpa.management.JpaTargetTagManagement;
 import org.eclipse.hawkbit.repository.jpa.management.JpaTargetTypeManagement;
 import org.eclipse.hawkbit.repository.jpa.management.JpaTenantConfigurationManagement;
 import org.eclipse.hawkbit.repository.jpa.management.JpaTenantStatsManagement;
+import org.eclipse.hawkbit.repository.jpa.management.TargetPollQueue;
 import org.eclipse.hawkbit.repository.jpa.model.JpaAction;
 import org.eclipse.hawkbit.repository.jpa.model.JpaArtifact;
 import org.eclipse.hawkbit.repository.jpa.model.JpaDistributionSet;
@@ -111,6 +116,7 @@ import org.eclipse.hawkbit.repository.jpa.model.JpaSoftwareModuleType;
 import org.eclipse.hawkbit.repository.jpa.model.JpaTarget;
 import org.eclipse.hawkbit.repository.jpa.model.JpaTargetType;
 import org.eclipse.hawkbit.repository.jpa.model.helper.AfterTransactionCommitExecutorHolder;
+import org.eclipse.hawkbit.repository.jpa.model.helper.EntityEventBatcherHolder;
 import org.eclipse.hawkbit.repository.jpa.model.helper.EntityInterceptorHolder;
 import org.eclipse.hawkbit.repository.jpa.model.helper.SecurityTokenGeneratorHolder;
 import org.eclipse.hawkbit.repository.jpa.model.helper.TenantAwareHolder;
@@ -122,6 +128,7 @@ import org.eclipse.hawkbit.repository.jpa.repository.DistributionSetTagRepositor
 import org.eclipse.hawkbit.repository.jpa.repository.DistributionSetTypeRepository;
 import org.eclipse.hawkbit.repository.jpa.repository.LocalArtifactRepository;
 import org.eclipse.hawkbit.repository.jpa.repository.RolloutGroupRepository;
+import org.eclipse.hawkbit.repository.jpa.repository.RolloutGroupStatusCountRepository;
 import org.eclipse.hawkbit.repository.jpa.repository.RolloutRepository;
 import org.eclipse.hawkbit.repository.jpa.repository.RolloutTargetGroupRepository;
 import org.eclipse.hawkbit.repository.jpa.repository.HawkBitBaseRepository;
@@ -134,6 +141,9 @@ import org.eclipse.hawkbit.repository.jpa.repository.TargetRepository;
 import org.eclipse.hawkbit.repository.jpa.repository.TargetTagRepository;
 import org.eclipse.hawkbit.repository.jpa.repository.TargetTypeRepository;
 import org.eclipse.hawkbit.repository.jpa.rollout.RolloutScheduler;
+import org.eclipse.hawkbit.repository.jpa.rollout.RolloutSchedulerProperties;
+import org.eclipse.hawkbit.repository.jpa.rollout.RolloutStatusCountScheduler;
+import org.eclipse.hawkbit.repository.jpa.rollout.RolloutStatusCounter;
 import org.eclipse.hawkbit.repository.jpa.rollout.condition.PauseRolloutGroupAction;
 import org.eclipse.hawkbit.repository.jpa.rollout.condition.RolloutGroupActionEvaluator;
 import org.eclipse.hawkbit.repository.jpa.rollout.condition.RolloutGroupConditionEvaluator;
@@ -179,6 +189,8 @@ import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
 import org.springframework.boot.autoconfigure.orm.jpa.JpaBaseConfiguration;
 import org.springframework.boot.autoconfigure.orm.jpa.JpaProperties;
 import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizers;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.bus.ServiceMatcher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.EnableAspectJAutoProxy;
@@ -213,6 +225,7 @@ import org.springframework.validation.beanvalidation.MethodValidationPostProcess
 @EnableRetry
 @EntityScan("org.eclipse.hawkbit.repository.jpa.model")
 @PropertySource("classpath:/hawkbit-jpa-defaults.properties")
+@EnableConfigurationProperties({ RolloutSchedulerProperties.class, AutoAssignProperties.class })
 @Import({ RepositoryDefaultConfiguration.class, DataSourceAutoConfiguration.class,
         SystemManagementCacheKeyGenerator.class })
 @AutoConfigureAfter(DataSourceAutoConfiguration.class)
@@ -292,6 +305,22 @@ public class RepositoryApplicationConfiguration extends JpaBaseConfiguration {
         return new RolloutStatusCache(tenantAware);
     }
 
+    @Bean
+    @ConditionalOnMissingBean
+    TargetActionCache targetActionCache(final TenantAware tenantAware,
+            final RepositoryProperties repositoryProperties) {
+        return new TargetActionCache(tenantAware, repositoryProperties.getActionCacheSize(),
+                repositoryProperties.getActionCacheTtl());
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    TargetAuthenticationCache targetAuthenticationCache(final TenantAware tenantAware,
+            final RepositoryProperties repositoryProperties) {
+        return new TargetAuthenticationCache(tenantAware, repositoryProperties.getAuthenticationCacheSize(),
+                repositoryProperties.getAuthenticationCacheTtl());
+    }
+
     @Bean
     @ConditionalOnMissingBean
     ApplicationEventFilter applicationEventFilter(final RepositoryProperties repositoryProperties) {
@@ -443,6 +472,33 @@ public class RepositoryApplicationConfiguration extends JpaBaseConfiguration {
         return AfterTransactionCommitExecutorHolder.getInstance();
     }
 
+    /**
+     * {@link EntityEventBatcher} bean.
+     *
+     * @param repositoryProperties
+     *            for the batch threshold and size
+     * @param afterCommit
+     *            to publish the events after the commit
+     * @param eventPublisherHolder
+     *            to publish the events
+     * @return a new {@link EntityEventBatcher}
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    EntityEventBatcher entityEventBatcher(final RepositoryProperties repositoryProperties,
+            final AfterTransactionCommitExecutor afterCommit, final EventPublisherHolder eventPublisherHolder) {
+        return new EntityEventBatcher(repositoryProperties, afterCommit, eventPublisherHolder);
+    }
+
+    /**
+     *
+     * @return the singleton instance of the {@link EntityEventBatcherHolder}
+     */
+    @Bean
+    EntityEventBatcherHolder entityEventBatcherHolder() {
+        return EntityEventBatcherHolder.getInstance();
+    }
+
     /**
      * Defines the validation processor bean.
      *
@@ -732,9 +788,14 @@ public class RepositoryApplicationConfiguration extends JpaBaseConfiguration {
     @ConditionalOnMissingBean
     RolloutHandler rolloutHandler(final TenantAware tenantAware, final RolloutManagement rolloutManagement,
             final RolloutExecutor rolloutExecutor, final LockRegistry lockRegistry,
-            final PlatformTransactionManager txManager, final ContextAware contextAware) {
+            final PlatformTransactionManager txManager, final ContextAware contextAware,
+            final RolloutSchedulerProperties rolloutSchedulerProperties) {
+        final int rolloutConcurrency = rolloutSchedulerProperties.getRolloutConcurrency();
+        // every concurrently handled tenant may get its share of helper threads
+        final int workerThreads = Math.max(1, rolloutSchedulerProperties.getTenantConcurrency())
+                * (rolloutConcurrency - 1);
         return new JpaRolloutHandler(tenantAware, rolloutManagement, rolloutExecutor, lockRegistry, txManager,
-                contextAware);
+                contextAware, rolloutConcurrency, workerThreads);
     }
 
     @Bean
@@ -747,11 +808,13 @@ public class RepositoryApplicationConfiguration extends JpaBaseConfiguration {
             final DeploymentManagement deploymentManagement, final TargetManagement targetManagement,
             final EventPublisherHolder eventPublisherHolder, final PlatformTransactionManager txManager,
             final RolloutApprovalStrategy rolloutApprovalStrategy,
-            final RolloutGroupEvaluationManager evaluationManager, final RolloutManagement rolloutManagement) {
+            final RolloutGroupEvaluationManager evaluationManager, final RolloutManagement rolloutManagement,
+            final AuditorAware<String> auditorProvider, final RepositoryProperties repositoryProperties,
+            final JpaProperties properties) {
         return new JpaRolloutExecutor(rolloutTargetGroupRepository, entityManager, rolloutRepository, actionRepository,
                 rolloutGroupRepository, afterCommit, tenantAware, rolloutGroupManagement, quotaManagement,
                 deploymentManagement, targetManagement, eventPublisherHolder, txManager, rolloutApprovalStrategy,
-                evaluationManager, rolloutManagement);
+                evaluationManager, rolloutManagement, auditorProvider, repositoryProperties, properties.getDatabase());
     }
 
     @Bean
@@ -794,9 +857,29 @@ public class RepositoryApplicationConfiguration extends JpaBaseConfiguration {
                                                   final RolloutRepository rolloutRepository, final ActionRepository actionRepository,
                                                   final TargetRepository targetRepository, final EntityManager entityManager,
                                                   final VirtualPropertyReplacer virtualPropertyReplacer, final RolloutStatusCache rolloutStatusCache,
+                                                  final ObjectProvider<RolloutStatusCounter> rolloutStatusCounter,
                                                   final JpaProperties properties) {
         return new JpaRolloutGroupManagement(rolloutGroupRepository, rolloutRepository, actionRepository,
-                targetRepository, entityManager, virtualPropertyReplacer, rolloutStatusCache, properties.getDatabase());
+                targetRepository, entityManager, virtualPropertyReplacer, rolloutStatusCache,
+                rolloutStatusCounter.getIfAvailable(), properties.getDatabase());
+    }
+
+    /**
+     * {@link RolloutStatusCounter} bean, if the materialized rollout status
+     * counts are enabled.
+     *
+     * @return a new {@link RolloutStatusCounter}
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "hawkbit.rollout.scheduler", name = "status-counts-enabled")
+    RolloutStatusCounter rolloutStatusCounter(final RolloutGroupStatusCountRepository rolloutGroupStatusCountRepository,
+            final ActionRepository actionRepository, final RolloutGroupRepository rolloutGroupRepository,
+            final PlatformTransactionManager txManager, final LockRegistry lockRegistry,
+            final SystemSecurityContext systemSecurityContext, final TenantAware tenantAware,
+            final ObjectProvider<ServiceMatcher> serviceMatcher) {
+        return new RolloutStatusCounter(rolloutGroupStatusCountRepository, actionRepository, rolloutGroupRepository,
+                txManager, lockRegistry, systemSecurityContext, tenantAware, serviceMatcher.getIfAvailable());
     }
 
     /**
@@ -831,17 +914,31 @@ public class RepositoryApplicationConfiguration extends JpaBaseConfiguration {
     }
 
     /**
-     * {@link JpaControllerManagement} bean.
+     * {@link TargetPollQueue} bean.
      *
-     * @return a new {@link ControllerManagement}
+     * @return the queue of target polls persisted in the background by
+     *         {@link JpaControllerManagement}
      */
     @Bean
     @ConditionalOnMissingBean
+    TargetPollQueue targetPollQueue(final RepositoryProperties repositoryProperties) {
+        return new TargetPollQueue(repositoryProperties.getPollPersistenceQueueSize());
+    }
+
+    /**
+     * {@link JpaControllerManagement} bean. The queued target polls are
+     * persisted on shutdown.
+     *
+     * @return a new {@link ControllerManagement}
+     */
+    @Bean(destroyMethod = "shutdown")
+    @ConditionalOnMissingBean
     ControllerManagement controllerManagement(final ScheduledExecutorService executorService,
-            final ActionRepository actionRepository, final ActionStatusRepository actionStatusRepository,
-            final QuotaManagement quotaManagement, final RepositoryProperties repositoryProperties) {
-        return new JpaControllerManagement(executorService, actionRepository, actionStatusRepository, quotaManagement,
-                repositoryProperties);
+            final TargetPollQueue targetPollQueue, final ActionRepository actionRepository,
+            final ActionStatusRepository actionStatusRepository, final QuotaManagement quotaManagement,
+            final RepositoryProperties repositoryProperties) {
+        return new JpaControllerManagement(executorService, targetPollQueue, actionRepository,
+                actionStatusRepository, quotaManagement, repositoryProperties);
     }
 
     @Bean
@@ -849,9 +946,10 @@ public class RepositoryApplicationConfiguration extends JpaBaseConfiguration {
     ArtifactManagement artifactManagement(
             final EntityManager entityManager, final LocalArtifactRepository localArtifactRepository,
             final SoftwareModuleRepository softwareModuleRepository, final ArtifactRepository artifactRepository,
-            final QuotaManagement quotaManagement, final TenantAware tenantAware) {
+            final QuotaManagement quotaManagement, final TenantAware tenantAware,
+            final PlatformTransactionManager txManager) {
         return new JpaArtifactManagement(entityManager, localArtifactRepository, softwareModuleRepository, artifactRepository,
-                quotaManagement, tenantAware);
+                quotaManagement, tenantAware, txManager);
     }
 
     /**
@@ -902,15 +1000,18 @@ public class RepositoryApplicationConfiguration extends JpaBaseConfiguration {
      *            to assign distribution sets to targets
      * @param transactionManager
      *            to run transactions
+     * @param autoAssignProperties
+     *            to configure the incremental check
      * @return a new {@link AutoAssignChecker}
      */
     @Bean
     @ConditionalOnMissingBean
     AutoAssignExecutor autoAssignExecutor(final TargetFilterQueryManagement targetFilterQueryManagement,
             final TargetManagement targetManagement, final DeploymentManagement deploymentManagement,
-            final PlatformTransactionManager transactionManager, final ContextAware contextAware) {
+            final PlatformTransactionManager transactionManager, final ContextAware contextAware,
+            final AutoAssignProperties autoAssignProperties) {
         return new AutoAssignChecker(targetFilterQueryManagement, targetManagement, deploymentManagement,
-                transactionManager, contextAware);
+                transactionManager, contextAware, autoAssignProperties);
     }
 
     /**
@@ -993,6 +1094,8 @@ public class RepositoryApplicationConfiguration extends JpaBaseConfiguration {
      *            to run the rollout handler
      * @param systemSecurityContext
      *            to run as system
+     * @param rolloutSchedulerProperties
+     *            to configure the number of tenants handled in parallel
      * @return a new {@link RolloutScheduler} bean.
      */
     @Bean
@@ -1000,8 +1103,33 @@ public class RepositoryApplicationConfiguration extends JpaBaseConfiguration {
     @Profile("!test")
     @ConditionalOnProperty(prefix = "hawkbit.rollout.scheduler", name = "enabled", matchIfMissing = true)
     RolloutScheduler rolloutScheduler(final SystemManagement systemManagement,
-            final RolloutHandler rolloutHandler, final SystemSecurityContext systemSecurityContext) {
-        return new RolloutScheduler(systemManagement, rolloutHandler, systemSecurityContext);
+            final RolloutHandler rolloutHandler, final SystemSecurityContext systemSecurityContext,
+            final RolloutSchedulerProperties rolloutSchedulerProperties) {
+        return new RolloutScheduler(systemManagement, rolloutHandler, systemSecurityContext,
+                rolloutSchedulerProperties.getTenantConcurrency());
+    }
+
+    /**
+     * {@link RolloutStatusCountScheduler} bean.
+     * <p/>
+     * Note: does not activate in test profile, otherwise it is hard to test the
+     * reconciliation of the rollout status counts.
+     *
+     * @param rolloutStatusCounter
+     *            to reconcile the rollout status counts
+     * @param systemManagement
+     *            to find all tenants
+     * @param systemSecurityContext
+     *            to recount as system
+     * @return a new {@link RolloutStatusCountScheduler} bean.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @Profile("!test")
+    @ConditionalOnProperty(prefix = "hawkbit.rollout.scheduler", name = "status-counts-enabled")
+    RolloutStatusCountScheduler rolloutStatusCountScheduler(final RolloutStatusCounter rolloutStatusCounter,
+            final SystemManagement systemManagement, final SystemSecurityContext systemSecurityContext) {
+        return new RolloutStatusCountScheduler(rolloutStatusCounter, systemManagement, systemSecurityContext);
     }
 
     /**
@@ -9,8 +9,13 @@
  */
 package org.eclipse.hawkbit.repository.jpa.autoassign;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 import jakarta.persistence.PersistenceException;
 
@@ -18,11 +23,15 @@ import lombok.extern.slf4j.Slf4j;
 import org.eclipse.hawkbit.ContextAware;
 import org.eclipse.hawkbit.exception.AbstractServerRtException;
 import org.eclipse.hawkbit.repository.DeploymentManagement;
+import org.eclipse.hawkbit.repository.TargetFields;
 import org.eclipse.hawkbit.repository.TargetFilterQueryManagement;
 import org.eclipse.hawkbit.repository.TargetManagement;
+import org.eclipse.hawkbit.repository.event.remote.TargetUpdatedBatchEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.TargetUpdatedEvent;
 import org.eclipse.hawkbit.repository.jpa.configuration.Constants;
 import org.eclipse.hawkbit.repository.model.Target;
 import org.eclipse.hawkbit.repository.model.TargetFilterQuery;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Propagation;
@@ -34,14 +43,31 @@ import org.springframework.transaction.annotation.Transactional;
  * queries are listed. For every target filter query (TFQ) the auto assign DS is
  * retrieved. All targets get listed per target filter query, that match the TFQ
  * and that don't have the auto assign DS in their action history.
+ * <p/>
+ * If {@link AutoAssignProperties#isIncremental()} is enabled, only the targets
+ * that changed since the previous check of the tenant are listed, i.e. that
+ * were created or modified since then (by {@link Target#getLastModifiedAt()})
+ * or that were updated by their controller (tracked by
+ * {@link TargetUpdatedEvent}s, as the controller does not change
+ * {@link Target#getLastModifiedAt()}). TFQs that changed since the previous
+ * check, the first check of a tenant and a check every
+ * {@link AutoAssignProperties#getFullScanInterval()} list all targets.
  */
 @Slf4j
 public class AutoAssignChecker extends AbstractAutoAssignExecutor {
 
     private final TargetManagement targetManagement;
 
+    private final AutoAssignProperties properties;
+
+    private final Map<String, CheckState> checkStates = new ConcurrentHashMap<>();
+
+    private final Map<String, Set<Long>> updatedTargets = new ConcurrentHashMap<>();
+
+    private final Set<String> overflowedTenants = ConcurrentHashMap.newKeySet();
+
     /**
-     * Instantiates a new auto assign checker
+     * Instantiates a new auto assign checker that checks all targets
      *
      * @param targetFilterQueryManagement
      *            to get all target filter queries
@@ -57,16 +83,130 @@ public class AutoAssignChecker extends AbstractAutoAssignExecutor {
     public AutoAssignChecker(final TargetFilterQueryManagement targetFilterQueryManagement,
             final TargetManagement targetManagement, final DeploymentManagement deploymentManagement,
             final PlatformTransactionManager transactionManager, final ContextAware contextAware) {
+        this(targetFilterQueryManagement, targetManagement, deploymentManagement, transactionManager, contextAware,
+                new AutoAssignProperties());
+    }
+
+    /**
+     * Instantiates a new auto assign checker
+     *
+     * @param targetFilterQueryManagement
+     *            to get all target filter queries
+     * @param targetManagement
+     *            to get targets
+     * @param deploymentManagement
+     *            to assign distribution sets to targets
+     * @param transactionManager
+     *            to run transactions
+     * @param contextAware
+     *            to handle the context
+     * @param properties
+     *            to configure the incremental check
+     */
+    public AutoAssignChecker(final TargetFilterQueryManagement targetFilterQueryManagement,
+            final TargetManagement targetManagement, final DeploymentManagement deploymentManagement,
+            final PlatformTransactionManager transactionManager, final ContextAware contextAware,
+            final AutoAssignProperties properties) {
         super(targetFilterQueryManagement, deploymentManagement, transactionManager, contextAware);
         this.targetManagement = targetManagement;
+        this.properties = properties;
     }
 
     @Override
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void checkAllTargets() {
-        log.debug("Auto assign check call for tenant {} started", getContextAware().getCurrentTenant());
-        forEachFilterWithAutoAssignDS(this::checkByTargetFilterQueryAndAssignDS);
-        log.debug("Auto assign check call for tenant {} finished", getContextAware().getCurrentTenant());
+        // upper case as the tenant of the entities (and so of the events)
+        final String tenant = getContextAware().getCurrentTenant().toUpperCase();
+        log.debug("Auto assign check call for tenant {} started", tenant);
+
+        final long now = System.currentTimeMillis();
+        final CheckState previous = checkStates.get(tenant);
+        if (isFullScan(tenant, previous, now)) {
+            updatedTargets.remove(tenant);
+            forEachFilterWithAutoAssignDS(
+                    filter -> checkByTargetFilterQueryAndAssignDS(filter, filter.getQuery()));
+            checkStates.put(tenant, new CheckState(now, now));
+        } else {
+            final long changedSince = previous.lastCheck() - properties.getChangeOverlap().toMillis();
+            final String changedTargets = changedTargetsQuery(changedSince, drainUpdatedTargets(tenant));
+            log.debug("Auto assign check call for tenant {} checks the targets changed since {}", tenant,
+                    changedSince);
+            forEachFilterWithAutoAssignDS(filter -> checkByTargetFilterQueryAndAssignDS(filter,
+                    filter.getLastModifiedAt() >= changedSince ? filter.getQuery()
+                            : "(" + filter.getQuery() + ");" + changedTargets));
+            checkStates.put(tenant, new CheckState(now, previous.lastFullScan()));
+        }
+
+        log.debug("Auto assign check call for tenant {} finished", tenant);
+    }
+
+    /**
+     * Tracks the targets updated since the previous check of the tenant if
+     * the incremental check is enabled.
+     *
+     * @param event
+     *            of the updated target
+     */
+    @EventListener(classes = TargetUpdatedEvent.class)
+    public void onTargetUpdated(final TargetUpdatedEvent event) {
+        trackUpdatedTargets(event.getTenant(), List.of(event.getEntityId()));
+    }
+
+    /**
+     * Tracks the targets of a batch of updated targets like
+     * {@link #onTargetUpdated(TargetUpdatedEvent)}.
+     *
+     * @param event
+     *            of the updated targets
+     */
+    @EventListener(classes = TargetUpdatedBatchEvent.class)
+    public void onTargetsUpdated(final TargetUpdatedBatchEvent event) {
+        trackUpdatedTargets(event.getTenant(), event.getEntityIds());
+    }
+
+    private void trackUpdatedTargets(final String eventTenant, final Collection<Long> targetIds) {
+        final String tenant = eventTenant.toUpperCase();
+        // the next check of a tenant not checked yet is a full scan anyway
+        if (!properties.isIncremental() || !checkStates.containsKey(tenant) || overflowedTenants.contains(tenant)) {
+            return;
+        }
+
+        final Set<Long> updated = updatedTargets.computeIfAbsent(tenant, key -> ConcurrentHashMap.newKeySet());
+        updated.addAll(targetIds);
+        if (updated.size() > properties.getMaxTrackedTargets()) {
+            overflowedTenants.add(tenant);
+            updatedTargets.remove(tenant);
+        }
+    }
+
+    private boolean isFullScan(final String tenant, final CheckState previous, final long now) {
+        // evaluated in any case to reset the overflow
+        final boolean overflowed = overflowedTenants.remove(tenant);
+        return !properties.isIncremental() || previous == null || overflowed
+                || now - previous.lastFullScan() >= properties.getFullScanInterval().toMillis();
+    }
+
+    private List<String> drainUpdatedTargets(final String tenant) {
+        final Set<Long> updated = updatedTargets.remove(tenant);
+        if (updated == null || updated.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return targetManagement.get(updated).stream().map(Target::getControllerId).toList();
+    }
+
+    private static String changedTargetsQuery(final long changedSince, final List<String> updatedControllerIds) {
+        final String modified = TargetFields.LASTMODIFIEDAT.name() + "=ge=" + changedSince;
+        if (updatedControllerIds.isEmpty()) {
+            return modified;
+        }
+
+        return "(" + modified + "," + TargetFields.CONTROLLERID.name() + "=in=("
+                + updatedControllerIds.stream().map(AutoAssignChecker::quote).collect(Collectors.joining(","))
+                + "))";
+    }
+
+    private static String quote(final String value) {
+        return "'" + value.replace("\\", "\\\\").replace("'", "\\'") + "'";
     }
 
     @Override
@@ -85,8 +225,12 @@ public class AutoAssignChecker extends AbstractAutoAssignExecutor {
      *
      * @param targetFilterQuery
      *            the target filter query
+     * @param query
+     *            to list the targets, the query of the target filter query
+     *            optionally restricted to the changed targets
      */
-    private void checkByTargetFilterQueryAndAssignDS(final TargetFilterQuery targetFilterQuery) {
+    private void checkByTargetFilterQueryAndAssignDS(final TargetFilterQuery targetFilterQuery,
+            final String query) {
         log.debug("Auto assign check call for tenant {} and target filter query id {} started",
                 getContextAware().getCurrentTenant(), targetFilterQuery.getId());
         try {
@@ -95,7 +239,7 @@ public class AutoAssignChecker extends AbstractAutoAssignExecutor {
                 final List<String> controllerIds = targetManagement
                         .findByTargetFilterQueryAndNonDSAndCompatibleAndUpdatable(
                                 PageRequest.of(0, Constants.MAX_ENTRIES_IN_STATEMENT),
-                                targetFilterQuery.getAutoAssignDistributionSet().getId(), targetFilterQuery.getQuery())
+                                targetFilterQuery.getAutoAssignDistributionSet().getId(), query)
                         .getContent().stream().map(Target::getControllerId).toList();
                 log.debug(
                         "Retrieved {} auto assign targets for tenant {} and target filter query id {}, starting with assignment",
@@ -131,4 +275,6 @@ public class AutoAssignChecker extends AbstractAutoAssignExecutor {
         log.debug("Auto assign check call for tenant {} and target filter query id {} finished",
                 getContextAware().getCurrentTenant(), targetFilterQuery.getId());
     }
+
+    private record CheckState(long lastCheck, long lastFullScan) {}
 }
@@ -0,0 +1,51 @@
+/**
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.autoassign;
+
+import java.time.Duration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties of the {@link AutoAssignChecker}.
+ */
+@Data
+@ConfigurationProperties("hawkbit.autoassign")
+public class AutoAssignProperties {
+
+    /**
+     * Set to <code>true</code> to check only the targets that changed since
+     * the last check of the tenant, instead of all targets. Target filter
+     * queries that changed since the last check are always checked against
+     * all targets.
+     */
+    private boolean incremental;
+
+    /**
+     * Interval in which all targets are checked even if the incremental check
+     * is enabled.
+     */
+    private Duration fullScanInterval = Duration.ofHours(1);
+
+    /**
+     * Time the change window of an incremental check reaches back before the
+     * start of the previous check. Covers transactions that were committed
+     * after the previous check started and clock differences of the nodes of
+     * a cluster.
+     */
+    private Duration changeOverlap = Duration.ofMinutes(1);
+
+    /**
+     * Maximum number of updated targets that are tracked per tenant between
+     * two checks. If more targets are updated, the next check is a full scan.
+     */
+    private int maxTrackedTargets = 500;
+}
@@ -76,18 +76,22 @@ public class AutoAssignScheduler {
         // https://bugs.eclipse.org/bugs/show_bug.cgi?id=355458. So
         // iterate through all tenants and execute the rollout check for
         // each tenant separately.
-        final Lock lock = lockRegistry.obtain("autoassign");
-        if (!lock.tryLock()) {
-            return null;
-        }
+        // The lock is acquired per tenant, so with a cluster wide lock
+        // registry the nodes split the tenants between them.
+        systemManagement.forEachTenant(tenant -> {
+            final Lock lock = lockRegistry.obtain("autoassign-" + tenant);
+            if (!lock.tryLock()) {
+                return;
+            }
 
-        try {
-            log.debug("Auto assign scheduled execution has acquired lock and started for each tenant.");
-            systemManagement.forEachTenant(tenant -> autoAssignExecutor.checkAllTargets());
-        } finally {
-            lock.unlock();
-            log.debug("Auto assign scheduled execution has released lock and finished.");
-        }
+            try {
+                log.debug("Auto assign scheduled execution has acquired lock and started for tenant {}.", tenant);
+                autoAssignExecutor.checkAllTargets();
+            } finally {
+                lock.unlock();
+                log.debug("Auto assign scheduled execution has released lock and finished for tenant {}.", tenant);
+            }
+        });
 
         return null;
     }
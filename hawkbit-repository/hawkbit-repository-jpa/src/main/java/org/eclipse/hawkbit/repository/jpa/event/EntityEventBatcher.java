@@ -0,0 +1,193 @@
+/**
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.event;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.commons.collections4.ListUtils;
+import org.eclipse.hawkbit.repository.RepositoryProperties;
+import org.eclipse.hawkbit.repository.event.remote.ActionCreatedBatchEvent;
+import org.eclipse.hawkbit.repository.event.remote.ActionUpdatedBatchEvent;
+import org.eclipse.hawkbit.repository.event.remote.RemoteEntityBatchEvent;
+import org.eclipse.hawkbit.repository.event.remote.TargetUpdatedBatchEvent;
+import org.eclipse.hawkbit.repository.jpa.executor.AfterTransactionCommitExecutor;
+import org.eclipse.hawkbit.repository.jpa.model.JpaAction;
+import org.eclipse.hawkbit.repository.jpa.model.JpaTarget;
+import org.eclipse.hawkbit.repository.model.BaseEntity;
+import org.eclipse.hawkbit.repository.model.TenantAwareBaseEntity;
+import org.eclipse.hawkbit.repository.model.helper.EventPublisherHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Collects the updated targets and the created or updated actions of a
+ * transaction. If at least
+ * {@link RepositoryProperties#getEntityEventBatchThreshold()} entities have
+ * been changed the same way, batch events with their IDs are published after
+ * the commit instead of one event per entity. Otherwise, the events of the
+ * single entities are published as before.
+ * <p>
+ * The events of a batch are published at the position of its first change
+ * within the after commit runnables of the transaction.
+ */
+public class EntityEventBatcher {
+
+    private final RepositoryProperties repositoryProperties;
+    private final AfterTransactionCommitExecutor afterCommit;
+    private final EventPublisherHolder eventPublisherHolder;
+
+    /**
+     * Constructor.
+     *
+     * @param repositoryProperties
+     *            for the batch threshold and size
+     * @param afterCommit
+     *            to publish the events after the commit
+     * @param eventPublisherHolder
+     *            to publish the events
+     */
+    public EntityEventBatcher(final RepositoryProperties repositoryProperties,
+            final AfterTransactionCommitExecutor afterCommit, final EventPublisherHolder eventPublisherHolder) {
+        this.repositoryProperties = repositoryProperties;
+        this.afterCommit = afterCommit;
+        this.eventPublisherHolder = eventPublisherHolder;
+    }
+
+    /**
+     * Collects the creation of the given entity.
+     *
+     * @param entity
+     *            the created entity
+     * @param singleEvent
+     *            publishes the event of the single entity
+     * @return <code>true</code> if collected, <code>false</code> if the
+     *         caller has to publish the event of the entity itself
+     */
+    public boolean collectCreated(final Object entity, final Runnable singleEvent) {
+        return entity instanceof JpaAction && collect(BatchType.ACTION_CREATED, entity, singleEvent);
+    }
+
+    /**
+     * Collects the update of the given entity.
+     *
+     * @param entity
+     *            the updated entity
+     * @param singleEvent
+     *            publishes the event of the single entity
+     * @return <code>true</code> if collected, <code>false</code> if the
+     *         caller has to publish the event of the entity itself
+     */
+    public boolean collectUpdated(final Object entity, final Runnable singleEvent) {
+        if (entity instanceof JpaAction) {
+            return collect(BatchType.ACTION_UPDATED, entity, singleEvent);
+        }
+        return entity instanceof JpaTarget && collect(BatchType.TARGET_UPDATED, entity, singleEvent);
+    }
+
+    private boolean collect(final BatchType type, final Object entity, final Runnable singleEvent) {
+        if (repositoryProperties.getEntityEventBatchThreshold() <= 0
+                || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return false;
+        }
+
+        final TenantAwareBaseEntity tenantAwareEntity = (TenantAwareBaseEntity) entity;
+        final BatchKey key = new BatchKey(type, tenantAwareEntity.getTenant());
+        final Map<BatchKey, Batch> batches = getTransactionBatches();
+        Batch batch = batches.get(key);
+        if (batch == null) {
+            final Batch newBatch = new Batch();
+            batches.put(key, newBatch);
+            afterCommit.afterCommit(() -> publish(key, newBatch));
+            batch = newBatch;
+        }
+        batch.singleEvents.add(singleEvent);
+        batch.entities.add(entity instanceof JpaAction action
+                ? new EntityRef(action.getId(), BaseEntity.getIdOrNull(action.getTarget()),
+                        BaseEntity.getIdOrNull(action.getRolloutGroup()), BaseEntity.getIdOrNull(action.getRollout()))
+                : new EntityRef(tenantAwareEntity.getId(), tenantAwareEntity.getId(), null, null));
+        return true;
+    }
+
+    private void publish(final BatchKey key, final Batch batch) {
+        if (batch.entities.size() < repositoryProperties.getEntityEventBatchThreshold()) {
+            batch.singleEvents.forEach(Runnable::run);
+            return;
+        }
+
+        ListUtils.partition(batch.entities, Math.max(1, repositoryProperties.getEntityEventBatchMaxSize()))
+                .forEach(entities -> eventPublisherHolder.getEventPublisher()
+                        .publishEvent(toEvent(key, entities, eventPublisherHolder.getApplicationId())));
+    }
+
+    private static RemoteEntityBatchEvent toEvent(final BatchKey key, final List<EntityRef> entities,
+            final String applicationId) {
+        final List<Long> ids = entities.stream().map(EntityRef::id).toList();
+        if (key.type() == BatchType.TARGET_UPDATED) {
+            return new TargetUpdatedBatchEvent(key.tenant(), applicationId, ids);
+        }
+
+        final Set<Long> targetIds = new LinkedHashSet<>();
+        final Map<Long, Long> rolloutIdsByGroupId = new LinkedHashMap<>();
+        entities.forEach(entity -> {
+            targetIds.add(entity.targetId());
+            if (entity.rolloutGroupId() != null) {
+                rolloutIdsByGroupId.put(entity.rolloutGroupId(), entity.rolloutId());
+            }
+        });
+        final List<Long> rolloutGroupIds = new ArrayList<>(rolloutIdsByGroupId.keySet());
+        final List<Long> rolloutIds = new ArrayList<>(rolloutIdsByGroupId.values());
+        return key.type() == BatchType.ACTION_CREATED
+                ? new ActionCreatedBatchEvent(key.tenant(), applicationId, ids, new ArrayList<>(targetIds),
+                        rolloutGroupIds, rolloutIds)
+                : new ActionUpdatedBatchEvent(key.tenant(), applicationId, ids, new ArrayList<>(targetIds),
+                        rolloutGroupIds, rolloutIds);
+    }
+
+    // the batches are bound to the synchronizations of the transaction, so
+    // that they are not mixed up with the ones of a suspended transaction
+    private static Map<BatchKey, Batch> getTransactionBatches() {
+        for (final TransactionSynchronization synchronization : TransactionSynchronizationManager
+                .getSynchronizations()) {
+            if (synchronization instanceof TransactionBatches transactionBatches) {
+                return transactionBatches.batches;
+            }
+        }
+        final TransactionBatches transactionBatches = new TransactionBatches();
+        TransactionSynchronizationManager.registerSynchronization(transactionBatches);
+        return transactionBatches.batches;
+    }
+
+    private enum BatchType {
+        TARGET_UPDATED, ACTION_CREATED, ACTION_UPDATED
+    }
+
+    private record BatchKey(BatchType type, String tenant) {
+    }
+
+    private record EntityRef(Long id, Long targetId, Long rolloutGroupId, Long rolloutId) {
+    }
+
+    private static final class Batch {
+
+        private final List<Runnable> singleEvents = new ArrayList<>();
+        private final List<EntityRef> entities = new ArrayList<>();
+    }
+
+    private static final class TransactionBatches implements TransactionSynchronization {
+
+        private final Map<BatchKey, Batch> batches = new HashMap<>();
+    }
+}
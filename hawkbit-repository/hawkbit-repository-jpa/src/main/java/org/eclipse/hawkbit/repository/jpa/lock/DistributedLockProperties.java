@@ -0,0 +1,43 @@
+/**
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.lock;
+
+import java.time.Duration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties of the locks shared by all nodes of a cluster
+ * (stored in the <code>SP_LOCK</code> table).
+ */
+@Data
+@ConfigurationProperties("hawkbit.server.repository.lock")
+public class DistributedLockProperties {
+
+    /**
+     * Set to <code>true</code> to use database backed locks shared by all
+     * nodes of the cluster instead of locks that are local to the JVM.
+     */
+    private boolean distributed;
+
+    /**
+     * Lease of a lock. The leases of the locks held by a node are renewed
+     * three times per lease, a lock that has not been renewed within this
+     * time, e.g. because the node holding it died, is taken over by other
+     * nodes.
+     */
+    private Duration ttl = Duration.ofSeconds(60);
+
+    /**
+     * Region of the locks, allows independent clusters to share one database.
+     */
+    private String region = "DEFAULT";
+}
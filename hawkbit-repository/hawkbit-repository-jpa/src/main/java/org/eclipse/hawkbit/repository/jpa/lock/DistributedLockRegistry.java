@@ -0,0 +1,174 @@
+/**
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.lock;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.integration.jdbc.lock.JdbcLockRegistry;
+import org.springframework.integration.jdbc.lock.LockRepository;
+import org.springframework.integration.support.locks.LockRegistry;
+import org.springframework.integration.util.UUIDConverter;
+
+/**
+ * {@link LockRegistry} whose locks are shared by all nodes of a cluster that
+ * use the same database, backed by a {@link JdbcLockRegistry}. The locks are
+ * stored with a lease, so the locks of a node that died are taken over after
+ * the lease expired.
+ * <p/>
+ * The leases of the locks held by this node are renewed by a heartbeat, so
+ * every holder keeps its lock as long as its work runs, however long that
+ * takes. {@link JdbcLockRegistry#renewLock(Object)} can only be called by the
+ * thread holding the lock, which is busy with the work, so the heartbeat
+ * renews the leases in the {@link LockRepository} directly.
+ */
+@Slf4j
+public class DistributedLockRegistry implements LockRegistry, DisposableBean {
+
+    private final JdbcLockRegistry delegate;
+    private final LockRepository lockRepository;
+    // number of holds per key of the locks held by this node
+    private final Map<String, Integer> heldLocks = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService heartbeat = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "lock-heartbeat");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Constructor.
+     *
+     * @param lockRepository
+     *            storing the locks and their leases
+     * @param heartbeatInterval
+     *            interval in which the leases of the held locks are renewed,
+     *            has to be shorter than the lease
+     */
+    public DistributedLockRegistry(final LockRepository lockRepository, final Duration heartbeatInterval) {
+        this.delegate = new JdbcLockRegistry(lockRepository);
+        this.lockRepository = lockRepository;
+        heartbeat.scheduleWithFixedDelay(this::renewLeases, heartbeatInterval.toMillis(),
+                heartbeatInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Lock obtain(final Object lockKey) {
+        final String key = (String) lockKey;
+        return new LeasedLock(key, delegate.obtain(key));
+    }
+
+    /**
+     * Stops the heartbeat. Locks that are still held expire with their lease.
+     */
+    @Override
+    public void destroy() {
+        heartbeat.shutdownNow();
+    }
+
+    /**
+     * Renews the leases of all locks held by this node.
+     */
+    void renewLeases() {
+        heldLocks.keySet().forEach(key -> {
+            try {
+                if (!lockRepository.renew(UUIDConverter.getUUID(key).toString())) {
+                    log.warn("Lease of lock {} could not be renewed, it expired and might be held by another node.",
+                            key);
+                }
+            } catch (final RuntimeException e) {
+                log.warn("Lease of lock {} could not be renewed: {}", key, e.getMessage());
+                log.debug("Lease of lock {} could not be renewed.", key, e);
+            }
+        });
+    }
+
+    private void acquired(final String key) {
+        heldLocks.merge(key, 1, Integer::sum);
+    }
+
+    private void released(final String key) {
+        heldLocks.computeIfPresent(key, (k, count) -> count == 1 ? null : count - 1);
+    }
+
+    private final class LeasedLock implements Lock {
+
+        private final String key;
+        private final Lock lock;
+
+        private LeasedLock(final String key, final Lock lock) {
+            this.key = key;
+            this.lock = lock;
+        }
+
+        @Override
+        public void lock() {
+            lock.lock();
+            acquired(key);
+        }
+
+        @Override
+        public void lockInterruptibly() throws InterruptedException {
+            lock.lockInterruptibly();
+            acquired(key);
+        }
+
+        @Override
+        public boolean tryLock() {
+            if (lock.tryLock()) {
+                acquired(key);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public boolean tryLock(final long time, final TimeUnit unit) throws InterruptedException {
+            if (lock.tryLock(time, unit)) {
+                acquired(key);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void unlock() {
+            try {
+                lock.unlock();
+            } catch (final IllegalMonitorStateException e) {
+                // not held by the current thread, nothing released
+                throw e;
+            } catch (final RuntimeException e) {
+                // released locally, but the lock could not be removed from
+                // the store - it is not renewed anymore and expires
+                released(key);
+                throw e;
+            }
+            released(key);
+        }
+
+        @Override
+        public Condition newCondition() {
+            return lock.newCondition();
+        }
+
+        @Override
+        public String toString() {
+            return lock.toString();
+        }
+    }
+}
@@ -11,16 +11,22 @@ package org.eclipse.hawkbit.repository.jpa.management;
 
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.hawkbit.repository.QuotaManagement;
 import org.eclipse.hawkbit.repository.RepositoryProperties;
 import org.eclipse.hawkbit.repository.exception.EntityNotFoundException;
+import org.eclipse.hawkbit.repository.jpa.JpaManagementHelper;
 import org.eclipse.hawkbit.repository.jpa.builder.JpaActionStatusCreate;
 import org.eclipse.hawkbit.repository.jpa.model.JpaAction;
 import org.eclipse.hawkbit.repository.jpa.model.JpaActionStatus;
+import org.eclipse.hawkbit.repository.jpa.model.JpaActionStatus_;
 import org.eclipse.hawkbit.repository.jpa.model.JpaAction_;
 import org.eclipse.hawkbit.repository.jpa.repository.ActionRepository;
 import org.eclipse.hawkbit.repository.jpa.repository.ActionStatusRepository;
@@ -30,7 +36,10 @@ import org.eclipse.hawkbit.repository.model.Action;
 import org.eclipse.hawkbit.repository.model.ActionStatus;
 import org.eclipse.hawkbit.repository.model.TargetUpdateStatus;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.jpa.domain.Specification;
 
 import static org.eclipse.hawkbit.repository.model.Action.ActionType.DOWNLOAD_ONLY;
 import static org.eclipse.hawkbit.repository.model.Action.Status.FINISHED;
@@ -89,12 +98,46 @@ public class JpaActionManagement {
     }
 
     protected Action addActionStatus(final JpaActionStatusCreate statusCreate) {
+        return addActionStatus(statusCreate, true);
+    }
+
+    /**
+     * Adds the status entries in the given order. The actions are loaded at
+     * once and the quota of status entries is asserted once per action for
+     * all of its entries, so the entries are not counted (and therefore not
+     * flushed) one by one. The new status entries of a flush are not inserted
+     * in a defined order, so the given flush is only called before a further
+     * entry of the same action, which keeps the order of the entries of an
+     * action.
+     */
+    protected List<Action> addActionStatuses(final List<JpaActionStatusCreate> statusCreates, final Runnable flush) {
+        final Map<Long, Long> entriesPerAction = statusCreates.stream().collect(Collectors
+                .groupingBy(JpaActionStatusCreate::getActionId, LinkedHashMap::new, Collectors.counting()));
+        actionRepository.findAllById(entriesPerAction.keySet());
+        entriesPerAction.forEach((actionId, entries) -> QuotaHelper.assertAssignmentQuota(actionId, entries,
+                quotaManagement.getMaxStatusEntriesPerAction(), ActionStatus.class, Action.class,
+                actionStatusRepository::countByActionId));
+
+        final Set<Long> pendingActions = new HashSet<>();
+        final List<Action> actions = new ArrayList<>(statusCreates.size());
+        for (final JpaActionStatusCreate statusCreate : statusCreates) {
+            if (!pendingActions.add(statusCreate.getActionId())) {
+                flush.run();
+                pendingActions.clear();
+                pendingActions.add(statusCreate.getActionId());
+            }
+            actions.add(addActionStatus(statusCreate, false));
+        }
+        return actions;
+    }
+
+    private Action addActionStatus(final JpaActionStatusCreate statusCreate, final boolean assertStatusQuota) {
         final Long actionId = statusCreate.getActionId();
         final JpaActionStatus actionStatus = statusCreate.build();
         final JpaAction action = getActionAndThrowExceptionIfNotFound(actionId);
 
         if (isUpdatingActionStatusAllowed(action, actionStatus)) {
-            return handleAddUpdateActionStatus(actionStatus, action);
+            return handleAddUpdateActionStatus(actionStatus, action, assertStatusQuota);
         }
 
         log.debug("Update of actionStatus {} for action {} not possible since action not active anymore.",
@@ -131,6 +174,14 @@ public class JpaActionManagement {
                 .orElseThrow(() -> new EntityNotFoundException(Action.class, actionId));
     }
 
+    protected Slice<ActionStatus> findActionStatusAfterId(final long actionId, final Long afterId,
+            final Direction direction, final int limit) {
+        final Specification<JpaActionStatus> byAction = (root, query, cb) -> cb
+                .equal(root.get(JpaActionStatus_.action).get(JpaAction_.id), actionId);
+        return JpaManagementHelper.findAllAfterBySpec(actionStatusRepository, JpaActionStatus_.id, afterId, direction,
+                limit, List.of(byAction));
+    }
+
     protected static boolean isDownloadOnly(final JpaAction action) {
         return DOWNLOAD_ONLY == action.getActionType();
     }
@@ -139,9 +190,12 @@ public class JpaActionManagement {
     /**
      * Sets {@link TargetUpdateStatus} based on given {@link ActionStatus}.
      */
-    private Action handleAddUpdateActionStatus(final JpaActionStatus actionStatus, final JpaAction action) {
+    private Action handleAddUpdateActionStatus(final JpaActionStatus actionStatus, final JpaAction action,
+            final boolean assertStatusQuota) {
         // information status entry - check for a potential DOS attack
-        assertActionStatusQuota(action);
+        if (assertStatusQuota) {
+            assertActionStatusQuota(action);
+        }
         assertActionStatusMessageQuota(actionStatus);
         actionStatus.setAction(action);
 
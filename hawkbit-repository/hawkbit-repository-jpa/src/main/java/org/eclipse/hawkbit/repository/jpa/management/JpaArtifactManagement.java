@@ -11,7 +11,10 @@ package org.eclipse.hawkbit.repository.jpa.management;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Collections;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.hawkbit.artifact.repository.ArtifactRepository;
@@ -41,6 +44,7 @@ import org.eclipse.hawkbit.repository.jpa.model.JpaSoftwareModule;
 import org.eclipse.hawkbit.repository.jpa.repository.LocalArtifactRepository;
 import org.eclipse.hawkbit.repository.jpa.repository.SoftwareModuleRepository;
 import org.eclipse.hawkbit.repository.jpa.specifications.ArtifactSpecifications;
+import org.eclipse.hawkbit.repository.jpa.utils.DeploymentHelper;
 import org.eclipse.hawkbit.repository.jpa.utils.FileSizeAndStorageQuotaCheckingInputStream;
 import org.eclipse.hawkbit.repository.jpa.utils.QuotaHelper;
 import org.eclipse.hawkbit.repository.model.Artifact;
@@ -52,7 +56,12 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
+import org.springframework.retry.backoff.FixedBackOffPolicy;
+import org.springframework.retry.policy.SimpleRetryPolicy;
+import org.springframework.retry.support.RetryTemplate;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
@@ -80,53 +89,103 @@ public class JpaArtifactManagement implements ArtifactManagement {
 
     private final QuotaManagement quotaManagement;
 
+    private final PlatformTransactionManager txManager;
+
+    private final RetryTemplate retryTemplate;
+
+    // number of uploads per tenant and SHA1 whose binary has been staged but
+    // whose metadata has not been stored yet - on this node only
+    private final Map<String, Integer> stagedBinaries = new ConcurrentHashMap<>();
+
     public JpaArtifactManagement(final EntityManager entityManager,
             final LocalArtifactRepository localArtifactRepository,
             final SoftwareModuleRepository softwareModuleRepository, final ArtifactRepository artifactRepository,
-            final QuotaManagement quotaManagement, final TenantAware tenantAware) {
+            final QuotaManagement quotaManagement, final TenantAware tenantAware,
+            final PlatformTransactionManager txManager) {
         this.entityManager = entityManager;
         this.localArtifactRepository = localArtifactRepository;
         this.softwareModuleRepository = softwareModuleRepository;
         this.artifactRepository = artifactRepository;
         this.quotaManagement = quotaManagement;
         this.tenantAware = tenantAware;
+        this.txManager = txManager;
+        this.retryTemplate = createRetryTemplate();
     }
 
+    /**
+     * Creates the artifact in two phases, so that no database connection is
+     * held while the (possibly huge) binary is uploaded:
+     * <ol>
+     * <li>the binary is streamed into the content addressed (by SHA1) artifact
+     * repository and its hashes are computed, outside of any transaction</li>
+     * <li>the artifact metadata is stored in a short transaction of its own,
+     * retried on concurrent modifications without re-reading the upload
+     * stream</li>
+     * </ol>
+     * If the metadata could not be stored, the staged binary is deleted again
+     * unless it is referenced by another artifact or staged by a concurrent
+     * upload on this node.
+     */
     @Override
-    @Transactional
-    @Retryable(include = {
-            ConcurrencyFailureException.class }, maxAttempts = Constants.TX_RT_MAX, backoff = @Backoff(delay = Constants.TX_RT_DELAY))
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Artifact create(final ArtifactUpload artifactUpload) {
-        final long moduleId = artifactUpload.getModuleId();
-        assertArtifactQuota(moduleId, 1);
-        final JpaSoftwareModule softwareModule =
-                softwareModuleRepository
-                        .findById(moduleId)
-                        .orElseThrow(() -> new EntityNotFoundException(SoftwareModule.class, moduleId));
+        // fail fast before the upload, the checks are repeated on commit
+        final JpaSoftwareModule softwareModule = assertArtifactCanBeCreated(artifactUpload);
 
-        final String filename = artifactUpload.getFilename();
-        final Artifact existing = softwareModule.getArtifactByFilename(filename).orElse(null);
-        if (existing != null) {
-            if (artifactUpload.isOverrideExisting()) {
-                log.debug("overriding existing artifact with new filename {}", filename);
-            } else {
-                throw new EntityAlreadyExistsException("File with that name already exists in the Software Module");
-            }
+        final AbstractDbArtifact artifact = storeArtifact(artifactUpload, softwareModule.isEncrypted());
+        final String tenant = tenantAware.getCurrentTenant();
+        final String stagedKey = stagedBinaryKey(tenant, artifact.getHashes().getSha1());
+        stagedBinaries.merge(stagedKey, 1, Integer::sum);
+        try {
+            return retryTemplate.execute(retryContext -> DeploymentHelper.runInNewTransaction(txManager,
+                    "createArtifact", status -> storeArtifactMetadata(artifactUpload, artifact)));
+        } catch (final RuntimeException e) {
+            deleteOrphanedBinary(tenant, artifact.getHashes().getSha1(), stagedKey);
+            throw e;
+        } finally {
+            stagedBinaries.computeIfPresent(stagedKey, (key, count) -> count > 1 ? count - 1 : null);
         }
+    }
 
-        // touch it to update the lock revision because we are modifying the
-        // DS indirectly, it will, also check UPDATE access
-        JpaManagementHelper.touch(entityManager, softwareModuleRepository, softwareModule);
+    private JpaSoftwareModule assertArtifactCanBeCreated(final ArtifactUpload artifactUpload) {
+        final long moduleId = artifactUpload.getModuleId();
+        assertArtifactQuota(moduleId, 1);
+        final JpaSoftwareModule softwareModule = softwareModuleRepository.findById(moduleId)
+                .orElseThrow(() -> new EntityNotFoundException(SoftwareModule.class, moduleId));
+        softwareModuleRepository.getAccessController().ifPresent(accessController -> accessController
+                .assertOperationAllowed(AccessController.Operation.UPDATE, softwareModule));
+        if (!artifactUpload.isOverrideExisting() && localArtifactRepository
+                .findFirstByFilenameAndSoftwareModuleId(artifactUpload.getFilename(), moduleId).isPresent()) {
+            throw new EntityAlreadyExistsException("File with that name already exists in the Software Module");
+        }
+        return softwareModule;
+    }
 
-        final AbstractDbArtifact artifact = storeArtifact(artifactUpload, softwareModule.isEncrypted());
+    /**
+     * Deletes the staged binary if it is neither referenced by an artifact nor
+     * staged by a concurrent upload. The staged uploads are tracked in memory,
+     * so only the uploads staged on the local node are protected. A concurrent
+     * upload of the same binary on another node of a cluster, whose metadata
+     * is not stored yet, is not seen and its binary could be deleted.
+     */
+    private void deleteOrphanedBinary(final String tenant, final String sha1Hash, final String stagedKey) {
+        if (stagedBinaries.getOrDefault(stagedKey, 0) > 1 || localArtifactRepository
+                .countBySha1HashAndTenantAndSoftwareModuleDeletedIsFalse(sha1Hash, tenant) > 0) {
+            // still needed by a concurrent upload or another artifact
+            return;
+        }
         try {
-            return storeArtifactMetadata(softwareModule, filename, artifact, existing);
-        } catch (final Exception e) {
-            artifactRepository.deleteBySha1(tenantAware.getCurrentTenant(), artifact.getHashes().getSha1());
-            throw e;
+            log.debug("deleting orphaned artifact binary {} from repository", sha1Hash);
+            artifactRepository.deleteBySha1(tenant, sha1Hash);
+        } catch (final RuntimeException e) {
+            log.warn("Could not delete orphaned artifact binary {} of tenant {}", sha1Hash, tenant, e);
         }
     }
 
+    private static String stagedBinaryKey(final String tenant, final String sha1Hash) {
+        return tenant.toUpperCase() + ":" + sha1Hash;
+    }
+
     private AbstractDbArtifact storeArtifact(final ArtifactUpload artifactUpload, final boolean isSmEncrypted) {
         final String tenant = tenantAware.getCurrentTenant();
         final long smId = artifactUpload.getModuleId();
@@ -224,7 +283,10 @@ public class JpaArtifactManagement implements ArtifactManagement {
                 accessController.assertOperationAllowed(AccessController.Operation.UPDATE,
                     (JpaSoftwareModule) toDelete.getSoftwareModule()));
         ((JpaSoftwareModule) toDelete.getSoftwareModule()).removeArtifact(toDelete);
-        softwareModuleRepository.save((JpaSoftwareModule) toDelete.getSoftwareModule());
+        // touch it to update the lock revision because we are modifying the
+        // software module indirectly
+        JpaManagementHelper.touch(entityManager, softwareModuleRepository,
+                (JpaSoftwareModule) toDelete.getSoftwareModule());
 
         localArtifactRepository.deleteById(id);
         clearArtifactBinary(toDelete.getSha1Hash());
@@ -299,17 +361,36 @@ public class JpaArtifactManagement implements ArtifactManagement {
         }
         final ArtifactEncryptionService encryptionService = ArtifactEncryptionService.getInstance();
         return new EncryptionAwareDbArtifact(dbArtifact,
-                stream -> encryptionService.decryptSoftwareModuleArtifact(softwareModuleId, stream),
-                encryptionService.encryptionSizeOverhead());
+                (encryptedArtifact, offset) -> encryptionService.decryptSoftwareModuleArtifact(softwareModuleId,
+                        encryptedArtifact, offset),
+                encryptionService::decryptedSize);
     }
 
-    private Artifact storeArtifactMetadata(final SoftwareModule softwareModule, final String providedFilename,
-            final AbstractDbArtifact result, final Artifact existing) {
+    private Artifact storeArtifactMetadata(final ArtifactUpload artifactUpload, final AbstractDbArtifact result) {
+        final long moduleId = artifactUpload.getModuleId();
+        assertArtifactQuota(moduleId, 1);
+        final JpaSoftwareModule softwareModule = softwareModuleRepository.findById(moduleId)
+                .orElseThrow(() -> new EntityNotFoundException(SoftwareModule.class, moduleId));
+
+        final String filename = artifactUpload.getFilename();
+        final JpaArtifact existing = (JpaArtifact) softwareModule.getArtifactByFilename(filename).orElse(null);
+        if (existing != null) {
+            if (artifactUpload.isOverrideExisting()) {
+                log.debug("overriding existing artifact with new filename {}", filename);
+            } else {
+                throw new EntityAlreadyExistsException("File with that name already exists in the Software Module");
+            }
+        }
+
+        // touch it to update the lock revision because we are modifying the
+        // DS indirectly, it will, also check UPDATE access
+        JpaManagementHelper.touch(entityManager, softwareModuleRepository, softwareModule);
+
         final JpaArtifact artifact;
         if (existing == null) {
-            artifact = new JpaArtifact(result.getHashes().getSha1(), providedFilename, softwareModule);
+            artifact = new JpaArtifact(result.getHashes().getSha1(), filename, softwareModule);
         } else {
-            artifact = (JpaArtifact) existing;
+            artifact = existing;
             artifact.setSha1Hash(result.getHashes().getSha1());
         }
         artifact.setMd5Hash(result.getHashes().getMd5());
@@ -320,6 +401,20 @@ public class JpaArtifactManagement implements ArtifactManagement {
         return localArtifactRepository.save(AccessController.Operation.CREATE, artifact);
     }
 
+    private static RetryTemplate createRetryTemplate() {
+        final RetryTemplate template = new RetryTemplate();
+
+        final FixedBackOffPolicy backOffPolicy = new FixedBackOffPolicy();
+        backOffPolicy.setBackOffPeriod(Constants.TX_RT_DELAY);
+        template.setBackOffPolicy(backOffPolicy);
+
+        final SimpleRetryPolicy retryPolicy = new SimpleRetryPolicy(Constants.TX_RT_MAX,
+                Collections.singletonMap(ConcurrencyFailureException.class, true));
+        template.setRetryPolicy(retryPolicy);
+
+        return template;
+    }
+
     private void assertSoftwareModuleExists(final long softwareModuleId) {
         if (!softwareModuleRepository.existsById(softwareModuleId)) {
             throw new EntityNotFoundException(SoftwareModule.class, softwareModuleId);
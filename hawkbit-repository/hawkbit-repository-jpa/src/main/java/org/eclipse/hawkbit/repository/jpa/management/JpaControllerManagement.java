@@ -22,14 +22,11 @@ import java.time.temporal.TemporalUnit;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
-import java.util.concurrent.BlockingDeque;
-import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -49,6 +46,7 @@ import org.eclipse.hawkbit.repository.MaintenanceScheduleHelper;
 import org.eclipse.hawkbit.repository.QuotaManagement;
 import org.eclipse.hawkbit.repository.RepositoryConstants;
 import org.eclipse.hawkbit.repository.RepositoryProperties;
+import org.eclipse.hawkbit.repository.TargetActionCache;
 import org.eclipse.hawkbit.repository.TenantConfigurationManagement;
 import org.eclipse.hawkbit.repository.TargetTypeManagement;
 import org.eclipse.hawkbit.repository.UpdateMode;
@@ -99,6 +97,7 @@ import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.jpa.domain.Specification;
@@ -107,8 +106,10 @@ import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.StringUtils;
 import org.springframework.validation.annotation.Validated;
 
@@ -120,7 +121,8 @@ import org.springframework.validation.annotation.Validated;
 @Validated
 public class JpaControllerManagement extends JpaActionManagement implements ControllerManagement {
 
-    private final BlockingDeque<TargetPoll> queue;
+    private final TargetPollQueue queue;
+    private final ScheduledFuture<?> flush;
 
     @Autowired
     private EntityManager entityManager;
@@ -161,19 +163,34 @@ public class JpaControllerManagement extends JpaActionManagement implements Cont
     @Autowired
     private TargetTypeManagement targetTypeManagement;
 
-    public JpaControllerManagement(final ScheduledExecutorService executorService,
+    @Autowired
+    private TargetActionCache targetActionCache;
+
+    public JpaControllerManagement(final ScheduledExecutorService executorService, final TargetPollQueue pollQueue,
                                    final ActionRepository actionRepository, final ActionStatusRepository actionStatusRepository,
                                    final QuotaManagement quotaManagement, final RepositoryProperties repositoryProperties) {
         super(actionRepository, actionStatusRepository, quotaManagement, repositoryProperties);
 
         if (!repositoryProperties.isEagerPollPersistence()) {
-            executorService.scheduleWithFixedDelay(this::flushUpdateQueue,
+            queue = pollQueue;
+            flush = executorService.scheduleWithFixedDelay(this::flushUpdateQueue,
                     repositoryProperties.getPollPersistenceFlushTime(),
                     repositoryProperties.getPollPersistenceFlushTime(), TimeUnit.MILLISECONDS);
-
-            queue = new LinkedBlockingDeque<>(repositoryProperties.getPollPersistenceQueueSize());
         } else {
             queue = null;
+            flush = null;
+        }
+    }
+
+    /**
+     * Stops the background persistence of the target polls and persists the
+     * polls that are still queued.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void shutdown() {
+        if (flush != null) {
+            flush.cancel(false);
+            flushUpdateQueue();
         }
     }
 
@@ -356,7 +373,11 @@ public class JpaControllerManagement extends JpaActionManagement implements Cont
 
     @Override
     public Optional<Action> findActiveActionWithHighestWeight(final String controllerId) {
-        return findActiveActionsWithHighestWeight(controllerId, 1).stream().findFirst();
+        if (!isCacheable()) {
+            return findActiveActionsWithHighestWeight(controllerId, 1).stream().findFirst();
+        }
+        return targetActionCache.getActiveAction(controllerId,
+                () -> findActiveActionsWithHighestWeight(controllerId, 1).stream().findFirst(), this::findActionById);
     }
 
     @Override
@@ -434,48 +455,43 @@ public class JpaControllerManagement extends JpaActionManagement implements Cont
 
     /**
      * Flush the update queue by means to persisting
-     * {@link Target#getLastTargetQuery()}.
+     * {@link Target#getLastTargetQuery()}. The polls are persisted in one
+     * transaction per tenant, so a failure for one tenant does not affect the
+     * others.
      */
-    private void flushUpdateQueue() {
+    private synchronized void flushUpdateQueue() {
         log.debug("Run flushUpdateQueue.");
 
-        final int size = queue.size();
-        if (size <= 0) {
-            return;
-        }
-
-        log.debug("{} events in flushUpdateQueue.", size);
-
-        final Set<TargetPoll> events = new HashSet<>(queue.size());
-        final int drained = queue.drainTo(events);
-
-        if (drained <= 0) {
+        final Map<String, List<String>> polls = queue.drain();
+        if (polls.isEmpty()) {
             return;
         }
 
-        try {
-            events.stream().collect(Collectors.groupingBy(TargetPoll::getTenant)).forEach((tenant, polls) -> {
-                final TransactionCallback<Void> createTransaction = status -> updateLastTargetQueries(tenant, polls);
+        polls.forEach((tenant, controllerIds) -> {
+            try {
+                final TransactionCallback<Void> createTransaction = status -> updateLastTargetQueries(tenant,
+                        controllerIds);
                 tenantAware.runAsTenant(tenant,
                         () -> DeploymentHelper.runInNewTransaction(txManager, "flushUpdateQueue", createTransaction));
-            });
-        } catch (final RuntimeException ex) {
-            log.error("Failed to persist UpdateQueue content.", ex);
-            return;
-        }
+                queue.persisted(controllerIds.size());
+            } catch (final RuntimeException ex) {
+                queue.dropped(controllerIds.size());
+                log.error("Failed to persist {} target polls of tenant {}.", controllerIds.size(), tenant, ex);
+            }
+        });
 
-        log.debug("{} events persisted.", drained);
+        log.debug("Polls of {} targets flushed.", polls.values().stream().mapToInt(List::size).sum());
     }
 
-    private Void updateLastTargetQueries(final String tenant, final List<TargetPoll> polls) {
-        log.debug("Persist {} targetqueries.", polls.size());
+    private Void updateLastTargetQueries(final String tenant, final List<String> controllerIds) {
+        log.debug("Persist {} targetqueries.", controllerIds.size());
 
-        final List<List<String>> pollChunks = ListUtils.partition(
-                polls.stream().map(TargetPoll::getControllerId).collect(Collectors.toList()),
-                Constants.MAX_ENTRIES_IN_STATEMENT);
-
-        pollChunks.forEach(chunk -> {
-            setLastTargetQuery(tenant, System.currentTimeMillis(), chunk);
+        // sorted to update the rows always in the same order and by this avoid
+        // dead locks with concurrent flushes of other nodes
+        final List<String> sorted = controllerIds.stream().sorted().toList();
+        final long currentTimeMillis = System.currentTimeMillis();
+        ListUtils.partition(sorted, getPollPersistenceBatchSize()).forEach(chunk -> {
+            setLastTargetQuery(tenant, currentTimeMillis, chunk);
             chunk.forEach(controllerId -> afterCommit.afterCommit(() -> eventPublisherHolder.getEventPublisher()
                     .publishEvent(new TargetPollEvent(controllerId, tenant, eventPublisherHolder.getApplicationId()))));
         });
@@ -483,6 +499,11 @@ public class JpaControllerManagement extends JpaActionManagement implements Cont
         return null;
     }
 
+    private int getPollPersistenceBatchSize() {
+        return Math.max(1,
+                Math.min(repositoryProperties.getPollPersistenceBatchSize(), Constants.MAX_ENTRIES_IN_STATEMENT));
+    }
+
     /**
      * Sets {@link Target#getLastTargetQuery()} by native SQL in order to avoid
      * raising opt lock revision as this update is not mission critical and in
@@ -521,7 +542,7 @@ public class JpaControllerManagement extends JpaActionManagement implements Cont
      *
      */
     private Target updateTarget(final JpaTarget toUpdate, final URI address, final String name, final String type) {
-        if (isStoreEager(toUpdate, address, name, type) || !queue.offer(new TargetPoll(toUpdate))) {
+        if (isStoreEager(toUpdate, address, name, type) || !queue.offer(toUpdate.getTenant(), toUpdate.getControllerId())) {
             if (isAddressChanged(toUpdate.getAddress(), address)) {
                 toUpdate.setAddress(address.toString());
             }
@@ -631,6 +652,20 @@ public class JpaControllerManagement extends JpaActionManagement implements Cont
         return addActionStatus((JpaActionStatusCreate) statusCreate);
     }
 
+    @Override
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    @Retryable(include = {
+            ConcurrencyFailureException.class }, maxAttempts = Constants.TX_RT_MAX, backoff = @Backoff(delay = Constants.TX_RT_DELAY))
+    public List<Action> addUpdateActionStatuses(final List<ActionStatusCreate> statusCreates) {
+        // the entries are applied one after the other to the managed actions
+        // of the transaction and flushed once for the whole batch, unless an
+        // action receives several entries
+        final List<Action> actions = addActionStatuses(
+                statusCreates.stream().map(JpaActionStatusCreate.class::cast).toList(), entityManager::flush);
+        entityManager.flush();
+        return actions;
+    }
+
     @Override
     protected void onActionStatusUpdate(final Action.Status updatedActionStatus, final JpaAction action) {
         switch (updatedActionStatus) {
@@ -907,6 +942,16 @@ public class JpaControllerManagement extends JpaActionManagement implements Cont
         return actionStatusRepository.findByActionId(pageReq, actionId);
     }
 
+    @Override
+    public Slice<ActionStatus> findActionStatusByActionAfterId(final long actionId, final Long afterId,
+            final Direction direction, final int limit) {
+        if (!actionRepository.existsById(actionId)) {
+            throw new EntityNotFoundException(Action.class, actionId);
+        }
+
+        return findActionStatusAfterId(actionId, afterId, direction, limit);
+    }
+
     @Override
     public List<String> getActionHistoryMessages(final long actionId, final int messageCount) {
         // Just return empty list in case messageCount is zero.
@@ -946,64 +991,6 @@ public class JpaControllerManagement extends JpaActionManagement implements Cont
                         Collectors.mapping(o -> (SoftwareModuleMetadata) o[1], Collectors.toList())));
     }
 
-    private static class TargetPoll {
-
-        private final String tenant;
-        private final String controllerId;
-
-        TargetPoll(final Target target) {
-            this.tenant = target.getTenant();
-            this.controllerId = target.getControllerId();
-        }
-
-        public String getTenant() {
-            return tenant;
-        }
-
-        public String getControllerId() {
-            return controllerId;
-        }
-
-        @Override
-        public int hashCode() {
-            final int prime = 31;
-            int result = 1;
-            result = prime * result + (controllerId == null ? 0 : controllerId.hashCode());
-            result = prime * result + (tenant == null ? 0 : tenant.hashCode());
-            return result;
-        }
-
-        @Override
-        public boolean equals(final Object obj) {
-            if (this == obj) {
-                return true;
-            }
-            if (obj == null) {
-                return false;
-            }
-            if (getClass() != obj.getClass()) {
-                return false;
-            }
-            final TargetPoll other = (TargetPoll) obj;
-            if (controllerId == null) {
-                if (other.controllerId != null) {
-                    return false;
-                }
-            } else if (!controllerId.equals(other.controllerId)) {
-                return false;
-            }
-            if (tenant == null) {
-                if (other.tenant != null) {
-                    return false;
-                }
-            } else if (!tenant.equals(other.tenant)) {
-                return false;
-            }
-            return true;
-        }
-
-    }
-
     /**
      * Cancels given {@link Action} for this {@link Target}. The method will
      * immediately add a {@link Status#CANCELED} status to the action. However,
@@ -1072,8 +1059,21 @@ public class JpaControllerManagement extends JpaActionManagement implements Cont
 
     @Override
     public Optional<Action> getInstalledActionByTarget(final String controllerId) {
+        if (!isCacheable()) {
+            return findInstalledActionByTarget(controllerId);
+        }
+        return targetActionCache.getInstalledAction(controllerId, () -> findInstalledActionByTarget(controllerId),
+                this::findActionById);
+    }
+
+    private Optional<Action> findActionById(final long actionId) {
+        return actionRepository.findById(actionId).map(Action.class::cast);
+    }
+
+    private Optional<Action> findInstalledActionByTarget(final String controllerId) {
         final JpaTarget jpaTarget = targetRepository.findOne(TargetSpecifications.hasControllerId(controllerId))
                 .orElseThrow(() -> new EntityNotFoundException(Target.class, controllerId));
+        targetActionCache.registerTarget(jpaTarget.getId(), controllerId);
 
         final JpaDistributionSet installedDistributionSet = jpaTarget.getInstalledDistributionSet();
         if (null != installedDistributionSet) {
@@ -1084,6 +1084,15 @@ public class JpaControllerManagement extends JpaActionManagement implements Cont
         }
     }
 
+    /**
+     * Results are cached only if they are read by a read-only transaction,
+     * i.e. they are not based on changes of the current transaction that
+     * might be rolled back.
+     */
+    private static boolean isCacheable() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
     @Override
     public AutoConfirmationStatus activateAutoConfirmation(final String controllerId, final String initiator,
             final String remark) {
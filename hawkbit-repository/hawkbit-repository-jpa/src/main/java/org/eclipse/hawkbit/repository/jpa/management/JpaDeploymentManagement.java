@@ -60,6 +60,7 @@ import org.eclipse.hawkbit.repository.jpa.executor.AfterTransactionCommitExecuto
 import org.eclipse.hawkbit.repository.jpa.model.JpaAction;
 import org.eclipse.hawkbit.repository.jpa.model.JpaActionStatus;
 import org.eclipse.hawkbit.repository.jpa.model.JpaActionStatus_;
+import org.eclipse.hawkbit.repository.jpa.model.JpaAction_;
 import org.eclipse.hawkbit.repository.jpa.model.JpaDistributionSet;
 import org.eclipse.hawkbit.repository.jpa.model.JpaTarget;
 import org.eclipse.hawkbit.repository.jpa.repository.ActionRepository;
@@ -98,6 +99,7 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.orm.jpa.vendor.Database;
 import org.springframework.retry.RetryCallback;
@@ -805,6 +807,22 @@ public class JpaDeploymentManagement extends JpaActionManagement implements Depl
         return JpaManagementHelper.findAllWithCountBySpec(actionRepository, pageable, specList);
     }
 
+    @Override
+    public Slice<Action> findActionsByTargetAfterId(final String rsqlParam, final String controllerId,
+            final Long afterId, final Direction direction, final int limit) {
+        assertTargetReadAllowed(controllerId);
+
+        final List<Specification<JpaAction>> specList = new ArrayList<>(2);
+        specList.add(ActionSpecifications.byTargetControllerId(controllerId));
+        if (rsqlParam != null) {
+            specList.add(RSQLUtility.buildRsqlSpecification(rsqlParam, ActionFields.class, virtualPropertyReplacer,
+                    database));
+        }
+
+        return JpaManagementHelper.findAllAfterBySpec(actionRepository, JpaAction_.id, afterId, direction, limit,
+                specList);
+    }
+
     @Override
     public Page<Action> findActiveActionsByTarget(final Pageable pageable, final String controllerId) {
         assertTargetReadAllowed(controllerId);
@@ -866,6 +884,14 @@ public class JpaDeploymentManagement extends JpaActionManagement implements Depl
         return actionStatusRepository.findByActionId(pageReq, actionId);
     }
 
+    @Override
+    public Slice<ActionStatus> findActionStatusByActionAfterId(final long actionId, final Long afterId,
+            final Direction direction, final int limit) {
+        assertActionExistsAndAccessible(actionId);
+
+        return findActionStatusAfterId(actionId, afterId, direction, limit);
+    }
+
     @Override
     public long countActionStatusByAction(final long actionId) {
         assertActionExistsAndAccessible(actionId);
@@ -929,6 +955,16 @@ public class JpaDeploymentManagement extends JpaActionManagement implements Depl
         return JpaManagementHelper.findAllWithoutCountBySpec(actionRepository, pageable, specList);
     }
 
+    @Override
+    public Slice<Action> findActionsAfterId(final String rsqlParam, final Long afterId, final Direction direction,
+            final int limit) {
+        final List<Specification<JpaAction>> specList = rsqlParam == null ? Collections.emptyList()
+                : List.of(RSQLUtility.buildRsqlSpecification(rsqlParam, ActionFields.class, virtualPropertyReplacer,
+                        database));
+        return JpaManagementHelper.findAllAfterBySpec(actionRepository, JpaAction_.id, afterId, direction, limit,
+                specList);
+    }
+
     @Override
     public Optional<DistributionSet> getAssignedDistributionSet(final String controllerId) {
         return targetRepository
@@ -45,6 +45,7 @@ import org.eclipse.hawkbit.repository.jpa.repository.ActionRepository;
 import org.eclipse.hawkbit.repository.jpa.repository.RolloutGroupRepository;
 import org.eclipse.hawkbit.repository.jpa.repository.RolloutRepository;
 import org.eclipse.hawkbit.repository.jpa.repository.TargetRepository;
+import org.eclipse.hawkbit.repository.jpa.rollout.RolloutStatusCounter;
 import org.eclipse.hawkbit.repository.jpa.rsql.RSQLUtility;
 import org.eclipse.hawkbit.repository.jpa.specifications.TargetSpecifications;
 import org.eclipse.hawkbit.repository.model.Action;
@@ -88,13 +89,15 @@ public class JpaRolloutGroupManagement implements RolloutGroupManagement {
 
     private final RolloutStatusCache rolloutStatusCache;
 
+    private final RolloutStatusCounter rolloutStatusCounter;
+
     private final Database database;
 
     public JpaRolloutGroupManagement(final RolloutGroupRepository rolloutGroupRepository,
                               final RolloutRepository rolloutRepository, final ActionRepository actionRepository,
                               final TargetRepository targetRepository, final EntityManager entityManager,
                               final VirtualPropertyReplacer virtualPropertyReplacer, final RolloutStatusCache rolloutStatusCache,
-                              final Database database) {
+                              final RolloutStatusCounter rolloutStatusCounter, final Database database) {
         this.rolloutGroupRepository = rolloutGroupRepository;
         this.rolloutRepository = rolloutRepository;
         this.actionRepository = actionRepository;
@@ -102,6 +105,7 @@ public class JpaRolloutGroupManagement implements RolloutGroupManagement {
         this.entityManager = entityManager;
         this.virtualPropertyReplacer = virtualPropertyReplacer;
         this.rolloutStatusCache = rolloutStatusCache;
+        this.rolloutStatusCounter = rolloutStatusCounter;
         this.database = database;
     }
 
@@ -150,7 +154,7 @@ public class JpaRolloutGroupManagement implements RolloutGroupManagement {
         }
 
         final Map<Long, List<TotalTargetCountActionStatus>> allStatesForRollout = getStatusCountItemForRolloutGroup(
-                rolloutGroupIds);
+                rolloutGroups.getContent());
 
         for (final JpaRolloutGroup rolloutGroup : rolloutGroups) {
             final TotalTargetCountStatus totalTargetCountStatus = new TotalTargetCountStatus(
@@ -177,7 +181,7 @@ public class JpaRolloutGroupManagement implements RolloutGroupManagement {
         }
 
         final Map<Long, List<TotalTargetCountActionStatus>> allStatesForRollout = getStatusCountItemForRolloutGroup(
-                rolloutGroupIds);
+                rolloutGroups.getContent());
 
         for (final RolloutGroup rolloutGroup : rolloutGroups) {
             final TotalTargetCountStatus totalTargetCountStatus = new TotalTargetCountStatus(
@@ -199,8 +203,12 @@ public class JpaRolloutGroupManagement implements RolloutGroupManagement {
 
         final JpaRolloutGroup jpaRolloutGroup = (JpaRolloutGroup) rolloutGroup.get();
 
-        List<TotalTargetCountActionStatus> rolloutStatusCountItems = rolloutStatusCache
-                .getRolloutGroupStatus(rolloutGroupId);
+        List<TotalTargetCountActionStatus> rolloutStatusCountItems = rolloutStatusCounter == null ? null
+                : rolloutStatusCounter.getRolloutGroupStatus(List.of(jpaRolloutGroup)).get(rolloutGroupId);
+
+        if (CollectionUtils.isEmpty(rolloutStatusCountItems)) {
+            rolloutStatusCountItems = rolloutStatusCache.getRolloutGroupStatus(rolloutGroupId);
+        }
 
         if (CollectionUtils.isEmpty(rolloutStatusCountItems)) {
             rolloutStatusCountItems = actionRepository.getStatusCountByRolloutGroupId(rolloutGroupId);
@@ -214,7 +222,25 @@ public class JpaRolloutGroupManagement implements RolloutGroupManagement {
 
     }
 
-    private Map<Long, List<TotalTargetCountActionStatus>> getStatusCountItemForRolloutGroup(final List<Long> groupIds) {
+    private Map<Long, List<TotalTargetCountActionStatus>> getStatusCountItemForRolloutGroup(
+            final List<? extends RolloutGroup> groups) {
+        if (rolloutStatusCounter == null) {
+            return getStatusCountItemForRolloutGroupIds(
+                    groups.stream().map(RolloutGroup::getId).collect(Collectors.toList()));
+        }
+
+        final Map<Long, List<TotalTargetCountActionStatus>> fromCounter = rolloutStatusCounter
+                .getRolloutGroupStatus(groups);
+        final List<Long> notCounted = groups.stream().map(RolloutGroup::getId)
+                .filter(id -> !fromCounter.containsKey(id)).collect(Collectors.toList());
+        if (!notCounted.isEmpty()) {
+            fromCounter.putAll(getStatusCountItemForRolloutGroupIds(notCounted));
+        }
+        return fromCounter;
+    }
+
+    private Map<Long, List<TotalTargetCountActionStatus>> getStatusCountItemForRolloutGroupIds(
+            final List<Long> groupIds) {
         final Map<Long, List<TotalTargetCountActionStatus>> fromCache = rolloutStatusCache
                 .getRolloutGroupStatus(groupIds);
 
@@ -55,6 +55,7 @@ import org.eclipse.hawkbit.repository.jpa.model.JpaRollout_;
 import org.eclipse.hawkbit.repository.jpa.repository.ActionRepository;
 import org.eclipse.hawkbit.repository.jpa.repository.RolloutGroupRepository;
 import org.eclipse.hawkbit.repository.jpa.repository.RolloutRepository;
+import org.eclipse.hawkbit.repository.jpa.rollout.RolloutStatusCounter;
 import org.eclipse.hawkbit.repository.jpa.rollout.condition.StartNextGroupRolloutGroupSuccessAction;
 import org.eclipse.hawkbit.repository.jpa.rsql.RSQLUtility;
 import org.eclipse.hawkbit.repository.jpa.specifications.RolloutSpecification;
@@ -130,6 +131,9 @@ public class JpaRolloutManagement implements RolloutManagement {
     @Autowired
     private RolloutStatusCache rolloutStatusCache;
 
+    @Autowired(required = false)
+    private RolloutStatusCounter rolloutStatusCounter;
+
     @Autowired
     private StartNextGroupRolloutGroupSuccessAction startNextRolloutGroupAction;
 
@@ -572,7 +576,12 @@ public class JpaRolloutManagement implements RolloutManagement {
             return rollout;
         }
 
-        List<TotalTargetCountActionStatus> rolloutStatusCountItems = rolloutStatusCache.getRolloutStatus(rolloutId);
+        List<TotalTargetCountActionStatus> rolloutStatusCountItems = rolloutStatusCounter == null ? null
+                : rolloutStatusCounter.getRolloutStatus(List.of(rolloutId)).get(rolloutId);
+
+        if (CollectionUtils.isEmpty(rolloutStatusCountItems)) {
+            rolloutStatusCountItems = rolloutStatusCache.getRolloutStatus(rolloutId);
+        }
 
         if (CollectionUtils.isEmpty(rolloutStatusCountItems)) {
             rolloutStatusCountItems = actionRepository.getStatusCountByRolloutId(rolloutId);
@@ -595,7 +604,12 @@ public class JpaRolloutManagement implements RolloutManagement {
             return null;
         }
 
-        final Map<Long, List<TotalTargetCountActionStatus>> fromCache = rolloutStatusCache.getRolloutStatus(rollouts);
+        final Map<Long, List<TotalTargetCountActionStatus>> fromCounter = rolloutStatusCounter == null
+                ? Collections.emptyMap()
+                : rolloutStatusCounter.getRolloutStatus(rollouts);
+        final Map<Long, List<TotalTargetCountActionStatus>> fromCache = rolloutStatusCache.getRolloutStatus(
+                rollouts.stream().filter(id -> !fromCounter.containsKey(id)).collect(Collectors.toList()));
+        fromCache.putAll(fromCounter);
 
         final List<Long> rolloutIds = rollouts.stream().filter(id -> !fromCache.containsKey(id))
                 .collect(Collectors.toList());
@@ -19,6 +19,8 @@ import org.eclipse.hawkbit.cache.TenancyCacheManager;
 import org.eclipse.hawkbit.repository.RepositoryProperties;
 import org.eclipse.hawkbit.repository.RolloutStatusCache;
 import org.eclipse.hawkbit.repository.SystemManagement;
+import org.eclipse.hawkbit.repository.TargetActionCache;
+import org.eclipse.hawkbit.repository.TargetAuthenticationCache;
 import org.eclipse.hawkbit.repository.TenantStatsManagement;
 import org.eclipse.hawkbit.repository.exception.EntityNotFoundException;
 import org.eclipse.hawkbit.repository.jpa.CurrentTenantCacheKeyGenerator;
@@ -135,6 +137,12 @@ public class JpaSystemManagement implements CurrentTenantCacheKeyGenerator, Syst
     @Autowired
     private RolloutStatusCache rolloutStatusCache;
 
+    @Autowired
+    private TargetActionCache targetActionCache;
+
+    @Autowired
+    private TargetAuthenticationCache targetAuthenticationCache;
+
     @Autowired
     private ArtifactRepository artifactRepository;
 
@@ -230,6 +238,8 @@ public class JpaSystemManagement implements CurrentTenantCacheKeyGenerator, Syst
         final String tenant = t.toUpperCase();
         cacheManager.evictCaches(tenant);
         rolloutStatusCache.evictCaches(tenant);
+        targetActionCache.evictCaches(tenant);
+        targetAuthenticationCache.evictCaches(tenant);
         tenantAware.runAsTenant(tenant, () -> {
             entityManager.setProperty(PersistenceUnitProperties.MULTITENANT_PROPERTY_DEFAULT, tenant);
             tenantMetaDataRepository.deleteByTenantIgnoreCase(tenant);
@@ -85,6 +85,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.orm.jpa.vendor.Database;
 import org.springframework.retry.annotation.Backoff;
@@ -322,6 +323,27 @@ public class JpaTargetManagement implements TargetManagement {
                 .buildRsqlSpecification(targetFilterQuery, TargetFields.class, virtualPropertyReplacer, database)));
     }
 
+    @Override
+    public Slice<Target> findByRsqlAfterId(final Long afterId, final int limit, final String rsqlParam) {
+        final List<Specification<JpaTarget>> specList = new ArrayList<>(rsqlSpecList(rsqlParam));
+        specList.add(TargetSpecifications.withTargetTypeAndAutoConfirmationInJoin());
+        return JpaManagementHelper.findAllAfterBySpec(targetRepository, JpaTarget_.id, afterId, Direction.ASC, limit,
+                specList);
+    }
+
+    @Override
+    public Slice<Target> findByRsqlAfterControllerId(final String afterControllerId, final Direction direction,
+            final int limit, final String rsqlParam) {
+        return JpaManagementHelper.findAllAfterBySpec(targetRepository, JpaTarget_.controllerId, afterControllerId,
+                direction, limit, rsqlSpecList(rsqlParam));
+    }
+
+    private List<Specification<JpaTarget>> rsqlSpecList(final String rsqlParam) {
+        return rsqlParam == null ? Collections.emptyList()
+                : List.of(RSQLUtility.buildRsqlSpecification(rsqlParam, TargetFields.class, virtualPropertyReplacer,
+                        database));
+    }
+
     @Override
     @Transactional
     @Retryable(include = {
@@ -695,6 +717,30 @@ public class JpaTargetManagement implements TargetManagement {
                 .map(Target.class::cast);
     }
 
+    @Override
+    public List<Long> findIdsByTargetFilterQueryAndCompatibleAndUpdatable(final long afterTargetId,
+            final int limit, final String targetFilterQuery, final DistributionSetType distributionSetType) {
+        final Specification<JpaTarget> filter = combineWithAnd(List.of(
+                RSQLUtility.buildRsqlSpecification(targetFilterQuery, TargetFields.class, virtualPropertyReplacer,
+                        database),
+                TargetSpecifications.isCompatibleWithDistributionSetType(distributionSetType.getId())));
+        final Specification<JpaTarget> spec = targetRepository.getAccessController()
+                .map(acm -> acm.appendAccessRules(AccessController.Operation.UPDATE, filter)).orElse(filter);
+
+        // selects only the ids by the same keyset predicate as
+        // JpaManagementHelper#findAllAfterBySpec, so the targets are not loaded
+        final CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        final CriteriaQuery<Long> query = cb.createQuery(Long.class);
+
+        final Root<JpaTarget> targetRoot = query.from(JpaTarget.class);
+        query.select(targetRoot.get(JpaTarget_.id));
+        query.where(cb.and(spec.toPredicate(targetRoot, query, cb),
+                cb.greaterThan(targetRoot.get(JpaTarget_.id), afterTargetId)));
+        query.orderBy(cb.asc(targetRoot.get(JpaTarget_.id)));
+
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+
     @Override
     public Slice<Target> findByNotInGEGroupAndNotInActiveActionGEWeightOrInRolloutAndTargetFilterQueryAndCompatibleAndUpdatable(
             final Pageable pageRequest, final long rolloutId, final int weight, final long firstGroupId, final String targetFilterQuery,
@@ -0,0 +1,151 @@
+/**
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.management;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Write-behind buffer of the target polls that are persisted by
+ * {@link JpaControllerManagement} in the background. Polls are coalesced per
+ * tenant and controller ID, i.e. a target that polls several times before the
+ * queue is flushed occupies one entry only and results in one row update.
+ * <p/>
+ * The queue is bounded by the number of distinct targets. Polls of targets
+ * that are not queued yet are rejected if the queue is full, the caller has to
+ * persist them itself (fallback).
+ */
+public class TargetPollQueue {
+
+    private final int capacity;
+    private final Map<String, Set<String>> pending = new ConcurrentHashMap<>();
+    private final AtomicInteger size = new AtomicInteger();
+
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong fallbacks = new AtomicLong();
+    private final AtomicLong persisted = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+
+    /**
+     * Constructor.
+     *
+     * @param capacity
+     *            maximum number of distinct targets in the queue
+     */
+    public TargetPollQueue(final int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * Queues the poll of a target.
+     *
+     * @param tenant
+     *            of the target
+     * @param controllerId
+     *            of the target
+     * @return <code>true</code> if the poll is queued (or coalesced with a
+     *         queued poll of the same target), <code>false</code> if the queue
+     *         is full
+     */
+    public boolean offer(final String tenant, final String controllerId) {
+        final Set<String> controllerIds = pending.computeIfAbsent(tenant, key -> ConcurrentHashMap.newKeySet());
+        if (controllerIds.contains(controllerId)) {
+            coalesced.incrementAndGet();
+            return true;
+        }
+
+        if (size.incrementAndGet() > capacity) {
+            size.decrementAndGet();
+            fallbacks.incrementAndGet();
+            return false;
+        }
+
+        if (!controllerIds.add(controllerId)) {
+            // queued concurrently
+            size.decrementAndGet();
+            coalesced.incrementAndGet();
+        }
+        return true;
+    }
+
+    /**
+     * Removes all queued polls.
+     *
+     * @return controller IDs of the polled targets grouped by tenant
+     */
+    public Map<String, List<String>> drain() {
+        final Map<String, List<String>> drained = new HashMap<>();
+        pending.forEach((tenant, controllerIds) -> controllerIds.forEach(controllerId -> {
+            if (controllerIds.remove(controllerId)) {
+                size.decrementAndGet();
+                drained.computeIfAbsent(tenant, key -> new ArrayList<>()).add(controllerId);
+            }
+        }));
+        return drained;
+    }
+
+    /**
+     * @return number of targets with a queued poll
+     */
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * @return maximum number of targets with a queued poll
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * @return number of polls that were merged into a queued poll of the same
+     *         target
+     */
+    public long getCoalesced() {
+        return coalesced.get();
+    }
+
+    /**
+     * @return number of polls that were rejected because the queue was full
+     */
+    public long getFallbacks() {
+        return fallbacks.get();
+    }
+
+    /**
+     * @return number of queued polls that were persisted
+     */
+    public long getPersisted() {
+        return persisted.get();
+    }
+
+    /**
+     * @return number of queued polls that were lost because they could not be
+     *         persisted
+     */
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    void persisted(final int count) {
+        persisted.addAndGet(count);
+    }
+
+    void dropped(final int count) {
+        dropped.addAndGet(count);
+    }
+}
@@ -9,14 +9,17 @@
  */
 package org.eclipse.hawkbit.repository.jpa.model;
 
+import org.eclipse.hawkbit.repository.jpa.event.EntityEventBatcher;
 import org.eclipse.hawkbit.repository.jpa.model.helper.AfterTransactionCommitExecutorHolder;
+import org.eclipse.hawkbit.repository.jpa.model.helper.EntityEventBatcherHolder;
 import org.eclipse.persistence.descriptors.DescriptorEvent;
 import org.eclipse.persistence.descriptors.DescriptorEventAdapter;
 import org.eclipse.persistence.queries.UpdateObjectQuery;
 
 /**
  * Listens to change in property values of an entity and calls the corresponding
- * {@link EventAwareEntity}.
+ * {@link EventAwareEntity}. The events of bulk changes may be published as
+ * batch events by the {@link EntityEventBatcher}.
  *
  */
 public class EntityPropertyChangeListener extends DescriptorEventAdapter {
@@ -25,7 +28,11 @@ public class EntityPropertyChangeListener extends DescriptorEventAdapter {
     public void postInsert(final DescriptorEvent event) {
         final Object object = event.getObject();
         if (isEventAwareEntity(object)) {
-            doNotifiy(() -> ((EventAwareEntity) object).fireCreateEvent(event));
+            final Runnable runnable = () -> ((EventAwareEntity) object).fireCreateEvent(event);
+            final EntityEventBatcher batcher = EntityEventBatcherHolder.getInstance().getEntityEventBatcher();
+            if (batcher == null || !batcher.collectCreated(object, runnable)) {
+                doNotifiy(runnable);
+            }
         }
     }
 
@@ -35,7 +42,11 @@ public class EntityPropertyChangeListener extends DescriptorEventAdapter {
         final Object object = event.getObject();
         if (isEventAwareEntity(object)
                 && isFireUpdate((EventAwareEntity) object, (UpdateObjectQuery) event.getQuery())) {
-            doNotifiy(() -> ((EventAwareEntity) object).fireUpdateEvent(event));
+            final Runnable runnable = () -> ((EventAwareEntity) object).fireUpdateEvent(event);
+            final EntityEventBatcher batcher = EntityEventBatcherHolder.getInstance().getEntityEventBatcher();
+            if (batcher == null || !batcher.collectUpdated(object, runnable)) {
+                doNotifiy(runnable);
+            }
         }
 
     }
@@ -0,0 +1,119 @@
+/**
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.validation.constraints.NotNull;
+
+import org.eclipse.hawkbit.repository.model.Action;
+import org.eclipse.hawkbit.repository.model.Action.Status;
+import org.eclipse.hawkbit.repository.model.RolloutGroup;
+import org.eclipse.persistence.annotations.ConversionValue;
+import org.eclipse.persistence.annotations.Convert;
+import org.eclipse.persistence.annotations.ObjectTypeConverter;
+
+/**
+ * Materialized number of the actions of a {@link RolloutGroup} in a specific
+ * {@link Status}. The counts are reconciled with the actions in the background
+ * and deleted together with the rollout group by the database.
+ */
+@Table(name = "sp_rolloutgroup_status_count", indexes = {
+        @Index(name = "sp_idx_rolloutgroup_status_count_01", columnList = "tenant,rollout") }, uniqueConstraints = @UniqueConstraint(columnNames = {
+                "rollout_group", "status" }, name = "uk_rolloutgroup_status_count"))
+@Entity
+// exception squid:S2160 - BaseEntity equals/hashcode is handling correctly for
+// sub entities
+@SuppressWarnings("squid:S2160")
+public class JpaRolloutGroupStatusCount extends AbstractJpaTenantAwareBaseEntity {
+
+    private static final long serialVersionUID = 1L;
+
+    // plain ids, the rollout and the group are never loaded with the count
+    @Column(name = "rollout", nullable = false, updatable = false)
+    @NotNull
+    private Long rolloutId;
+
+    @Column(name = "rollout_group", nullable = false, updatable = false)
+    @NotNull
+    private Long rolloutGroupId;
+
+    @Column(name = "status", nullable = false, updatable = false)
+    @ObjectTypeConverter(name = "status", objectType = Action.Status.class, dataType = Integer.class, conversionValues = {
+            @ConversionValue(objectValue = "FINISHED", dataValue = "0"),
+            @ConversionValue(objectValue = "ERROR", dataValue = "1"),
+            @ConversionValue(objectValue = "WARNING", dataValue = "2"),
+            @ConversionValue(objectValue = "RUNNING", dataValue = "3"),
+            @ConversionValue(objectValue = "CANCELED", dataValue = "4"),
+            @ConversionValue(objectValue = "CANCELING", dataValue = "5"),
+            @ConversionValue(objectValue = "RETRIEVED", dataValue = "6"),
+            @ConversionValue(objectValue = "DOWNLOAD", dataValue = "7"),
+            @ConversionValue(objectValue = "SCHEDULED", dataValue = "8"),
+            @ConversionValue(objectValue = "CANCEL_REJECTED", dataValue = "9"),
+            @ConversionValue(objectValue = "DOWNLOADED", dataValue = "10"),
+            @ConversionValue(objectValue = "WAIT_FOR_CONFIRMATION", dataValue = "11") })
+    @Convert("status")
+    @NotNull
+    private Status status;
+
+    @Column(name = "action_count", nullable = false)
+    @NotNull
+    private Long actionCount;
+
+    /**
+     * JPA default constructor.
+     */
+    public JpaRolloutGroupStatusCount() {
+        // JPA default constructor.
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param rolloutId
+     *            the rollout of the group
+     * @param rolloutGroupId
+     *            the group the actions belong to
+     * @param status
+     *            the status of the actions
+     * @param actionCount
+     *            number of actions of the group in the status
+     */
+    public JpaRolloutGroupStatusCount(final Long rolloutId, final Long rolloutGroupId, final Status status,
+            final Long actionCount) {
+        this.rolloutId = rolloutId;
+        this.rolloutGroupId = rolloutGroupId;
+        this.status = status;
+        this.actionCount = actionCount;
+    }
+
+    public Long getRolloutId() {
+        return rolloutId;
+    }
+
+    public Long getRolloutGroupId() {
+        return rolloutGroupId;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public Long getActionCount() {
+        return actionCount;
+    }
+
+    public void setActionCount(final Long actionCount) {
+        this.actionCount = actionCount;
+    }
+}
@@ -0,0 +1,45 @@
+/**
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.model.helper;
+
+import org.eclipse.hawkbit.repository.jpa.event.EntityEventBatcher;
+import org.eclipse.hawkbit.repository.jpa.model.EntityPropertyChangeListener;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * A singleton bean which holds the {@link EntityEventBatcher} to have access
+ * to it in beans not instantiated by spring e.g. the
+ * {@link EntityPropertyChangeListener} which cannot be autowired.
+ */
+public final class EntityEventBatcherHolder {
+
+    private static final EntityEventBatcherHolder SINGLETON = new EntityEventBatcherHolder();
+
+    @Autowired(required = false)
+    private EntityEventBatcher entityEventBatcher;
+
+    private EntityEventBatcherHolder() {
+
+    }
+
+    /**
+     * @return the entity event batcher holder singleton instance
+     */
+    public static EntityEventBatcherHolder getInstance() {
+        return SINGLETON;
+    }
+
+    /**
+     * @return the entity event batcher or <code>null</code> if there is none
+     */
+    public EntityEventBatcher getEntityEventBatcher() {
+        return entityEventBatcher;
+    }
+}
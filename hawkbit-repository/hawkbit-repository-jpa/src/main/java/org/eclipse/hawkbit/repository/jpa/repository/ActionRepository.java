@@ -165,6 +165,22 @@ public interface ActionRepository extends BaseEntityRepository<JpaAction> {
      */
     Long countByTargetId(Long targetId);
 
+    /**
+     * Retrieves the IDs of the given targets which are referred by at least
+     * the given number of {@link Action}s.
+     * <p/>
+     * No access control applied
+     *
+     * @param targetIds
+     *            the targets to check
+     * @param actionCount
+     *            the minimum number of actions
+     * @return the IDs of the targets with at least the given number of actions
+     */
+    @Query("SELECT a.target.id FROM JpaAction a WHERE a.target.id IN :targetIds GROUP BY a.target.id HAVING COUNT(a.id) >= :actionCount")
+    List<Long> findTargetIdsWithActionCountAtLeast(@Param("targetIds") Collection<Long> targetIds,
+            @Param("actionCount") long actionCount);
+
     /**
      * Counts all {@link Action}s referring to the given DistributionSet.
      * <p/>
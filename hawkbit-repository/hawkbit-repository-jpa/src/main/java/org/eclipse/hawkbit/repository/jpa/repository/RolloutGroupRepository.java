@@ -109,6 +109,17 @@ public interface RolloutGroupRepository
     List<JpaRolloutGroup> findByParentIdAndStatus(@Param("rolloutGroupId") long rolloutGroupId,
             @Param("status") RolloutGroupStatus status);
 
+    /**
+     * Retrieves the ids of the {@link RolloutGroup}s with targets of the given
+     * rollouts.
+     *
+     * @param rolloutIds
+     *            the ids of the rollouts the rollout groups belong to
+     * @return the ids of the rollout groups with the ids of their rollouts
+     */
+    @Query("SELECT g.id, g.rollout.id FROM JpaRolloutGroup g WHERE g.rollout.id IN :rolloutIds AND g.totalTargets > 0")
+    List<Object[]> findIdsWithTargetsByRolloutIdIn(@Param("rolloutIds") Collection<Long> rolloutIds);
+
     /**
      * Updates all {@link RolloutGroup#getStatus()} of children for given
      * parent.
@@ -0,0 +1,87 @@
+/**
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.eclipse.hawkbit.repository.jpa.model.JpaRolloutGroupStatusCount;
+import org.eclipse.hawkbit.repository.model.Action.Status;
+import org.eclipse.hawkbit.repository.model.Rollout;
+import org.eclipse.hawkbit.repository.model.RolloutGroup;
+import org.eclipse.hawkbit.repository.model.TotalTargetCountActionStatus;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * The repository interface for the {@link JpaRolloutGroupStatusCount} model.
+ */
+@Transactional(readOnly = true)
+public interface RolloutGroupStatusCountRepository extends BaseEntityRepository<JpaRolloutGroupStatusCount> {
+
+    /**
+     * Retrieves the counts of the given {@link RolloutGroup}s.
+     *
+     * @param rolloutGroupIds
+     *            ids of the rollout groups
+     * @return the counts of the groups
+     */
+    List<JpaRolloutGroupStatusCount> findByRolloutGroupIdIn(Collection<Long> rolloutGroupIds);
+
+    /**
+     * Retrieves the ids of the counted {@link RolloutGroup}s of the given
+     * {@link Rollout}s.
+     *
+     * @param rolloutIds
+     *            ids of the rollouts
+     * @return the ids of the rollout groups with counts
+     */
+    @Query("SELECT DISTINCT c.rolloutGroupId FROM JpaRolloutGroupStatusCount c WHERE c.rolloutId IN ?1")
+    List<Long> findRolloutGroupIdsByRolloutIdIn(Collection<Long> rolloutIds);
+
+    /**
+     * Retrieves the ids of the {@link RolloutGroup}s which have counts of
+     * actions in other than the given states, with the ids of their
+     * {@link Rollout}s.
+     *
+     * @param statuses
+     *            the states to ignore
+     * @return pairs of rollout group id and rollout id
+     */
+    @Query("SELECT DISTINCT c.rolloutGroupId, c.rolloutId FROM JpaRolloutGroupStatusCount c WHERE c.status NOT IN ?1")
+    List<Object[]> findRolloutGroupIdsByStatusNotIn(Collection<Status> statuses);
+
+    /**
+     * Get list of objects which has details of status and count of targets in
+     * each status in specified rollout, summed up over the counts of its
+     * groups.
+     * <p/>
+     * No access control applied
+     *
+     * @param rolloutIds
+     *            ids of {@link Rollout}s
+     * @return list of objects with status and target count
+     */
+    @Query("SELECT NEW org.eclipse.hawkbit.repository.model.TotalTargetCountActionStatus(c.rolloutId, c.status, SUM(c.actionCount)) FROM JpaRolloutGroupStatusCount c WHERE c.rolloutId IN ?1 GROUP BY c.rolloutId, c.status")
+    List<TotalTargetCountActionStatus> getStatusCountByRolloutId(Collection<Long> rolloutIds);
+
+    /**
+     * Get list of objects which has details of status and count of targets in
+     * each status in specified rollout group.
+     * <p/>
+     * No access control applied
+     *
+     * @param rolloutGroupIds
+     *            ids of {@link RolloutGroup}s
+     * @return list of objects with status and target count
+     */
+    @Query("SELECT NEW org.eclipse.hawkbit.repository.model.TotalTargetCountActionStatus(c.rolloutGroupId, c.status, c.actionCount) FROM JpaRolloutGroupStatusCount c WHERE c.rolloutGroupId IN ?1")
+    List<TotalTargetCountActionStatus> getStatusCountByRolloutGroupId(Collection<Long> rolloutGroupIds);
+}
@@ -9,11 +9,16 @@
  */
 package org.eclipse.hawkbit.repository.jpa.repository;
 
+import java.util.List;
+
 import org.eclipse.hawkbit.repository.jpa.model.JpaRolloutGroup;
 import org.eclipse.hawkbit.repository.jpa.model.RolloutTargetGroup;
 import org.eclipse.hawkbit.repository.jpa.model.RolloutTargetGroupId;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
@@ -32,4 +37,18 @@ public interface RolloutTargetGroupRepository
      * @return count of targets in the group
      */
     Long countByRolloutGroup(JpaRolloutGroup rolloutGroup);
+
+    /**
+     * Retrieves the IDs of the targets of the given rollout group which have
+     * no action of the group yet, ordered by their IDs.
+     *
+     * @param pageable
+     *            page parameters
+     * @param rolloutGroupId
+     *            the group to filter for
+     * @return the IDs of the targets in the group without action
+     */
+    @Query("SELECT rtg.target.id FROM RolloutTargetGroup rtg WHERE rtg.rolloutGroup.id = :rolloutGroupId AND NOT EXISTS (SELECT a.id FROM JpaAction a WHERE a.rolloutGroup.id = :rolloutGroupId AND a.target.id = rtg.target.id) ORDER BY rtg.target.id")
+    List<Long> findTargetIdsWithoutActionByRolloutGroupId(Pageable pageable,
+            @Param("rolloutGroupId") long rolloutGroupId);
 }
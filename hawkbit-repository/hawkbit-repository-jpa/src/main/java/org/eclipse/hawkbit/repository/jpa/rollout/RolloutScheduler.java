@@ -9,6 +9,15 @@
  */
 package org.eclipse.hawkbit.repository.jpa.rollout;
 
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.hawkbit.repository.RolloutHandler;
 import org.eclipse.hawkbit.repository.SystemManagement;
@@ -19,6 +28,12 @@ import org.springframework.scheduling.annotation.Scheduled;
  * Scheduler to schedule the {@link RolloutHandler#handleAll()}. The
  * delay between the checks be configured using the property from
  * {#PROP_SCHEDULER_DELAY_PLACEHOLDER}.
+ * <p/>
+ * If a tenant concurrency greater than one is configured the tenants are
+ * handed over to a bounded worker pool instead of being handled one after
+ * another in the scheduler thread. A tenant that is still handled from a
+ * previous run is skipped, so a slow tenant occupies at most one worker and
+ * does not delay the other tenants.
  */
 @Slf4j
 public class RolloutScheduler {
@@ -31,6 +46,10 @@ public class RolloutScheduler {
 
     private final SystemSecurityContext systemSecurityContext;
 
+    private final ExecutorService tenantExecutor;
+
+    private final Set<String> tenantsInProgress = ConcurrentHashMap.newKeySet();
+
     /**
      * Constructor.
      * 
@@ -43,9 +62,31 @@ public class RolloutScheduler {
      */
     public RolloutScheduler(final SystemManagement systemManagement, final RolloutHandler rolloutHandler,
             final SystemSecurityContext systemSecurityContext) {
+        this(systemManagement, rolloutHandler, systemSecurityContext, 1);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param systemManagement
+     *            to find all tenants
+     * @param rolloutHandler
+     *            to run the rollout handler
+     * @param systemSecurityContext
+     *            to run as system
+     * @param tenantConcurrency
+     *            maximum number of tenants handled concurrently,
+     *            <code>1</code> handles the tenants sequentially in the
+     *            scheduler thread
+     */
+    public RolloutScheduler(final SystemManagement systemManagement, final RolloutHandler rolloutHandler,
+            final SystemSecurityContext systemSecurityContext, final int tenantConcurrency) {
         this.systemManagement = systemManagement;
         this.rolloutHandler = rolloutHandler;
         this.systemSecurityContext = systemSecurityContext;
+        this.tenantExecutor = tenantConcurrency > 1
+                ? Executors.newFixedThreadPool(tenantConcurrency, threadFactory())
+                : null;
     }
 
     /**
@@ -68,10 +109,61 @@ public class RolloutScheduler {
             // iterate through all tenants and execute the rollout check for
             // each tenant seperately.
 
-            systemManagement.forEachTenant(tenant -> rolloutHandler.handleAll());
+            if (tenantExecutor == null) {
+                systemManagement.forEachTenant(tenant -> rolloutHandler.handleAll());
+            } else {
+                systemManagement.forEachTenant(this::scheduleTenant);
+            }
 
             return null;
         });
     }
 
+    /**
+     * Stops the worker pool of the parallel scheduling mode. Tenants that are
+     * currently handled are finished, queued ones are dropped and picked up
+     * again by the next run.
+     */
+    public void shutdown() {
+        if (tenantExecutor != null) {
+            tenantExecutor.shutdown();
+        }
+    }
+
+    private void scheduleTenant(final String tenant) {
+        if (!tenantsInProgress.add(tenant)) {
+            log.debug("Rollouts of tenant {} are still handled by a previous run, skip it.", tenant);
+            return;
+        }
+
+        try {
+            tenantExecutor.execute(() -> handleTenant(tenant));
+        } catch (final RejectedExecutionException e) {
+            tenantsInProgress.remove(tenant);
+            log.debug("Rollout handling of tenant {} rejected, scheduler is shut down.", tenant, e);
+        }
+    }
+
+    private void handleTenant(final String tenant) {
+        try {
+            systemSecurityContext.runAsSystemAsTenant(() -> {
+                rolloutHandler.handleAll();
+                return null;
+            }, tenant);
+        } catch (final RuntimeException e) {
+            log.error("Rollout handling of tenant {} failed with error message [{}].", tenant, e.getMessage());
+            log.debug("Rollout handling of tenant {} failed.", tenant, e);
+        } finally {
+            tenantsInProgress.remove(tenant);
+        }
+    }
+
+    private static ThreadFactory threadFactory() {
+        final AtomicLong count = new AtomicLong(0);
+        return runnable -> {
+            final Thread thread = Executors.defaultThreadFactory().newThread(runnable);
+            thread.setName(String.format(Locale.ROOT, "rollout-scheduler-%d", count.getAndIncrement()));
+            return thread;
+        };
+    }
 }
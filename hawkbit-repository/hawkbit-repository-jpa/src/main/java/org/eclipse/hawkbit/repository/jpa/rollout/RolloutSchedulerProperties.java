@@ -0,0 +1,45 @@
+/**
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.rollout;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties of the {@link RolloutScheduler} and the rollout
+ * handling it triggers.
+ */
+@Data
+@ConfigurationProperties("hawkbit.rollout.scheduler")
+public class RolloutSchedulerProperties {
+
+    /**
+     * Maximum number of tenants whose rollouts are handled concurrently. With
+     * the default of <code>1</code> the tenants are handled one after another
+     * in the scheduler thread.
+     */
+    private int tenantConcurrency = 1;
+
+    /**
+     * Maximum number of rollouts of a single tenant that are handled
+     * concurrently. With the default of <code>1</code> the rollouts of a
+     * tenant are handled one after another.
+     */
+    private int rolloutConcurrency = 1;
+
+    /**
+     * Materializes the action status counts of the rollouts and rollout groups
+     * and serves their detailed status from them instead of aggregating the
+     * actions on request. The counts are reconciled in the background every
+     * <code>hawkbit.rollout.scheduler.status-counts-delay</code> milliseconds
+     * (default 5000) and lag behind the actions by up to that delay.
+     */
+    private boolean statusCountsEnabled;
+}
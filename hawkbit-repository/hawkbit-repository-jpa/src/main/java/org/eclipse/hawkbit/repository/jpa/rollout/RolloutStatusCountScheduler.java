@@ -0,0 +1,73 @@
+/**
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.rollout;
+
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.hawkbit.repository.SystemManagement;
+import org.eclipse.hawkbit.security.SystemSecurityContext;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Scheduler to schedule the {@link RolloutStatusCounter#reconcile()} and the
+ * {@link RolloutStatusCounter#recount()} of all tenants. The delays between
+ * the runs can be configured using the properties from
+ * {#PROP_SCHEDULER_DELAY_PLACEHOLDER} and
+ * {#PROP_RECOUNT_DELAY_PLACEHOLDER}.
+ */
+@Slf4j
+public class RolloutStatusCountScheduler {
+
+    private static final String PROP_SCHEDULER_DELAY_PLACEHOLDER = "${hawkbit.rollout.scheduler.status-counts-delay:5000}";
+    private static final String PROP_RECOUNT_DELAY_PLACEHOLDER = "${hawkbit.rollout.scheduler.status-counts-recount-delay:600000}";
+
+    private final RolloutStatusCounter rolloutStatusCounter;
+    private final SystemManagement systemManagement;
+    private final SystemSecurityContext systemSecurityContext;
+
+    /**
+     * Constructor.
+     *
+     * @param rolloutStatusCounter
+     *            to reconcile the rollout status counts
+     * @param systemManagement
+     *            to find all tenants
+     * @param systemSecurityContext
+     *            to recount as system
+     */
+    public RolloutStatusCountScheduler(final RolloutStatusCounter rolloutStatusCounter,
+            final SystemManagement systemManagement, final SystemSecurityContext systemSecurityContext) {
+        this.rolloutStatusCounter = rolloutStatusCounter;
+        this.systemManagement = systemManagement;
+        this.systemSecurityContext = systemSecurityContext;
+    }
+
+    /**
+     * Scheduler method called by the spring-async mechanism. Reconciles the
+     * status counts of the rollout groups with changed actions.
+     */
+    @Scheduled(initialDelayString = PROP_SCHEDULER_DELAY_PLACEHOLDER, fixedDelayString = PROP_SCHEDULER_DELAY_PLACEHOLDER)
+    public void reconcileRolloutStatusCounts() {
+        log.debug("rollout status count reconciliation has been triggered.");
+        rolloutStatusCounter.reconcile();
+    }
+
+    /**
+     * Scheduler method called by the spring-async mechanism. Recounts the
+     * rollout groups with open actions of all tenants.
+     */
+    @Scheduled(initialDelayString = PROP_RECOUNT_DELAY_PLACEHOLDER, fixedDelayString = PROP_RECOUNT_DELAY_PLACEHOLDER)
+    public void recountRolloutStatusCounts() {
+        log.debug("rollout status recount has been triggered.");
+        systemSecurityContext.runAsSystem(() -> {
+            systemManagement.forEachTenant(tenant -> rolloutStatusCounter.recount());
+            return null;
+        });
+    }
+}
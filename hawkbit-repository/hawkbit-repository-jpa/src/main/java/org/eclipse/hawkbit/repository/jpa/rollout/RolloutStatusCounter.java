@@ -0,0 +1,332 @@
+/**
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.rollout;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.stream.Collectors;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.collections4.ListUtils;
+import org.eclipse.hawkbit.repository.RolloutStatusCache;
+import org.eclipse.hawkbit.repository.event.remote.AbstractActionBatchEvent;
+import org.eclipse.hawkbit.repository.event.remote.RolloutGroupActionsCreatedEvent;
+import org.eclipse.hawkbit.repository.event.remote.RolloutStoppedEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.AbstractActionEvent;
+import org.eclipse.hawkbit.repository.jpa.configuration.Constants;
+import org.eclipse.hawkbit.repository.jpa.model.JpaRolloutGroupStatusCount;
+import org.eclipse.hawkbit.repository.jpa.repository.ActionRepository;
+import org.eclipse.hawkbit.repository.jpa.repository.RolloutGroupRepository;
+import org.eclipse.hawkbit.repository.jpa.repository.RolloutGroupStatusCountRepository;
+import org.eclipse.hawkbit.repository.jpa.utils.DeploymentHelper;
+import org.eclipse.hawkbit.repository.model.Action.Status;
+import org.eclipse.hawkbit.repository.model.RolloutGroup;
+import org.eclipse.hawkbit.repository.model.TotalTargetCountActionStatus;
+import org.eclipse.hawkbit.security.SystemSecurityContext;
+import org.eclipse.hawkbit.tenancy.TenantAware;
+import org.springframework.cloud.bus.ServiceMatcher;
+import org.springframework.cloud.bus.event.RemoteApplicationEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.integration.support.locks.LockRegistry;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Materialized action status counts of the rollouts and rollout groups. They
+ * serve the detailed status of rollouts and rollout groups, so that the
+ * actions of large rollouts are not aggregated on every request.
+ * <p/>
+ * The counts are kept per rollout group ({@link JpaRolloutGroupStatusCount}),
+ * the counts of a rollout are the sum of the counts of its groups. They are
+ * reconciled in the background: the groups of changed actions are collected
+ * from the action events (like for the {@link RolloutStatusCache}) and the
+ * actions of every collected group are aggregated once per
+ * {@link #reconcile()}, no matter how many of them changed in between. So the
+ * served counts lag behind the actions by up to one reconciliation interval.
+ * The groups are collected only from the events of the own node, so that the
+ * actions of a group are not aggregated by every node of a cluster.
+ * <p/>
+ * Groups without counts yet, e.g. created before the counts have been enabled,
+ * and rollouts with such groups are missing in the results and have to be
+ * aggregated from the actions by the caller. The groups are reconciled with
+ * the next run.
+ * <p/>
+ * The collected groups are kept in memory only, so the changes of a node that
+ * stopped before it reconciled them are lost. Therefore all groups with counts
+ * of open actions are recounted periodically by {@link #recount()}. A missed
+ * change of an action leaves the count of its former, open state too high, so
+ * such a group is recounted until it is correct. The counts of closed actions
+ * ({@link #CLOSED}) don't change anymore.
+ */
+@Slf4j
+public class RolloutStatusCounter {
+
+    private static final Set<Status> CLOSED = EnumSet.of(Status.FINISHED, Status.ERROR, Status.CANCELED);
+
+    private final RolloutGroupStatusCountRepository statusCountRepository;
+    private final ActionRepository actionRepository;
+    private final RolloutGroupRepository rolloutGroupRepository;
+    private final PlatformTransactionManager txManager;
+    private final LockRegistry lockRegistry;
+    private final SystemSecurityContext systemSecurityContext;
+    private final TenantAware tenantAware;
+    private final ServiceMatcher serviceMatcher;
+
+    // per tenant the ids of the groups to reconcile with the ids of their
+    // rollouts
+    private final Map<String, Map<Long, Long>> changedGroups = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor.
+     *
+     * @param statusCountRepository
+     *            to store the counts
+     * @param actionRepository
+     *            to aggregate the actions
+     * @param rolloutGroupRepository
+     *            to find the groups of the rollouts
+     * @param txManager
+     *            to reconcile the counts in new transactions
+     * @param lockRegistry
+     *            to reconcile the counts of a tenant on one node only
+     * @param systemSecurityContext
+     *            to reconcile the counts as system
+     * @param tenantAware
+     *            to get the current tenant
+     * @param serviceMatcher
+     *            to collect the groups from the events of the own node only,
+     *            <code>null</code> if there is no cluster
+     */
+    public RolloutStatusCounter(final RolloutGroupStatusCountRepository statusCountRepository,
+            final ActionRepository actionRepository, final RolloutGroupRepository rolloutGroupRepository,
+            final PlatformTransactionManager txManager, final LockRegistry lockRegistry,
+            final SystemSecurityContext systemSecurityContext, final TenantAware tenantAware,
+            final ServiceMatcher serviceMatcher) {
+        this.statusCountRepository = statusCountRepository;
+        this.actionRepository = actionRepository;
+        this.rolloutGroupRepository = rolloutGroupRepository;
+        this.txManager = txManager;
+        this.lockRegistry = lockRegistry;
+        this.systemSecurityContext = systemSecurityContext;
+        this.tenantAware = tenantAware;
+        this.serviceMatcher = serviceMatcher;
+    }
+
+    /**
+     * Retrieves the counts of the given rollouts. Rollouts with groups without
+     * counts are missing in the result, these groups are reconciled with the
+     * next run.
+     *
+     * @param rolloutIds
+     *            ids of the rollouts
+     * @return the counts per rollout id
+     */
+    public Map<Long, List<TotalTargetCountActionStatus>> getRolloutStatus(final List<Long> rolloutIds) {
+        // groups without targets have no actions and therefore no counts
+        final Set<Long> countedGroups = new HashSet<>(
+                statusCountRepository.findRolloutGroupIdsByRolloutIdIn(rolloutIds));
+        final Map<Long, Long> changed = groups(tenantAware.getCurrentTenant());
+        final Set<Long> notCounted = new HashSet<>();
+        rolloutGroupRepository.findIdsWithTargetsByRolloutIdIn(rolloutIds).forEach(group -> {
+            final Long groupId = (Long) group[0];
+            final Long rolloutId = (Long) group[1];
+            if (!countedGroups.contains(groupId)) {
+                changed.put(groupId, rolloutId);
+                notCounted.add(rolloutId);
+            }
+        });
+
+        final List<Long> counted = rolloutIds.stream().filter(id -> !notCounted.contains(id)).toList();
+        if (counted.isEmpty()) {
+            return new HashMap<>();
+        }
+        return statusCountRepository.getStatusCountByRolloutId(counted).stream()
+                .collect(Collectors.groupingBy(TotalTargetCountActionStatus::getId));
+    }
+
+    /**
+     * Retrieves the counts of the given rollout groups. Groups without counts
+     * are missing in the result and reconciled with the next run.
+     *
+     * @param rolloutGroups
+     *            the rollout groups
+     * @return the counts per rollout group id
+     */
+    public Map<Long, List<TotalTargetCountActionStatus>> getRolloutGroupStatus(
+            final List<? extends RolloutGroup> rolloutGroups) {
+        final Map<Long, List<TotalTargetCountActionStatus>> counts = statusCountRepository
+                .getStatusCountByRolloutGroupId(
+                        rolloutGroups.stream().map(RolloutGroup::getId).collect(Collectors.toList()))
+                .stream().collect(Collectors.groupingBy(TotalTargetCountActionStatus::getId));
+
+        final Map<Long, Long> changed = groups(tenantAware.getCurrentTenant());
+        rolloutGroups.stream().filter(group -> !counts.containsKey(group.getId()))
+                .forEach(group -> changed.put(group.getId(), group.getRollout().getId()));
+        return counts;
+    }
+
+    @EventListener(classes = AbstractActionEvent.class)
+    public void onActionChange(final AbstractActionEvent event) {
+        if (isFromSelf(event) && event.getRolloutGroupId() != null && event.getRolloutId() != null) {
+            groups(event.getTenant()).put(event.getRolloutGroupId(), event.getRolloutId());
+        }
+    }
+
+    @EventListener(classes = AbstractActionBatchEvent.class)
+    public void onActionChange(final AbstractActionBatchEvent event) {
+        if (!isFromSelf(event)) {
+            return;
+        }
+        final Map<Long, Long> changed = groups(event.getTenant());
+        for (int i = 0; i < event.getRolloutGroupIds().size(); i++) {
+            changed.put(event.getRolloutGroupIds().get(i), event.getRolloutIds().get(i));
+        }
+    }
+
+    @EventListener(classes = RolloutGroupActionsCreatedEvent.class)
+    public void onRolloutGroupActionsCreated(final RolloutGroupActionsCreatedEvent event) {
+        if (!isFromSelf(event)) {
+            return;
+        }
+        groups(event.getTenant()).put(event.getRolloutGroupId(), event.getRolloutId());
+    }
+
+    // the scheduled actions of a stopped rollout are canceled in bulk without
+    // action events
+    @EventListener(classes = RolloutStoppedEvent.class)
+    public void onRolloutStopped(final RolloutStoppedEvent event) {
+        if (!isFromSelf(event)) {
+            return;
+        }
+        final Map<Long, Long> changed = groups(event.getTenant());
+        event.getRolloutGroupIds().forEach(groupId -> changed.put(groupId, event.getRolloutId()));
+    }
+
+    /**
+     * Reconciles the counts of all rollout groups with changed actions.
+     * Tenants whose counts are reconciled by another node at the same time
+     * are skipped and reconciled with the next run.
+     */
+    public void reconcile() {
+        new HashSet<>(changedGroups.keySet()).forEach(tenant -> {
+            if (groups(tenant).isEmpty()) {
+                return;
+            }
+            runLocked(tenant, () -> systemSecurityContext.runAsSystemAsTenant(() -> {
+                reconcileTenant(tenant);
+                return null;
+            }, tenant));
+        });
+    }
+
+    /**
+     * Recounts all rollout groups of the current tenant with counts of open
+     * actions, so that the counts of action changes that have not been
+     * reconciled, e.g. because the node stopped before, are corrected. Skipped
+     * if the counts of the tenant are reconciled by another node at the same
+     * time.
+     */
+    public void recount() {
+        final String tenant = tenantAware.getCurrentTenant().toUpperCase(Locale.ROOT);
+        runLocked(tenant, () -> {
+            final Map<Long, Long> changed = groups(tenant);
+            statusCountRepository.findRolloutGroupIdsByStatusNotIn(CLOSED)
+                    .forEach(group -> changed.put((Long) group[0], (Long) group[1]));
+            reconcileTenant(tenant);
+            return null;
+        });
+    }
+
+    private void runLocked(final String tenant, final Callable<?> reconciliation) {
+        final Lock lock = lockRegistry.obtain(tenant + "-rollout-status");
+        if (!lock.tryLock()) {
+            return;
+        }
+        try {
+            reconciliation.call();
+        } catch (final Exception e) {
+            log.error("Reconciliation of the rollout status counts of tenant {} failed.", tenant, e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void reconcileTenant(final String tenant) {
+        // taken before the actions are aggregated, so that changes in between
+        // are reconciled with the next run
+        final Map<Long, Long> groups = new HashMap<>();
+        final Map<Long, Long> changed = groups(tenant);
+        new ArrayList<>(changed.keySet()).forEach(groupId -> {
+            final Long rolloutId = changed.remove(groupId);
+            if (rolloutId != null) {
+                groups.put(groupId, rolloutId);
+            }
+        });
+
+        log.debug("Reconcile the status counts of {} rollout groups of tenant {}.", groups.size(), tenant);
+        ListUtils.partition(new ArrayList<>(groups.keySet()), Constants.MAX_ENTRIES_IN_STATEMENT).forEach(groupIds -> {
+            try {
+                DeploymentHelper.runInNewTransaction(txManager, "reconcileRolloutStatusCounts", status -> {
+                    reconcileGroups(groupIds, groups);
+                    return null;
+                });
+            } catch (final RuntimeException e) {
+                log.warn("Reconciliation of the status counts of {} rollout groups failed, retry with the next run.",
+                        groupIds.size());
+                log.debug("Reconciliation of the rollout status counts failed.", e);
+                groupIds.forEach(groupId -> changed.putIfAbsent(groupId, groups.get(groupId)));
+            }
+        });
+    }
+
+    private void reconcileGroups(final List<Long> groupIds, final Map<Long, Long> rolloutIds) {
+        final Map<Long, Map<Status, Long>> actual = actionRepository.getStatusCountByRolloutGroupId(groupIds).stream()
+                .collect(Collectors.groupingBy(TotalTargetCountActionStatus::getId, Collectors
+                        .toMap(TotalTargetCountActionStatus::getStatus, TotalTargetCountActionStatus::getCount)));
+
+        final List<JpaRolloutGroupStatusCount> toSave = new ArrayList<>();
+        final List<JpaRolloutGroupStatusCount> toDelete = new ArrayList<>();
+        statusCountRepository.findByRolloutGroupIdIn(groupIds).forEach(count -> {
+            final Map<Status, Long> actualOfGroup = actual.get(count.getRolloutGroupId());
+            final Long actionCount = actualOfGroup == null ? null : actualOfGroup.remove(count.getStatus());
+            if (actionCount == null) {
+                toDelete.add(count);
+            } else if (!actionCount.equals(count.getActionCount())) {
+                count.setActionCount(actionCount);
+                toSave.add(count);
+            }
+        });
+        // the remaining ones are new, inserted only for groups with actions,
+        // so they cannot refer to a deleted group
+        actual.forEach((groupId, counts) -> counts.forEach((status, actionCount) -> toSave
+                .add(new JpaRolloutGroupStatusCount(rolloutIds.get(groupId), groupId, status, actionCount))));
+
+        statusCountRepository.deleteAll(toDelete);
+        statusCountRepository.saveAll(toSave);
+    }
+
+    // the events are remote events, the groups of the actions changed on
+    // another node are reconciled by that node
+    private boolean isFromSelf(final RemoteApplicationEvent event) {
+        return serviceMatcher == null || serviceMatcher.isFromSelf(event);
+    }
+
+    private Map<Long, Long> groups(final String tenant) {
+        return changedGroups.computeIfAbsent(tenant.toUpperCase(Locale.ROOT), key -> new ConcurrentHashMap<>());
+    }
+}
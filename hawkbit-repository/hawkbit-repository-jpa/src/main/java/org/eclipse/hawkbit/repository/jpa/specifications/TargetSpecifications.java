@@ -132,6 +132,22 @@ public final class TargetSpecifications {
         return (targetRoot, query, cb) -> targetRoot.get(JpaTarget_.id).in(ids);
     }
 
+    /**
+     * {@link Specification} for retrieving {@link JpaTarget}s including
+     * {@link JpaTarget#getTargetType()} and
+     * {@link JpaTarget#getAutoConfirmationStatus()}, e.g. to map pages of
+     * targets without lazy loading them target by target.
+     *
+     * @return the {@link Target} {@link Specification}
+     */
+    public static Specification<JpaTarget> withTargetTypeAndAutoConfirmationInJoin() {
+        return (targetRoot, query, cb) -> {
+            targetRoot.fetch(JpaTarget_.targetType, JoinType.LEFT);
+            targetRoot.fetch(JpaTarget_.autoConfirmationStatus, JoinType.LEFT);
+            return cb.conjunction();
+        };
+    }
+
     /**
      * {@link Specification} for retrieving {@link Target}s that have the
      * request controller attributes flag set
@@ -0,0 +1,22 @@
+CREATE TABLE sp_rolloutgroup_status_count
+(
+    id               BIGINT GENERATED always AS IDENTITY NOT NULL,
+    tenant           VARCHAR(40) NOT NULL,
+    created_at       BIGINT NOT NULL,
+    created_by       VARCHAR(64) NOT NULL,
+    last_modified_at BIGINT NOT NULL,
+    last_modified_by VARCHAR(64) NOT NULL,
+    optlock_revision INTEGER,
+    rollout          BIGINT NOT NULL,
+    rollout_group    BIGINT NOT NULL,
+    status           INTEGER NOT NULL,
+    action_count     BIGINT NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX sp_idx_rolloutgroup_status_count_01
+    ON sp_rolloutgroup_status_count (tenant, rollout);
+
+ALTER TABLE sp_rolloutgroup_status_count ADD CONSTRAINT uk_rolloutgroup_status_count UNIQUE (rollout_group, status);
+
+ALTER TABLE sp_rolloutgroup_status_count ADD CONSTRAINT fk_rolloutgroup_status_count_group FOREIGN KEY (rollout_group) REFERENCES sp_rolloutgroup (id) ON DELETE CASCADE;
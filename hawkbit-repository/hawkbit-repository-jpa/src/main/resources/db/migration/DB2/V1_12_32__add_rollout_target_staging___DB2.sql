@@ -0,0 +1,11 @@
+CREATE TABLE sp_rollout_target_staging
+(
+    rollout_id    BIGINT NOT NULL,
+    target_number BIGINT NOT NULL,
+    target_id     BIGINT NOT NULL,
+    PRIMARY KEY (rollout_id, target_number)
+);
+
+ALTER TABLE sp_rollout_target_staging ADD CONSTRAINT fk_rollout_target_staging_rollout FOREIGN KEY (rollout_id) REFERENCES sp_rollout (id) ON DELETE CASCADE;
+
+ALTER TABLE sp_rollout_target_staging ADD CONSTRAINT fk_rollout_target_staging_target FOREIGN KEY (target_id) REFERENCES sp_target (id) ON DELETE CASCADE;
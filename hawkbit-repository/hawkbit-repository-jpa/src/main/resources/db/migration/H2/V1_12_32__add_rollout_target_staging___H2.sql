@@ -0,0 +1,19 @@
+create table sp_rollout_target_staging
+(
+    rollout_id    bigint not null,
+    target_number bigint not null,
+    target_id     bigint not null,
+    primary key (rollout_id, target_number)
+);
+
+alter table sp_rollout_target_staging
+    add constraint fk_rollout_target_staging_rollout
+        foreign key (rollout_id)
+            references sp_rollout
+            on delete cascade;
+
+alter table sp_rollout_target_staging
+    add constraint fk_rollout_target_staging_target
+        foreign key (target_id)
+            references sp_target
+            on delete cascade;
@@ -0,0 +1,8 @@
+create table SP_LOCK
+(
+    lock_key     char(36)     not null,
+    region       varchar(100) not null,
+    client_id    char(36),
+    created_date datetime(6)  not null,
+    constraint pk_sp_lock primary key (lock_key, region)
+);
@@ -0,0 +1,26 @@
+create table sp_rolloutgroup_status_count
+(
+    id               bigint      not null auto_increment,
+    created_at       bigint,
+    created_by       varchar(64),
+    last_modified_at bigint,
+    last_modified_by varchar(64),
+    optlock_revision bigint,
+    tenant           varchar(40) not null,
+    rollout          bigint      not null,
+    rollout_group    bigint      not null,
+    status           integer     not null,
+    action_count     bigint      not null,
+    primary key (id)
+);
+
+alter table sp_rolloutgroup_status_count
+    add constraint uk_rolloutgroup_status_count unique (rollout_group, status);
+
+create index sp_idx_rolloutgroup_status_count_01 on sp_rolloutgroup_status_count (tenant, rollout);
+
+alter table sp_rolloutgroup_status_count
+    add constraint fk_rolloutgroup_status_count_group
+        foreign key (rollout_group)
+            references sp_rolloutgroup (id)
+            on delete cascade;
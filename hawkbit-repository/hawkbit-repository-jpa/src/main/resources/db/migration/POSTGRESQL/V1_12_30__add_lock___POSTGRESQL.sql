@@ -0,0 +1,10 @@
+CREATE TABLE SP_LOCK
+(
+    lock_key     CHAR(36)     NOT NULL,
+    region       VARCHAR(100) NOT NULL,
+    client_id    CHAR(36),
+    created_date TIMESTAMP    NOT NULL
+);
+
+ALTER TABLE SP_LOCK
+    ADD CONSTRAINT pk_sp_lock PRIMARY KEY (lock_key, region);
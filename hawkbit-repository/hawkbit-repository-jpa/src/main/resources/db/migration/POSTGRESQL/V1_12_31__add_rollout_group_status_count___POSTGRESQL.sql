@@ -0,0 +1,43 @@
+-- ------------ Write CREATE-SEQUENCE-stage scripts -----------
+
+CREATE SEQUENCE IF NOT EXISTS sp_rolloutgroup_status_count_seq
+INCREMENT BY 1
+START WITH 1
+NO CYCLE;
+
+-- ------------ Write CREATE-TABLE-stage scripts -----------
+
+CREATE TABLE sp_rolloutgroup_status_count(
+    id BIGINT NOT NULL DEFAULT nextval('sp_rolloutgroup_status_count_seq'),
+    created_at       BIGINT,
+    created_by       VARCHAR(64),
+    last_modified_at BIGINT,
+    last_modified_by VARCHAR(64),
+    optlock_revision BIGINT,
+    tenant           VARCHAR(40) NOT NULL,
+    rollout          BIGINT NOT NULL,
+    rollout_group    BIGINT NOT NULL,
+    status           INTEGER NOT NULL,
+    action_count     BIGINT NOT NULL
+)
+        WITH (
+        OIDS=FALSE
+        );
+
+-- ------------ Alter Table and Write INDEX scripts -----------
+
+ALTER TABLE sp_rolloutgroup_status_count
+ADD CONSTRAINT pk_sp_rolloutgroup_status_count PRIMARY KEY (id);
+
+ALTER TABLE sp_rolloutgroup_status_count
+ADD CONSTRAINT uk_rolloutgroup_status_count UNIQUE (rollout_group, status);
+
+CREATE INDEX sp_idx_rolloutgroup_status_count_01
+ON sp_rolloutgroup_status_count
+USING BTREE (tenant, rollout);
+
+ALTER TABLE sp_rolloutgroup_status_count
+ADD CONSTRAINT fk_rolloutgroup_status_count_group FOREIGN KEY (rollout_group)
+REFERENCES sp_rolloutgroup (id)
+ON UPDATE RESTRICT
+ON DELETE CASCADE;
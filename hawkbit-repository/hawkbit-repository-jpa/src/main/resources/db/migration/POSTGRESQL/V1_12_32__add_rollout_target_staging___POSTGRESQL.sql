@@ -0,0 +1,27 @@
+-- ------------ Write CREATE-TABLE-stage scripts -----------
+
+CREATE TABLE sp_rollout_target_staging(
+    rollout_id    BIGINT NOT NULL,
+    target_number BIGINT NOT NULL,
+    target_id     BIGINT NOT NULL
+)
+        WITH (
+        OIDS=FALSE
+        );
+
+-- ------------ Alter Table and Write INDEX scripts -----------
+
+ALTER TABLE sp_rollout_target_staging
+ADD CONSTRAINT pk_sp_rollout_target_staging PRIMARY KEY (rollout_id, target_number);
+
+ALTER TABLE sp_rollout_target_staging
+ADD CONSTRAINT fk_rollout_target_staging_rollout FOREIGN KEY (rollout_id)
+REFERENCES sp_rollout (id)
+ON UPDATE RESTRICT
+ON DELETE CASCADE;
+
+ALTER TABLE sp_rollout_target_staging
+ADD CONSTRAINT fk_rollout_target_staging_target FOREIGN KEY (target_id)
+REFERENCES sp_target (id)
+ON UPDATE RESTRICT
+ON DELETE CASCADE;
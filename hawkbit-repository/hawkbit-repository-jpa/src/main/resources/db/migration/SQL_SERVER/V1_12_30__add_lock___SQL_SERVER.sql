@@ -0,0 +1,8 @@
+CREATE TABLE SP_LOCK
+(
+    lock_key     CHAR(36)     NOT NULL,
+    region       VARCHAR(100) NOT NULL,
+    client_id    CHAR(36),
+    created_date DATETIME2    NOT NULL,
+    CONSTRAINT pk_sp_lock PRIMARY KEY (lock_key, region)
+);
@@ -0,0 +1,125 @@
+/**
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+
+import org.eclipse.hawkbit.ContextAware;
+import org.eclipse.hawkbit.repository.RolloutExecutor;
+import org.eclipse.hawkbit.repository.RolloutManagement;
+import org.eclipse.hawkbit.repository.model.Rollout;
+import org.eclipse.hawkbit.repository.model.Rollout.RolloutStatus;
+import org.eclipse.hawkbit.tenancy.TenantAware;
+import org.eclipse.hawkbit.tenancy.TenantAware.TenantRunner;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.integration.support.locks.LockRegistry;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+
+@Feature("Unit Tests - Repository")
+@Story("Rollout Management")
+class JpaRolloutHandlerTest {
+
+    private final TenantAware tenantAware = mock(TenantAware.class);
+    private final RolloutManagement rolloutManagement = mock(RolloutManagement.class);
+    private final RolloutExecutor rolloutExecutor = mock(RolloutExecutor.class);
+    private final LockRegistry lockRegistry = mock(LockRegistry.class);
+    private final Lock lock = mock(Lock.class);
+    private final ContextAware contextAware = mock(ContextAware.class);
+
+    private JpaRolloutHandler rolloutHandler;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setup() {
+        when(tenantAware.getCurrentTenant()).thenReturn("tenant");
+        when(contextAware.getCurrentTenant()).thenReturn("tenant");
+        when(contextAware.runAsTenantAsUser(any(), any(), any()))
+                .thenAnswer(invocation -> invocation.getArgument(2, TenantRunner.class).run());
+        when(lockRegistry.obtain(anyString())).thenReturn(lock);
+        when(lock.tryLock()).thenReturn(true);
+        when(rolloutManagement.findActiveRollouts()).thenReturn(List.of(1L, 2L));
+        for (final long rolloutId : List.of(1L, 2L)) {
+            final Rollout rollout = mock(Rollout.class);
+            when(rollout.getStatus()).thenReturn(RolloutStatus.RUNNING);
+            when(rollout.getAccessControlContext()).thenReturn(Optional.empty());
+            when(rolloutManagement.get(rolloutId)).thenReturn(Optional.of(rollout));
+        }
+
+        rolloutHandler = new JpaRolloutHandler(tenantAware, rolloutManagement, rolloutExecutor, lockRegistry,
+                mock(PlatformTransactionManager.class), contextAware, 2, 1);
+    }
+
+    @AfterEach
+    void shutdown() {
+        rolloutHandler.shutdown();
+    }
+
+    @Test
+    @Description("Verifies that the running rollouts are handled in parallel and that an interrupted handling "
+            + "waits for the started workers before it releases the tenant lock.")
+    void interruptedHandlingAwaitsStartedWorkers() throws InterruptedException {
+        final CyclicBarrier bothRolloutsRunning = new CyclicBarrier(2);
+        final CountDownLatch workerRunning = new CountDownLatch(1);
+        final CountDownLatch releaseWorker = new CountDownLatch(1);
+        final AtomicBoolean workerDone = new AtomicBoolean();
+        doAnswer(invocation -> {
+            // only passes if the other rollout is handled at the same time
+            bothRolloutsRunning.await(5, TimeUnit.SECONDS);
+            if (Thread.currentThread().getName().startsWith("rollout-handler-")) {
+                workerRunning.countDown();
+                releaseWorker.await(5, TimeUnit.SECONDS);
+                workerDone.set(true);
+            }
+            return null;
+        }).when(rolloutExecutor).execute(any());
+        final AtomicBoolean unlockedAfterWorker = new AtomicBoolean();
+        doAnswer(invocation -> {
+            unlockedAfterWorker.set(workerDone.get());
+            return null;
+        }).when(lock).unlock();
+
+        final CountDownLatch handled = new CountDownLatch(1);
+        final AtomicBoolean interruptRestored = new AtomicBoolean();
+        final Thread caller = new Thread(() -> {
+            rolloutHandler.handleAll();
+            interruptRestored.set(Thread.currentThread().isInterrupted());
+            handled.countDown();
+        });
+        caller.start();
+        assertThat(workerRunning.await(5, TimeUnit.SECONDS)).isTrue();
+
+        caller.interrupt();
+        assertThat(handled.await(200, TimeUnit.MILLISECONDS)).isFalse();
+        releaseWorker.countDown();
+
+        assertThat(handled.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(unlockedAfterWorker).isTrue();
+        assertThat(interruptRestored).isTrue();
+    }
+}
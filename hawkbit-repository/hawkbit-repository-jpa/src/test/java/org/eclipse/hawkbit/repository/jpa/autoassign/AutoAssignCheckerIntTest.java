@@ -11,19 +11,25 @@ package org.eclipse.hawkbit.repository.jpa.autoassign;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.eclipse.hawkbit.im.authentication.SpPermission.SpringEvalExpressions.CONTROLLER_ROLE;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.awaitility.Awaitility;
 import org.eclipse.hawkbit.repository.DeploymentManagement;
 import org.eclipse.hawkbit.repository.exception.IncompleteDistributionSetException;
 import org.eclipse.hawkbit.repository.jpa.AbstractJpaIntegrationTest;
 import org.eclipse.hawkbit.repository.jpa.specifications.ActionSpecifications;
+import org.eclipse.hawkbit.repository.jpa.utils.DeploymentHelper;
 import org.eclipse.hawkbit.repository.model.Action;
 import org.eclipse.hawkbit.repository.model.Action.ActionType;
 import org.eclipse.hawkbit.repository.model.Action.Status;
@@ -33,6 +39,7 @@ import org.eclipse.hawkbit.repository.model.DistributionSetType;
 import org.eclipse.hawkbit.repository.model.Target;
 import org.eclipse.hawkbit.repository.model.TargetFilterQuery;
 import org.eclipse.hawkbit.repository.model.TargetType;
+import org.eclipse.hawkbit.repository.test.util.SecurityContextSwitch;
 import org.eclipse.hawkbit.tenancy.configuration.TenantConfigurationProperties.TenantConfigurationKey;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -41,6 +48,7 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import io.qameta.allure.Description;
 import io.qameta.allure.Feature;
@@ -61,6 +69,12 @@ class AutoAssignCheckerIntTest extends AbstractJpaIntegrationTest {
     @Autowired
     private DeploymentManagement deploymentManagement;
 
+    @Autowired
+    private AutoAssignProperties autoAssignProperties;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
     @Test
     @Description("Verifies that a running action is auto canceled by a AutoAssignment which assigns another distribution-set.")
     void autoAssignDistributionSetAndAutoCloseOldActions() {
@@ -497,6 +511,63 @@ class AutoAssignCheckerIntTest extends AbstractJpaIntegrationTest {
         assertThat(actionTargets).containsExactlyInAnyOrderElementsOf(compatibleTargets);
     }
 
+    @Test
+    @Description("Verifies that the incremental check assigns only targets that changed since the previous check, "
+            + "i.e. that were created or updated by their controller, and that the full scan assigns the others.")
+    void incrementalCheckAssignsChangedTargets() throws Exception {
+        autoAssignProperties.setIncremental(true);
+        autoAssignProperties.setChangeOverlap(Duration.ZERO);
+        try {
+            final DistributionSet setA = testdataFactory.createDistributionSet("dsA");
+            final Target tracked = testdataFactory.createTarget("tracked");
+            final Target untracked = testdataFactory.createTarget("untracked");
+            targetFilterQueryManagement.create(entityFactory.targetFilterQuery().create().name("filterA")
+                    .query("attribute.revision==2,name==created").autoAssignDistributionSet(setA.getId()));
+            implicitLock(setA);
+
+            // no matching target yet
+            TimeUnit.MILLISECONDS.sleep(10);
+            autoAssignChecker.checkAllTargets();
+            assertThat(deploymentManagement.findActionsAll(PAGE)).isEmpty();
+
+            // changed in the database only, neither tracked by an event nor by
+            // the last modified time
+            insertAttributeUntracked(untracked);
+            // the controller doesn't change the last modified time, the
+            // change is tracked by the (asynchronous) event
+            updateAttributesAsController(tracked.getControllerId());
+            final Target created = testdataFactory.createTarget("created");
+
+            Awaitility.await().pollInSameThread().atMost(Duration.ofSeconds(5)).untilAsserted(() -> {
+                autoAssignChecker.checkAllTargets();
+                assertThat(deploymentManagement.getAssignedDistributionSet(tracked.getControllerId())).contains(setA);
+            });
+            assertThat(deploymentManagement.getAssignedDistributionSet(created.getControllerId())).contains(setA);
+            assertThat(deploymentManagement.getAssignedDistributionSet(untracked.getControllerId())).isEmpty();
+
+            autoAssignProperties.setFullScanInterval(Duration.ZERO);
+            autoAssignChecker.checkAllTargets();
+            assertThat(deploymentManagement.getAssignedDistributionSet(untracked.getControllerId())).contains(setA);
+        } finally {
+            autoAssignProperties.setIncremental(false);
+            autoAssignProperties.setChangeOverlap(new AutoAssignProperties().getChangeOverlap());
+            autoAssignProperties.setFullScanInterval(new AutoAssignProperties().getFullScanInterval());
+        }
+    }
+
+    private void insertAttributeUntracked(final Target target) {
+        DeploymentHelper.runInNewTransaction(transactionManager, "insertAttributeUntracked",
+                status -> entityManager.createNativeQuery(
+                        "INSERT INTO sp_target_attributes (target_id, attribute_key, attribute_value) VALUES (?1, 'revision', '2')")
+                        .setParameter(1, target.getId()).executeUpdate());
+    }
+
+    private void updateAttributesAsController(final String controllerId) throws Exception {
+        SecurityContextSwitch.runAs(SecurityContextSwitch.withController("controller", CONTROLLER_ROLE),
+                () -> controllerManagement.updateControllerAttributes(controllerId, Map.of("revision", "2"),
+                        null));
+    }
+
     private Slice<Action> findActionsByDistributionSet(final Pageable pageable, final long distributionSetId) {
         return actionRepository
                 .findAll(ActionSpecifications.byDistributionSetId(distributionSetId), pageable)
@@ -0,0 +1,140 @@
+/**
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.awaitility.Awaitility;
+import org.eclipse.hawkbit.repository.event.TenantAwareEvent;
+import org.eclipse.hawkbit.repository.event.remote.ActionCreatedBatchEvent;
+import org.eclipse.hawkbit.repository.event.remote.TargetUpdatedBatchEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.ActionCreatedEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.TargetUpdatedEvent;
+import org.eclipse.hawkbit.repository.jpa.AbstractJpaIntegrationTest;
+import org.eclipse.hawkbit.repository.jpa.event.EntityEventBatcherTest.BatchTestConfiguration;
+import org.eclipse.hawkbit.repository.model.Action;
+import org.eclipse.hawkbit.repository.model.DistributionSet;
+import org.eclipse.hawkbit.repository.model.Rollout;
+import org.eclipse.hawkbit.repository.model.RolloutGroup;
+import org.eclipse.hawkbit.repository.model.Target;
+import org.eclipse.hawkbit.repository.model.TargetType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.event.EventListener;
+import org.springframework.test.context.TestPropertySource;
+
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+
+@Feature("Component Tests - Repository")
+@Story("Entity Events")
+@SpringBootTest(classes = { BatchTestConfiguration.class })
+@TestPropertySource(properties = { "hawkbit.server.repository.entity-event-batch-threshold=3",
+        "hawkbit.server.repository.entity-event-batch-max-size=4" })
+class EntityEventBatcherTest extends AbstractJpaIntegrationTest {
+
+    @Autowired
+    private BatchEventListener eventListener;
+
+    @BeforeEach
+    void clearEvents() {
+        eventListener.events.clear();
+    }
+
+    @Test
+    @Description("Verifies that the actions created by a bulk assignment are published as batch events split by the maximum size.")
+    void actionBatchEventsArePublishedForBulkAssignment() {
+        final List<Target> targets = testdataFactory.createTargets(5, "batch-");
+        final DistributionSet distributionSet = testdataFactory.createDistributionSet("batch");
+        final List<Long> actionIds = assignDistributionSet(distributionSet, targets).getAssignedEntity().stream()
+                .map(Action::getId).toList();
+
+        final List<ActionCreatedBatchEvent> events = waitForEvents(ActionCreatedBatchEvent.class, 2);
+        assertThat(events).extracting(event -> event.getEntityIds().size()).containsExactly(4, 1);
+        assertThat(events.stream().flatMap(event -> event.getEntityIds().stream()))
+                .containsExactlyInAnyOrderElementsOf(actionIds);
+        assertThat(events.stream().flatMap(event -> event.getTargetIds().stream()))
+                .containsExactlyInAnyOrderElementsOf(targets.stream().map(Target::getId).toList());
+        assertThat(eventListener.events).noneMatch(ActionCreatedEvent.class::isInstance);
+    }
+
+    @Test
+    @Description("Verifies that the targets updated by a bulk type assignment are published as one batch event.")
+    void targetBatchEventIsPublishedForBulkUpdate() {
+        final List<Target> targets = testdataFactory.createTargets(3, "batchType-");
+        final TargetType targetType = testdataFactory.findOrCreateTargetType("batchType");
+        targetManagement.assignType(targets.stream().map(Target::getControllerId).toList(), targetType.getId());
+
+        assertThat(waitForEvents(TargetUpdatedBatchEvent.class, 1).get(0).getEntityIds())
+                .containsExactlyInAnyOrderElementsOf(targets.stream().map(Target::getId).toList());
+        assertThat(eventListener.events).noneMatch(TargetUpdatedEvent.class::isInstance);
+    }
+
+    @Test
+    @Description("Verifies that the single entity events are published if less entities than the threshold are changed.")
+    void singleEventsArePublishedBelowThreshold() {
+        final List<Target> targets = testdataFactory.createTargets(2, "single-");
+        assignDistributionSet(testdataFactory.createDistributionSet("single"), targets);
+
+        assertThat(waitForEvents(ActionCreatedEvent.class, 2)).extracting(ActionCreatedEvent::getTargetId)
+                .containsExactlyInAnyOrderElementsOf(targets.stream().map(Target::getId).toList());
+        assertThat(eventListener.events).noneMatch(ActionCreatedBatchEvent.class::isInstance);
+    }
+
+    @Test
+    @Description("Verifies that the batch event of the actions of a started rollout holds the rollout group with its rollout.")
+    void batchEventHoldsRolloutGroups() {
+        testdataFactory.createTargets(3, "batchRollout-");
+        final Rollout rollout = testdataFactory.createRolloutByVariables("batchRollout", "batchRollout", 1,
+                "controllerId==batchRollout-*", testdataFactory.createDistributionSet("batchRollout"), "50", "80");
+        rolloutManagement.start(rollout.getId());
+        rolloutHandler.handleAll();
+
+        final List<Long> groupIds = rolloutGroupManagement.findByRollout(PAGE, rollout.getId()).getContent().stream()
+                .map(RolloutGroup::getId).toList();
+        final ActionCreatedBatchEvent event = waitForEvents(ActionCreatedBatchEvent.class, 1).get(0);
+        assertThat(event.getEntityIds()).hasSize(3);
+        assertThat(event.getRolloutGroupIds()).isEqualTo(groupIds);
+        assertThat(event.getRolloutIds()).containsExactly(rollout.getId());
+    }
+
+    private <T> List<T> waitForEvents(final Class<T> eventType, final int count) {
+        Awaitility.await().atMost(Duration.ofSeconds(5)).pollInterval(Duration.ofMillis(100))
+                .until(() -> eventListener.events.stream().filter(eventType::isInstance).count() >= count);
+        return eventListener.events.stream().filter(eventType::isInstance).map(eventType::cast).toList();
+    }
+
+    static class BatchTestConfiguration {
+
+        @Bean
+        BatchEventListener batchEventListener() {
+            return new BatchEventListener();
+        }
+    }
+
+    private static class BatchEventListener {
+
+        private final Queue<TenantAwareEvent> events = new ConcurrentLinkedQueue<>();
+
+        @EventListener(classes = TenantAwareEvent.class)
+        public void onEvent(final TenantAwareEvent event) {
+            events.offer(event);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+/**
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.lock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.locks.Lock;
+
+import javax.sql.DataSource;
+
+import org.eclipse.hawkbit.repository.jpa.AbstractJpaIntegrationTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.integration.jdbc.lock.DefaultLockRepository;
+import org.springframework.integration.jdbc.lock.JdbcLockRegistry;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+
+/**
+ * Test class for the locks shared by all nodes of a cluster, stored in the
+ * <code>SP_LOCK</code> table. Every registry simulates another node of the
+ * cluster.
+ */
+@Feature("Component Tests - Repository")
+@Story("Distributed locks")
+class DistributedLockTest extends AbstractJpaIntegrationTest {
+
+    private static final Duration TTL = Duration.ofMillis(1_000);
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager txManager;
+
+    private final List<DefaultLockRepository> lockRepositories = new ArrayList<>();
+    private final List<DistributedLockRegistry> lockRegistries = new ArrayList<>();
+
+    @AfterEach
+    void shutdown() {
+        lockRegistries.forEach(DistributedLockRegistry::destroy);
+        lockRepositories.forEach(DefaultLockRepository::close);
+    }
+
+    @Test
+    @Description("Verifies that a lock held by one node can not be acquired by another node until it is released.")
+    void lockIsExclusiveInCluster() {
+        final JdbcLockRegistry node1 = createNode();
+        final JdbcLockRegistry node2 = createNode();
+
+        final Lock lock = node1.obtain("tenant-rollout");
+        assertThat(lock.tryLock()).isTrue();
+        assertThat(node2.obtain("tenant-rollout").tryLock()).isFalse();
+        assertThat(node2.obtain("other-tenant-rollout").tryLock()).isTrue();
+
+        lock.unlock();
+        assertThat(node2.obtain("tenant-rollout").tryLock()).isTrue();
+    }
+
+    @Test
+    @Description("Verifies that the lock of a node that does not renew its lease is taken over after the lease expired.")
+    void expiredLockIsTakenOver() throws InterruptedException {
+        final JdbcLockRegistry node1 = createNode();
+        final JdbcLockRegistry node2 = createNode();
+
+        assertThat(node1.obtain("tenant-rollout").tryLock()).isTrue();
+        Thread.sleep(TTL.toMillis() + 200);
+
+        assertThat(node2.obtain("tenant-rollout").tryLock()).isTrue();
+    }
+
+    @Test
+    @Description("Verifies that a renewed lease of a held lock is not taken over.")
+    void renewedLockIsNotTakenOver() throws InterruptedException {
+        final JdbcLockRegistry node1 = createNode();
+        final JdbcLockRegistry node2 = createNode();
+
+        final Lock lock = node1.obtain("tenant-rollout");
+        assertThat(lock.tryLock()).isTrue();
+        for (int i = 0; i < 4; i++) {
+            Thread.sleep(TTL.toMillis() / 2);
+            node1.renewLock("tenant-rollout");
+        }
+
+        assertThat(node2.obtain("tenant-rollout").tryLock()).isFalse();
+        lock.unlock();
+    }
+
+    @Test
+    @Description("Verifies that the lease of a lock held by a busy thread is renewed by the heartbeat and not taken "
+            + "over, and that the heartbeat stops renewing it once it has been released.")
+    void heldLockIsRenewedByHeartbeat() throws InterruptedException {
+        final DistributedLockRegistry node1 = new DistributedLockRegistry(createLockRepository(), TTL.dividedBy(4));
+        lockRegistries.add(node1);
+        final JdbcLockRegistry node2 = createNode();
+
+        final Lock lock = node1.obtain("tenant-autoassign");
+        assertThat(lock.tryLock()).isTrue();
+        Thread.sleep(3 * TTL.toMillis());
+        assertThat(node2.obtain("tenant-autoassign").tryLock()).isFalse();
+
+        lock.unlock();
+        final Lock taken = node2.obtain("tenant-autoassign");
+        assertThat(taken.tryLock()).isTrue();
+        taken.unlock();
+    }
+
+    private JdbcLockRegistry createNode() {
+        return new JdbcLockRegistry(createLockRepository());
+    }
+
+    private DefaultLockRepository createLockRepository() {
+        final DefaultLockRepository lockRepository = new DefaultLockRepository(dataSource,
+                UUID.randomUUID().toString());
+        lockRepository.setPrefix("SP_");
+        lockRepository.setTimeToLive((int) TTL.toMillis());
+        lockRepository.setTransactionManager(txManager);
+        lockRepository.afterPropertiesSet();
+        lockRepository.afterSingletonsInstantiated();
+        lockRepository.start();
+        lockRepositories.add(lockRepository);
+        return lockRepository;
+    }
+}
@@ -14,6 +14,7 @@ import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URISyntaxException;
@@ -24,6 +25,7 @@ import java.util.HexFormat;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import jakarta.validation.ConstraintViolationException;
 
@@ -36,6 +38,7 @@ import org.eclipse.hawkbit.repository.ArtifactManagement;
 import org.eclipse.hawkbit.repository.event.remote.SoftwareModuleDeletedEvent;
 import org.eclipse.hawkbit.repository.event.remote.entity.SoftwareModuleCreatedEvent;
 import org.eclipse.hawkbit.repository.exception.AssignmentQuotaExceededException;
+import org.eclipse.hawkbit.repository.exception.EntityNotFoundException;
 import org.eclipse.hawkbit.repository.exception.FileSizeQuotaExceededException;
 import org.eclipse.hawkbit.repository.exception.InsufficientPermissionException;
 import org.eclipse.hawkbit.repository.exception.InvalidMD5HashException;
@@ -55,6 +58,7 @@ import org.eclipse.hawkbit.repository.test.util.HashGeneratorUtils;
 import org.eclipse.hawkbit.repository.test.util.SecurityContextSwitch;
 import org.eclipse.hawkbit.repository.test.util.WithUser;
 import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import io.qameta.allure.Description;
 import io.qameta.allure.Feature;
@@ -579,6 +583,53 @@ public class ArtifactManagementTest extends AbstractJpaIntegrationTest {
         }
     }
 
+    @Test
+    @Description("Verifies that the binary is uploaded outside of a transaction and deleted again if the artifact "
+            + "metadata could not be stored.")
+    public void stagedBinaryIsDeletedIfMetadataCannotBeStored() throws IOException, NoSuchAlgorithmException {
+        final SoftwareModule sm = testdataFactory.createSoftwareModuleOs();
+        final byte[] testData = randomBytes(100);
+        final String sha1 = calcHashes(testData).getSha1();
+        final AtomicBoolean uploadedInTransaction = new AtomicBoolean();
+
+        try (final InputStream inputStream = new UploadCompletionInputStream(testData, () -> {
+            uploadedInTransaction.set(TransactionSynchronizationManager.isActualTransactionActive());
+            softwareModuleManagement.delete(sm.getId());
+        })) {
+            final ArtifactUpload artifactUpload = new ArtifactUpload(inputStream, sm.getId(), "test-file", false,
+                    testData.length);
+            assertThatExceptionOfType(EntityNotFoundException.class)
+                    .isThrownBy(() -> artifactManagement.create(artifactUpload));
+        }
+
+        assertThat(uploadedInTransaction).isFalse();
+        assertThat(binaryArtifactRepository.existsByTenantAndSha1(tenantAware.getCurrentTenant(), sha1)).isFalse();
+    }
+
+    @Test
+    @Description("Verifies that a staged binary which is referenced by another artifact is kept if the artifact "
+            + "metadata could not be stored.")
+    public void sharedStagedBinaryIsKeptIfMetadataCannotBeStored() throws IOException, NoSuchAlgorithmException {
+        final SoftwareModule smOs = testdataFactory.createSoftwareModuleOs();
+        final SoftwareModule smApp = testdataFactory.createSoftwareModuleApp();
+        final byte[] testData = randomBytes(100);
+        final String sha1 = calcHashes(testData).getSha1();
+        createArtifactForSoftwareModule("test-file", smOs.getId(), testData.length,
+                new ByteArrayInputStream(testData));
+
+        try (final InputStream inputStream = new UploadCompletionInputStream(testData,
+                () -> softwareModuleManagement.delete(smApp.getId()))) {
+            final ArtifactUpload artifactUpload = new ArtifactUpload(inputStream, smApp.getId(), "test-file", false,
+                    testData.length);
+            assertThatExceptionOfType(EntityNotFoundException.class)
+                    .isThrownBy(() -> artifactManagement.create(artifactUpload));
+        }
+
+        assertThat(binaryArtifactRepository.existsByTenantAndSha1(tenantAware.getCurrentTenant(), sha1)).isTrue();
+        assertEqualFileContents(artifactManagement.loadArtifactBinary(sha1, smOs.getId(), smOs.isEncrypted()),
+                testData);
+    }
+
     private DbArtifactHash calcHashes(final byte[] input) throws NoSuchAlgorithmException {
         final String sha1Hash = toBase16Hash("SHA1", input);
         final String md5Hash = toBase16Hash("MD5", input);
@@ -635,4 +686,29 @@ public class ArtifactManagementTest extends AbstractJpaIntegrationTest {
         }
     }
 
+    /**
+     * Runs a callback when the upload has been read completely, i.e. after
+     * the binary has been staged and before the metadata is stored.
+     */
+    private static class UploadCompletionInputStream extends FilterInputStream {
+
+        private final Runnable onCompletion;
+        private boolean completed;
+
+        UploadCompletionInputStream(final byte[] content, final Runnable onCompletion) {
+            super(new ByteArrayInputStream(content));
+            this.onCompletion = onCompletion;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            final int read = super.read(b, off, len);
+            if (read < 0 && !completed) {
+                completed = true;
+                onCompletion.run();
+            }
+            return read;
+        }
+    }
+
 }
@@ -0,0 +1,90 @@
+/**
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.management;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.awaitility.Awaitility;
+import org.eclipse.hawkbit.repository.TargetActionCache;
+import org.eclipse.hawkbit.repository.jpa.AbstractJpaIntegrationTest;
+import org.eclipse.hawkbit.repository.model.Action;
+import org.eclipse.hawkbit.repository.model.DistributionSet;
+import org.eclipse.hawkbit.repository.model.Target;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+
+@Feature("Component Tests - Repository")
+@Story("Controller Management")
+@TestPropertySource(locations = "classpath:/jpa-test.properties", properties = {
+        "hawkbit.server.repository.actionCacheSize=100" })
+class CachedControllerManagementTest extends AbstractJpaIntegrationTest {
+
+    @Autowired
+    private TargetActionCache targetActionCache;
+
+    @Test
+    @Description("Verifies that the cached active action of a target is read in the transaction of the caller, i.e. "
+            + "with the current state of its target.")
+    void cachedActiveActionIsReadWithCurrentTarget() {
+        final Target target = testdataFactory.createTarget("cached", "cached", "amqp://vhost/old");
+        final DistributionSet ds = testdataFactory.createDistributionSet();
+        final Long actionId = getFirstAssignedActionId(assignDistributionSet(ds.getId(), target.getControllerId()));
+
+        awaitCached(target.getControllerId(), actionId);
+
+        targetManagement.update(entityFactory.target().update(target.getControllerId()).address("amqp://vhost/new"));
+
+        assertThat(controllerManagement.findActiveActionWithHighestWeight(target.getControllerId()))
+                .map(action -> action.getTarget().getAddress().toString()).contains("amqp://vhost/new");
+    }
+
+    @Test
+    @Description("Verifies that the cached active and installed actions of a target follow the action status.")
+    void cachedActionsFollowActionStatus() {
+        final Target target = testdataFactory.createTarget("cached");
+        final DistributionSet ds = testdataFactory.createDistributionSet();
+        final Long actionId = getFirstAssignedActionId(assignDistributionSet(ds.getId(), target.getControllerId()));
+
+        assertThat(controllerManagement.findActiveActionWithHighestWeight(target.getControllerId()))
+                .map(Action::getId).contains(actionId);
+        assertThat(controllerManagement.getInstalledActionByTarget(target.getControllerId())).isEmpty();
+
+        controllerManagement
+                .addUpdateActionStatus(entityFactory.actionStatus().create(actionId).status(Action.Status.FINISHED));
+
+        assertThat(controllerManagement.findActiveActionWithHighestWeight(target.getControllerId())).isEmpty();
+        assertThat(controllerManagement.getInstalledActionByTarget(target.getControllerId())).map(Action::getId)
+                .contains(actionId);
+    }
+
+    // the assignment events are delivered asynchronously and might evict the
+    // entry of a lookup, so look up until the action is read from the cache
+    private void awaitCached(final String controllerId, final long actionId) {
+        Awaitility.await().atMost(Duration.ofSeconds(10)).pollInterval(Duration.ofMillis(100)).pollInSameThread()
+                .until(() -> {
+                    assertThat(controllerManagement.findActiveActionWithHighestWeight(controllerId)).map(Action::getId)
+                            .contains(actionId);
+                    final AtomicBoolean loaded = new AtomicBoolean();
+                    targetActionCache.getActiveAction(controllerId, () -> {
+                        loaded.set(true);
+                        return deploymentManagement.findAction(actionId);
+                    }, deploymentManagement::findAction);
+                    return !loaded.get();
+                });
+    }
+}
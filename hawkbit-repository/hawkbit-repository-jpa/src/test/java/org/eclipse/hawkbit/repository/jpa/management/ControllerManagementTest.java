@@ -88,6 +88,8 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort.Direction;
 
 import io.qameta.allure.Description;
 import io.qameta.allure.Feature;
@@ -184,6 +186,34 @@ class ControllerManagementTest extends AbstractJpaIntegrationTest {
         assertThat(controllerManagement.findActionStatusByAction(PAGE, actionId).getNumberOfElements()).isEqualTo(7);
     }
 
+    @Test
+    @Description("Controller reports several status entries at once, which are applied in the given order within one transaction.")
+    void controllerReportsMultipleStatusEntriesAtOnce() {
+        final Long actionId = createTargetAndAssignDs();
+
+        assertThatExceptionOfType(EntityNotFoundException.class)
+                .as("All entries are rolled back if one of the actions does not exist")
+                .isThrownBy(() -> controllerManagement.addUpdateActionStatuses(List.of(
+                        entityFactory.actionStatus().create(actionId).status(Action.Status.RUNNING),
+                        entityFactory.actionStatus().create(NOT_EXIST_IDL).status(Action.Status.RUNNING))));
+        assertThat(controllerManagement.findActionStatusByAction(PAGE, actionId).getNumberOfElements()).isEqualTo(1);
+
+        final List<Action> updatedActions = controllerManagement.addUpdateActionStatuses(List.of(
+                entityFactory.actionStatus().create(actionId).status(Action.Status.RUNNING),
+                entityFactory.actionStatus().create(actionId).status(Action.Status.DOWNLOADED),
+                entityFactory.actionStatus().create(actionId).status(Action.Status.FINISHED).code(0)));
+        assertThat(updatedActions).hasSize(3).allMatch(action -> action.getId().equals(actionId));
+        assertThat(updatedActions.get(2).isActive()).isFalse();
+
+        assertActionStatus(actionId, DEFAULT_CONTROLLER_ID, TargetUpdateStatus.IN_SYNC, Action.Status.FINISHED,
+                Action.Status.FINISHED, false);
+        assertLastActionStatusCodeInAction(actionId, 0);
+        assertThat(controllerManagement.findActionStatusByAction(PAGE, actionId).getNumberOfElements()).isEqualTo(4);
+        assertThat(controllerManagement.findActionStatusByAction(PageRequest.of(0, 3, Direction.DESC, "id"), actionId))
+                .as("The IDs of the entries follow their order").extracting(ActionStatus::getStatus)
+                .containsExactly(Action.Status.FINISHED, Action.Status.DOWNLOADED, Action.Status.RUNNING);
+    }
+
     @Test
     @Description("Controller confirmation fails with invalid messages.")
     @ExpectEvents({ @Expect(type = TargetCreatedEvent.class, count = 1),
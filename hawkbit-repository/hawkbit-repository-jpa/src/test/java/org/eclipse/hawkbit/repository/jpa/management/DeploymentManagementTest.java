@@ -228,6 +228,34 @@ class DeploymentManagementTest extends AbstractJpaIntegrationTest {
         assertThat(actionStates.getContent().get(0)).as("Action-status of action").isEqualTo(expectedActionStatus);
     }
 
+    @Test
+    @Description("Test verifies that action-states and actions are found by keyset pagination.")
+    void findActionStatusAndActionsAfterId() {
+        final DistributionSet testDs = testdataFactory.createDistributionSet("TestDs", "1.0", Collections.emptyList());
+        final Target testTarget = testdataFactory.createTarget();
+        final Long actionId = getFirstAssignedActionId(assignDistributionSet(testDs, List.of(testTarget)));
+        controllerManagement.addUpdateActionStatus(
+                entityFactory.actionStatus().create(actionId).status(Action.Status.RUNNING));
+        controllerManagement.addUpdateActionStatus(
+                entityFactory.actionStatus().create(actionId).status(Action.Status.FINISHED));
+
+        final List<ActionStatus> all = deploymentManagement
+                .findActionStatusByActionAfterId(actionId, null, Direction.DESC, 10).getContent();
+        assertThat(all).hasSize(3).extracting(ActionStatus::getStatus).containsExactly(Action.Status.FINISHED,
+                Action.Status.RUNNING, Action.Status.RUNNING);
+
+        final Slice<ActionStatus> next = deploymentManagement.findActionStatusByActionAfterId(actionId,
+                all.get(0).getId(), Direction.DESC, 1);
+        assertThat(next.getContent()).containsExactly(all.get(1));
+        assertThat(deploymentManagement.findActionStatusByActionAfterId(actionId, all.get(2).getId(),
+                Direction.ASC, 10).getContent()).containsExactly(all.get(1), all.get(0));
+
+        assertThat(deploymentManagement.findActionsByTargetAfterId(null, testTarget.getControllerId(), null,
+                Direction.ASC, 10)).extracting(Action::getId).containsExactly(actionId);
+        assertThat(deploymentManagement.findActionsByTargetAfterId("status==finished", testTarget.getControllerId(),
+                actionId, Direction.ASC, 10)).isEmpty();
+    }
+
     @Test
     @Description("Test verifies that messages of an action-status are found by using id-based search.")
     void findMessagesByActionStatusId() {
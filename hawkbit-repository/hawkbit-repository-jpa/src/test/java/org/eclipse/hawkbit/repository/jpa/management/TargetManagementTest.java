@@ -25,6 +25,7 @@ import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+import jakarta.persistence.PersistenceUnitUtil;
 import jakarta.validation.ConstraintViolationException;
 
 import org.apache.commons.lang3.RandomStringUtils;
@@ -238,6 +239,51 @@ class TargetManagementTest extends AbstractJpaIntegrationTest {
                 .isThrownBy(() -> targetManagement.create(entityFactory.target().create().controllerId("123")));
     }
 
+    @Test
+    @Description("Verifies that the targets can be walked through by their ID in slices of a given size.")
+    void findByRsqlAfterIdWalksThroughAllTargets() {
+        testdataFactory.createTargets("walk", 5);
+        testdataFactory.createTargets("other", 2);
+
+        final List<Target> found = new ArrayList<>();
+        Long lastId = null;
+        Slice<Target> slice;
+        do {
+            slice = targetManagement.findByRsqlAfterId(lastId, 2, "controllerId==walk*");
+            assertThat(slice.getNumberOfElements()).isLessThanOrEqualTo(2);
+            found.addAll(slice.getContent());
+            if (slice.hasContent()) {
+                lastId = slice.getContent().get(slice.getNumberOfElements() - 1).getId();
+            }
+        } while (slice.getNumberOfElements() == 2);
+
+        assertThat(found).extracting(Target::getId).isSorted();
+        assertThat(found).extracting(Target::getControllerId).containsExactlyInAnyOrder("walk0", "walk1", "walk2",
+                "walk3", "walk4");
+        assertThat(targetManagement.findByRsqlAfterId(null, 10, null)).hasSize(7);
+    }
+
+    @Test
+    @Description("Verifies that the targets walked through by their ID are read along with their type and auto "
+            + "confirmation status.")
+    void findByRsqlAfterIdReadsTypeAndAutoConfirmationStatus() {
+        final TargetType targetType = testdataFactory.findOrCreateTargetType("walkType");
+        testdataFactory.createTargetsWithType(3, "walk", targetType);
+        confirmationManagement.activateAutoConfirmation("walk1", null, null);
+
+        final List<Target> found = targetManagement.findByRsqlAfterId(null, 10, null).getContent();
+
+        final PersistenceUnitUtil persistenceUnitUtil = entityManager.getEntityManagerFactory()
+                .getPersistenceUnitUtil();
+        assertThat(found).hasSize(3).allSatisfy(target -> {
+            assertThat(persistenceUnitUtil.isLoaded(target, "targetType")).isTrue();
+            assertThat(persistenceUnitUtil.isLoaded(target, "autoConfirmationStatus")).isTrue();
+        });
+        assertThat(found).extracting(target -> target.getTargetType().getName()).containsOnly("walkType");
+        assertThat(found).filteredOn(target -> target.getAutoConfirmationStatus() != null)
+                .extracting(Target::getControllerId).containsExactly("walk1");
+    }
+
     @Test
     @Description("Verify that a target with with invalid properties cannot be created or updated")
     @ExpectEvents({ @Expect(type = TargetCreatedEvent.class, count = 1), @Expect(type = TargetUpdatedEvent.class) })
@@ -1346,6 +1392,25 @@ class TargetManagementTest extends AbstractJpaIntegrationTest {
                 "name==*")).isFalse();
     }
 
+    @Test
+    @Description("Finds the IDs of the compatible targets matching the filter page by page after the last found ID.")
+    void findIdsByTargetFilterQueryAndCompatibleAndUpdatable() {
+        final DistributionSet ds = testdataFactory.createDistributionSet();
+        final List<Long> targetIds = testdataFactory.createTargets("ids_filter_", 5).stream().map(Target::getId)
+                .sorted().toList();
+        final TargetType type = testdataFactory.createTargetType("incompatible", Collections.emptyList());
+        testdataFactory.createTarget("ids_filter_incompatible", "ids_filter_incompatible", type.getId());
+        testdataFactory.createTargets("other_", 2);
+
+        final List<Long> firstPage = targetManagement.findIdsByTargetFilterQueryAndCompatibleAndUpdatable(0, 3,
+                "controllerid==ids_filter_*", ds.getType());
+        final List<Long> secondPage = targetManagement.findIdsByTargetFilterQueryAndCompatibleAndUpdatable(
+                firstPage.get(firstPage.size() - 1), 3, "controllerid==ids_filter_*", ds.getType());
+
+        assertThat(firstPage).isEqualTo(targetIds.subList(0, 3));
+        assertThat(secondPage).isEqualTo(targetIds.subList(3, 5));
+    }
+
     /**
      * Tests action based aspects of the dynamic group assignment filters.
      */
@@ -0,0 +1,65 @@
+/**
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.management;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+
+@Feature("Unit Tests - Repository")
+@Story("Controller Management")
+public class TargetPollQueueTest {
+
+    @Test
+    @Description("Verifies that repeated polls of a target are coalesced and the polls are drained grouped by tenant.")
+    public void pollsAreCoalescedAndGroupedByTenant() {
+        final TargetPollQueue queue = new TargetPollQueue(10);
+
+        assertThat(queue.offer("tenant1", "target1")).isTrue();
+        assertThat(queue.offer("tenant1", "target1")).isTrue();
+        assertThat(queue.offer("tenant1", "target2")).isTrue();
+        assertThat(queue.offer("tenant2", "target1")).isTrue();
+
+        assertThat(queue.size()).isEqualTo(3);
+        assertThat(queue.getCoalesced()).isEqualTo(1);
+
+        final Map<String, List<String>> drained = queue.drain();
+        assertThat(drained).containsOnlyKeys("tenant1", "tenant2");
+        assertThat(drained.get("tenant1")).containsExactlyInAnyOrder("target1", "target2");
+        assertThat(drained.get("tenant2")).containsExactly("target1");
+        assertThat(queue.size()).isZero();
+        assertThat(queue.drain()).isEmpty();
+    }
+
+    @Test
+    @Description("Verifies that polls of further targets are rejected if the queue is full while polls of queued targets are still coalesced.")
+    public void fullQueueRejectsFurtherTargets() {
+        final TargetPollQueue queue = new TargetPollQueue(2);
+
+        assertThat(queue.offer("tenant", "target1")).isTrue();
+        assertThat(queue.offer("tenant", "target2")).isTrue();
+        assertThat(queue.offer("tenant", "target3")).isFalse();
+        assertThat(queue.offer("tenant", "target1")).isTrue();
+
+        assertThat(queue.size()).isEqualTo(2);
+        assertThat(queue.getFallbacks()).isEqualTo(1);
+        assertThat(queue.getCoalesced()).isEqualTo(1);
+
+        queue.drain();
+        assertThat(queue.offer("tenant", "target3")).isTrue();
+    }
+}
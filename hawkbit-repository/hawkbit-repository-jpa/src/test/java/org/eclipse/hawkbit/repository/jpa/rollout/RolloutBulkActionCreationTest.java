@@ -0,0 +1,101 @@
+/**
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.rollout;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.eclipse.hawkbit.repository.jpa.AbstractJpaIntegrationTest;
+import org.eclipse.hawkbit.repository.model.Action;
+import org.eclipse.hawkbit.repository.model.Action.ActionType;
+import org.eclipse.hawkbit.repository.model.DistributionSet;
+import org.eclipse.hawkbit.repository.model.Rollout;
+import org.eclipse.hawkbit.repository.model.RolloutGroup;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.TestPropertySource;
+
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+
+@Feature("Component Tests - Repository")
+@Story("Rollout Management")
+@TestPropertySource(properties = { "hawkbit.server.repository.rollout-bulk-action-creation=true" })
+class RolloutBulkActionCreationTest extends AbstractJpaIntegrationTest {
+
+    @Test
+    @Description("Verifies that the actions of static rollout groups created in bulk are equal to the ones created entity by entity.")
+    void actionsOfStaticGroupsAreCreatedInBulk() {
+        testdataFactory.createTargets(10, "bulk-");
+        final DistributionSet distributionSet = testdataFactory.createDistributionSet("bulk");
+        final Rollout rollout = testdataFactory.createRolloutByVariables("bulk", "bulk", 2, "controllerId==bulk-*",
+                distributionSet, "50", "80", ActionType.SOFT, 600, false);
+        rolloutManagement.start(rollout.getId());
+        rolloutHandler.handleAll();
+
+        final List<RolloutGroup> groups = rolloutGroupManagement.findByRollout(PAGE, rollout.getId()).getContent();
+        final List<Action> running = findActionsByRolloutAndStatus(rollout, Action.Status.RUNNING);
+        final List<Action> scheduled = findActionsByRolloutAndStatus(rollout, Action.Status.SCHEDULED);
+        assertThat(running).hasSize(5).allMatch(action -> action.isActive()
+                && action.getRolloutGroup().getId().equals(groups.get(0).getId()));
+        assertThat(scheduled).hasSize(5).allMatch(action -> !action.isActive()
+                && action.getRolloutGroup().getId().equals(groups.get(1).getId()));
+        assertThat(running.stream().map(action -> action.getTarget().getControllerId()))
+                .doesNotContainAnyElementsOf(
+                        scheduled.stream().map(action -> action.getTarget().getControllerId()).toList());
+        assertThat(scheduled).allSatisfy(action -> {
+            assertThat(action.getDistributionSet().getId()).isEqualTo(distributionSet.getId());
+            assertThat(action.getRollout().getId()).isEqualTo(rollout.getId());
+            assertThat(action.getActionType()).isEqualTo(ActionType.SOFT);
+            assertThat(action.getWeight()).contains(600);
+            assertThat(action.getInitiatedBy()).isEqualTo(rollout.getCreatedBy());
+            assertThat(action.getCreatedBy()).isNotNull();
+        });
+    }
+
+    @Test
+    @Description("Verifies that the actions created in bulk have the weight of the rollout and the action type and status mapped like the ones created entity by entity.")
+    void actionsOfRolloutWithDefaultWeight() {
+        testdataFactory.createTargets(4, "bulkDefaultWeight-");
+        final Rollout rollout = testdataFactory.createRolloutByVariables("bulkDefaultWeight", "bulkDefaultWeight", 2,
+                "controllerId==bulkDefaultWeight-*", testdataFactory.createDistributionSet("bulkDefaultWeight"), "50",
+                "80", ActionType.DOWNLOAD_ONLY, null, false);
+        rolloutManagement.start(rollout.getId());
+        rolloutHandler.handleAll();
+
+        assertThat(rollout.getWeight()).isPresent();
+        assertThat(findActionsByRolloutAndStatus(rollout, Action.Status.SCHEDULED)).hasSize(2).allSatisfy(action -> {
+            assertThat(action.getWeight()).isEqualTo(rollout.getWeight());
+            assertThat(action.getActionType()).isEqualTo(ActionType.DOWNLOAD_ONLY);
+        });
+    }
+
+    @Test
+    @Description("Verifies that the actions created in bulk cancel the scheduled actions of older rollouts.")
+    void bulkCreationCancelsScheduledActionsOfOlderRollouts() {
+        testdataFactory.createTargets(4, "bulkCancel-");
+        final DistributionSet distributionSet = testdataFactory.createDistributionSet("bulkCancel");
+        final Rollout older = testdataFactory.createRolloutByVariables("bulkCancelOlder", "older", 2,
+                "controllerId==bulkCancel-*", distributionSet, "50", "80");
+        rolloutManagement.start(older.getId());
+        rolloutHandler.handleAll();
+        assertThat(findActionsByRolloutAndStatus(older, Action.Status.SCHEDULED)).hasSize(2);
+
+        final Rollout newer = testdataFactory.createRolloutByVariables("bulkCancelNewer", "newer", 1,
+                "controllerId==bulkCancel-*", testdataFactory.createDistributionSet("bulkCancelNewer"), "50", "80");
+        rolloutManagement.start(newer.getId());
+        rolloutHandler.handleAll();
+
+        assertThat(findActionsByRolloutAndStatus(older, Action.Status.SCHEDULED)).isEmpty();
+        assertThat(findActionsByRolloutAndStatus(older, Action.Status.CANCELED)).hasSize(2);
+        assertThat(findActionsByRolloutAndStatus(newer, Action.Status.RUNNING)).hasSize(4);
+    }
+}
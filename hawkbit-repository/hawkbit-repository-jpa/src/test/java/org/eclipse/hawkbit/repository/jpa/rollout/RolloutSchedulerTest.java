@@ -0,0 +1,105 @@
+/**
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.rollout;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.eclipse.hawkbit.repository.RolloutHandler;
+import org.eclipse.hawkbit.repository.SystemManagement;
+import org.eclipse.hawkbit.security.SystemSecurityContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+
+@Feature("Unit Tests - Repository")
+@Story("Rollout Management")
+class RolloutSchedulerTest {
+
+    private final SystemManagement systemManagement = mock(SystemManagement.class);
+    private final RolloutHandler rolloutHandler = mock(RolloutHandler.class);
+    private final SystemSecurityContext systemSecurityContext = mock(SystemSecurityContext.class);
+
+    private RolloutScheduler rolloutScheduler;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setup() {
+        when(systemSecurityContext.runAsSystem(any()))
+                .thenAnswer(invocation -> invocation.getArgument(0, Callable.class).call());
+        when(systemSecurityContext.runAsSystemAsTenant(any(), anyString()))
+                .thenAnswer(invocation -> invocation.getArgument(0, Callable.class).call());
+        doAnswer(invocation -> {
+            List.of("tenant1", "tenant2").forEach(invocation.getArgument(0, Consumer.class));
+            return null;
+        }).when(systemManagement).forEachTenant(any());
+
+        rolloutScheduler = new RolloutScheduler(systemManagement, rolloutHandler, systemSecurityContext, 2);
+    }
+
+    @AfterEach
+    void shutdown() {
+        rolloutScheduler.shutdown();
+    }
+
+    @Test
+    @Description("Verifies that the rollouts of different tenants are handled in parallel.")
+    void tenantsAreHandledInParallel() throws InterruptedException {
+        final CyclicBarrier bothTenantsRunning = new CyclicBarrier(2);
+        final CountDownLatch handled = new CountDownLatch(2);
+        doAnswer(invocation -> {
+            // only passes if the other tenant is handled at the same time
+            bothTenantsRunning.await(5, TimeUnit.SECONDS);
+            handled.countDown();
+            return null;
+        }).when(rolloutHandler).handleAll();
+
+        rolloutScheduler.runningRolloutScheduler();
+
+        assertThat(handled.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @Description("Verifies that a tenant that is still handled by a previous run is skipped by the next run.")
+    void tenantInProgressIsSkipped() throws InterruptedException {
+        final AtomicInteger invocations = new AtomicInteger();
+        final CountDownLatch firstRunStarted = new CountDownLatch(2);
+        final CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            invocations.incrementAndGet();
+            firstRunStarted.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(rolloutHandler).handleAll();
+
+        rolloutScheduler.runningRolloutScheduler();
+        assertThat(firstRunStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        rolloutScheduler.runningRolloutScheduler();
+        release.countDown();
+
+        assertThat(invocations).hasValue(2);
+    }
+}
@@ -0,0 +1,99 @@
+/**
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.rollout;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.eclipse.hawkbit.repository.RepositoryProperties;
+import org.eclipse.hawkbit.repository.builder.RolloutGroupCreate;
+import org.eclipse.hawkbit.repository.jpa.AbstractJpaIntegrationTest;
+import org.eclipse.hawkbit.repository.model.DistributionSet;
+import org.eclipse.hawkbit.repository.model.Rollout;
+import org.eclipse.hawkbit.repository.model.RolloutGroup;
+import org.eclipse.hawkbit.repository.model.RolloutGroup.RolloutGroupStatus;
+import org.eclipse.hawkbit.repository.model.RolloutGroupConditionBuilder;
+import org.eclipse.hawkbit.repository.model.RolloutGroupConditions;
+import org.eclipse.hawkbit.repository.model.Target;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+
+@Feature("Component Tests - Repository")
+@Story("Rollout Management")
+@TestPropertySource(properties = { "hawkbit.server.repository.rollout-set-based-group-assignment=true" })
+class RolloutSetBasedGroupAssignmentTest extends AbstractJpaIntegrationTest {
+
+    @Autowired
+    private RepositoryProperties repositoryProperties;
+
+    @Test
+    @Description("Verifies that the groups filled with the staged targets get the same number of targets as the groups filled one after another.")
+    void groupsAreFilledLikeGroupByGroup() {
+        testdataFactory.createTargets(23, "staged-");
+        final DistributionSet distributionSet = testdataFactory.createDistributionSet("staged");
+
+        final List<Integer> setBased = getTotalTargets(createRollout("setBased", "staged-", distributionSet));
+        repositoryProperties.setRolloutSetBasedGroupAssignment(false);
+        try {
+            assertThat(setBased).isEqualTo(getTotalTargets(createRollout("groupByGroup", "staged-", distributionSet)));
+        } finally {
+            repositoryProperties.setRolloutSetBasedGroupAssignment(true);
+        }
+        assertThat(setBased.stream().mapToInt(Integer::intValue).sum()).isEqualTo(23);
+    }
+
+    @Test
+    @Description("Verifies that the targets are assigned to consecutive ranges of targets, the staging table is cleaned up and the rollout is ready.")
+    void stagedTargetsAreAssignedAndDeleted() {
+        testdataFactory.createTargets(12, "stagedRange-");
+        final Rollout rollout = createRollout("stagedRange", "stagedRange-", testdataFactory.createDistributionSet("stagedRange"));
+
+        assertThat(rolloutManagement.get(rollout.getId()).get().getStatus()).isEqualTo(Rollout.RolloutStatus.READY);
+        assertThat(rolloutManagement.get(rollout.getId()).get().getTotalTargets()).isEqualTo(12);
+        final List<RolloutGroup> groups = rolloutGroupManagement.findByRollout(PAGE, rollout.getId()).getContent();
+        assertThat(groups).allMatch(group -> group.getStatus() == RolloutGroupStatus.READY);
+
+        final List<List<Long>> targetIds = groups.stream()
+                .map(group -> rolloutGroupManagement.findTargetsOfRolloutGroup(PAGE, group.getId()).getContent()
+                        .stream().map(Target::getId).sorted().toList())
+                .toList();
+        assertThat(targetIds.stream().flatMap(List::stream)).doesNotHaveDuplicates().hasSize(12).isSorted();
+        assertThat(((Number) entityManager
+                .createNativeQuery("SELECT COUNT(*) FROM sp_rollout_target_staging").getSingleResult()).longValue())
+                .isZero();
+    }
+
+    private Rollout createRollout(final String name, final String targetPrefix,
+            final DistributionSet distributionSet) {
+        final RolloutGroupConditions conditions = new RolloutGroupConditionBuilder().withDefaults().build();
+        final List<RolloutGroupCreate> groups = Stream.of(10.0F, 33.3F, 50.0F, 100.0F)
+                .map(percentage -> entityFactory.rolloutGroup().create().conditions(conditions)
+                        .name(name + percentage).targetPercentage(percentage))
+                .toList();
+        final Rollout rollout = rolloutManagement.create(
+                entityFactory.rollout().create().name(name).targetFilterQuery("controllerId==" + targetPrefix + "*")
+                        .set(distributionSet),
+                groups, conditions);
+        rolloutHandler.handleAll();
+        return rollout;
+    }
+
+    private List<Integer> getTotalTargets(final Rollout rollout) {
+        return rolloutGroupManagement.findByRollout(PAGE, rollout.getId()).getContent().stream()
+                .map(RolloutGroup::getTotalTargets).toList();
+    }
+}
@@ -0,0 +1,161 @@
+/**
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.rollout;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.eclipse.hawkbit.repository.event.remote.entity.ActionUpdatedEvent;
+import org.eclipse.hawkbit.repository.jpa.AbstractJpaIntegrationTest;
+import org.eclipse.hawkbit.repository.jpa.model.JpaRolloutGroupStatusCount;
+import org.eclipse.hawkbit.repository.jpa.repository.RolloutGroupStatusCountRepository;
+import org.eclipse.hawkbit.repository.model.Action;
+import org.eclipse.hawkbit.repository.model.DistributionSet;
+import org.eclipse.hawkbit.repository.model.Rollout;
+import org.eclipse.hawkbit.repository.model.RolloutGroup;
+import org.eclipse.hawkbit.repository.model.TotalTargetCountStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.integration.support.locks.LockRegistry;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+
+@Feature("Component Tests - Repository")
+@Story("Rollout Management")
+@TestPropertySource(properties = { "hawkbit.rollout.scheduler.status-counts-enabled=true" })
+class RolloutStatusCounterTest extends AbstractJpaIntegrationTest {
+
+    @Autowired
+    private RolloutStatusCounter rolloutStatusCounter;
+
+    @Autowired
+    private RolloutGroupStatusCountRepository rolloutGroupStatusCountRepository;
+
+    @Autowired
+    private PlatformTransactionManager txManager;
+
+    @Autowired
+    private LockRegistry lockRegistry;
+
+    @Test
+    @Description("Verifies that the detailed status of rollouts and rollout groups is served from the counts, which are updated by the reconciliation.")
+    void detailedStatusIsServedFromReconciledCounts() {
+        testdataFactory.createTargets(10, "statusCount-");
+        final DistributionSet distributionSet = testdataFactory.createDistributionSet("statusCount");
+        final Rollout rollout = testdataFactory.createRolloutByVariables("statusCount", "statusCount", 2,
+                "controllerId==statusCount-*", distributionSet, "50", "80");
+        rolloutManagement.start(rollout.getId());
+        rolloutHandler.handleAll();
+
+        // not counted yet, aggregated from the actions
+        assertRolloutStatus(rollout, 5, 0);
+        rolloutStatusCounter.reconcile();
+        assertThat(rolloutGroupStatusCountRepository.findAll()).hasSize(2);
+        assertRolloutStatus(rollout, 5, 0);
+
+        findActionsByRolloutAndStatus(rollout, Action.Status.RUNNING).stream().limit(2).forEach(this::finishAction);
+        // served from the counts until they are reconciled
+        assertRolloutStatus(rollout, 5, 0);
+
+        rolloutStatusCounter.reconcile();
+        assertRolloutStatus(rollout, 3, 2);
+        final List<RolloutGroup> groups = rolloutGroupManagement.findByRolloutWithDetailedStatus(PAGE, rollout.getId())
+                .getContent();
+        assertThat(groups).hasSize(2);
+        assertThat(groups.get(0).getTotalTargetCountStatus()
+                .getTotalTargetCountByStatus(TotalTargetCountStatus.Status.FINISHED)).isEqualTo(2);
+        assertThat(groups.get(1).getTotalTargetCountStatus()
+                .getTotalTargetCountByStatus(TotalTargetCountStatus.Status.SCHEDULED)).isEqualTo(5);
+        assertThat(rolloutGroupManagement.getWithDetailedStatus(groups.get(0).getId()).get()
+                .getTotalTargetCountStatus().getTotalTargetCountByStatus(TotalTargetCountStatus.Status.RUNNING))
+                .isEqualTo(3);
+    }
+
+    @Test
+    @Description("Verifies that a rollout with a group without counts is aggregated from the actions and that the missing group is reconciled.")
+    void partiallyCountedRolloutIsAggregated() {
+        final Rollout rollout = createStartedRollout("partialCount");
+        rolloutStatusCounter.reconcile();
+        final List<RolloutGroup> groups = rolloutGroupManagement.findByRollout(PAGE, rollout.getId()).getContent();
+        final List<Long> firstGroup = List.of(groups.get(0).getId());
+        rolloutGroupStatusCountRepository.deleteAll(rolloutGroupStatusCountRepository.findByRolloutGroupIdIn(firstGroup));
+
+        // the counts of the second group only would be served otherwise
+        assertRolloutStatus(rollout, 5, 0);
+
+        rolloutStatusCounter.reconcile();
+        assertThat(rolloutGroupStatusCountRepository.findByRolloutGroupIdIn(firstGroup)).isNotEmpty();
+        assertRolloutStatus(rollout, 5, 0);
+    }
+
+    @Test
+    @Description("Verifies that only the action changes of the own node are reconciled, the ones of other nodes are reconciled by these.")
+    void actionChangesOfOtherNodesAreNotReconciled() {
+        final Rollout rollout = createStartedRollout("otherNode");
+        rolloutStatusCounter.reconcile();
+        // not registered as listener, so it gets the given events only
+        final RolloutStatusCounter counter = new RolloutStatusCounter(rolloutGroupStatusCountRepository,
+                actionRepository, rolloutGroupRepository, txManager, lockRegistry, systemSecurityContext,
+                tenantAware, serviceMatcher);
+        final Action action = findActionsByRolloutAndStatus(rollout, Action.Status.RUNNING).get(0);
+        final List<Long> group = List.of(action.getRolloutGroup().getId());
+        rolloutGroupStatusCountRepository.deleteAll(rolloutGroupStatusCountRepository.findByRolloutGroupIdIn(group));
+
+        counter.onActionChange(new ActionUpdatedEvent(action, action.getTarget().getId(), rollout.getId(),
+                action.getRolloutGroup().getId(), "otherNode"));
+        counter.reconcile();
+        assertThat(rolloutGroupStatusCountRepository.findByRolloutGroupIdIn(group)).isEmpty();
+
+        counter.onActionChange(new ActionUpdatedEvent(action, action.getTarget().getId(), rollout.getId(),
+                action.getRolloutGroup().getId(), serviceMatcher.getBusId()));
+        counter.reconcile();
+        assertThat(rolloutGroupStatusCountRepository.findByRolloutGroupIdIn(group)).isNotEmpty();
+    }
+
+    @Test
+    @Description("Verifies that the counts of a group, whose action changes have not been reconciled (e.g. because the node stopped before), are corrected by the recount.")
+    void staleCountsAreRecounted() {
+        final Rollout rollout = createStartedRollout("recount");
+        rolloutStatusCounter.reconcile();
+        final Action action = findActionsByRolloutAndStatus(rollout, Action.Status.RUNNING).get(0);
+        final List<Long> group = List.of(action.getRolloutGroup().getId());
+        final List<JpaRolloutGroupStatusCount> counts = rolloutGroupStatusCountRepository.findByRolloutGroupIdIn(group);
+        counts.forEach(count -> count.setActionCount(count.getActionCount() + 1));
+        rolloutGroupStatusCountRepository.saveAll(counts);
+        assertThat(rolloutManagement.getWithDetailedStatus(rollout.getId()).get().getTotalTargetCountStatus()
+                .getTotalTargetCountByStatus(TotalTargetCountStatus.Status.RUNNING)).isEqualTo(6);
+
+        rolloutStatusCounter.recount();
+        assertRolloutStatus(rollout, 5, 0);
+    }
+
+    private Rollout createStartedRollout(final String name) {
+        testdataFactory.createTargets(10, name + "-");
+        final DistributionSet distributionSet = testdataFactory.createDistributionSet(name);
+        final Rollout rollout = testdataFactory.createRolloutByVariables(name, name, 2,
+                "controllerId==" + name + "-*", distributionSet, "50", "80");
+        rolloutManagement.start(rollout.getId());
+        rolloutHandler.handleAll();
+        return rollout;
+    }
+
+    private void assertRolloutStatus(final Rollout rollout, final long running, final long finished) {
+        final TotalTargetCountStatus status = rolloutManagement.getWithDetailedStatus(rollout.getId()).get()
+                .getTotalTargetCountStatus();
+        assertThat(status.getTotalTargetCountByStatus(TotalTargetCountStatus.Status.RUNNING)).isEqualTo(running);
+        assertThat(status.getTotalTargetCountByStatus(TotalTargetCountStatus.Status.FINISHED)).isEqualTo(finished);
+        assertThat(status.getTotalTargetCountByStatus(TotalTargetCountStatus.Status.SCHEDULED)).isEqualTo(5);
+    }
+}
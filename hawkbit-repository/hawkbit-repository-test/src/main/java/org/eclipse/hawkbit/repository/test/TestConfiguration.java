@@ -14,6 +14,7 @@ import java.util.Locale;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.hawkbit.ContextAware;
@@ -31,6 +32,8 @@ import org.eclipse.hawkbit.event.BusProtoStuffMessageConverter;
 import org.eclipse.hawkbit.im.authentication.SpRole;
 import org.eclipse.hawkbit.repository.RolloutApprovalStrategy;
 import org.eclipse.hawkbit.repository.RolloutStatusCache;
+import org.eclipse.hawkbit.repository.TargetActionCache;
+import org.eclipse.hawkbit.repository.TargetAuthenticationCache;
 import org.eclipse.hawkbit.repository.event.ApplicationEventFilter;
 import org.eclipse.hawkbit.repository.model.helper.EventPublisherHolder;
 import org.eclipse.hawkbit.repository.rsql.VirtualPropertyReplacer;
@@ -49,6 +52,7 @@ import org.eclipse.hawkbit.tenancy.UserAuthoritiesResolver;
 import org.eclipse.hawkbit.tenancy.configuration.TenantConfigurationProperties;
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
 import org.springframework.aop.interceptor.SimpleAsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.CacheManager;
@@ -96,6 +100,24 @@ public class TestConfiguration implements AsyncConfigurer {
         return new RolloutStatusCache(tenantAware, 0);
     }
 
+    /**
+     * Disables caching during test to avoid concurrency failures during test,
+     * unless a test enables it explicitly.
+     */
+    @Bean
+    TargetActionCache targetActionCache(final TenantAware tenantAware,
+            @Value("${hawkbit.server.repository.actionCacheSize:0}") final long size) {
+        return new TargetActionCache(tenantAware, size, TimeUnit.MINUTES.toMillis(5));
+    }
+
+    /**
+     * Disables caching during test to avoid concurrency failures during test.
+     */
+    @Bean
+    TargetAuthenticationCache targetAuthenticationCache(final TenantAware tenantAware) {
+        return new TargetAuthenticationCache(tenantAware, 0, 0);
+    }
+
     @Bean
     LockRegistry lockRegistry() {
         return new DefaultLockRegistry();
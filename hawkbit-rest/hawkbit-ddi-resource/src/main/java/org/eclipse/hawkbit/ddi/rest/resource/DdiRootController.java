@@ -69,6 +69,7 @@ import org.eclipse.hawkbit.rest.util.FileStreamingUtil;
 import org.eclipse.hawkbit.rest.util.HttpUtil;
 import org.eclipse.hawkbit.rest.util.RequestResponseContextHolder;
 import org.eclipse.hawkbit.security.HawkbitSecurityProperties;
+import org.eclipse.hawkbit.security.SecurityConstants;
 import org.eclipse.hawkbit.tenancy.TenantAware;
 import org.eclipse.hawkbit.util.IpUtil;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -568,6 +569,12 @@ public class DdiRootController implements DdiRootControllerRestApi {
     }
 
     private Target findTarget(final String controllerId) {
+        // the target might have been loaded for the authentication already
+        if (requestResponseContextHolder.getHttpServletRequest()
+                .getAttribute(SecurityConstants.AUTHENTICATED_TARGET_ATTRIBUTE) instanceof Target target
+                && target.getControllerId().equals(controllerId)) {
+            return target;
+        }
         return controllerManagement.getByControllerId(controllerId)
                 .orElseThrow(() -> new EntityNotFoundException(Target.class, controllerId));
     }
@@ -0,0 +1,47 @@
+/**
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.mgmt.json.model;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotNull;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * A {@link PagedList} of keyset pagination, i.e. the page of elements
+ * following the last element of the previous page. The total elements are not
+ * counted for such a page, as the count would cost more than the page itself.
+ * So the total is omitted from the representation and {@link #getTotal()}
+ * returns {@link #TOTAL_NOT_COUNTED}.
+ *
+ * @param <T> the type of elements in this list
+ */
+@JsonIgnoreProperties(value = "total", ignoreUnknown = true)
+public class KeysetPagedList<T> extends PagedList<T> {
+
+    /**
+     * Total of a keyset page, the total elements are not counted.
+     */
+    public static final long TOTAL_NOT_COUNTED = -1;
+
+    /**
+     * creates a new keyset paged list with the given {@code content}.
+     *
+     * @param content the actual content of the list
+     * @throws NullPointerException in case {@code content} is {@code null}.
+     */
+    @JsonCreator
+    public KeysetPagedList(@JsonProperty("content") @NotNull final List<T> content) {
+        super(content, TOTAL_NOT_COUNTED);
+    }
+}
@@ -50,6 +50,9 @@ public interface MgmtActionRestApi {
      * @param representationModeParam
      *            the representation mode parameter specifying whether a compact
      *            or a full representation shall be returned
+     * @param afterParam
+     *            the ID of the last action of the previous page for keyset
+     *            pagination, replaces the offset
      * @return a list of all actions for a defined or default page request with
      *         status OK. The response is always paged. In any failure the
      *         JsonResponseExceptionHandler is handling the response.
@@ -103,7 +106,12 @@ public interface MgmtActionRestApi {
             @Schema(description = """
                     The representation mode. Can be "full" or "compact". Defaults to "compact"
                     """)
-            String representationModeParam);
+            String representationModeParam,
+            @RequestParam(value = MgmtRestConstants.REQUEST_PARAMETER_PAGING_AFTER, required = false)
+            @Schema(description = """
+                    Keyset pagination - the ID of the last action of the previous page. If set, the offset is ignored,
+                    the actions can only be sorted by id (descending by default) and the total is not counted.""")
+            Long afterParam);
 
     /**
      * Handles the GET request of retrieving a specific {@link MgmtAction} by
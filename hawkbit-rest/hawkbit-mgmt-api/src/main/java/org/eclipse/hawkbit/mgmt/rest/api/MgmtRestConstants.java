@@ -115,6 +115,11 @@ public final class MgmtRestConstants {
      */
     public static final String TARGET_V1_REQUEST_MAPPING = BASE_V1_REQUEST_MAPPING + "/targets";
 
+    /**
+     * The target export URL mapping rest resource.
+     */
+    public static final String TARGET_EXPORT_V1_REQUEST_MAPPING = BASE_V1_REQUEST_MAPPING + "/export/targets";
+
     /**
      * The tag URL mapping rest resource.
      */
@@ -193,6 +198,12 @@ public final class MgmtRestConstants {
      */
     public static final String REQUEST_PARAMETER_PAGING_OFFSET = "offset";
 
+    /**
+     * Paging http parameter for keyset pagination, i.e. the key of the last
+     * entry of the previous page. If present the offset is ignored.
+     */
+    public static final String REQUEST_PARAMETER_PAGING_AFTER = "after";
+
     /**
      * The request parameter for sorting. The value of the sort parameter must
      * be in the following pattern. Example:
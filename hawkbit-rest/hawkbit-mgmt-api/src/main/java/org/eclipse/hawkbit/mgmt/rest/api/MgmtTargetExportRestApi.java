@@ -0,0 +1,75 @@
+/**
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.mgmt.rest.api;
+
+import java.io.InputStream;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.eclipse.hawkbit.rest.json.model.ExceptionInfo;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+/**
+ * API to export targets.
+ */
+@FunctionalInterface
+@Tag(name = "Target export", description = "REST API to export targets.")
+// no request mapping specified here to avoid CVE-2021-22044 in Feign client
+public interface MgmtTargetExportRestApi {
+
+    /**
+     * Handles the GET request of exporting all targets. The targets are
+     * streamed as newline delimited JSON (one target per line) while they are
+     * read, i.e. without paging and links, so that large numbers of targets
+     * can be exported with constant memory.
+     *
+     * @param rsqlParam
+     *            the search parameter in the request URL, syntax
+     *            {@code q=name==abc}
+     * @return status OK, the targets are written to the response directly. In
+     *         any failure the JsonResponseExceptionHandler is handling the
+     *         response.
+     */
+    @Operation(summary = "Export all targets", description = "Handles the GET request of exporting all targets as " +
+            "newline delimited JSON, one target per line. Required permission: READ_TARGET")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved"),
+        @ApiResponse(responseCode = "400", description = "Bad Request - e.g. invalid parameters",
+                content = @Content(mediaType = "application/json", schema = @Schema(implementation = ExceptionInfo.class))),
+        @ApiResponse(responseCode = "401", description = "The request requires user authentication.",
+                content = @Content(mediaType = "application/json", schema = @Schema(hidden = true))),
+        @ApiResponse(responseCode = "403",
+                description = "Insufficient permissions, entity is not allowed to be changed (i.e. read-only) or " +
+                        "data volume restriction applies.",
+                content = @Content(mediaType = "application/json", schema = @Schema(hidden = true))),
+        @ApiResponse(responseCode = "405", description = "The http request method is not allowed on the resource.",
+                content = @Content(mediaType = "application/json", schema = @Schema(hidden = true))),
+        @ApiResponse(responseCode = "406", description = "In case accept header is specified and not application/x-ndjson.",
+                content = @Content(mediaType = "application/json", schema = @Schema(hidden = true))),
+        @ApiResponse(responseCode = "429", description = "Too many requests. The server will refuse further attempts " +
+                "and the client has to wait another second.",
+                content = @Content(mediaType = "application/json", schema = @Schema(hidden = true)))
+    })
+    @GetMapping(value = MgmtRestConstants.TARGET_EXPORT_V1_REQUEST_MAPPING, produces = {
+            MediaType.APPLICATION_NDJSON_VALUE })
+    ResponseEntity<InputStream> exportTargets(
+            @RequestParam(value = MgmtRestConstants.REQUEST_PARAMETER_SEARCH, required = false)
+            @Schema(description = """
+                    Query fields based on the Feed Item Query Language (FIQL). See Entity Definitions for
+                    available fields.""")
+            String rsqlParam);
+}
@@ -100,6 +100,9 @@ public interface MgmtTargetRestApi {
      * @param rsqlParam
      *            the search parameter in the request URL, syntax
      *            {@code q=name==abc}
+     * @param afterParam
+     *            the controller ID of the last target of the previous page for
+     *            keyset pagination, replaces the offset
      * @return a list of all targets for a defined or default page request with
      *         status OK. The response is always paged. In any failure the
      *         JsonResponseExceptionHandler is handling the response.
@@ -147,7 +150,13 @@ public interface MgmtTargetRestApi {
             @Schema(description = """
                     Query fields based on the Feed Item Query Language (FIQL). See Entity Definitions for
                     available fields.""")
-            String rsqlParam);
+            String rsqlParam,
+            @RequestParam(value = MgmtRestConstants.REQUEST_PARAMETER_PAGING_AFTER, required = false)
+            @Schema(description = """
+                    Keyset pagination - the controller ID of the last target of the previous page. If set, the offset
+                    is ignored, the targets can only be sorted by controllerId (ascending by default) and the total is
+                    not counted.""")
+            String afterParam);
 
     /**
      * Handles the POST request of creating new targets. The request body must
@@ -378,6 +387,9 @@ public interface MgmtTargetRestApi {
      * @param rsqlParam
      *            the search parameter in the request URL, syntax
      *            {@code q=status==pending}
+     * @param afterParam
+     *            the ID of the last action of the previous page for keyset
+     *            pagination, replaces the offset
      * @return a list of all Actions for a defined or default page request with
      *         status OK. The response is always paged. In any failure the
      *         JsonResponseExceptionHandler is handling the response.
@@ -426,7 +438,12 @@ public interface MgmtTargetRestApi {
             @Schema(description = """
                     Query fields based on the Feed Item Query Language (FIQL). See Entity Definitions for
                     available fields.""")
-            String rsqlParam);
+            String rsqlParam,
+            @RequestParam(value = MgmtRestConstants.REQUEST_PARAMETER_PAGING_AFTER, required = false)
+            @Schema(description = """
+                    Keyset pagination - the ID of the last action of the previous page. If set, the offset is ignored,
+                    the actions can only be sorted by id (descending by default) and the total is not counted.""")
+            Long afterParam);
 
     /**
      * Handles the GET request of retrieving a specific Actions of a specific
@@ -560,6 +577,9 @@ public interface MgmtTargetRestApi {
      * @param sortParam
      *            the sorting parameter in the request URL, syntax
      *            {@code field:direction, field:direction}
+     * @param afterParam
+     *            the ID of the last status of the previous page for keyset
+     *            pagination, replaces the offset
      * @return a list of all ActionStatus for a defined or default page request
      *         with status OK. The response is always paged. In any failure the
      *         JsonResponseExceptionHandler is handling the response.
@@ -591,7 +611,12 @@ public interface MgmtTargetRestApi {
             @PathVariable("actionId") Long actionId,
             @RequestParam(value = MgmtRestConstants.REQUEST_PARAMETER_PAGING_OFFSET, defaultValue = MgmtRestConstants.REQUEST_PARAMETER_PAGING_DEFAULT_OFFSET) int pagingOffsetParam,
             @RequestParam(value = MgmtRestConstants.REQUEST_PARAMETER_PAGING_LIMIT, defaultValue = MgmtRestConstants.REQUEST_PARAMETER_PAGING_DEFAULT_LIMIT) int pagingLimitParam,
-            @RequestParam(value = MgmtRestConstants.REQUEST_PARAMETER_SORTING, required = false) String sortParam);
+            @RequestParam(value = MgmtRestConstants.REQUEST_PARAMETER_SORTING, required = false) String sortParam,
+            @RequestParam(value = MgmtRestConstants.REQUEST_PARAMETER_PAGING_AFTER, required = false)
+            @Schema(description = """
+                    Keyset pagination - the ID of the last status of the previous page. If set, the offset is ignored,
+                    the status can only be sorted by id (descending by default) and the total is not counted.""")
+            Long afterParam);
 
     /**
      * Handles the GET request of retrieving the assigned distribution set of a
@@ -0,0 +1,54 @@
+/**
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.mgmt.json.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.List;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+import org.junit.jupiter.api.Test;
+
+@Feature("Unit Tests - Management API")
+@Story("Paged List Handling")
+public class KeysetPagedListTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @Description("Verifies that the total of a keyset page is omitted and that the page is read back.")
+    public void keysetPageOmitsTotal() throws IOException {
+        final PagedList<String> pagedList = new KeysetPagedList<>(List.of("content1", "content2"));
+
+        final String json = objectMapper.writeValueAsString(pagedList);
+        assertThat(json).doesNotContain("total");
+
+        final PagedList<String> read = objectMapper.readValue(json, new TypeReference<KeysetPagedList<String>>() {});
+        assertThat(read.getTotal()).isEqualTo(KeysetPagedList.TOTAL_NOT_COUNTED);
+        assertThat(read.getContent()).containsExactly("content1", "content2");
+        assertThat(read.getSize()).isEqualTo(2);
+    }
+
+    @Test
+    @Description("Verifies that a keyset page can be read as paged list, e.g. by clients of the API.")
+    public void keysetPageIsReadAsPagedList() throws IOException {
+        final String json = objectMapper.writeValueAsString(new KeysetPagedList<>(List.of("content1")));
+
+        final PagedList<String> read = objectMapper.readValue(json, new TypeReference<PagedList<String>>() {});
+        assertThat(read.getContent()).containsExactly("content1");
+        assertThat(read.getSize()).isEqualTo(1);
+    }
+}
@@ -10,10 +10,12 @@
 package org.eclipse.hawkbit.mgmt.rest.resource;
 
 import lombok.extern.slf4j.Slf4j;
+import org.eclipse.hawkbit.mgmt.json.model.KeysetPagedList;
 import org.eclipse.hawkbit.mgmt.json.model.PagedList;
 import org.eclipse.hawkbit.mgmt.json.model.action.MgmtAction;
 import org.eclipse.hawkbit.mgmt.rest.api.MgmtActionRestApi;
 import org.eclipse.hawkbit.mgmt.rest.api.MgmtRepresentationMode;
+import org.eclipse.hawkbit.repository.ActionFields;
 import org.eclipse.hawkbit.repository.DeploymentManagement;
 import org.eclipse.hawkbit.repository.OffsetBasedPageRequest;
 import org.eclipse.hawkbit.repository.exception.EntityNotFoundException;
@@ -22,6 +24,7 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -38,13 +41,25 @@ public class MgmtActionResource implements MgmtActionRestApi {
 
     @Override
     public ResponseEntity<PagedList<MgmtAction>> getActions(final int pagingOffsetParam, final int pagingLimitParam,
-            final String sortParam, final String rsqlParam, final String representationModeParam) {
+            final String sortParam, final String rsqlParam, final String representationModeParam,
+            final Long afterParam) {
 
         final int sanitizedOffsetParam = PagingUtility.sanitizeOffsetParam(pagingOffsetParam);
         final int sanitizedLimitParam = PagingUtility.sanitizePageLimitParam(pagingLimitParam);
         final Sort sorting = PagingUtility.sanitizeActionSortParam(sortParam);
-        final Pageable pageable = new OffsetBasedPageRequest(sanitizedOffsetParam, sanitizedLimitParam, sorting);
 
+        final MgmtRepresentationMode repMode = getRepresentationModeFromString(representationModeParam);
+
+        if (afterParam != null) {
+            // keyset pages are not counted, the count would cost more than
+            // the page itself
+            final Direction direction = PagingUtility.sanitizeKeysetSortParam(sorting, ActionFields.ID.getFieldName());
+            final Slice<Action> actions = this.deploymentManagement.findActionsAfterId(rsqlParam, afterParam,
+                    direction, sanitizedLimitParam);
+            return ResponseEntity.ok(new KeysetPagedList<>(MgmtActionMapper.toResponse(actions.getContent(), repMode)));
+        }
+
+        final Pageable pageable = new OffsetBasedPageRequest(sanitizedOffsetParam, sanitizedLimitParam, sorting);
         final Slice<Action> actions;
         final Long totalActionCount;
         if (rsqlParam != null) {
@@ -55,8 +70,6 @@ public class MgmtActionResource implements MgmtActionRestApi {
             totalActionCount = this.deploymentManagement.countActionsAll();
         }
 
-        final MgmtRepresentationMode repMode = getRepresentationModeFromString(representationModeParam);
-
         return ResponseEntity
                 .ok(new PagedList<>(MgmtActionMapper.toResponse(actions.getContent(), repMode), totalActionCount));
 
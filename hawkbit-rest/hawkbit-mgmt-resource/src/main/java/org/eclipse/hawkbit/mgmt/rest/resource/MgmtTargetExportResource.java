@@ -0,0 +1,124 @@
+/**
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.mgmt.rest.resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.function.Function;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.hawkbit.mgmt.json.model.target.MgmtTarget;
+import org.eclipse.hawkbit.mgmt.rest.api.MgmtRestConstants;
+import org.eclipse.hawkbit.mgmt.rest.api.MgmtTargetExportRestApi;
+import org.eclipse.hawkbit.repository.TargetManagement;
+import org.eclipse.hawkbit.repository.TenantConfigurationManagement;
+import org.eclipse.hawkbit.repository.model.PollStatus;
+import org.eclipse.hawkbit.repository.model.Target;
+import org.eclipse.hawkbit.rest.util.FileStreamingFailedException;
+import org.eclipse.hawkbit.rest.util.RequestResponseContextHolder;
+import org.eclipse.hawkbit.security.SystemSecurityContext;
+import org.eclipse.hawkbit.utils.TenantConfigHelper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Scope;
+import org.springframework.data.domain.Slice;
+import org.springframework.hateoas.Links;
+import org.springframework.hateoas.RepresentationModel;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.WebApplicationContext;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * REST Resource handling the export of targets. The targets are walked through
+ * by their ID (keyset pagination) and written to the response as they are
+ * read, so the memory needed does not depend on the number of targets.
+ */
+@Slf4j
+@RestController
+@Scope(value = WebApplicationContext.SCOPE_REQUEST)
+public class MgmtTargetExportResource implements MgmtTargetExportRestApi {
+
+    private static final int BATCH_SIZE = MgmtRestConstants.REQUEST_PARAMETER_PAGING_MAX_LIMIT;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TargetManagement targetManagement;
+
+    @Autowired
+    private SystemSecurityContext systemSecurityContext;
+
+    @Autowired
+    private TenantConfigurationManagement tenantConfigurationManagement;
+
+    @Autowired
+    private RequestResponseContextHolder requestResponseContextHolder;
+
+    @Override
+    public ResponseEntity<InputStream> exportTargets(
+            @RequestParam(value = MgmtRestConstants.REQUEST_PARAMETER_SEARCH, required = false) final String rsqlParam) {
+        // the first batch is read before the response is committed, so that
+        // an invalid filter is still reported as bad request
+        Slice<Target> targets = targetManagement.findByRsqlAfterId(null, BATCH_SIZE, rsqlParam);
+
+        final TenantConfigHelper tenantConfigHelper = TenantConfigHelper.usingContext(systemSecurityContext,
+                tenantConfigurationManagement);
+        final Function<Target, PollStatus> pollStatusResolver = tenantConfigHelper.pollStatusResolver();
+
+        // one target per line without links, the stream is flushed per batch
+        // and closed by the container
+        final ObjectWriter writer = objectMapper.copy().addMixIn(RepresentationModel.class, WithoutLinks.class)
+                .writerFor(MgmtTarget.class).without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .without(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+
+        final HttpServletResponse response = requestResponseContextHolder.getHttpServletResponse();
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        long exported = 0;
+        try {
+            final OutputStream out = response.getOutputStream();
+            while (true) {
+                for (final Target target : targets) {
+                    writer.writeValue(out,
+                            MgmtTargetMapper.toExportResponse(target, tenantConfigHelper, pollStatusResolver));
+                    out.write('\n');
+                }
+                exported += targets.getNumberOfElements();
+                out.flush();
+
+                if (targets.getNumberOfElements() < BATCH_SIZE) {
+                    break;
+                }
+                final long lastId = targets.getContent().get(targets.getNumberOfElements() - 1).getId();
+                targets = targetManagement.findByRsqlAfterId(lastId, BATCH_SIZE, rsqlParam);
+            }
+        } catch (final IOException e) {
+            throw new FileStreamingFailedException("Export of targets failed after " + exported + " targets", e);
+        }
+
+        log.debug("{} targets exported", exported);
+        return ResponseEntity.ok().build();
+    }
+
+    private abstract static class WithoutLinks {
+
+        @JsonIgnore
+        public abstract Links getLinks();
+    }
+}
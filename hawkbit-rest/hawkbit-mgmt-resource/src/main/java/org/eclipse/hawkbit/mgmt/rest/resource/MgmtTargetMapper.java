@@ -82,7 +82,7 @@ public final class MgmtTargetMapper {
                 .withRel(MgmtRestConstants.TARGET_V1_ATTRIBUTES).expand());
         response.add(linkTo(methodOn(MgmtTargetRestApi.class).getActionHistory(response.getControllerId(), 0,
                 MgmtRestConstants.REQUEST_PARAMETER_PAGING_DEFAULT_LIMIT_VALUE,
-                ActionFields.ID.getFieldName() + ":" + SortDirection.DESC, null))
+                ActionFields.ID.getFieldName() + ":" + SortDirection.DESC, null, null))
                         .withRel(MgmtRestConstants.TARGET_V1_ACTIONS).expand());
         response.add(linkTo(methodOn(MgmtTargetRestApi.class).getMetadata(response.getControllerId(),
                 MgmtRestConstants.REQUEST_PARAMETER_PAGING_DEFAULT_OFFSET_VALUE,
@@ -153,6 +153,24 @@ public final class MgmtTargetMapper {
      * @return the response
      */
     public static MgmtTarget toResponse(final Target target, final TenantConfigHelper configHelper, final Function<Target, PollStatus> pollStatusResolver) {
+        final MgmtTarget targetRest = toExportResponse(target, configHelper, pollStatusResolver);
+        if (targetRest != null) {
+            targetRest.add(linkTo(methodOn(MgmtTargetRestApi.class).getTarget(target.getControllerId())).withSelfRel()
+                    .expand());
+        }
+        return targetRest;
+    }
+
+    /**
+     * Create a response for target without any links, as used by the export
+     * of targets.
+     *
+     * @param target
+     *            the target
+     * @return the response
+     */
+    static MgmtTarget toExportResponse(final Target target, final TenantConfigHelper configHelper,
+            final Function<Target, PollStatus> pollStatusResolver) {
         if (target == null) {
             return null;
         }
@@ -197,9 +215,6 @@ public final class MgmtTargetMapper {
             targetRest.setAutoConfirmActive(target.getAutoConfirmationStatus() != null);
         }
 
-        targetRest.add(
-                linkTo(methodOn(MgmtTargetRestApi.class).getTarget(target.getControllerId())).withSelfRel().expand());
-
         addPollStatus(target, targetRest, pollStatusResolver == null ? configHelper.pollStatusResolver() : pollStatusResolver);
 
         return targetRest;
@@ -316,7 +331,7 @@ public final class MgmtTargetMapper {
 
         result.add(linkTo(methodOn(MgmtTargetRestApi.class).getActionStatusList(controllerId, action.getId(), 0,
                 MgmtRestConstants.REQUEST_PARAMETER_PAGING_DEFAULT_LIMIT_VALUE,
-                ActionStatusFields.ID.getFieldName() + ":" + SortDirection.DESC))
+                ActionStatusFields.ID.getFieldName() + ":" + SortDirection.DESC, null))
                         .withRel(MgmtRestConstants.TARGET_V1_ACTION_STATUS).expand());
 
         final Rollout rollout = action.getRollout();
@@ -9,6 +9,8 @@
  */
 package org.eclipse.hawkbit.mgmt.rest.resource;
 
+import java.util.List;
+
 import org.eclipse.hawkbit.mgmt.rest.api.MgmtRestConstants;
 import org.eclipse.hawkbit.repository.ActionFields;
 import org.eclipse.hawkbit.repository.ActionStatusFields;
@@ -24,9 +26,11 @@ import org.eclipse.hawkbit.repository.TagFields;
 import org.eclipse.hawkbit.repository.TargetFields;
 import org.eclipse.hawkbit.repository.TargetFilterQueryFields;
 import org.eclipse.hawkbit.repository.TargetTypeFields;
+import org.eclipse.hawkbit.rest.exception.SortParameterUnsupportedFieldException;
 import org.eclipse.hawkbit.rest.util.SortUtility;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.domain.Sort.Order;
 
 /**
  * Utility class for for paged body generation.
@@ -168,4 +172,14 @@ public final class PagingUtility {
         }
         return Sort.by(SortUtility.parse(RolloutGroupFields.class, sortParam));
     }
+
+    static Direction sanitizeKeysetSortParam(final Sort sorting, final String key) {
+        // keyset pagination seeks by a single unique key, any other order
+        // would skip entries
+        final List<Order> orders = sorting.toList();
+        if (orders.size() != 1 || !key.equals(orders.get(0).getProperty())) {
+            throw new SortParameterUnsupportedFieldException();
+        }
+        return orders.get(0).getDirection();
+    }
 }
@@ -414,6 +414,29 @@ class MgmtActionResourceTest extends AbstractManagementApiIntegrationTest {
                 .andExpect(jsonPath("content", hasSize(0))).andExpect(jsonPath("total", equalTo(0)));
     }
 
+    @Test
+    @Description("Verifies that the actions can be paged by the ID of the last action of the previous page.")
+    void getActionsWithKeysetPagination() throws Exception {
+        final List<Action> actions = generateTargetWithTwoUpdatesWithOneOverride("knownTargetId");
+        final Long first = Math.min(actions.get(0).getId(), actions.get(1).getId());
+        final Long second = Math.max(actions.get(0).getId(), actions.get(1).getId());
+
+        // default order is descending
+        mvc.perform(get(MgmtRestConstants.ACTION_V1_REQUEST_MAPPING).param("after", String.valueOf(second)))
+                .andDo(MockMvcResultPrinter.print()).andExpect(status().isOk()).andExpect(jsonPath("size", equalTo(1)))
+                .andExpect(jsonPath("total").doesNotExist())
+                .andExpect(jsonPath("content[0].id", equalTo(first.intValue())));
+
+        mvc.perform(get(MgmtRestConstants.ACTION_V1_REQUEST_MAPPING).param("after", String.valueOf(first))
+                        .param("sort", "id:ASC"))
+                .andDo(MockMvcResultPrinter.print()).andExpect(status().isOk()).andExpect(jsonPath("size", equalTo(1)))
+                .andExpect(jsonPath("content[0].id", equalTo(second.intValue())));
+
+        mvc.perform(get(MgmtRestConstants.ACTION_V1_REQUEST_MAPPING).param("after", String.valueOf(first))
+                        .param("sort", "status:ASC"))
+                .andDo(MockMvcResultPrinter.print()).andExpect(status().isBadRequest());
+    }
+
     @Test
     @Description("Handles the GET request of retrieving a specific action.")
     public void getAction() throws Exception {
@@ -1288,6 +1288,29 @@ class MgmtTargetResourceTest extends AbstractManagementApiIntegrationTest {
                 .andExpect(jsonPath(JSON_PATH_PAGED_LIST_CONTENT, hasSize(1)));
     }
 
+    @Test
+    @Description("Verifies that the status list can be paged by the ID of the last status of the previous page "
+            + "without counting the total.")
+    void getActionsStatusWithKeysetPagination() throws Exception {
+        final String knownTargetId = "targetId";
+
+        final Action action = generateTargetWithTwoUpdatesWithOneOverride(knownTargetId).get(0);
+        final List<ActionStatus> actionStatus = deploymentManagement.findActionStatusByAction(PAGE, action.getId())
+                .getContent().stream().sorted((e1, e2) -> Long.compare(e1.getId(), e2.getId()))
+                .collect(Collectors.toList());
+
+        // default order is descending
+        mvc.perform(get(MgmtRestConstants.TARGET_V1_REQUEST_MAPPING + "/" + knownTargetId + "/"
+                + MgmtRestConstants.TARGET_V1_ACTIONS + "/" + action.getId() + "/"
+                + MgmtRestConstants.TARGET_V1_ACTION_STATUS)
+                        .param(MgmtRestConstants.REQUEST_PARAMETER_PAGING_AFTER,
+                                String.valueOf(actionStatus.get(1).getId())))
+                .andDo(MockMvcResultPrinter.print()).andExpect(status().isOk())
+                .andExpect(jsonPath("content.[0].id", equalTo(actionStatus.get(0).getId().intValue())))
+                .andExpect(jsonPath(JSON_PATH_PAGED_LIST_TOTAL).doesNotExist())
+                .andExpect(jsonPath(JSON_PATH_PAGED_LIST_SIZE, equalTo(1)));
+    }
+
     @Test
     @Description("Verifies getting multiple actions with the paging request parameter.")
     void getActionsWithPagingLimitRequestParameter() throws Exception {
@@ -1849,6 +1872,54 @@ class MgmtTargetResourceTest extends AbstractManagementApiIntegrationTest {
                 .andExpect(jsonPath("content[1].controllerId", equalTo("b")));
     }
 
+    @Test
+    @Description("Verifies that the targets can be paged by the controller ID of the last target of the previous page.")
+    void getTargetsWithKeysetPagination() throws Exception {
+        createTargetsAlphabetical(10);
+
+        mvc.perform(get(MgmtRestConstants.TARGET_V1_REQUEST_MAPPING).param("after", "b").param("limit", "2")
+                        .param("offset", "5"))
+                .andDo(MockMvcResultPrinter.print()).andExpect(status().isOk()).andExpect(jsonPath("size", equalTo(2)))
+                .andExpect(jsonPath("total").doesNotExist()).andExpect(jsonPath("content[0].controllerId", equalTo("c")))
+                .andExpect(jsonPath("content[1].controllerId", equalTo("d")));
+
+        mvc.perform(get(MgmtRestConstants.TARGET_V1_REQUEST_MAPPING).param("after", "c").param("sort",
+                        "controllerId:DESC").param("q", "controllerId!=b"))
+                .andDo(MockMvcResultPrinter.print()).andExpect(status().isOk()).andExpect(jsonPath("size", equalTo(1)))
+                .andExpect(jsonPath("total").doesNotExist()).andExpect(jsonPath("content[0].controllerId", equalTo("a")));
+
+        mvc.perform(get(MgmtRestConstants.TARGET_V1_REQUEST_MAPPING).param("after", "b").param("sort", "name:ASC"))
+                .andDo(MockMvcResultPrinter.print()).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @Description("Verifies that the targets matching a filter are exported as newline delimited JSON without links.")
+    void exportTargetsUsingRsqlQuery() throws Exception {
+        createTargetsAlphabetical(10);
+
+        final MvcResult result = mvc.perform(get(MgmtRestConstants.TARGET_EXPORT_V1_REQUEST_MAPPING)
+                        .param("q", "controllerId==a,controllerId==c,controllerId==j")
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andDo(MockMvcResultPrinter.print()).andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)).andReturn();
+
+        final String[] lines = result.getResponse().getContentAsString().split("\n");
+        assertThat(lines).hasSize(3);
+        assertThat(lines).extracting(line -> new JSONObject(line).getString("controllerId"))
+                .containsExactly("a", "c", "j");
+        assertThat(lines).allSatisfy(line -> assertThat(new JSONObject(line).has("links")).isFalse());
+    }
+
+    @Test
+    @Description("Verifies that an invalid filter of the target export is rejected before anything is exported.")
+    void exportTargetsWithInvalidRsqlQuery() throws Exception {
+        createTargetsAlphabetical(2);
+
+        mvc.perform(get(MgmtRestConstants.TARGET_EXPORT_V1_REQUEST_MAPPING).param("q", "unknownField==a")
+                        .accept(MediaType.APPLICATION_NDJSON, MediaType.APPLICATION_JSON))
+                .andDo(MockMvcResultPrinter.print()).andExpect(status().isBadRequest());
+    }
+
     private String getCreateTargetsListJsonString(final String controllerId, final String name,
             final String description) {
         return "[{\"name\":\"" + name + "\",\"controllerId\":\"" + controllerId + "\",\"description\":\"" + description
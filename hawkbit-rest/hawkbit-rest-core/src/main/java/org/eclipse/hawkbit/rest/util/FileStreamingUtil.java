@@ -13,12 +13,19 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.math.RoundingMode;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 
 import jakarta.servlet.ServletOutputStream;
 import jakarta.servlet.http.HttpServletRequest;
@@ -27,7 +34,6 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.io.IOUtils;
 import org.eclipse.hawkbit.artifact.repository.model.DbArtifact;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -46,7 +52,14 @@ public final class FileStreamingUtil {
      */
     public static final String ARTIFACT_MD5_DWNL_SUFFIX = ".MD5SUM";
     private static final int BUFFER_SIZE = 0x2000; // 8k
-    
+    private static final long TRANSFER_SIZE = 0x100000; // 1M
+
+    // request attributes of the sendfile support of Apache Tomcat
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
     /**
      * Write a md5 file response.
      *
@@ -94,6 +107,16 @@ public final class FileStreamingUtil {
      * The request supports RFC7233 range requests.
      * </p>
      *
+     * <p>
+     * Full and single range requests of artifacts that are stored as plain
+     * files (see {@link DbArtifact#getFilePath()}) are served without copying
+     * the content through the heap: by the sendfile support of the servlet
+     * container if available, otherwise by {@link FileChannel#transferTo}. The
+     * container sends the file after the request has been handled, so with
+     * sendfile the progress is reported by a single event for the whole range
+     * when the file is handed over to the container.
+     * </p>
+     *
      * @param artifact
      *            the artifact
      * @param filename
@@ -171,12 +194,12 @@ public final class FileStreamingUtil {
         // full request - no range
         if (ranges.isEmpty() || ranges.get(0).equals(full)) {
             log.debug("filename ({}) results into a full request: ", filename);
-            result = handleFullFileRequest(artifact, filename, response, progressListener, full);
+            result = handleFullFileRequest(artifact, filename, request, response, progressListener, full);
         }
         // standard range request
         else if (ranges.size() == 1) {
             log.debug("filename ({}) results into a standard range request: ", filename);
-            result = handleStandardRangeRequest(artifact, filename, response, progressListener, ranges);
+            result = handleStandardRangeRequest(artifact, filename, request, response, progressListener, ranges);
         }
         // multipart range request
         else {
@@ -201,15 +224,14 @@ public final class FileStreamingUtil {
     }
 
     private static ResponseEntity<InputStream> handleFullFileRequest(final DbArtifact artifact, final String filename,
-            final HttpServletResponse response, final FileStreamingProgressListener progressListener,
-            final ByteRange full) {
+            final HttpServletRequest request, final HttpServletResponse response,
+            final FileStreamingProgressListener progressListener, final ByteRange full) {
         final ByteRange r = full;
         response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + r.getStart() + "-" + r.getEnd() + "/" + r.getTotal());
         response.setContentLengthLong(r.getLength());
 
-        try (final InputStream from = artifact.getFileInputStream()) {
-            final ServletOutputStream to = response.getOutputStream();
-            copyStreams(from, to, progressListener, r.getStart(), r.getLength(), filename);
+        try {
+            writeRange(artifact, filename, request, response, progressListener, r);
         } catch (final IOException e) {
             throw new FileStreamingFailedException("fullfileRequest " + filename, e);
         }
@@ -279,7 +301,7 @@ public final class FileStreamingUtil {
             final ServletOutputStream to = response.getOutputStream();
 
             for (final ByteRange r : ranges) {
-                try (final InputStream from = artifact.getFileInputStream()) {
+                try (final InputStream from = artifact.getFileInputStream(r.getStart())) {
 
                     // Add multipart boundary and header fields for every range.
                     to.println();
@@ -303,16 +325,15 @@ public final class FileStreamingUtil {
     }
 
     private static ResponseEntity<InputStream> handleStandardRangeRequest(final DbArtifact artifact,
-            final String filename, final HttpServletResponse response,
+            final String filename, final HttpServletRequest request, final HttpServletResponse response,
             final FileStreamingProgressListener progressListener, final List<ByteRange> ranges) {
         final ByteRange r = ranges.get(0);
         response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + r.getStart() + "-" + r.getEnd() + "/" + r.getTotal());
         response.setContentLengthLong(r.getLength());
         response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
 
-        try (final InputStream from = artifact.getFileInputStream()) {
-            final ServletOutputStream to = response.getOutputStream();
-            copyStreams(from, to, progressListener, r.getStart(), r.getLength(), filename);
+        try {
+            writeRange(artifact, filename, request, response, progressListener, r);
         } catch (final IOException e) {
             log.error("standardRangeRequest of file ({}) failed!", filename, e);
             throw new FileStreamingFailedException(filename);
@@ -321,6 +342,72 @@ public final class FileStreamingUtil {
         return ResponseEntity.status(HttpStatus.PARTIAL_CONTENT).build();
     }
 
+    private static void writeRange(final DbArtifact artifact, final String filename,
+            final HttpServletRequest request, final HttpServletResponse response,
+            final FileStreamingProgressListener progressListener, final ByteRange r) throws IOException {
+        final Optional<Path> file = artifact.getFilePath().filter(Files::isReadable);
+        if (file.isEmpty()) {
+            try (final InputStream from = artifact.getFileInputStream(r.getStart())) {
+                copyStreams(from, response.getOutputStream(), progressListener, r.getStart(), r.getLength(), filename);
+            }
+        } else if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+            sendFile(file.get(), request, r, filename);
+            if (progressListener != null) {
+                progressListener.progress(r.getLength(), r.getLength(), r.getLength());
+            }
+        } else {
+            try (final FileChannel from = FileChannel.open(file.get(), StandardOpenOption.READ)) {
+                transferFile(from, response.getOutputStream(), progressListener, r.getStart(), r.getLength(),
+                        filename);
+            }
+        }
+    }
+
+    private static void sendFile(final Path file, final HttpServletRequest request, final ByteRange r,
+            final String filename) {
+        log.trace("Hand over file {} from {} to {} to the container", filename, r.getStart(), r.getEnd());
+
+        request.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+        request.setAttribute(SENDFILE_START, r.getStart());
+        // exclusive
+        request.setAttribute(SENDFILE_END, r.getEnd() + 1);
+    }
+
+    private static long transferFile(final FileChannel from, final OutputStream to,
+            final FileStreamingProgressListener progressListener, final long start, final long length,
+            final String filename) throws IOException {
+
+        final long startMillis = System.currentTimeMillis();
+        log.trace("Start of file transfer of file {} from {} to {}", filename, start, length);
+
+        final WritableByteChannel target = Channels.newChannel(to);
+        final ProgressReporter progress = new ProgressReporter(progressListener, length);
+        // transfers of at most 1% of the file keep the progress events as
+        // frequent as with the stream copy
+        final long transferSize = Math.max(BUFFER_SIZE, Math.min(TRANSFER_SIZE, length / 100));
+
+        while (progress.getTotal() < length) {
+            final long transferred = from.transferTo(start + progress.getTotal(),
+                    Math.min(transferSize, length - progress.getTotal()), target);
+            if (transferred <= 0) {
+                break;
+            }
+            progress.shipped(transferred);
+        }
+
+        final long totalTime = System.currentTimeMillis() - startMillis;
+
+        if (progress.getTotal() < length) {
+            throw new FileStreamingFailedException(filename + ": " + (length - progress.getTotal())
+                    + " bytes could not be written to client, total time on write: !" + totalTime + " ms");
+        }
+
+        log.trace("Finished file transfer of file {} with length {} in {} ms", filename, length, totalTime);
+
+        return progress.getTotal();
+    }
+
+    // from is already positioned at the start of the range
     private static long copyStreams(final InputStream from, final OutputStream to,
             final FileStreamingProgressListener progressListener, final long start, final long length,
             final String filename) throws IOException {
@@ -331,14 +418,10 @@ public final class FileStreamingUtil {
         Objects.requireNonNull(from);
         Objects.requireNonNull(to);
         final byte[] buf = new byte[BUFFER_SIZE];
-        long total = 0;
-        int progressPercent = 1;
-
-        IOUtils.skipFully(from, start);
+        final ProgressReporter progress = new ProgressReporter(progressListener, length);
 
         long toRead = length;
         boolean toContinue = true;
-        long shippedSinceLastEvent = 0;
 
         while (toContinue) {
             final int r = from.read(buf);
@@ -349,17 +432,49 @@ public final class FileStreamingUtil {
             toRead -= r;
             if (toRead > 0) {
                 to.write(buf, 0, r);
-                total += r;
-                shippedSinceLastEvent += r;
+                progress.shipped(r);
             } else {
                 to.write(buf, 0, (int) toRead + r);
-                total += toRead + r;
-                shippedSinceLastEvent += toRead + r;
+                progress.shipped(toRead + r);
                 toContinue = false;
             }
+        }
+
+        final long totalTime = System.currentTimeMillis() - startMillis;
+
+        if (progress.getTotal() < length) {
+            throw new FileStreamingFailedException(filename + ": " + (length - progress.getTotal())
+                    + " bytes could not be written to client, total time on write: !" + totalTime + " ms");
+        }
+
+        log.trace("Finished copy-stream of file {} with length {} in {} ms", filename, length, totalTime);
+
+        return progress.getTotal();
+    }
+
+    /**
+     * Reports the progress of a download to a
+     * {@link FileStreamingProgressListener}, every 10 percent.
+     */
+    private static final class ProgressReporter {
+
+        private final FileStreamingProgressListener progressListener;
+        private final long length;
+        private long total;
+        private long shippedSinceLastEvent;
+        private int progressPercent = 1;
+
+        private ProgressReporter(final FileStreamingProgressListener progressListener, final long length) {
+            this.progressListener = progressListener;
+            this.length = length;
+        }
+
+        private void shipped(final long shipped) {
+            total += shipped;
+            shippedSinceLastEvent += shipped;
 
             if (progressListener != null) {
-                final int newPercent = (int)Math.floor(total * 100.0 / length);
+                final int newPercent = (int) Math.floor(total * 100.0 / length);
 
                 // every 10 percent an event
                 if (newPercent == 100 || newPercent > progressPercent + 10) {
@@ -370,16 +485,9 @@ public final class FileStreamingUtil {
             }
         }
 
-        final long totalTime = System.currentTimeMillis() - startMillis;
-
-        if (total < length) {
-            throw new FileStreamingFailedException(filename + ": " + (length - total)
-                    + " bytes could not be written to client, total time on write: !" + totalTime + " ms");
+        private long getTotal() {
+            return total;
         }
-
-        log.trace("Finished copy-stream of file {} with length {} in {} ms", filename, length, totalTime);
-
-        return total;
     }
 
     private static final class ByteRange {
@@ -13,27 +13,36 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
 
 import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
 import org.eclipse.hawkbit.artifact.repository.model.DbArtifact;
 import org.eclipse.hawkbit.artifact.repository.model.DbArtifactHash;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import io.qameta.allure.Description;
 import io.qameta.allure.Feature;
 import io.qameta.allure.Story;
 
@@ -112,4 +121,126 @@ class FileStreamingUtilTest {
         verify(outputStream, times(0)).print(anyString());
         verify(outputStream, times(0)).write(any(), anyInt(), anyInt());
     }
+
+    @Test
+    @Description("Verifies that a range of an artifact stored as file is transferred from the file channel.")
+    void shouldTransferRangeOfFileArtifact(@TempDir final Path tempDir) throws IOException {
+        final DbArtifact artifact = fileArtifact(tempDir);
+        final HttpServletResponse servletResponse = Mockito.mock(HttpServletResponse.class);
+        final ByteArrayOutputStream written = new ByteArrayOutputStream();
+        Mockito.when(servletResponse.getOutputStream()).thenReturn(capturing(written));
+        final HttpServletRequest servletRequest = Mockito.mock(HttpServletRequest.class);
+        Mockito.when(servletRequest.getHeader("Range")).thenReturn("bytes=8-21");
+        final FileStreamingProgressListener progressListener = Mockito.mock(FileStreamingProgressListener.class);
+
+        final ResponseEntity<InputStream> responseEntity = FileStreamingUtil.writeFileResponse(artifact, "test.file",
+                System.currentTimeMillis(), servletResponse, servletRequest, progressListener);
+
+        assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.PARTIAL_CONTENT);
+        assertThat(written.toString(StandardCharsets.UTF_8)).isEqualTo(CONTENT.substring(8, 22));
+        verify(progressListener).progress(14, 14, 14);
+    }
+
+    @Test
+    @Description("Verifies that an artifact stored as file is handed over to the sendfile support of the container "
+            + "if the progress is not reported.")
+    void shouldHandOverFileArtifactToContainer(@TempDir final Path tempDir) throws IOException {
+        final DbArtifact artifact = fileArtifact(tempDir);
+        final HttpServletResponse servletResponse = Mockito.mock(HttpServletResponse.class);
+        final ServletOutputStream outputStream = Mockito.mock(ServletOutputStream.class);
+        Mockito.when(servletResponse.getOutputStream()).thenReturn(outputStream);
+        final HttpServletRequest servletRequest = Mockito.mock(HttpServletRequest.class);
+        Mockito.when(servletRequest.getAttribute("org.apache.tomcat.sendfile.support")).thenReturn(Boolean.TRUE);
+
+        final ResponseEntity<InputStream> responseEntity = FileStreamingUtil.writeFileResponse(artifact, "test.file",
+                System.currentTimeMillis(), servletResponse, servletRequest, null);
+
+        assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.OK);
+        verify(servletRequest).setAttribute("org.apache.tomcat.sendfile.filename",
+                artifact.getFilePath().orElseThrow().toAbsolutePath().toString());
+        verify(servletRequest).setAttribute("org.apache.tomcat.sendfile.start", 0L);
+        verify(servletRequest).setAttribute("org.apache.tomcat.sendfile.end", (long) CONTENT_BYTES.length);
+        verify(servletResponse).setContentLengthLong(CONTENT_BYTES.length);
+        verify(outputStream, never()).write(any(), anyInt(), anyInt());
+    }
+
+    @Test
+    @Description("Verifies that an artifact stored as file is handed over to the sendfile support of the container "
+            + "if the progress is reported, which is reported by a single event for the whole range.")
+    void shouldHandOverFileArtifactWithProgressToContainer(@TempDir final Path tempDir) throws IOException {
+        final DbArtifact artifact = fileArtifact(tempDir);
+        final HttpServletResponse servletResponse = Mockito.mock(HttpServletResponse.class);
+        final ServletOutputStream outputStream = Mockito.mock(ServletOutputStream.class);
+        Mockito.when(servletResponse.getOutputStream()).thenReturn(outputStream);
+        final HttpServletRequest servletRequest = Mockito.mock(HttpServletRequest.class);
+        Mockito.when(servletRequest.getHeader("Range")).thenReturn("bytes=8-21");
+        Mockito.when(servletRequest.getAttribute("org.apache.tomcat.sendfile.support")).thenReturn(Boolean.TRUE);
+        final FileStreamingProgressListener progressListener = Mockito.mock(FileStreamingProgressListener.class);
+
+        final ResponseEntity<InputStream> responseEntity = FileStreamingUtil.writeFileResponse(artifact, "test.file",
+                System.currentTimeMillis(), servletResponse, servletRequest, progressListener);
+
+        assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.PARTIAL_CONTENT);
+        verify(servletRequest).setAttribute("org.apache.tomcat.sendfile.start", 8L);
+        verify(servletRequest).setAttribute("org.apache.tomcat.sendfile.end", 22L);
+        verify(outputStream, never()).write(any(), anyInt(), anyInt());
+        verify(progressListener).progress(14, 14, 14);
+        verifyNoMoreInteractions(progressListener);
+    }
+
+    private static DbArtifact fileArtifact(final Path dir) throws IOException {
+        final Path file = Files.write(dir.resolve("artifact"), CONTENT_BYTES);
+        return new DbArtifact() {
+
+            @Override
+            public String getArtifactId() {
+                return "2";
+            }
+
+            @Override
+            public DbArtifactHash getHashes() {
+                return TEST_ARTIFACT.getHashes();
+            }
+
+            @Override
+            public long getSize() {
+                return CONTENT_BYTES.length;
+            }
+
+            @Override
+            public String getContentType() {
+                return "text/plain";
+            }
+
+            @Override
+            public InputStream getFileInputStream() {
+                throw new UnsupportedOperationException("content has to be read from the file");
+            }
+
+            @Override
+            public Optional<Path> getFilePath() {
+                return Optional.of(file);
+            }
+        };
+    }
+
+    private static ServletOutputStream capturing(final ByteArrayOutputStream out) {
+        return new ServletOutputStream() {
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(final WriteListener writeListener) {
+                // not needed
+            }
+
+            @Override
+            public void write(final int b) {
+                out.write(b);
+            }
+        };
+    }
 }
@@ -0,0 +1,83 @@
+/**
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.sdk.dmf.amqp;
+
+import java.io.IOException;
+
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.DefaultJackson2JavaTypeMapper;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+
+/**
+ * {@link MessageConverter} of the SDK for the DMF messages. Writes the messages
+ * to the update server as JSON and reads the messages of the update server
+ * encoded as JSON or as CBOR ({@link #CONTENT_TYPE_CBOR}), depending on the
+ * content type configured for the tenant on the server. Compressed messages
+ * have to be decompressed before.
+ */
+public class DmfMessageConverter implements MessageConverter {
+
+    /**
+     * Content type of CBOR encoded messages.
+     */
+    public static final String CONTENT_TYPE_CBOR = "application/cbor";
+
+    private final MessageConverter jsonConverter = new Jackson2JsonMessageConverter();
+    private final ObjectMapper cborMapper = new CBORMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    private final DefaultJackson2JavaTypeMapper javaTypeMapper = new DefaultJackson2JavaTypeMapper();
+
+    /**
+     * Constructor.
+     */
+    public DmfMessageConverter() {
+        javaTypeMapper.setTrustedPackages("*");
+    }
+
+    /**
+     * @param contentType
+     *            of a message
+     * @return <code>true</code> if messages of the given content type can be
+     *         read by the converter
+     */
+    public static boolean isSupportedContentType(final String contentType) {
+        return contentType != null && (contentType.contains("json") || isCbor(contentType));
+    }
+
+    @Override
+    public Message toMessage(final Object object, final MessageProperties messageProperties) {
+        return jsonConverter.toMessage(object, messageProperties);
+    }
+
+    @Override
+    public Object fromMessage(final Message message) throws MessageConversionException {
+        if (!isCbor(message.getMessageProperties().getContentType())) {
+            return jsonConverter.fromMessage(message);
+        }
+        // the Jackson converters of spring amqp are text based, so CBOR is
+        // read directly from the bytes
+        try {
+            return cborMapper.readValue(message.getBody(), javaTypeMapper.toJavaType(message.getMessageProperties()));
+        } catch (final IOException e) {
+            throw new MessageConversionException("Failed to convert message content", e);
+        }
+    }
+
+    private static boolean isCbor(final String contentType) {
+        return contentType != null && contentType.contains("cbor");
+    }
+}
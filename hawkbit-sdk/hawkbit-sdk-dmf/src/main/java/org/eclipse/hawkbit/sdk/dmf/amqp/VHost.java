@@ -31,7 +31,7 @@ import org.springframework.amqp.rabbit.core.RabbitAdmin;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
 import org.springframework.amqp.support.converter.AbstractJavaTypeMapper;
-import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.postprocessor.DelegatingDecompressingPostProcessor;
 
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
@@ -61,12 +61,11 @@ public class VHost extends DmfSender implements MessageListener {
         super(new RabbitTemplate(connectionFactory), amqpProperties);
 
         // It is necessary to define rabbitTemplate as a Bean and set
-        // Jackson2JsonMessageConverter explicitly here in order to convert only
-        // OUTCOMING messages to json. In case of INCOMING messages,
-        // Jackson2JsonMessageConverter can not handle messages with NULL
-        // payload (e.g. REQUEST_ATTRIBUTES_UPDATE), so the
-        // SimpleMessageConverter is used instead per default.
-        rabbitTemplate.setMessageConverter(new Jackson2JsonMessageConverter());
+        // DmfMessageConverter explicitly here in order to convert OUTCOMING
+        // messages to json and to read INCOMING messages in json or cbor.
+        // Messages with NULL payload (e.g. REQUEST_ATTRIBUTES_UPDATE) are not
+        // converted at all.
+        rabbitTemplate.setMessageConverter(new DmfMessageConverter());
 
         if (initVHost) {
             final RabbitAdmin rabbitAdmin = new RabbitAdmin(connectionFactory);
@@ -85,6 +84,8 @@ public class VHost extends DmfSender implements MessageListener {
         container.setConnectionFactory(connectionFactory);
         container.setQueueNames(amqpProperties.getReceiverConnectorQueueFromSp());
         container.setMessageListener(this);
+        // messages might be sent gzip compressed by the update server
+        container.setAfterReceivePostProcessors(new DelegatingDecompressingPostProcessor());
         container.start();
     }
 
@@ -106,12 +107,12 @@ public class VHost extends DmfSender implements MessageListener {
         log.info("Message received for target {}, value : {}", controllerId, message.toString());
         switch (MessageType.valueOf(type)) {
             case EVENT: {
-                checkContentTypeJson(message);
+                checkContentTypeSupported(message);
                 handleEventMessage(message, controllerId);
                 break;
             }
             case THING_DELETED: {
-                checkContentTypeJson(message);
+                checkContentTypeSupported(message);
                 Optional.ofNullable(dmfTenants.get(tenantId)).ifPresent(dmfTenant -> dmfTenant.remove(controllerId));
                 break;
             }
@@ -166,15 +167,6 @@ public class VHost extends DmfSender implements MessageListener {
         log.warn("Handle confirmed received for {}! Skip it!", controllerId);
     }
 
-    private static final String REGEX_EXTRACT_ACTION_ID = "[^0-9]";
-    private long extractActionIdFrom(final Message message) {
-        final String messageAsString = message.toString();
-        final String requiredMessageContent = messageAsString
-                .substring(messageAsString.indexOf('{') + 1, messageAsString.indexOf('}'));
-        final String[] splitMessageContent = requiredMessageContent.split(",");
-        return Long.parseLong(splitMessageContent[0].replaceAll(REGEX_EXTRACT_ACTION_ID, ""));
-    }
-
     private void handleMultiActionRequest(final Message message, final String controllerId) {
         final DmfMultiActionRequest multiActionRequest = convertMessage(message, DmfMultiActionRequest.class);
         final String tenant = getTenant(message);
@@ -223,7 +215,7 @@ public class VHost extends DmfSender implements MessageListener {
 
     protected void handleCancelDownloadAction(final Message message, final String thingId) {
         final String tenant = getTenant(message);
-        final Long actionId = extractActionIdFrom(message);
+        final Long actionId = convertMessage(message, DmfActionRequest.class).getActionId();
 
         processCancelDownloadAction(thingId, tenant, actionId);
     }
@@ -259,12 +251,13 @@ public class VHost extends DmfSender implements MessageListener {
     }
 
     /**
-     * Method to validate if content type is set in the message properties.
+     * Method to validate if a supported content type is set in the message
+     * properties.
      *
      * @param message
      *            the message to get validated
      */
-    private static void checkContentTypeJson(final Message message) {
+    private static void checkContentTypeSupported(final Message message) {
         if (message.getBody().length == 0) {
             return;
         }
@@ -273,10 +266,9 @@ public class VHost extends DmfSender implements MessageListener {
         if (null != headerContentType) {
             messageProperties.setContentType(headerContentType);
         }
-        final String contentType = messageProperties.getContentType();
-        if (contentType != null && contentType.contains("json")) {
+        if (DmfMessageConverter.isSupportedContentType(messageProperties.getContentType())) {
             return;
         }
-        throw new AmqpRejectAndDontRequeueException("Content-Type is not JSON compatible");
+        throw new AmqpRejectAndDontRequeueException("Content-Type is not JSON or CBOR compatible");
     }
 }
\ No newline at end of file
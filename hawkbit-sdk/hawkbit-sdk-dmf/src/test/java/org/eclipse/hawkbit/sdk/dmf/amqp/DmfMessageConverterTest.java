@@ -0,0 +1,80 @@
+/**
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.sdk.dmf.amqp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.eclipse.hawkbit.dmf.json.model.DmfArtifact;
+import org.eclipse.hawkbit.dmf.json.model.DmfDownloadAndUpdateRequest;
+import org.eclipse.hawkbit.dmf.json.model.DmfSoftwareModule;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.AbstractJavaTypeMapper;
+
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+
+@Feature("Unit Tests - DMF SDK")
+@Story("Message conversion")
+class DmfMessageConverterTest {
+
+    private final DmfMessageConverter converter = new DmfMessageConverter();
+
+    @Test
+    @Description("Verifies that the messages are written as JSON and read back unchanged.")
+    void jsonRoundTrip() {
+        final DmfDownloadAndUpdateRequest request = createRequest();
+
+        final Message message = converter.toMessage(request, new MessageProperties());
+
+        assertThat(message.getMessageProperties().getContentType()).isEqualTo(MessageProperties.CONTENT_TYPE_JSON);
+        assertThat(converter.fromMessage(message)).usingRecursiveComparison().isEqualTo(request);
+    }
+
+    @Test
+    @Description("Verifies that a CBOR encoded message, as sent by the update server for tenants configured for CBOR, "
+            + "is read unchanged.")
+    void cborIsRead() throws IOException {
+        final DmfDownloadAndUpdateRequest request = createRequest();
+        final MessageProperties messageProperties = new MessageProperties();
+        messageProperties.setContentType(DmfMessageConverter.CONTENT_TYPE_CBOR);
+        messageProperties.setHeader(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME,
+                DmfDownloadAndUpdateRequest.class.getName());
+
+        final Object read = converter
+                .fromMessage(new Message(new CBORMapper().writeValueAsBytes(request), messageProperties));
+
+        assertThat(read).isInstanceOf(DmfDownloadAndUpdateRequest.class).usingRecursiveComparison()
+                .isEqualTo(request);
+    }
+
+    private static DmfDownloadAndUpdateRequest createRequest() {
+        final DmfArtifact artifact = new DmfArtifact();
+        artifact.setFilename("firmware.bin");
+        artifact.setSize(1024);
+        final DmfSoftwareModule softwareModule = new DmfSoftwareModule();
+        softwareModule.setModuleId(7L);
+        softwareModule.setModuleType("os");
+        softwareModule.setModuleVersion("1.0");
+        softwareModule.setArtifacts(List.of(artifact));
+        final DmfDownloadAndUpdateRequest request = new DmfDownloadAndUpdateRequest();
+        request.setActionId(42L);
+        request.setTargetSecurityToken("token");
+        request.addSoftwareModule(softwareModule);
+        return request;
+    }
+}
@@ -0,0 +1,114 @@
+/**
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.sdk.dmf.amqp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.hawkbit.dmf.amqp.api.EventTopic;
+import org.eclipse.hawkbit.dmf.amqp.api.MessageHeaderKey;
+import org.eclipse.hawkbit.dmf.amqp.api.MessageType;
+import org.eclipse.hawkbit.dmf.json.model.DmfActionRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.AmqpConnectException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.support.converter.AbstractJavaTypeMapper;
+import org.springframework.amqp.support.postprocessor.DelegatingDecompressingPostProcessor;
+import org.springframework.amqp.support.postprocessor.GZipPostProcessor;
+
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+
+@Feature("Unit Tests - DMF SDK")
+@Story("Virtual host")
+class VHostTest {
+
+    private static final String TENANT = "DEFAULT";
+    private static final String CONTROLLER_ID = "controller";
+
+    private final List<Long> finishedActions = new ArrayList<>();
+    private VHost vHost;
+
+    @BeforeEach
+    void before() {
+        // no broker is needed, the container retries to connect in background
+        final ConnectionFactory connectionFactory = mock(ConnectionFactory.class);
+        when(connectionFactory.createConnection()).thenThrow(new AmqpConnectException(new IllegalStateException()));
+        vHost = new VHost(connectionFactory, new AmqpProperties(), false) {
+
+            @Override
+            public void finishUpdateProcess(final String tenantId, final long actionId,
+                    final List<String> updateResultMessages) {
+                finishedActions.add(actionId);
+            }
+        };
+    }
+
+    @AfterEach
+    void after() {
+        vHost.stop();
+    }
+
+    @Test
+    @Description("Verifies that the action ID of a cancel request is read from the converted message, independent of "
+            + "the order of its properties.")
+    void cancelRequestIsReadFromConvertedMessage() {
+        vHost.onMessage(cancelRequest("{\"unknown\":{\"id\":1},\"actionId\":42}"));
+
+        assertThat(finishedActions).containsExactly(42L);
+    }
+
+    @Test
+    @Description("Verifies that a gzip compressed CBOR cancel request, as sent by the update server for tenants "
+            + "configured for CBOR, is decompressed and read.")
+    void compressedCborCancelRequestIsRead() throws IOException {
+        final DmfActionRequest actionRequest = new DmfActionRequest();
+        actionRequest.setActionId(42L);
+        final MessageProperties messageProperties = cancelRequestProperties();
+        messageProperties.setContentType(DmfMessageConverter.CONTENT_TYPE_CBOR);
+        messageProperties.setHeader(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME,
+                DmfActionRequest.class.getName());
+        final Message sent = new GZipPostProcessor()
+                .postProcessMessage(new Message(new CBORMapper().writeValueAsBytes(actionRequest), messageProperties));
+
+        // as done by the listener container
+        vHost.onMessage(new DelegatingDecompressingPostProcessor().postProcessMessage(sent));
+
+        assertThat(finishedActions).containsExactly(42L);
+    }
+
+    private static Message cancelRequest(final String body) {
+        final MessageProperties messageProperties = cancelRequestProperties();
+        messageProperties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+        return new Message(body.getBytes(StandardCharsets.UTF_8), messageProperties);
+    }
+
+    private static MessageProperties cancelRequestProperties() {
+        final MessageProperties messageProperties = new MessageProperties();
+        messageProperties.setHeader(MessageHeaderKey.TYPE, MessageType.EVENT.name());
+        messageProperties.setHeader(MessageHeaderKey.TOPIC, EventTopic.CANCEL_DOWNLOAD.name());
+        messageProperties.setHeader(MessageHeaderKey.TENANT, TENANT);
+        messageProperties.setHeader(MessageHeaderKey.THING_ID, CONTROLLER_ID);
+        return messageProperties;
+    }
+}
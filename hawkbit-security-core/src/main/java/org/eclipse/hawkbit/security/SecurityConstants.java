@@ -22,4 +22,11 @@ public final class SecurityConstants {
      * Logger prefix used for security logging.
      */
     public static final String SECURITY_LOG_PREFIX = "server-security";
+
+    /**
+     * Request attribute holding the target that has been loaded for the
+     * authentication of the request, so that it could be reused by the
+     * request handler.
+     */
+    public static final String AUTHENTICATED_TARGET_ATTRIBUTE = "hawkbit.authenticatedTarget";
 }
\ No newline at end of file
@@ -10,13 +10,18 @@
 package org.eclipse.hawkbit.security;
 
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.hawkbit.repository.ControllerManagement;
+import org.eclipse.hawkbit.repository.TargetAuthenticationCache;
+import org.eclipse.hawkbit.repository.TargetAuthenticationCache.TargetAuthentication;
 import org.eclipse.hawkbit.repository.TenantConfigurationManagement;
 import org.eclipse.hawkbit.repository.model.Target;
 import org.eclipse.hawkbit.tenancy.TenantAware;
 import org.eclipse.hawkbit.tenancy.configuration.TenantConfigurationProperties.TenantConfigurationKey;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
 /**
  * An pre-authenticated processing filter which extracts (if enabled through
@@ -24,6 +29,12 @@ import org.eclipse.hawkbit.tenancy.configuration.TenantConfigurationProperties.T
  * security-token with the {@code Authorization} HTTP header.
  * {@code Example Header: Authorization: TargetToken
  * 5d8fSD54fdsFG98DDsa.}
+ * <p/>
+ * The ID and the digest of the security token of the targets are served by
+ * the {@link TargetAuthenticationCache}. If a target has to be loaded, it is
+ * kept as {@link SecurityConstants#AUTHENTICATED_TARGET_ATTRIBUTE} of the
+ * current request (if any), so that the request handler does not need to load
+ * it again.
  */
 @Slf4j
 public class ControllerPreAuthenticateSecurityTokenFilter extends AbstractControllerAuthenticationFilter {
@@ -32,6 +43,7 @@ public class ControllerPreAuthenticateSecurityTokenFilter extends AbstractContro
     private static final int OFFSET_TARGET_TOKEN = TARGET_SECURITY_TOKEN_AUTH_SCHEME.length();
 
     private final ControllerManagement controllerManagement;
+    private final TargetAuthenticationCache targetAuthenticationCache;
 
     /**
      * Constructor.
@@ -48,13 +60,17 @@ public class ControllerPreAuthenticateSecurityTokenFilter extends AbstractContro
      * @param systemSecurityContext
      *            the system security context to get access to tenant
      *            configuration
+     * @param targetAuthenticationCache
+     *            the cache of the target security token digests
      */
     public ControllerPreAuthenticateSecurityTokenFilter(
             final TenantConfigurationManagement tenantConfigurationManagement,
             final ControllerManagement controllerManagement, final TenantAware tenantAware,
-            final SystemSecurityContext systemSecurityContext) {
+            final SystemSecurityContext systemSecurityContext,
+            final TargetAuthenticationCache targetAuthenticationCache) {
         super(tenantConfigurationManagement, tenantAware, systemSecurityContext);
         this.controllerManagement = controllerManagement;
+        this.targetAuthenticationCache = targetAuthenticationCache;
     }
 
     @Override
@@ -64,7 +80,9 @@ public class ControllerPreAuthenticateSecurityTokenFilter extends AbstractContro
         if ((authHeader != null) && authHeader.startsWith(TARGET_SECURITY_TOKEN_AUTH_SCHEME)) {
             log.debug("found authorization header with scheme {} using target security token for authentication",
                     TARGET_SECURITY_TOKEN_AUTH_SCHEME);
-            return new HeaderAuthentication(controllerId, authHeader.substring(OFFSET_TARGET_TOKEN));
+            // compared with the digest of the security token of the target
+            return new HeaderAuthentication(controllerId,
+                    TargetAuthenticationCache.digest(authHeader.substring(OFFSET_TARGET_TOKEN)));
         }
         log.debug(
                 "security token filter is enabled but requst does not contain either the necessary path variables {} or the authorization header with scheme {}",
@@ -74,15 +92,9 @@ public class ControllerPreAuthenticateSecurityTokenFilter extends AbstractContro
 
     @Override
     public HeaderAuthentication getPreAuthenticatedCredentials(final DmfTenantSecurityToken securityToken) {
-        final Optional<Target> target = systemSecurityContext.runAsSystemAsTenant(() -> {
-            if (securityToken.getTargetId() != null) {
-                return controllerManagement.get(securityToken.getTargetId());
-            }
-            return controllerManagement.getByControllerId(securityToken.getControllerId());
-        }, securityToken.getTenant());
-
-        return target.map(t -> new HeaderAuthentication(t.getControllerId(),
-                systemSecurityContext.runAsSystemAsTenant(() -> t.getSecurityToken(), securityToken.getTenant())))
+        return getTargetAuthentication(securityToken).map(
+                authentication -> new HeaderAuthentication(authentication.controllerId(),
+                        authentication.securityTokenDigest()))
                 .orElse(null);
     }
 
@@ -90,9 +102,28 @@ public class ControllerPreAuthenticateSecurityTokenFilter extends AbstractContro
         if (securityToken.getControllerId() != null) {
             return securityToken.getControllerId();
         }
-        final Optional<Target> foundTarget = systemSecurityContext.runAsSystemAsTenant(
-                () -> controllerManagement.get(securityToken.getTargetId()), securityToken.getTenant());
-        return foundTarget.map(Target::getControllerId).orElse(null);
+        return getTargetAuthentication(securityToken).map(TargetAuthentication::controllerId).orElse(null);
+    }
+
+    private Optional<TargetAuthentication> getTargetAuthentication(final DmfTenantSecurityToken securityToken) {
+        return systemSecurityContext.runAsSystemAsTenant(() -> {
+            if (securityToken.getTargetId() != null) {
+                return targetAuthenticationCache.getByTargetId(securityToken.getTargetId(),
+                        () -> loadTarget(() -> controllerManagement.get(securityToken.getTargetId())));
+            }
+            return targetAuthenticationCache.getByControllerId(securityToken.getControllerId(),
+                    () -> loadTarget(() -> controllerManagement.getByControllerId(securityToken.getControllerId())));
+        }, securityToken.getTenant());
+    }
+
+    private static Optional<Target> loadTarget(final Supplier<Optional<Target>> loader) {
+        final Optional<Target> target = loader.get();
+        final RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes != null) {
+            target.ifPresent(t -> requestAttributes.setAttribute(SecurityConstants.AUTHENTICATED_TARGET_ATTRIBUTE, t,
+                    RequestAttributes.SCOPE_REQUEST));
+        }
+        return target;
     }
 
     @Override